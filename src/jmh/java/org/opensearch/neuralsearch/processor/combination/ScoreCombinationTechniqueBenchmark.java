@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares combination of scores of many documents one document at a time, as it was done before, with combination of
+ * columns of scores, one primitive array per sub-query. About a third of scores are 0.0, as for documents that are not
+ * matched by every sub-query.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=ScoreCombinationTechniqueBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreCombinationTechniqueBenchmark {
+
+    @Param({ "arithmetic_mean", "geometric_mean", "harmonic_mean", "rrf" })
+    public String technique;
+
+    @Param({ "2", "5" })
+    public int numOfSubQueries;
+
+    @Param({ "1000", "10000" })
+    public int numOfDocs;
+
+    private ScoreCombinationTechnique scoreCombinationTechnique;
+    private float[][] scoresPerSubQuery;
+    private float[] combinedScores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreCombinationTechnique = new ScoreCombinationFactory().createCombination(technique);
+        Random random = new Random(42);
+        scoresPerSubQuery = new float[numOfSubQueries][numOfDocs];
+        for (float[] scores : scoresPerSubQuery) {
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                scores[doc] = random.nextInt(3) == 0 ? 0.0f : random.nextFloat();
+            }
+        }
+        combinedScores = new float[numOfDocs];
+    }
+
+    @Benchmark
+    public void combineEveryDocument(Blackhole blackhole) {
+        float[] scores = new float[numOfSubQueries];
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                scores[subQueryIndex] = scoresPerSubQuery[subQueryIndex][doc];
+            }
+            combinedScores[doc] = scoreCombinationTechnique.combine(scores);
+        }
+        blackhole.consume(combinedScores);
+    }
+
+    @Benchmark
+    public void combineColumns(Blackhole blackhole) {
+        scoreCombinationTechnique.combine(scoresPerSubQuery, numOfDocs, combinedScores);
+        blackhole.consume(combinedScores);
+    }
+}
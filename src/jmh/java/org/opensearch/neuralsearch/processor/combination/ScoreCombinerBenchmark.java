@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cost of combining normalized scores of one shard with {@link ScoreCombiner} for different number of sub-queries
+ * and different size of results of every sub-query. Sub-queries match overlapping sets of docs, so the same doc id is
+ * present in results of several sub-queries, as it's typical for hybrid query.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=ScoreCombinerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreCombinerBenchmark {
+    private static final SearchShard SEARCH_SHARD = new SearchShard("benchmark_index", 0, "benchmark_node");
+
+    @Param({ "2", "5", "10" })
+    public int numOfSubQueries;
+
+    @Param({ "100", "1000", "10000" })
+    public int hitsPerSubQuery;
+
+    private final ScoreCombiner scoreCombiner = new ScoreCombiner();
+    private final ScoreCombinationTechnique scoreCombinationTechnique = new ArithmeticMeanScoreCombinationTechnique(
+        Map.of(),
+        new ScoreCombinationUtil()
+    );
+    private List<TopDocs> topDocsPerSubQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        // every sub-query picks its hits from the range twice as large as number of hits, so about half of docs overlap
+        int maxDoc = hitsPerSubQuery * 2;
+        topDocsPerSubQuery = new ArrayList<>(numOfSubQueries);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            ScoreDoc[] scoreDocs = random.ints(0, maxDoc)
+                .distinct()
+                .limit(hitsPerSubQuery)
+                .mapToObj(doc -> new ScoreDoc(doc, random.nextFloat()))
+                .toArray(ScoreDoc[]::new);
+            Arrays.sort(scoreDocs, (a, b) -> Float.compare(b.score, a.score));
+            topDocsPerSubQuery.add(new TopDocs(new TotalHits(hitsPerSubQuery, TotalHits.Relation.EQUAL_TO), scoreDocs));
+        }
+    }
+
+    @Benchmark
+    public void combineScores(Blackhole blackhole) {
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
+            new TotalHits(hitsPerSubQuery, TotalHits.Relation.EQUAL_TO),
+            topDocsPerSubQuery,
+            false,
+            SEARCH_SHARD
+        );
+        scoreCombiner.combineScores(
+            CombineScoresDto.builder()
+                .queryTopDocs(List.of(compoundTopDocs))
+                .scoreCombinationTechnique(scoreCombinationTechnique)
+                .querySearchResults(List.of())
+                .isSingleShard(false)
+                .build()
+        );
+        blackhole.consume(compoundTopDocs.getScoreDocs());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.util.DocIdSetBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cost of scoring and collecting one segment with {@link HybridBulkScorer} for different number of sub-queries.
+ * Every sub-query matches the same fraction of the segment, so total number of (doc, sub-query) matches grows linearly with
+ * the number of sub-queries, and time per operation is expected to grow linearly as well.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=HybridBulkScorerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HybridBulkScorerBenchmark {
+    private static final int MAX_DOC = 1_000_000;
+
+    @Param({ "1", "5", "10", "20", "30" })
+    public int numOfSubQueries;
+
+    @Param({ "0.01", "0.1" })
+    public float matchRatio;
+
+    private List<DocIdSet> docIdSets;
+    private float[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        docIdSets = new ArrayList<>(numOfSubQueries);
+        scores = new float[numOfSubQueries];
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            DocIdSetBuilder builder = new DocIdSetBuilder(MAX_DOC);
+            int numOfMatches = (int) (MAX_DOC * matchRatio);
+            DocIdSetBuilder.BulkAdder adder = builder.grow(numOfMatches);
+            for (int i = 0; i < numOfMatches; i++) {
+                adder.add(random.nextInt(MAX_DOC));
+            }
+            docIdSets.add(builder.build());
+            scores[subQueryIndex] = random.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public void scoreSegment(Blackhole blackhole) throws IOException {
+        List<Scorer> scorers = new ArrayList<>(numOfSubQueries);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            scorers.add(new ConstantScorer(docIdSets.get(subQueryIndex).iterator(), scores[subQueryIndex]));
+        }
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
+        bulkScorer.score(new LeafCollector() {
+            private HybridSubQueryScorer scorer;
+
+            @Override
+            public void setScorer(Scorable scorer) {
+                this.scorer = (HybridSubQueryScorer) scorer;
+            }
+
+            @Override
+            public void collect(int doc) {
+                blackhole.consume(doc);
+                blackhole.consume(scorer.getSubQueryScores());
+            }
+        }, null, 0, MAX_DOC);
+    }
+
+    /**
+     * Scorer that returns the same score for every doc of the iterator
+     */
+    private static final class ConstantScorer extends Scorer {
+        private final DocIdSetIterator iterator;
+        private final float score;
+
+        ConstantScorer(DocIdSetIterator iterator, float score) {
+            this.iterator = iterator;
+            this.score = score;
+        }
+
+        @Override
+        public int docID() {
+            return iterator.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return iterator;
+        }
+
+        @Override
+        public float getMaxScore(int upTo) {
+            return score;
+        }
+
+        @Override
+        public float score() {
+            return score;
+        }
+    }
+}
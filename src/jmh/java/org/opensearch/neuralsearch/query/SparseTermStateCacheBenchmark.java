@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cost of seeking the tokens of one query in one segment with {@link SparseTermStateCache} against the lookup in
+ * the terms dictionary, for different number of tokens of the query. Every token is seeked with a new terms enum, the same
+ * as token queries do for every segment. All tokens of queries are in the cache, so the benchmark measures the best case of
+ * the cache, with one thread and with threads that share the cache.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=SparseTermStateCacheBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseTermStateCacheBenchmark {
+    private static final String FIELD_NAME = "sparse";
+    // size of WordPiece vocabularies of sparse models
+    private static final int NUM_OF_TERMS = 30_000;
+    private static final int NUM_OF_DOCS = 100_000;
+    private static final int TOKENS_PER_DOC = 100;
+
+    @Param({ "10", "100", "500" })
+    public int numOfQueryTokens;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReaderContext context;
+    private SparseTermStateCache cache;
+    private SparseVocabulary vocabulary;
+    private BytesRef[] queryTerms;
+    private int[] queryTokenIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int doc = 0; doc < NUM_OF_DOCS; doc++) {
+                Document document = new Document();
+                for (int i = 0; i < TOKENS_PER_DOC; i++) {
+                    document.add(new FeatureField(FIELD_NAME, getToken(random.nextInt(NUM_OF_TERMS)), 1.0f + random.nextFloat()));
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        context = reader.leaves().get(0);
+
+        cache = new SparseTermStateCache(NUM_OF_TERMS);
+        vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        queryTerms = new BytesRef[numOfQueryTokens];
+        queryTokenIds = new int[numOfQueryTokens];
+        for (int i = 0; i < numOfQueryTokens; i++) {
+            String token = getToken(random.nextInt(NUM_OF_TERMS));
+            queryTerms[i] = new BytesRef(token);
+            queryTokenIds[i] = vocabulary.getToken(token).id();
+        }
+        // term states of all query tokens are cached before the measurement
+        seekCachedTermStates();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public int seekTermsDictionary() throws IOException {
+        int found = 0;
+        for (BytesRef queryTerm : queryTerms) {
+            if (Terms.getTerms(context.reader(), FIELD_NAME).iterator().seekExact(queryTerm)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int seekCachedTermStates() throws IOException {
+        int found = 0;
+        for (int i = 0; i < queryTerms.length; i++) {
+            TermsEnum termsEnum = Terms.getTerms(context.reader(), FIELD_NAME).iterator();
+            if (cache.seekExact(context, FIELD_NAME, vocabulary, queryTokenIds[i], queryTerms[i], termsEnum)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int seekTermsDictionaryConcurrently() throws IOException {
+        return seekTermsDictionary();
+    }
+
+    // threads contend for the lock of the least recently used list of the cache
+    @Benchmark
+    @Threads(8)
+    public int seekCachedTermStatesConcurrently() throws IOException {
+        return seekCachedTermStates();
+    }
+
+    private static String getToken(final int termId) {
+        return "token_" + termId;
+    }
+}
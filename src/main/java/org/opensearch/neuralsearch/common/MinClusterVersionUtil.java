@@ -29,6 +29,10 @@ public final class MinClusterVersionUtil {
     public static final Version MINIMAL_SUPPORTED_VERSION_SEMANTIC_FIELD = Version.V_3_1_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_STATS_CATEGORY_FILTERING = Version.V_3_1_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_NEURAL_KNN_QUERY_BUILDER = Version.V_3_0_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SHARED_FILTER_IN_HYBRID_QUERY = Version.V_3_2_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SINGLE_PASS_NEURAL_SPARSE_TWO_PHASE = Version.V_3_2_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_NEURAL_SPARSE_APPROXIMATION_FACTOR = Version.V_3_2_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_COMPACT_SPARSE_QUERY_TOKENS = Version.V_3_2_0;
 
     // Constant for neural_knn_query version check
     public static final String NEURAL_KNN_QUERY = "neural_knn_query";
@@ -95,4 +99,49 @@ public final class MinClusterVersionUtil {
     public static boolean isClusterOnOrAfterMinReqVersionForNeuralKNNQueryBuilder() {
         return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_NEURAL_KNN_QUERY_BUILDER);
     }
+
+    public static boolean isClusterOnOrAfterMinReqVersionForSharedFilterInHybridQuery() {
+        return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_SHARED_FILTER_IN_HYBRID_QUERY);
+    }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput supports single pass two-phase neural sparse query
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForSinglePassNeuralSparseTwoPhase(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_SINGLE_PASS_NEURAL_SPARSE_TWO_PHASE);
+    }
+
+    /**
+     * Checks if all nodes in the cluster support single pass two-phase neural sparse query
+     *
+     * @return true if the cluster min version is on or after the minimum required version
+     */
+    public static boolean isClusterOnOrAfterMinReqVersionForSinglePassNeuralSparseTwoPhase() {
+        return NeuralSearchClusterUtil.instance()
+            .getClusterMinVersion()
+            .onOrAfter(MINIMAL_SUPPORTED_VERSION_SINGLE_PASS_NEURAL_SPARSE_TWO_PHASE);
+    }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput supports approximation factor of neural sparse query
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForNeuralSparseApproximationFactor(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_NEURAL_SPARSE_APPROXIMATION_FACTOR);
+    }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput supports compact encoding of sparse query tokens
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForCompactSparseQueryTokens(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_COMPACT_SPARSE_QUERY_TOKENS);
+    }
 }
@@ -10,16 +10,24 @@ import lombok.experimental.PackagePrivate;
 import org.apache.lucene.search.TaskExecutor;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * {@link HybridQueryExecutor} provides necessary implementation and instances to execute
  * sub-queries from hybrid query in parallel as a Task by caller. This ensures that one thread pool
  * is used for hybrid query execution per node. The number of parallelization is also constrained
  * by twice allocated processor count since most of the operation from hybrid search is expected to be
  * short-lived thread. This will help us to achieve optimal parallelization and reasonable throughput.
+ * Tasks that block on I/O can be run on virtual threads instead, that mode is enabled by the node setting
+ * {@link NeuralSearchSettings#HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HybridQueryExecutor {
@@ -48,16 +56,33 @@ public final class HybridQueryExecutor {
     }
 
     /**
-     * Initialize @{@link TaskExecutor} to run tasks concurrently using {@link ThreadPool}
+     * Initialize @{@link TaskExecutor} to run tasks concurrently using {@link ThreadPool} or virtual threads
      * @param threadPool OpenSearch's thread pool instance
+     * @param settings Node level settings
      */
-    public static void initialize(ThreadPool threadPool) {
+    public static void initialize(ThreadPool threadPool, final Settings settings) {
         if (threadPool == null) {
             throw new IllegalArgumentException(
                 "Argument thread-pool to Hybrid Query Executor cannot be null. This is required to build executor to run actions in parallel"
             );
         }
-        taskExecutor = new TaskExecutor(threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME));
+        final Executor executor;
+        if (NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED.get(settings)) {
+            HybridQueryVirtualThreadExecutor virtualThreadExecutor = new HybridQueryVirtualThreadExecutor(
+                HYBRID_QUERY_EXEC_THREAD_POOL_NAME,
+                getVirtualThreadsMaxConcurrency(settings),
+                HYBRID_QUERY_EXEC_THREAD_POOL_QUEUE_SIZE,
+                threadPool.getThreadContext()
+            );
+            EventStatsManager.registerGauge(EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE, virtualThreadExecutor::getQueueSize);
+            executor = virtualThreadExecutor;
+        } else {
+            executor = threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME);
+            if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+                EventStatsManager.registerGauge(EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE, () -> threadPoolExecutor.getQueue().size());
+            }
+        }
+        taskExecutor = new TaskExecutor(new HybridQueryMeteredExecutor(executor));
     }
 
     /**
@@ -73,6 +98,14 @@ public final class HybridQueryExecutor {
         return HYBRID_QUERY_EXEC_THREAD_POOL_NAME;
     }
 
+    /**
+     * Limit of concurrent tasks for virtual threads mode, by default it's the same as the size of the fixed thread pool
+     */
+    private static int getVirtualThreadsMaxConcurrency(final Settings settings) {
+        int maxConcurrency = NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY.get(settings);
+        return maxConcurrency > 0 ? maxConcurrency : getFixedNumberOfThreadSize(settings);
+    }
+
     /**
      * Will use thread size as twice the default allocated processor. We selected twice allocated processor
      * since hybrid query action is expected to be short-lived . This will balance throughput and latency
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.AllArgsConstructor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Executor} that records event stats for tasks of hybrid query: number of executed and rejected tasks,
+ * time spent waiting in the queue and time spent running. Times are summed in nanoseconds, so short tasks aren't
+ * truncated to 0. Same stats are recorded for both fixed thread pool and virtual threads, this way both modes can be compared.
+ */
+@AllArgsConstructor
+final class HybridQueryMeteredExecutor implements Executor {
+    private final Executor delegate;
+
+    @Override
+    public void execute(final Runnable command) {
+        final long submitTime = System.nanoTime();
+        try {
+            delegate.execute(() -> {
+                long startTime = System.nanoTime();
+                EventStatsManager.add(EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_TIME_NANOS, startTime - submitTime);
+                try {
+                    command.run();
+                } finally {
+                    EventStatsManager.increment(EventStatName.HYBRID_QUERY_EXECUTOR_TASKS);
+                    EventStatsManager.add(EventStatName.HYBRID_QUERY_EXECUTOR_TASK_TIME_NANOS, System.nanoTime() - startTime);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            EventStatsManager.increment(EventStatName.HYBRID_QUERY_EXECUTOR_REJECTIONS);
+            throw e;
+        }
+    }
+}
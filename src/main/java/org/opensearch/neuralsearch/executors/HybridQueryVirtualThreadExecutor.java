@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Executor} that runs every task of hybrid query on a new virtual thread. Number of tasks that run at the same time
+ * is limited by a semaphore, tasks that can't get a permit wait for it on their own virtual thread, that is cheap comparing
+ * to the platform thread blocked on I/O. Number of waiting tasks is bounded the same way as the queue of the fixed thread pool,
+ * task is rejected when the limit is reached.
+ */
+final class HybridQueryVirtualThreadExecutor implements Executor {
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final ThreadFactory threadFactory;
+    private final ThreadContext threadContext;
+
+    HybridQueryVirtualThreadExecutor(final String name, final int maxConcurrency, final int maxQueueSize, final ThreadContext threadContext) {
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.threadFactory = Thread.ofVirtual().name(name + "[virtual]-", 0).factory();
+        this.threadContext = threadContext;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        // same as for the thread pool, task keeps the thread context of the caller
+        final Runnable task = threadContext != null ? threadContext.preserveContext(command) : command;
+        final Thread thread;
+        if (permits.tryAcquire()) {
+            thread = threadFactory.newThread(() -> runAndRelease(task));
+        } else {
+            if (queueSize.incrementAndGet() > maxQueueSize) {
+                queueSize.decrementAndGet();
+                throw new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "rejected execution of hybrid query task, queue capacity [%d] and concurrency [%d] are exhausted",
+                        maxQueueSize,
+                        maxConcurrency
+                    )
+                );
+            }
+            thread = threadFactory.newThread(() -> {
+                permits.acquireUninterruptibly();
+                queueSize.decrementAndGet();
+                runAndRelease(task);
+            });
+        }
+        thread.start();
+    }
+
+    /**
+     * @return number of tasks that are waiting for a permit to run
+     */
+    int getQueueSize() {
+        return queueSize.get();
+    }
+
+    private void runAndRelease(final Runnable task) {
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -4,7 +4,17 @@
  */
 package org.opensearch.neuralsearch.plugin;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_COLLAPSE_BOUNDED_MEMORY_ENABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_SHARED_FILTER_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_MAX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_SPARSE_TERM_STATE_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_TTL;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.AGENTIC_SEARCH_ENABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_STATS_ENABLED;
@@ -15,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -27,13 +38,16 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
 import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.neuralsearch.query.SparseTermStateCache;
 import org.opensearch.neuralsearch.query.NeuralKNNQueryBuilder;
 import org.opensearch.neuralsearch.query.AgenticSearchQueryBuilder;
 import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.stats.info.InfoStatsManager;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.index.mapper.MappingTransformer;
+import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.neuralsearch.mapper.SemanticFieldMapper;
 import org.opensearch.neuralsearch.mappingtransformer.SemanticMappingTransformer;
 import org.opensearch.neuralsearch.processor.factory.SemanticFieldProcessorFactory;
@@ -59,6 +73,7 @@ import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
 import org.opensearch.neuralsearch.processor.AgenticQueryTranslatorProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflow;
+import org.opensearch.neuralsearch.processor.pagination.FusedResultsCache;
 import org.opensearch.neuralsearch.processor.ExplanationResponseProcessor;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
@@ -82,6 +97,8 @@ import org.opensearch.neuralsearch.processor.rerank.RerankProcessor;
 import org.opensearch.neuralsearch.query.ext.RerankSearchExtBuilder;
 import org.opensearch.neuralsearch.rest.RestNeuralStatsAction;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
+import org.opensearch.neuralsearch.search.query.HybridQueryResultsCache;
+import org.opensearch.neuralsearch.search.query.HybridScrollResults;
 import org.opensearch.neuralsearch.transport.NeuralStatsAction;
 import org.opensearch.neuralsearch.transport.NeuralStatsTransportAction;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
@@ -97,6 +114,8 @@ import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.fetch.subphase.highlight.Highlighter;
+import org.opensearch.search.internal.PitReaderContext;
+import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.pipeline.SearchPhaseResultsProcessor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
@@ -121,6 +140,7 @@ public class NeuralSearch extends Plugin
         SearchPipelinePlugin {
     private MLCommonsClientAccessor clientAccessor;
     private NamedXContentRegistry xContentRegistry;
+    private NamedWriteableRegistry namedWriteableRegistry;
     private NormalizationProcessorWorkflow normalizationProcessorWorkflow;
     private NeuralSearchSettingsAccessor settingsAccessor;
     private PipelineServiceUtil pipelineServiceUtil;
@@ -152,23 +172,56 @@ public class NeuralSearch extends Plugin
         NeuralSearchClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
         NeuralQueryBuilder.initialize(clientAccessor);
         NeuralSparseQueryBuilder.initialize(clientAccessor);
+        SparseTermStateCache.initialize(environment.settings());
         QueryTextExtractorRegistry queryTextExtractorRegistry = new QueryTextExtractorRegistry();
         SemanticHighlighterEngine semanticHighlighterEngine = SemanticHighlighterEngine.builder()
             .mlCommonsClient(clientAccessor)
             .queryTextExtractorRegistry(queryTextExtractorRegistry)
             .build();
         semanticHighlighter.initialize(semanticHighlighterEngine);
-        HybridQueryExecutor.initialize(threadPool);
-        normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
         settingsAccessor = new NeuralSearchSettingsAccessor(clusterService, environment.settings());
+        normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(
+            new ScoreNormalizer(),
+            new ScoreCombiner(),
+            FusedResultsCache.create(environment.settings(), settingsAccessor)
+        );
+        HybridQueryResultsCache.initialize(environment.settings(), settingsAccessor);
+        HybridScrollResults.initialize(environment.settings());
         AgenticSearchQueryBuilder.initialize(settingsAccessor);
+        HybridQueryBuilder.initialize(settingsAccessor);
         pipelineServiceUtil = new PipelineServiceUtil(clusterService);
         infoStatsManager = new InfoStatsManager(NeuralSearchClusterUtil.instance(), settingsAccessor, pipelineServiceUtil);
         EventStatsManager.instance().initialize(settingsAccessor);
+        // executor records stats of its tasks, so it's initialized after the stats manager
+        HybridQueryExecutor.initialize(threadPool, environment.settings());
         this.xContentRegistry = xContentRegistry;
+        this.namedWriteableRegistry = namedWriteableRegistry;
         return List.of(clientAccessor, EventStatsManager.instance(), infoStatsManager);
     }
 
+    @Override
+    public void close() {
+        // node level caches don't outlive the plugin
+        SparseTermStateCache.close();
+        HybridQueryResultsCache.close();
+        HybridScrollResults.close();
+    }
+
+    @Override
+    public void onIndexModule(final IndexModule indexModule) {
+        // results of hybrid query are dropped with the point in time or the scroll they are computed for
+        indexModule.addSearchOperationListener(new SearchOperationListener() {
+            @Override
+            public void onFreeReaderContext(final ReaderContext readerContext) {
+                HybridScrollResults.invalidate(readerContext.id());
+                HybridQueryResultsCache hybridQueryResultsCache = HybridQueryResultsCache.getInstance();
+                if (readerContext instanceof PitReaderContext && Objects.nonNull(hybridQueryResultsCache)) {
+                    hybridQueryResultsCache.invalidate(readerContext.id());
+                }
+            }
+        });
+    }
+
     @Override
     public List<QuerySpec<?>> getQueries() {
         return Arrays.asList(
@@ -258,7 +311,17 @@ public class NeuralSearch extends Plugin
             NEURAL_STATS_ENABLED,
             SEMANTIC_INGEST_BATCH_SIZE,
             HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY,
-            AGENTIC_SEARCH_ENABLED
+            HYBRID_COLLAPSE_BOUNDED_MEMORY_ENABLED,
+            AGENTIC_SEARCH_ENABLED,
+            HYBRID_QUERY_MAX_SUB_QUERIES,
+            HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED,
+            HYBRID_QUERY_SHARED_FILTER_ENABLED,
+            HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED,
+            HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY,
+            HYBRID_PAGINATION_CURSOR_ENABLED,
+            HYBRID_PAGINATION_CURSOR_TTL,
+            HYBRID_PAGINATION_CURSOR_MAX_SIZE,
+            NEURAL_SPARSE_TERM_STATE_CACHE_SIZE
         );
     }
 
@@ -270,7 +333,7 @@ public class NeuralSearch extends Plugin
             NeuralQueryEnricherProcessor.TYPE,
             new NeuralQueryEnricherProcessor.Factory(),
             NeuralSparseTwoPhaseProcessor.TYPE,
-            new NeuralSparseTwoPhaseProcessor.Factory(),
+            new NeuralSparseTwoPhaseProcessor.Factory(parameters.client, xContentRegistry, namedWriteableRegistry),
             AgenticQueryTranslatorProcessor.TYPE,
             new AgenticQueryTranslatorProcessor.Factory(clientAccessor, xContentRegistry, settingsAccessor)
         );
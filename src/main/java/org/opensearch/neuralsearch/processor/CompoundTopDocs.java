@@ -100,41 +100,34 @@ public class CompoundTopDocs {
             initialize(topDocs.totalHits, new ArrayList<>(), isSortEnabled, searchShard);
             return;
         }
-        // skipping first two elements, it's a start-stop element and delimiter for first series
+        // skipping first two elements, it's a start-stop element and delimiter for first series. Scores of every sub-query
+        // are a contiguous range between delimiters, the range is copied as is, keeping ScoreDoc instances and shard index
         List<TopDocs> topDocsList = new ArrayList<>();
-        List<ScoreDoc> scoreDocList = new ArrayList<>();
-        List<Object> collapseValueList = new ArrayList<>();
+        int subQueryStartIndex = 2;
         for (int index = 2; index < scoreDocs.length; index++) {
-            // getting first element of score's series
             ScoreDoc scoreDoc = scoreDocs[index];
-            if (isHybridQueryDelimiterElement(scoreDoc) || isHybridQueryStartStopElement(scoreDoc)) {
-                ScoreDoc[] subQueryScores = scoreDocList.toArray(new ScoreDoc[0]);
-                TotalHits totalHits = new TotalHits(subQueryScores.length, TotalHits.Relation.EQUAL_TO);
-                TopDocs subQueryTopDocs;
-                if (isCollapseEnabled) {
-                    CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
-                    subQueryTopDocs = new CollapseTopFieldDocs(
-                        collapseTopFieldDocs.field,
-                        totalHits,
-                        subQueryScores,
-                        collapseTopFieldDocs.fields,
-                        collapseValueList.toArray(new Object[0])
-                    );
-                    collapseValueList.clear();
-                } else if (isSortEnabled) {
-                    subQueryTopDocs = new TopFieldDocs(totalHits, subQueryScores, ((TopFieldDocs) topDocs).fields);
-                } else {
-                    subQueryTopDocs = new TopDocs(totalHits, subQueryScores);
-                }
-                topDocsList.add(subQueryTopDocs);
-                scoreDocList.clear();
+            if (isHybridQueryDelimiterElement(scoreDoc) == false && isHybridQueryStartStopElement(scoreDoc) == false) {
+                continue;
+            }
+            ScoreDoc[] subQueryScores = Arrays.copyOfRange(scoreDocs, subQueryStartIndex, index);
+            TotalHits totalHits = new TotalHits(subQueryScores.length, TotalHits.Relation.EQUAL_TO);
+            TopDocs subQueryTopDocs;
+            if (isCollapseEnabled) {
+                CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
+                subQueryTopDocs = new CollapseTopFieldDocs(
+                    collapseTopFieldDocs.field,
+                    totalHits,
+                    subQueryScores,
+                    collapseTopFieldDocs.fields,
+                    Arrays.copyOfRange(collapseTopFieldDocs.collapseValues, subQueryStartIndex, index)
+                );
+            } else if (isSortEnabled) {
+                subQueryTopDocs = new TopFieldDocs(totalHits, subQueryScores, ((TopFieldDocs) topDocs).fields);
             } else {
-                scoreDocList.add(scoreDoc);
-                if (isCollapseEnabled) {
-                    CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
-                    collapseValueList.add(collapseTopFieldDocs.collapseValues[index]);
-                }
+                subQueryTopDocs = new TopDocs(totalHits, subQueryScores);
             }
+            topDocsList.add(subQueryTopDocs);
+            subQueryStartIndex = index + 1;
         }
         initialize(topDocs.totalHits, topDocsList, isSortEnabled, searchShard);
     }
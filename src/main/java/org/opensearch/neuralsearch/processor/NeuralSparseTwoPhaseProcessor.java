@@ -8,10 +8,17 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.Randomness;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
+import org.opensearch.neuralsearch.processor.twophase.AdaptiveTwoPhaseWindow;
+import org.opensearch.neuralsearch.processor.twophase.TwoPhaseWindowProbe;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -23,15 +30,23 @@ import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.search.rescore.RescorerBuilder;
+import org.opensearch.transport.client.Client;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * A SearchRequestProcessor to generate two-phase NeuralSparseQueryBuilder,
- * and add it to the Rescore of a searchRequest.
+ * and add it to the Rescore of a searchRequest. With single pass the NeuralSparseQueryBuilder scores both phases by one query
+ * instead of the rescore, the window is taken per segment by the phase one score of every neural sparse query, see
+ * {@link org.opensearch.neuralsearch.query.NeuralSparseTwoPhaseQuery} for how it differs from the rescore. With adaptive
+ * window the window size is learned from a sample of queries instead of the fixed expansion rate.
  */
+@Log4j2
 @Setter
 @Getter
 public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements SearchRequestProcessor {
@@ -42,11 +57,18 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
     private PruneType pruneType;
     private float windowExpansion;
     private int maxWindowSize;
+    // null if the window size is size of the request multiplied by the expansion rate
+    private AdaptiveTwoPhaseWindow adaptiveWindow;
+    private TwoPhaseWindowProbe windowProbe;
+    private boolean singlePass;
     private static final String PARAMETER_KEY = "two_phase_parameter";
     private static final String ENABLE_KEY = "enabled";
     private static final String EXPANSION_KEY = "expansion_rate";
     private static final String MAX_WINDOW_SIZE_KEY = "max_window_size";
+    private static final String ADAPTIVE_WINDOW_KEY = "adaptive_window";
+    private static final String SINGLE_PASS_KEY = "single_pass";
     private static final boolean DEFAULT_ENABLED = true;
+    private static final boolean DEFAULT_SINGLE_PASS = false;
     private static final float DEFAULT_RATIO = 0.4f;
     private static final PruneType DEFAULT_PRUNE_TYPE = PruneType.MAX_RATIO;
     private static final float DEFAULT_WINDOW_EXPANSION = 5.0f;
@@ -54,6 +76,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
     private static final int DEFAULT_BASE_QUERY_SIZE = 10;
     private static final int MAX_WINDOWS_SIZE_LOWER_BOUND = 50;
     private static final float WINDOW_EXPANSION_LOWER_BOUND = 1.0f;
+    private static final int PROBE_WINDOW_MULTIPLIER = 2;
 
     protected NeuralSparseTwoPhaseProcessor(
         String tag,
@@ -83,6 +106,25 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         this.maxWindowSize = maxWindowSize;
     }
 
+    protected NeuralSparseTwoPhaseProcessor(
+        String tag,
+        String description,
+        boolean ignoreFailure,
+        boolean enabled,
+        float pruneRatio,
+        PruneType pruneType,
+        float windowExpansion,
+        int maxWindowSize,
+        AdaptiveTwoPhaseWindow adaptiveWindow,
+        TwoPhaseWindowProbe windowProbe,
+        boolean singlePass
+    ) {
+        this(tag, description, ignoreFailure, enabled, pruneRatio, pruneType, windowExpansion, maxWindowSize);
+        this.adaptiveWindow = adaptiveWindow;
+        this.windowProbe = windowProbe;
+        this.singlePass = singlePass;
+    }
+
     /**
      * Process the search request of neural_sparse_two_phase_processor
      * @param request the search request (which may have been modified by an earlier processor)
@@ -95,6 +137,23 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
             return request;
         }
         QueryBuilder queryBuilder = request.source().query();
+        // Query is copied before phase one tokens are pruned from the original query builders
+        QueryBuilder probeQueryBuilder = shouldProbe() ? copyQuery(queryBuilder) : null;
+        // Nodes of older versions can only run the rescore
+        if (singlePass && MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForSinglePassNeuralSparseTwoPhase()) {
+            List<NeuralSparseQueryBuilder> neuralSparseQueryBuilders = collectNeuralSparseQueryBuilderForSinglePass(queryBuilder);
+            if (neuralSparseQueryBuilders.isEmpty()) {
+                return request;
+            }
+            int windowSize = getWindowSize(request);
+            for (NeuralSparseQueryBuilder neuralSparseQueryBuilder : neuralSparseQueryBuilders) {
+                neuralSparseQueryBuilder.enableSinglePassTwoPhase(pruneRatio, pruneType, windowSize);
+            }
+            if (Objects.nonNull(probeQueryBuilder)) {
+                probeWindow(request, probeQueryBuilder, windowSize);
+            }
+            return request;
+        }
         // Collect the nested NeuralSparseQueryBuilder in the whole query.
         Multimap<NeuralSparseQueryBuilder, Float> queryBuilderMap;
         queryBuilderMap = collectNeuralSparseQueryBuilder(queryBuilder, 1.0f);
@@ -107,9 +166,55 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         // Add it to the rescorer.
         RescorerBuilder<QueryRescorerBuilder> twoPhaseRescorer = buildRescoreQueryBuilderForTwoPhase(nestedTwoPhaseQueryBuilder, request);
         request.source().addRescorer(twoPhaseRescorer);
+        if (Objects.nonNull(probeQueryBuilder)) {
+            probeWindow(request, probeQueryBuilder, twoPhaseRescorer.windowSize());
+        }
         return request;
     }
 
+    private boolean shouldProbe() {
+        return Objects.nonNull(adaptiveWindow) && adaptiveWindow.shouldSample();
+    }
+
+    private QueryBuilder copyQuery(final QueryBuilder queryBuilder) {
+        try {
+            return windowProbe.copyQuery(queryBuilder);
+        } catch (IOException e) {
+            // sampled query is skipped, the search itself doesn't depend on the probe
+            log.debug("failed to copy neural sparse query for the probe of two-phase window", e);
+            return null;
+        }
+    }
+
+    /*
+    Search the true top documents and the results of the phase one query in the background, the adaptive window records
+    positions of true top documents in the results of the phase one query.
+     */
+    private void probeWindow(final SearchRequest request, final QueryBuilder fullQueryBuilder, final int windowSize) {
+        windowProbe.probe(request, fullQueryBuilder, phaseOneQueryBuilder -> {
+            // prunes phase one query builders of the copy, phase two query builders are not needed
+            collectNeuralSparseQueryBuilder(phaseOneQueryBuilder, 1.0f);
+            return phaseOneQueryBuilder;
+        }, getRequestSize(request), getProbeSize(windowSize), positions -> {
+            adaptiveWindow.record(positions, windowSize);
+            // expansion is learned separately for every pipeline, node stats only have the mean over pipelines
+            log.debug("window expansion of two-phase processor [{}] is [{}]", getTag(), adaptiveWindow.getExpansion(windowExpansion));
+        });
+    }
+
+    /*
+    Probe searches results of the phase one query up to twice the current window, true top documents beyond them count as
+    not found, so the window can at most double with every adaptation and probes stay close to the cost of the search
+     */
+    private int getProbeSize(final int windowSize) {
+        return (int) Math.min(maxWindowSize, (long) windowSize * PROBE_WINDOW_MULTIPLIER);
+    }
+
+    private int getRequestSize(final SearchRequest searchRequest) {
+        int requestSize = searchRequest.source().size();
+        return requestSize == -1 ? DEFAULT_BASE_QUERY_SIZE : requestSize;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -173,13 +278,41 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         return result;
     }
 
+    /*
+    Same traversal as collectNeuralSparseQueryBuilder, query builders are returned as they are to score both phases
+     */
+    private List<NeuralSparseQueryBuilder> collectNeuralSparseQueryBuilderForSinglePass(final QueryBuilder queryBuilder) {
+        List<NeuralSparseQueryBuilder> result = new ArrayList<>();
+        if (queryBuilder instanceof BoolQueryBuilder) {
+            for (QueryBuilder subQuery : ((BoolQueryBuilder) queryBuilder).should()) {
+                result.addAll(collectNeuralSparseQueryBuilderForSinglePass(subQuery));
+            }
+        } else if (queryBuilder instanceof NeuralSparseQueryBuilder) {
+            result.add((NeuralSparseQueryBuilder) queryBuilder);
+        }
+        return result;
+    }
+
     private RescorerBuilder<QueryRescorerBuilder> buildRescoreQueryBuilderForTwoPhase(
         final QueryBuilder nestedTwoPhaseQueryBuilder,
         final SearchRequest searchRequest
     ) {
         RescorerBuilder<QueryRescorerBuilder> twoPhaseRescorer = new QueryRescorerBuilder(nestedTwoPhaseQueryBuilder);
-        int requestSize = searchRequest.source().size();
-        int windowSize = (int) ((requestSize == -1 ? DEFAULT_BASE_QUERY_SIZE : requestSize) * windowExpansion);
+        twoPhaseRescorer.windowSize(getWindowSize(searchRequest));
+        return twoPhaseRescorer;
+    }
+
+    private int getWindowSize(final SearchRequest searchRequest) {
+        int requestSize = getRequestSize(searchRequest);
+        if (Objects.nonNull(adaptiveWindow)) {
+            // learned window is kept in the range of valid windows instead of failing the search
+            int windowSize = (int) Math.ceil(requestSize * adaptiveWindow.getExpansion(windowExpansion));
+            windowSize = Math.max(requestSize, Math.min(windowSize, maxWindowSize));
+            EventStatsManager.increment(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXECUTIONS);
+            EventStatsManager.add(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_WINDOW_SIZE_TOTAL, windowSize);
+            return windowSize;
+        }
+        int windowSize = (int) (requestSize * windowExpansion);
         if (windowSize > maxWindowSize || windowSize < 0) {
             throw new IllegalArgumentException(
                 String.format(
@@ -190,8 +323,7 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 )
             );
         }
-        twoPhaseRescorer.windowSize(windowSize);
-        return twoPhaseRescorer;
+        return windowSize;
     }
 
     /**
@@ -199,6 +331,29 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
      *
      */
     public static class Factory implements Processor.Factory<SearchRequestProcessor> {
+        private final Client client;
+        private final NamedXContentRegistry xContentRegistry;
+        private final NamedWriteableRegistry namedWriteableRegistry;
+
+        public Factory() {
+            this(null, null, null);
+        }
+
+        /**
+         * @param client client that runs probe searches of adaptive window, can be null if adaptive window is not used
+         * @param xContentRegistry registry that parses copies of queries for probe searches
+         * @param namedWriteableRegistry registry that copies queries when queries of probe searches are rewritten
+         */
+        public Factory(
+            final Client client,
+            final NamedXContentRegistry xContentRegistry,
+            final NamedWriteableRegistry namedWriteableRegistry
+        ) {
+            this.client = client;
+            this.xContentRegistry = xContentRegistry;
+            this.namedWriteableRegistry = namedWriteableRegistry;
+        }
+
         @Override
         public NeuralSparseTwoPhaseProcessor create(
             Map<String, Processor.Factory<SearchRequestProcessor>> processorFactories,
@@ -216,6 +371,8 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
             float windowExpansion = DEFAULT_WINDOW_EXPANSION;
             int maxWindowSize = DEFAULT_MAX_WINDOW_SIZE;
             PruneType pruneType = DEFAULT_PRUNE_TYPE;
+            AdaptiveTwoPhaseWindow adaptiveWindow = null;
+            boolean singlePass = DEFAULT_SINGLE_PASS;
             if (Objects.nonNull(twoPhaseConfigMap)) {
                 pruneRatio = ((Number) twoPhaseConfigMap.getOrDefault(PruneUtils.PRUNE_RATIO_FIELD, pruneRatio)).floatValue();
                 windowExpansion = ((Number) twoPhaseConfigMap.getOrDefault(EXPANSION_KEY, windowExpansion)).floatValue();
@@ -223,6 +380,16 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 pruneType = PruneType.fromString(
                     twoPhaseConfigMap.getOrDefault(PruneUtils.PRUNE_TYPE_FIELD, pruneType.getValue()).toString()
                 );
+                Map<String, Object> adaptiveWindowConfig = ConfigurationUtils.readOptionalMap(
+                    TYPE,
+                    tag,
+                    twoPhaseConfigMap,
+                    ADAPTIVE_WINDOW_KEY
+                );
+                singlePass = ConfigurationUtils.readBooleanProperty(TYPE, tag, twoPhaseConfigMap, SINGLE_PASS_KEY, DEFAULT_SINGLE_PASS);
+                if (Objects.nonNull(adaptiveWindowConfig)) {
+                    adaptiveWindow = new AdaptiveTwoPhaseWindow(adaptiveWindowConfig, () -> Randomness.get().nextDouble());
+                }
             }
             if (!PruneUtils.isValidPruneRatio(pruneType, pruneRatio)) {
                 throw new IllegalArgumentException(
@@ -244,9 +411,24 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
                 pruneRatio,
                 pruneType,
                 windowExpansion,
-                maxWindowSize
+                maxWindowSize,
+                adaptiveWindow,
+                createWindowProbe(adaptiveWindow),
+                singlePass
             );
         }
+
+        private TwoPhaseWindowProbe createWindowProbe(final AdaptiveTwoPhaseWindow adaptiveWindow) {
+            if (Objects.isNull(adaptiveWindow)) {
+                return null;
+            }
+            if (Objects.isNull(client)) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "%s.%s is not supported without a client", PARAMETER_KEY, ADAPTIVE_WINDOW_KEY)
+                );
+            }
+            return new TwoPhaseWindowProbe(client, xContentRegistry, namedWriteableRegistry);
+        }
     }
 
 }
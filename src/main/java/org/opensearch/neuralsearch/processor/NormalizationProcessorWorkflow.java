@@ -14,6 +14,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.apache.lucene.internal.hppc.IntObjectHashMap;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Sort;
@@ -22,6 +23,7 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.opensearch.action.search.SearchPhaseContext;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.neuralsearch.processor.collapse.CollapseDTO;
 import org.opensearch.neuralsearch.processor.collapse.CollapseExecutor;
 import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
@@ -31,8 +33,14 @@ import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationPayload;
+import org.opensearch.neuralsearch.processor.explain.LazyExplanationList;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.processor.pagination.FusedResultsCache;
+import org.opensearch.neuralsearch.processor.profile.NormalizationProfiler;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
@@ -43,6 +51,7 @@ import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.neuralsearch.plugin.NeuralSearch.EXPLANATION_RESPONSE_KEY;
 import static org.opensearch.neuralsearch.search.util.HybridSearchSortUtil.evaluateSortCriteria;
+import static org.opensearch.neuralsearch.search.util.HybridSearchSortUtil.isSortEnabled;
 
 /**
  * Class abstracts steps required for score normalization and combination, this includes pre-processing of incoming data
@@ -54,6 +63,11 @@ public class NormalizationProcessorWorkflow {
 
     private final ScoreNormalizer scoreNormalizer;
     private final ScoreCombiner scoreCombiner;
+    private final FusedResultsCache fusedResultsCache;
+
+    public NormalizationProcessorWorkflow(final ScoreNormalizer scoreNormalizer, final ScoreCombiner scoreCombiner) {
+        this(scoreNormalizer, scoreCombiner, FusedResultsCache.disabled());
+    }
 
     /**
      * Start execution of this workflow
@@ -65,10 +79,25 @@ public class NormalizationProcessorWorkflow {
         List<QuerySearchResult> querySearchResults = request.getQuerySearchResults();
         Optional<FetchSearchResult> fetchSearchResultOptional = request.getFetchSearchResultOptional();
         List<Integer> unprocessedDocIds = unprocessedDocIds(querySearchResults);
+        NormalizationProfiler profiler = NormalizationProfiler.create(isProfile(request));
+
+        final boolean isFusedNormalizationAndCombination = isFusedNormalizationAndCombination(request);
 
+        // next pages of paginated search with point in time reuse fused results of the first page
+        final Optional<FusedResultsCache.CursorKey> cursorKey = isFusedNormalizationAndCombination
+            ? fusedResultsCache.getCursorKey(request)
+            : Optional.empty();
+        final int topNPerShard = getTopNPerShard(request);
+        if (cursorKey.isPresent() && fusedResultsCache.restore(cursorKey.get(), querySearchResults, topNPerShard)) {
+            log.debug("Use cached fused results of hybrid query");
+            validateFromValue(querySearchResults, getNumOfScoreDocs(querySearchResults));
+            return;
+        }
         // pre-process data
         log.debug("Pre-process query results");
         List<CompoundTopDocs> queryTopDocs = getQueryTopDocs(querySearchResults);
+        profiler.recordQueryTopDocs(queryTopDocs);
+        profiler.recordTechniques(request.getNormalizationTechnique(), request.getCombinationTechnique());
 
         explain(request, queryTopDocs);
 
@@ -76,12 +105,9 @@ public class NormalizationProcessorWorkflow {
         NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
             .queryTopDocs(queryTopDocs)
             .normalizationTechnique(request.getNormalizationTechnique())
+            .query(getSearchQuery(request))
             .build();
 
-        // normalize
-        log.debug("Do score normalization");
-        scoreNormalizer.normalizeScores(normalizeScoresDTO);
-
         CombineScoresDto combineScoresDTO = CombineScoresDto.builder()
             .queryTopDocs(queryTopDocs)
             .scoreCombinationTechnique(request.getCombinationTechnique())
@@ -89,21 +115,107 @@ public class NormalizationProcessorWorkflow {
             .sort(evaluateSortCriteria(querySearchResults, queryTopDocs))
             .fromValueForSingleShard(getFromValueIfSingleShard(request))
             .isSingleShard(getIsSingleShard(request))
+            // cached results must have all docs to the pagination depth for the next pages
+            .topN(cursorKey.isPresent() ? 0 : topNPerShard)
             .build();
 
-        // combine
-        log.debug("Do score combination");
-        scoreCombiner.combineScores(combineScoresDTO);
+        if (isFusedNormalizationAndCombination) {
+            // normalize scores at the time they are combined, results of sub-queries are read only once. Scores of techniques
+            // that depend on the position of the result, like rrf, are normalized in place before the combination
+            log.debug("Do fused score normalization and combination");
+            SubQueryScoreNormalizer scoreNormalizerForSubQueries = profiler.time(
+                NormalizationProfiler.TimingType.NORMALIZE,
+                () -> scoreNormalizer.collectStatistics(normalizeScoresDTO)
+            );
+            profiler.time(
+                NormalizationProfiler.TimingType.COMBINE,
+                () -> scoreCombiner.combineScores(combineScoresDTO, scoreNormalizerForSubQueries)
+            );
+        } else {
+            // normalize
+            log.debug("Do score normalization");
+            profiler.time(NormalizationProfiler.TimingType.NORMALIZE, () -> scoreNormalizer.normalizeScores(normalizeScoresDTO));
+
+            // combine
+            log.debug("Do score combination");
+            profiler.time(NormalizationProfiler.TimingType.COMBINE, () -> scoreCombiner.combineScores(combineScoresDTO));
+        }
 
         // post-process data
         log.debug("Post-process query results after score normalization and combination");
         updateOriginalQueryResults(combineScoresDTO, fetchSearchResultOptional.isPresent());
-        updateOriginalFetchResults(
-            querySearchResults,
-            fetchSearchResultOptional,
-            unprocessedDocIds,
-            combineScoresDTO.getFromValueForSingleShard()
+        if (cursorKey.isPresent()) {
+            fusedResultsCache.put(cursorKey.get(), querySearchResults, FusedResultsCache.getKeepAlive(request));
+            // first page is served from cached results same as next pages, so results to the full depth are not sent to the reduce
+            if (topNPerShard > 0) {
+                fusedResultsCache.restore(cursorKey.get(), querySearchResults, topNPerShard);
+            }
+        }
+        profiler.time(
+            NormalizationProfiler.TimingType.FETCH_REORDER,
+            () -> updateOriginalFetchResults(
+                querySearchResults,
+                fetchSearchResultOptional,
+                unprocessedDocIds,
+                combineScoresDTO.getFromValueForSingleShard()
+            )
         );
+        profiler.addToProfileResults(querySearchResults);
+    }
+
+    /**
+     * Check if search request has profiling enabled, in such case timings of normalization and combination are added
+     * to the profile response
+     */
+    private boolean isProfile(final NormalizationProcessorWorkflowExecuteRequest request) {
+        final SearchPhaseContext searchPhaseContext = request.getSearchPhaseContext();
+        if (Objects.isNull(searchPhaseContext) || Objects.isNull(searchPhaseContext.getRequest())) {
+            return false;
+        }
+        return Objects.nonNull(searchPhaseContext.getRequest().source()) && searchPhaseContext.getRequest().source().profile();
+    }
+
+    private QueryBuilder getSearchQuery(final NormalizationProcessorWorkflowExecuteRequest request) {
+        final SearchPhaseContext searchPhaseContext = request.getSearchPhaseContext();
+        if (Objects.isNull(searchPhaseContext)
+            || Objects.isNull(searchPhaseContext.getRequest())
+            || Objects.isNull(searchPhaseContext.getRequest().source())) {
+            return null;
+        }
+        return searchPhaseContext.getRequest().source().query();
+    }
+
+    /**
+     * Normalization can be fused with combination if results are sorted by combined score. Sort criteria is also present
+     * when collapse is enabled. Explain needs normalized scores of each sub-query, so it uses separate normalization
+     * and combination.
+     */
+    private boolean isFusedNormalizationAndCombination(final NormalizationProcessorWorkflowExecuteRequest request) {
+        return request.isExplain() == false && isSortEnabled(request.getQuerySearchResults()) == false;
+    }
+
+    /**
+     * Get number of top docs of each shard that can get into the final search response, it's from + size of the search request.
+     * Single shard results are returned to the user as is, and for scroll requests results of every page are used, in such
+     * cases all docs of the shard are kept.
+     * @return number of docs, or 0 if all docs must be kept
+     */
+    private int getTopNPerShard(final NormalizationProcessorWorkflowExecuteRequest request) {
+        final SearchPhaseContext searchPhaseContext = request.getSearchPhaseContext();
+        if (Objects.isNull(searchPhaseContext)
+            || Objects.isNull(searchPhaseContext.getRequest())
+            || Objects.isNull(searchPhaseContext.getRequest().source())
+            || Objects.nonNull(searchPhaseContext.getRequest().scroll())
+            || getIsSingleShard(request)) {
+            return 0;
+        }
+        final SearchSourceBuilder source = searchPhaseContext.getRequest().source();
+        int from = source.from() == -1 ? 0 : source.from();
+        int size = source.size() == -1 ? SearchService.DEFAULT_SIZE : source.size();
+        if (size <= 0) {
+            return 0;
+        }
+        return (int) Math.min((long) from + size, Integer.MAX_VALUE);
     }
 
     private boolean getIsSingleShard(final NormalizationProcessorWorkflowExecuteRequest request) {
@@ -135,7 +247,8 @@ public class NormalizationProcessorWorkflow {
 
     /**
      * Collects explanations from normalization and combination techniques and save thme into pipeline context. Later that
-     * information will be read by the response processor to add it to search response
+     * information will be read by the response processor to add it to search response. Combined explanation details of
+     * a hit are created when the response processor reads them, that happens only for hits returned in the response
      */
     private void explain(NormalizationProcessorWorkflowExecuteRequest request, List<CompoundTopDocs> queryTopDocs) {
         if (!request.isExplain()) {
@@ -146,7 +259,8 @@ public class NormalizationProcessorWorkflow {
             Sort sortForQuery = evaluateSortCriteria(request.getQuerySearchResults(), queryTopDocs);
             Map<DocIdAtSearchShard, ExplanationDetails> normalizationExplain = scoreNormalizer.explain(
                 queryTopDocs,
-                (ExplainableTechnique) request.getNormalizationTechnique()
+                (ExplainableTechnique) request.getNormalizationTechnique(),
+                getSearchQuery(request)
             );
             Map<SearchShard, List<ExplanationDetails>> combinationExplain = scoreCombiner.explain(
                 queryTopDocs,
@@ -155,16 +269,17 @@ public class NormalizationProcessorWorkflow {
             );
             Map<SearchShard, List<CombinedExplanationDetails>> combinedExplanations = new HashMap<>();
             for (Map.Entry<SearchShard, List<ExplanationDetails>> entry : combinationExplain.entrySet()) {
-                List<CombinedExplanationDetails> combinedDetailsList = new ArrayList<>();
-                for (ExplanationDetails explainDetail : entry.getValue()) {
-                    DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(explainDetail.getDocId(), entry.getKey());
-                    CombinedExplanationDetails combinedDetail = CombinedExplanationDetails.builder()
+                SearchShard searchShard = entry.getKey();
+                List<ExplanationDetails> combinationExplainOfShard = entry.getValue();
+                List<CombinedExplanationDetails> combinedDetailsList = LazyExplanationList.of(combinationExplainOfShard.size(), index -> {
+                    ExplanationDetails explainDetail = combinationExplainOfShard.get(index);
+                    DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(explainDetail.getDocId(), searchShard);
+                    return CombinedExplanationDetails.builder()
                         .normalizationExplanations(normalizationExplain.get(docIdAtSearchShard))
                         .combinationExplanations(explainDetail)
                         .build();
-                    combinedDetailsList.add(combinedDetail);
-                }
-                combinedExplanations.put(entry.getKey(), combinedDetailsList);
+                });
+                combinedExplanations.put(searchShard, combinedDetailsList);
             }
 
             ExplanationPayload explanationPayload = ExplanationPayload.builder()
@@ -246,6 +361,10 @@ public class NormalizationProcessorWorkflow {
             }
         }
 
+        validateFromValue(querySearchResults, totalScoreDocsCount);
+    }
+
+    private void validateFromValue(final List<QuerySearchResult> querySearchResults, final int totalScoreDocsCount) {
         final int from = querySearchResults.get(0).from();
         if (from > totalScoreDocsCount) {
             throw new IllegalArgumentException(
@@ -254,6 +373,14 @@ public class NormalizationProcessorWorkflow {
         }
     }
 
+    private int getNumOfScoreDocs(final List<QuerySearchResult> querySearchResults) {
+        int numOfScoreDocs = 0;
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            numOfScoreDocs += querySearchResult.topDocs().topDocs.scoreDocs.length;
+        }
+        return numOfScoreDocs;
+    }
+
     private List<CompoundTopDocs> getCompoundTopDocs(CombineScoresDto combineScoresDTO, List<QuerySearchResult> querySearchResults) {
         final List<CompoundTopDocs> queryTopDocs = combineScoresDTO.getQueryTopDocs();
         if (querySearchResults.size() != queryTopDocs.size()) {
@@ -312,8 +439,8 @@ public class NormalizationProcessorWorkflow {
         // create map of docId to index of search hits. This solves (2), duplicates are from
         // delimiter and start/stop elements, they all have same valid doc_id. For this map
         // we use doc_id as a key, and all those special elements are collapsed into a single
-        // key-value pair.
-        Map<Integer, SearchHit> docIdToSearchHit = new HashMap<>();
+        // key-value pair. Doc ids are kept as primitive ints, so no boxing per fetched hit.
+        IntObjectHashMap<SearchHit> docIdToSearchHit = new IntObjectHashMap<>(searchHitArray.length);
         for (int i = 0; i < searchHitArray.length; i++) {
             int originalDocId = docIds.get(i);
             docIdToSearchHit.put(originalDocId, searchHitArray[i]);
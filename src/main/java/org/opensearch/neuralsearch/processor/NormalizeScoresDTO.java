@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
 
 import java.util.List;
@@ -23,4 +24,6 @@ public class NormalizeScoresDTO {
     private List<CompoundTopDocs> queryTopDocs;
     @NonNull
     private ScoreNormalizationTechnique normalizationTechnique;
+    // query of the search request, null if it's not known. Techniques that learn from previous searches tell queries apart by it
+    private QueryBuilder query;
 }
@@ -13,7 +13,6 @@ import org.opensearch.search.query.QuerySearchResult;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Data Transfer Object (DTO) for managing collapse-related search data across shards.
@@ -30,7 +29,8 @@ public class CollapseDTO {
     private final CombineScoresDto collapseCombineScoresDTO;
 
     // Shard-specific fields
-    private List<? extends Map.Entry<?, FieldDoc>> relevantCollapseEntries;
+    private FieldDoc[] relevantCollapseFieldDocs;
+    private Object[] relevantCollapseValues;
     private String collapseField;
     private CompoundTopDocs updatedCollapseTopDocs;
     private int collapseShardIndex;
@@ -64,19 +64,21 @@ public class CollapseDTO {
     /**
      * Updates the DTO with shard-specific collapse information.
      *
-     * @param <T> The type of the collapse field value
-     * @param relevantCollapseEntries List of collapse entries relevant for the shard
+     * @param relevantCollapseFieldDocs Top documents of collapse values relevant for the shard
+     * @param relevantCollapseValues Collapse values of the top documents, in the same order
      * @param collapseField Name of the field being collapsed on
      * @param updatedCollapseTopDocs Updated compound top documents for the shard
      * @param collapseShardIndex Index of the current shard being processed
      */
-    public <T> void updateForShard(
-        List<Map.Entry<T, FieldDoc>> relevantCollapseEntries,
+    public void updateForShard(
+        FieldDoc[] relevantCollapseFieldDocs,
+        Object[] relevantCollapseValues,
         String collapseField,
         CompoundTopDocs updatedCollapseTopDocs,
         int collapseShardIndex
     ) {
-        this.relevantCollapseEntries = relevantCollapseEntries;
+        this.relevantCollapseFieldDocs = relevantCollapseFieldDocs;
+        this.relevantCollapseValues = relevantCollapseValues;
         this.collapseField = collapseField;
         this.updatedCollapseTopDocs = updatedCollapseTopDocs;
         this.collapseShardIndex = collapseShardIndex;
@@ -10,15 +10,17 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.search.query.HybridQueryFieldDocComparator;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * A collector class that handles data collapsing operations for search results.
@@ -29,8 +31,13 @@ import java.util.Map;
 @Log4j2
 public class CollapseDataCollector<T> {
 
-    private final Map<T, FieldDoc> collapseValueToTopDocMap = new HashMap<>();
-    private final Map<T, Integer> collapseValueToShardMap = new HashMap<>();
+    private static final FieldDoc[] EMPTY_FIELD_DOCS = new FieldDoc[0];
+
+    // collapsed results of all shards in the final order, one element per unique collapse value in each array
+    private FieldDoc[] collapsedFieldDocs = EMPTY_FIELD_DOCS;
+    private Object[] collapseValues = new Object[0];
+    private int[] collapseShardIndices = new int[0];
+    private int numOfCollapsedDocs;
     private final HybridQueryFieldDocComparator collapseComparator;
     private final Class<T> expectedType;
     @Getter
@@ -75,46 +82,101 @@ public class CollapseDataCollector<T> {
 
     /**
      * Processes and collects collapse data from search results across all shards.
-     * Updates internal maps tracking the top documents and their corresponding shards for each collapse value.
+     * Sorted results of every shard are merged, the first document of each collapse value is its top document, so only
+     * collapse values that are already produced are kept. Merge stops once the number of collapse values reaches
+     * the number of documents that can get into final results.
      *
      * @param collapseDTO The data transfer object containing collapse query results
      * @throws IllegalArgumentException if the document structure doesn't match expected collapse format
      */
     public void collectCollapseData(CollapseDTO collapseDTO) {
-        for (int shardIndex = 0; shardIndex < collapseDTO.getCollapseQuerySearchResults().size(); shardIndex++) {
-            CompoundTopDocs updatedCollapseTopDocs = collapseDTO.getCollapseQueryTopDocs().get(shardIndex);
-            List<ScoreDoc> updatedCollapseDocs = updatedCollapseTopDocs.getScoreDocs();
-
-            if (updatedCollapseDocs.isEmpty()) {
-                continue;
+        int numOfShards = collapseDTO.getCollapseQuerySearchResults().size();
+        PriorityQueue<ShardCursor> shardCursors = new PriorityQueue<>(Math.max(numOfShards, 1)) {
+            @Override
+            protected boolean lessThan(ShardCursor a, ShardCursor b) {
+                int cmp = collapseComparator.compare(a.currentDoc(), b.currentDoc());
+                // on ties the document of the lower shard wins, same as for documents of the same shard
+                return cmp < 0 || (cmp == 0 && a.shardIndex < b.shardIndex);
+            }
+        };
+        int numOfDocs = 0;
+        for (int shardIndex = 0; shardIndex < numOfShards; shardIndex++) {
+            FieldDoc[] shardFieldDocs = getSortedCollapseDocs(collapseDTO, shardIndex);
+            if (shardFieldDocs.length > 0) {
+                shardCursors.add(new ShardCursor(shardIndex, shardFieldDocs));
+                numOfDocs += shardFieldDocs.length;
             }
+        }
+        int topN = Objects.isNull(collapseDTO.getCollapseCombineScoresDTO()) ? 0 : collapseDTO.getCollapseCombineScoresDTO().getTopN();
+        int maxNumOfCollapsedDocs = topN > 0 ? Math.min(topN, numOfDocs) : numOfDocs;
+        collapsedFieldDocs = new FieldDoc[maxNumOfCollapsedDocs];
+        collapseValues = new Object[maxNumOfCollapsedDocs];
+        collapseShardIndices = new int[maxNumOfCollapsedDocs];
+        numOfCollapsedDocs = 0;
 
-            if (!(updatedCollapseTopDocs.getTopDocs().getFirst() instanceof CollapseTopFieldDocs)) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "Expected CollapseTopFieldDocs but got: %s",
-                        updatedCollapseTopDocs.getTopDocs().getFirst().getClass().getSimpleName()
-                    )
-                );
+        Set<Object> producedCollapseValues = new HashSet<>();
+        while (numOfCollapsedDocs < maxNumOfCollapsedDocs && shardCursors.size() > 0) {
+            ShardCursor shardCursor = shardCursors.top();
+            FieldDoc fieldDoc = shardCursor.currentDoc();
+            Object collapseValue = fieldDoc.fields[fieldDoc.fields.length - 1];
+            if (producedCollapseValues.add(collapseValue)) {
+                collapsedFieldDocs[numOfCollapsedDocs] = fieldDoc;
+                collapseValues[numOfCollapsedDocs] = collapseValue;
+                collapseShardIndices[numOfCollapsedDocs] = shardCursor.shardIndex;
+                numOfCollapsedDocs++;
+            }
+            if (shardCursor.advance()) {
+                shardCursors.updateTop();
+            } else {
+                shardCursors.pop();
             }
+        }
+    }
+
+    /*
+    Get documents of the shard that have a collapse value, sorted by the collapse comparator. Results of the shard are sorted
+    by the sort criteria, except for the sort by score where they are sorted by scores of sub-queries, so sorting is usually a single
+    linear pass over already sorted documents
+     */
+    private FieldDoc[] getSortedCollapseDocs(CollapseDTO collapseDTO, int shardIndex) {
+        CompoundTopDocs updatedCollapseTopDocs = collapseDTO.getCollapseQueryTopDocs().get(shardIndex);
+        List<ScoreDoc> updatedCollapseDocs = updatedCollapseTopDocs.getScoreDocs();
 
-            collapseField = ((CollapseTopFieldDocs) updatedCollapseTopDocs.getTopDocs().getFirst()).field;
+        if (updatedCollapseDocs.isEmpty()) {
+            return EMPTY_FIELD_DOCS;
+        }
 
-            for (int scoreDocIndex = 0; scoreDocIndex < updatedCollapseDocs.size(); scoreDocIndex++) {
-                ScoreDoc scoreDoc = updatedCollapseDocs.get(scoreDocIndex);
-                try {
-                    processCollapseDoc(scoreDoc, shardIndex);
-                } catch (ClassCastException | IllegalArgumentException e) {
-                    log.error(String.format(Locale.ROOT, "Error processing collapse doc in shard %d: %s", shardIndex, e.getMessage()));
-                    throw e;
+        if (!(updatedCollapseTopDocs.getTopDocs().getFirst() instanceof CollapseTopFieldDocs)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Expected CollapseTopFieldDocs but got: %s",
+                    updatedCollapseTopDocs.getTopDocs().getFirst().getClass().getSimpleName()
+                )
+            );
+        }
+
+        collapseField = ((CollapseTopFieldDocs) updatedCollapseTopDocs.getTopDocs().getFirst()).field;
+
+        FieldDoc[] shardFieldDocs = new FieldDoc[updatedCollapseDocs.size()];
+        int numOfShardFieldDocs = 0;
+        for (int scoreDocIndex = 0; scoreDocIndex < updatedCollapseDocs.size(); scoreDocIndex++) {
+            ScoreDoc scoreDoc = updatedCollapseDocs.get(scoreDocIndex);
+            try {
+                if (hasCollapseValue(scoreDoc)) {
+                    shardFieldDocs[numOfShardFieldDocs++] = (FieldDoc) scoreDoc;
                 }
+            } catch (ClassCastException | IllegalArgumentException e) {
+                log.error(String.format(Locale.ROOT, "Error processing collapse doc in shard %d: %s", shardIndex, e.getMessage()));
+                throw e;
             }
         }
+        // sort is stable, of documents with the same sort values the one that comes first in the shard results wins
+        Arrays.sort(shardFieldDocs, 0, numOfShardFieldDocs, collapseComparator);
+        return numOfShardFieldDocs == shardFieldDocs.length ? shardFieldDocs : Arrays.copyOf(shardFieldDocs, numOfShardFieldDocs);
     }
 
-    @SuppressWarnings("unchecked")
-    private void processCollapseDoc(ScoreDoc scoreDoc, int shardIndex) {
+    private boolean hasCollapseValue(ScoreDoc scoreDoc) {
         if (!(scoreDoc instanceof FieldDoc fieldDoc)) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Expected FieldDoc but got: %s", scoreDoc.getClass().getSimpleName())
@@ -123,12 +185,12 @@ public class CollapseDataCollector<T> {
 
         if (fieldDoc.fields == null || fieldDoc.fields.length == 0) {
             log.info("Field doc 'fields' attribute does not contain any values");
-            return;
+            return false;
         }
 
         Object collapseValueObj = fieldDoc.fields[fieldDoc.fields.length - 1];
         if (collapseValueObj == null) {
-            return;
+            return false;
         }
 
         if (!expectedType.isInstance(collapseValueObj)) {
@@ -141,53 +203,72 @@ public class CollapseDataCollector<T> {
                 )
             );
         }
+        return true;
+    }
 
-        T collapseValue = (T) collapseValueObj;
-        FieldDoc currentBestFieldDoc = collapseValueToTopDocMap.get(collapseValue);
-
-        if (currentBestFieldDoc == null || collapseComparator.compare(fieldDoc, currentBestFieldDoc) < 0) {
-            T key;
-            if (collapseValue instanceof BytesRef) {
-                key = (T) BytesRef.deepCopyOf((BytesRef) collapseValue);
-            } else {
-                key = collapseValue;
+    /**
+     * Returns top documents of collapse values that are collected from the shard, in the order of final results.
+     *
+     * @param shardIndex index of the shard
+     * @return top documents of collapse values of the shard, including the collapse value as the last sort field
+     */
+    public FieldDoc[] getCollapsedFieldDocs(int shardIndex) {
+        FieldDoc[] shardFieldDocs = new FieldDoc[countCollapsedDocs(shardIndex)];
+        int position = 0;
+        for (int i = 0; i < numOfCollapsedDocs; i++) {
+            if (collapseShardIndices[i] == shardIndex) {
+                shardFieldDocs[position++] = collapsedFieldDocs[i];
             }
-
-            collapseValueToTopDocMap.put(key, fieldDoc);
-            collapseValueToShardMap.put(key, shardIndex);
         }
+        return shardFieldDocs;
     }
 
     /**
-     * Returns a sorted list of collapse entries (collapse value to FieldDoc mappings).
-     * The entries are sorted based on the collapse comparator.
+     * Returns collapse values that are collected from the shard, in the same order as documents of getCollapsedFieldDocs.
      *
-     * @return List of sorted Map.Entry objects containing collapse values and their corresponding top FieldDocs
+     * @param shardIndex index of the shard
+     * @return collapse values of the shard
      */
-    public List<Map.Entry<T, FieldDoc>> getSortedCollapseEntries() {
-        List<Map.Entry<T, FieldDoc>> collapseEntryList = new ArrayList<>(collapseValueToTopDocMap.entrySet());
-        collapseEntryList.sort(Map.Entry.comparingByValue(collapseComparator));
-        return collapseEntryList;
+    public Object[] getCollapseValues(int shardIndex) {
+        Object[] shardCollapseValues = new Object[countCollapsedDocs(shardIndex)];
+        int position = 0;
+        for (int i = 0; i < numOfCollapsedDocs; i++) {
+            if (collapseShardIndices[i] == shardIndex) {
+                shardCollapseValues[position++] = collapseValues[i];
+            }
+        }
+        return shardCollapseValues;
+    }
+
+    private int countCollapsedDocs(int shardIndex) {
+        int count = 0;
+        for (int i = 0; i < numOfCollapsedDocs; i++) {
+            if (collapseShardIndices[i] == shardIndex) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
-     * Retrieves the shard index for a given collapse key.
-     *
-     * @param key The collapse value to look up
-     * @return The shard index where the top document for this collapse value was found, or null if not found
-     * @throws IllegalArgumentException if the provided key is not of the expected type
+     * Position in sorted documents of one shard
      */
-    public Integer getCollapseShardIndex(T key) {
-        if (!expectedType.isInstance(key)) {
-            throw new IllegalArgumentException(
-                String.format(
-                    Locale.ROOT,
-                    "Expected key of type %s but got: %s",
-                    expectedType.getSimpleName(),
-                    key.getClass().getSimpleName()
-                )
-            );
+    private static final class ShardCursor {
+        private final int shardIndex;
+        private final FieldDoc[] fieldDocs;
+        private int position;
+
+        private ShardCursor(int shardIndex, FieldDoc[] fieldDocs) {
+            this.shardIndex = shardIndex;
+            this.fieldDocs = fieldDocs;
+        }
+
+        private FieldDoc currentDoc() {
+            return fieldDocs[position];
+        }
+
+        private boolean advance() {
+            return ++position < fieldDocs.length;
         }
-        return collapseValueToShardMap.get(key);
     }
 }
@@ -11,7 +11,7 @@ import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflowUtil;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -35,19 +35,23 @@ public class CollapseResultUpdater {
     }
 
     private boolean isValidCollapseData(CollapseDTO collapseDTO) {
-        return collapseDTO != null && collapseDTO.getRelevantCollapseEntries() != null;
+        return collapseDTO != null && collapseDTO.getRelevantCollapseFieldDocs() != null;
     }
 
     private ScoreDoc[] createCollapsedFieldDocs(CollapseDTO collapseDTO) {
-        return collapseDTO.getRelevantCollapseEntries().stream().map(Map.Entry::getValue).map(fieldDoc -> {
+        FieldDoc[] relevantCollapseFieldDocs = collapseDTO.getRelevantCollapseFieldDocs();
+        ScoreDoc[] newCollapsedFieldDocs = new ScoreDoc[relevantCollapseFieldDocs.length];
+        for (int i = 0; i < relevantCollapseFieldDocs.length; i++) {
+            FieldDoc fieldDoc = relevantCollapseFieldDocs[i];
             if (isInvalidFieldDoc(fieldDoc)) {
-                return new FieldDoc(fieldDoc.doc, fieldDoc.score, new Object[0]);
+                newCollapsedFieldDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, new Object[0]);
+                continue;
             }
-            int newLength = fieldDoc.fields.length - 1;
-            Object[] newFields = new Object[newLength];
-            System.arraycopy(fieldDoc.fields, 0, newFields, 0, newLength);
-            return new FieldDoc(fieldDoc.doc, fieldDoc.score, newFields);
-        }).toArray(ScoreDoc[]::new);
+            // collapse value is the last sort field, it is returned as collapse value of the document
+            Object[] newFields = Arrays.copyOf(fieldDoc.fields, fieldDoc.fields.length - 1);
+            newCollapsedFieldDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, newFields);
+        }
+        return newCollapsedFieldDocs;
     }
 
     private static boolean isInvalidFieldDoc(FieldDoc fieldDoc) {
@@ -55,14 +59,12 @@ public class CollapseResultUpdater {
     }
 
     private TopDocsAndMaxScore createUpdatedTopDocs(CollapseDTO collapseDTO, ScoreDoc[] newCollapsedFieldDocs) {
-        Object[] objectCollapseValues = collapseDTO.getRelevantCollapseEntries().stream().map(Map.Entry::getKey).toArray(Object[]::new);
-
         CollapseTopFieldDocs collapseTopFieldDocs = new CollapseTopFieldDocs(
             collapseDTO.getCollapseField(),
             collapseDTO.getUpdatedCollapseTopDocs().getTotalHits(),
             newCollapsedFieldDocs,
             collapseDTO.getCollapseSort().getSort(),
-            objectCollapseValues
+            collapseDTO.getRelevantCollapseValues()
         );
 
         return new TopDocsAndMaxScore(
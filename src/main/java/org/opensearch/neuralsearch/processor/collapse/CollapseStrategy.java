@@ -5,15 +5,9 @@
 package org.opensearch.neuralsearch.processor.collapse;
 
 import lombok.Getter;
-import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 /**
  * Abstract base class for implementing different collapse strategies.
  * Provides framework for handling both keyword and numeric field collapses.
@@ -31,22 +25,13 @@ public abstract class CollapseStrategy {
 
     protected <T> void executeCollapseGeneric(CollapseDTO collapseDTO, CollapseDataCollector<T> collapseDataCollector) {
         collapseDataCollector.collectCollapseData(collapseDTO);
-        List<Map.Entry<T, FieldDoc>> sortedCollapseEntries = collapseDataCollector.getSortedCollapseEntries();
-
-        Map<Integer, List<Map.Entry<T, FieldDoc>>> shardToCollapseEntriesMap = sortedCollapseEntries.stream()
-            .collect(Collectors.groupingBy(entry -> collapseDataCollector.getCollapseShardIndex(entry.getKey())));
-
         CollapseResultUpdater collapseResultUpdater = new CollapseResultUpdater();
 
         for (int shardIndex = 0; shardIndex < collapseDTO.getCollapseQuerySearchResults().size(); shardIndex++) {
             CompoundTopDocs updatedCollapseTopDocs = collapseDTO.getCollapseQueryTopDocs().get(shardIndex);
-            List<Map.Entry<T, FieldDoc>> relevantCollapseEntries = shardToCollapseEntriesMap.getOrDefault(
-                shardIndex,
-                Collections.emptyList()
-            );
-
             collapseDTO.updateForShard(
-                relevantCollapseEntries,
+                collapseDataCollector.getCollapsedFieldDocs(shardIndex),
+                collapseDataCollector.getCollapseValues(shardIndex),
                 collapseDataCollector.getCollapseField(),
                 updatedCollapseTopDocs,
                 shardIndex
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.combination;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,6 +60,40 @@ public class ArithmeticMeanScoreCombinationTechnique implements ScoreCombination
         return combinedScore / sumOfWeights;
     }
 
+    /**
+     * Same formula as for a single document, scores are accumulated column by column with the weight of sub-query
+     * resolved once per column
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final int numOfDocs, final float[] combinedScores) {
+        final float[] weightsPerSubQuery = scoreCombinationUtil.getWeightsPerSubQuery(weights, scoresPerSubQuery.length);
+        final float[] sumsOfWeights = new float[numOfDocs];
+        Arrays.fill(combinedScores, 0, numOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            final float weight = weightsPerSubQuery[indexOfSubQuery];
+            final float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                float score = scores[doc];
+                if (score >= 0.0) {
+                    combinedScores[doc] += score * weight;
+                    sumsOfWeights[doc] += weight;
+                }
+            }
+        }
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            combinedScores[doc] = sumsOfWeights[doc] == 0.0f ? ZERO_SCORE : combinedScores[doc] / sumsOfWeights[doc];
+        }
+    }
+
+    /**
+     * Zero scores are counted in combined score, and every score contributes with non-negative weight, so combined score
+     * never decreases when any of sub-query scores increases. Combined score of max scores is the upper bound.
+     */
+    @Override
+    public float combinedScoreUpperBound(final float[] maxScores) {
+        return combine(maxScores);
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
@@ -31,4 +31,6 @@ public class CombineScoresDto {
     private Sort sort;
     private int fromValueForSingleShard;
     private boolean isSingleShard;
+    // number of top docs of each shard that can get into final results, 0 if all docs must be kept
+    private int topN;
 }
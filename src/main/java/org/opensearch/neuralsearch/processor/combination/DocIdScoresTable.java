@@ -0,0 +1,357 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.InPlaceMergeSorter;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Normalized scores of all sub-queries per document of one shard, together with combined score of every document.
+ * Doc ids are mapped to rows of the table with open addressing hash of primitive ints, scores are stored in columns,
+ * one primitive array per sub-query. Building the table and combining scores doesn't box doc ids and scores and doesn't
+ * create an object per document, scores of all documents are normalized and combined column by column.
+ */
+final class DocIdScoresTable {
+    private static final int EMPTY_SLOT = -1;
+
+    private final int numOfSubQueries;
+    // hash slot to row of the table, EMPTY_SLOT if slot is free
+    private int[] slots;
+    private int mask;
+    // row of the table to doc id, rows are added in order of first appearance of the doc id
+    private int[] docIds;
+    // score of sub-query j for the row r is stored in scoresPerSubQuery[j][r]
+    private final float[][] scoresPerSubQuery;
+    private float[] combinedScores;
+    private int size;
+
+    DocIdScoresTable(final int numOfSubQueries, final int expectedSize) {
+        this.numOfSubQueries = numOfSubQueries;
+        int capacity = Math.max(1, expectedSize);
+        this.docIds = new int[capacity];
+        this.scoresPerSubQuery = new float[numOfSubQueries][capacity];
+        allocateSlots(capacity);
+    }
+
+    /**
+     * Build the table from the normalized results of sub-queries of one shard
+     * @param topDocsPerSubQuery normalized results of every sub-query
+     * @return table with the scores of all sub-queries per doc id, score is 0.0 if doc is not matched by sub-query
+     */
+    static DocIdScoresTable of(final List<TopDocs> topDocsPerSubQuery) {
+        return of(topDocsPerSubQuery, SubQueryScoreNormalizer.IDENTITY);
+    }
+
+    /**
+     * Build the table from the results of sub-queries of one shard, scores are normalized when they are added to the table,
+     * results of sub-queries are not changed
+     * @param topDocsPerSubQuery original results of every sub-query
+     * @param scoreNormalizer normalizer of scores
+     * @return table with the normalized scores of all sub-queries per doc id, score is 0.0 if doc is not matched by sub-query
+     */
+    static DocIdScoresTable of(final List<TopDocs> topDocsPerSubQuery, final SubQueryScoreNormalizer scoreNormalizer) {
+        int expectedSize = 0;
+        int maxNumOfScores = 0;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            expectedSize += topDocs.scoreDocs.length;
+            maxNumOfScores = Math.max(maxNumOfScores, topDocs.scoreDocs.length);
+        }
+        DocIdScoresTable table = new DocIdScoresTable(topDocsPerSubQuery.size(), expectedSize);
+        // scores of each sub-query are normalized all at once, then put into the column of the sub-query
+        float[] subQueryScores = new float[maxNumOfScores];
+        for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+            ScoreDoc[] scoreDocs = topDocsPerSubQuery.get(subQueryIndex).scoreDocs;
+            for (int i = 0; i < scoreDocs.length; i++) {
+                subQueryScores[i] = scoreDocs[i].score;
+            }
+            scoreNormalizer.normalize(subQueryIndex, subQueryScores, scoreDocs.length);
+            for (int i = 0; i < scoreDocs.length; i++) {
+                table.setScore(table.addIfAbsent(scoreDocs[i].doc), subQueryIndex, subQueryScores[i]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return number of unique doc ids in the table
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param docId doc id
+     * @return row of the table for the doc id, or -1 if doc id is not in the table
+     */
+    int getRow(final int docId) {
+        int slot = hash(docId) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            if (docIds[slots[slot]] == docId) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Add doc id to the table if it's not there yet
+     * @param docId doc id
+     * @return row of the table for the doc id
+     */
+    int addIfAbsent(final int docId) {
+        int slot = hash(docId) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            if (docIds[slots[slot]] == docId) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int row = size++;
+        if (row == docIds.length) {
+            docIds = ArrayUtil.grow(docIds, row + 1);
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                scoresPerSubQuery[subQueryIndex] = ArrayUtil.growExact(scoresPerSubQuery[subQueryIndex], docIds.length);
+            }
+        }
+        docIds[row] = docId;
+        slots[slot] = row;
+        // keep load factor of the hash below 0.5
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return row;
+    }
+
+    void setScore(final int row, final int subQueryIndex, final float score) {
+        scoresPerSubQuery[subQueryIndex][row] = score;
+    }
+
+    /**
+     * Combine scores of sub-queries for every row of the table with the given technique
+     * @param scoreCombinationTechnique technique to combine scores
+     */
+    void combine(final ScoreCombinationTechnique scoreCombinationTechnique) {
+        ensureCombinedScoresCapacity();
+        scoreCombinationTechnique.combine(scoresPerSubQuery, size, combinedScores);
+    }
+
+    /**
+     * Combine scores of sub-queries for one row of the table, all rows must be added to the table before
+     * @param row row of the table
+     * @param scoreCombinationTechnique technique to combine scores
+     * @param rowScores buffer for scores of the row, its size must be equal to number of sub-queries
+     * @return combined score of the row
+     */
+    float combine(final int row, final ScoreCombinationTechnique scoreCombinationTechnique, final float[] rowScores) {
+        ensureCombinedScoresCapacity();
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            rowScores[subQueryIndex] = scoresPerSubQuery[subQueryIndex][row];
+        }
+        combinedScores[row] = scoreCombinationTechnique.combine(rowScores);
+        return combinedScores[row];
+    }
+
+    /**
+     * @param row row of the table
+     * @param subQueryIndex index of sub-query
+     * @return score of the sub-query for the row
+     */
+    float getScore(final int row, final int subQueryIndex) {
+        return scoresPerSubQuery[subQueryIndex][row];
+    }
+
+    /**
+     * @param row row of the table
+     * @return combined score of the row, must be called after {@link #combine(ScoreCombinationTechnique)}
+     */
+    float getCombinedScore(final int row) {
+        return combinedScores[row];
+    }
+
+    /**
+     * @return doc ids of all rows sorted by combined score in descending order, doc ids with the same score are sorted in
+     * ascending order
+     */
+    int[] getDocIdsSortedByCombinedScore() {
+        final int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        new InPlaceMergeSorter() {
+            @Override
+            protected int compare(int i, int j) {
+                int scoreComparison = Float.compare(combinedScores[rows[j]], combinedScores[rows[i]]);
+                if (scoreComparison != 0) {
+                    return scoreComparison;
+                }
+                return Integer.compare(docIds[rows[i]], docIds[rows[j]]);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                int tmp = rows[i];
+                rows[i] = rows[j];
+                rows[j] = tmp;
+            }
+        }.sort(0, size);
+        int[] sortedDocIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedDocIds[i] = docIds[rows[i]];
+        }
+        return sortedDocIds;
+    }
+
+    /**
+     * Select top docs by combined score using heap of bounded size, so only selected docs are sorted
+     * @param topN max number of docs to select
+     * @param shardIndex shard index for created score docs
+     * @return score docs with combined scores, sorted by combined score in descending order, doc ids with the same score
+     * are sorted in ascending order
+     */
+    ScoreDoc[] getTopScoreDocs(final int topN, final int shardIndex) {
+        TopRows topRows = newTopRows(topN);
+        for (int row = 0; row < size; row++) {
+            topRows.offer(row);
+        }
+        return topRows.toScoreDocs(shardIndex);
+    }
+
+    /**
+     * @param topN max number of rows to keep
+     * @return empty heap of rows with the best combined scores
+     */
+    TopRows newTopRows(final int topN) {
+        return new TopRows(Math.min(topN, size));
+    }
+
+    /**
+     * Heap of bounded size that keeps rows with the best combined scores, the root of the heap is the worst of kept rows.
+     * Combined score of the row must be calculated before the row is offered.
+     */
+    final class TopRows {
+        private final int[] heap;
+        private int numOfRows;
+
+        TopRows(final int maxSize) {
+            this.heap = new int[maxSize];
+        }
+
+        void offer(final int row) {
+            if (numOfRows < heap.length) {
+                heap[numOfRows] = row;
+                siftUp(numOfRows++);
+            } else if (heap.length > 0 && isBetter(row, heap[0])) {
+                heap[0] = row;
+                siftDown(0, numOfRows);
+            }
+        }
+
+        boolean isFull() {
+            return numOfRows == heap.length;
+        }
+
+        /**
+         * @return min combined score among kept rows, must be called only if heap is not empty
+         */
+        float getMinCombinedScore() {
+            return combinedScores[heap[0]];
+        }
+
+        /**
+         * Pop all rows from the heap
+         * @param shardIndex shard index for created score docs
+         * @return score docs sorted by combined score in descending order, doc ids with the same score are sorted in ascending order
+         */
+        ScoreDoc[] toScoreDocs(final int shardIndex) {
+            ScoreDoc[] scoreDocs = new ScoreDoc[numOfRows];
+            // pop the worst row until heap is empty, fill results from the end
+            for (int i = numOfRows - 1; i >= 0; i--) {
+                int row = heap[0];
+                scoreDocs[i] = new ScoreDoc(docIds[row], combinedScores[row], shardIndex);
+                heap[0] = heap[i];
+                siftDown(0, i);
+            }
+            numOfRows = 0;
+            return scoreDocs;
+        }
+
+        private void siftUp(int index) {
+            int row = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (isBetter(heap[parent], row) == false) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = row;
+        }
+
+        private void siftDown(int index, final int heapSize) {
+            int row = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && isBetter(heap[child], heap[child + 1])) {
+                    child++;
+                }
+                if (isBetter(row, heap[child]) == false) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = row;
+        }
+    }
+
+    private boolean isBetter(final int row, final int otherRow) {
+        int scoreComparison = Float.compare(combinedScores[row], combinedScores[otherRow]);
+        if (scoreComparison != 0) {
+            return scoreComparison > 0;
+        }
+        return docIds[row] < docIds[otherRow];
+    }
+
+    private void ensureCombinedScoresCapacity() {
+        if (combinedScores == null || combinedScores.length < size) {
+            combinedScores = new float[size];
+        }
+    }
+
+    private void allocateSlots(final int expectedSize) {
+        int numOfSlots = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        slots = new int[numOfSlots];
+        Arrays.fill(slots, EMPTY_SLOT);
+        mask = numOfSlots - 1;
+    }
+
+    private void rehash() {
+        allocateSlots(size * 2);
+        for (int row = 0; row < size; row++) {
+            int slot = hash(docIds[row]) & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row;
+        }
+    }
+
+    private static int hash(final int docId) {
+        // doc ids of one shard are often dense, mix bits so close ids don't form long probe sequences
+        int hash = docId * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.combination;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +59,32 @@ public class GeometricMeanScoreCombinationTechnique implements ScoreCombinationT
         return sumOfWeights == 0 ? ZERO_SCORE : (float) Math.exp(weightedLnSum / sumOfWeights);
     }
 
+    /**
+     * Same formula as for a single document, weighted logarithms are accumulated column by column with the weight of
+     * sub-query resolved once per column
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final int numOfDocs, final float[] combinedScores) {
+        final float[] weightsPerSubQuery = scoreCombinationUtil.getWeightsPerSubQuery(weights, scoresPerSubQuery.length);
+        final float[] sumsOfWeights = new float[numOfDocs];
+        Arrays.fill(combinedScores, 0, numOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            final float weight = weightsPerSubQuery[indexOfSubQuery];
+            final float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                float score = scores[doc];
+                // scores 0.0 need to be skipped, ln() of 0 is not defined
+                if (score > 0) {
+                    sumsOfWeights[doc] += weight;
+                    combinedScores[doc] += weight * Math.log(score);
+                }
+            }
+        }
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            combinedScores[doc] = sumsOfWeights[doc] == 0 ? ZERO_SCORE : (float) Math.exp(combinedScores[doc] / sumsOfWeights[doc]);
+        }
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
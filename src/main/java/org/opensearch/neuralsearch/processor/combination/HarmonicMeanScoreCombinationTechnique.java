@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.combination;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +56,31 @@ public class HarmonicMeanScoreCombinationTechnique implements ScoreCombinationTe
         return sumOfHarmonics > 0 ? sumOfWeights / sumOfHarmonics : ZERO_SCORE;
     }
 
+    /**
+     * Same formula as for a single document, weighted reciprocals are accumulated column by column with the weight of
+     * sub-query resolved once per column
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final int numOfDocs, final float[] combinedScores) {
+        final float[] weightsPerSubQuery = scoreCombinationUtil.getWeightsPerSubQuery(weights, scoresPerSubQuery.length);
+        final float[] sumsOfWeights = new float[numOfDocs];
+        Arrays.fill(combinedScores, 0, numOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            final float weight = weightsPerSubQuery[indexOfSubQuery];
+            final float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                float score = scores[doc];
+                if (score > 0) {
+                    sumsOfWeights[doc] += weight;
+                    combinedScores[doc] += weight / score;
+                }
+            }
+        }
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            combinedScores[doc] = combinedScores[doc] > 0 ? sumsOfWeights[doc] / combinedScores[doc] : ZERO_SCORE;
+        }
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
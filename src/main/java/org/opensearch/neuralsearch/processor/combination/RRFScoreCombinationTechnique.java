@@ -8,6 +8,7 @@ import lombok.ToString;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +62,35 @@ public class RRFScoreCombinationTechnique implements ScoreCombinationTechnique,
         return sumScores;
     }
 
+    /**
+     * Same formula as for a single document, scores are accumulated column by column with the weight of sub-query
+     * resolved once per column
+     */
+    @Override
+    public void combine(final float[][] scoresPerSubQuery, final int numOfDocs, final float[] combinedScores) {
+        final float[] weightsPerSubQuery = scoreCombinationUtil.getWeightsPerSubQuery(weights, scoresPerSubQuery.length);
+        Arrays.fill(combinedScores, 0, numOfDocs, 0.0f);
+        for (int indexOfSubQuery = 0; indexOfSubQuery < scoresPerSubQuery.length; indexOfSubQuery++) {
+            final float weight = weightsPerSubQuery[indexOfSubQuery];
+            final float[] scores = scoresPerSubQuery[indexOfSubQuery];
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                float score = scores[doc];
+                if (score >= 0.0) {
+                    combinedScores[doc] += score * weight;
+                }
+            }
+        }
+    }
+
+    /**
+     * Zero scores are counted in combined score, and every score contributes with non-negative weight, so combined score
+     * never decreases when any of sub-query scores increases. Combined score of max scores is the upper bound.
+     */
+    @Override
+    public float combinedScoreUpperBound(final float[] maxScores) {
+        return combine(maxScores);
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
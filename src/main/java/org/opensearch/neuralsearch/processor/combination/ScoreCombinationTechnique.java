@@ -13,6 +13,40 @@ public interface ScoreCombinationTechnique {
      */
     float combine(final float[] scores);
 
+    /**
+     * Combine scores of many documents at once. Scores are laid out in columns, one array per sub-query, so score of
+     * document d for sub-query j is scoresPerSubQuery[j][d]. Default implementation calls {@link #combine(float[])} for
+     * every document, techniques override it with loops over primitive columns that give the same result.
+     * @param scoresPerSubQuery scores of every sub-query, each array has at least numOfDocs elements
+     * @param numOfDocs number of documents
+     * @param combinedScores array for combined scores, combined score of document d is set to combinedScores[d]
+     */
+    default void combine(final float[][] scoresPerSubQuery, final int numOfDocs, final float[] combinedScores) {
+        final float[] scores = new float[scoresPerSubQuery.length];
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            for (int indexOfSubQuery = 0; indexOfSubQuery < scores.length; indexOfSubQuery++) {
+                scores[indexOfSubQuery] = scoresPerSubQuery[indexOfSubQuery][doc];
+            }
+            combinedScores[doc] = combine(scores);
+        }
+    }
+
+    /**
+     * Upper bound of combined score for any document which score of every sub-query is either missing or not greater than
+     * the corresponding max score. Used to stop scanning of sub-query results once no unseen document can get into the top
+     * results. Default implementation works for any technique that combines scores into one of means of non-zero scores,
+     * such mean is never greater than the greatest of its scores.
+     * @param maxScores max score of each sub-query
+     * @return upper bound of combined score
+     */
+    default float combinedScoreUpperBound(final float[] maxScores) {
+        float upperBound = 0.0f;
+        for (float maxScore : maxScores) {
+            upperBound = Math.max(upperBound, maxScore);
+        }
+        return upperBound;
+    }
+
     /**
      * Returns the name of the combination technique.
      */
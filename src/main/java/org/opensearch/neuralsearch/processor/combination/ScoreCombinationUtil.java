@@ -96,16 +96,35 @@ public class ScoreCombinationUtil {
      * @param weights score combination weights that are defined as part of search result processor
      */
     protected void validateIfWeightsMatchScores(final float[] scores, final List<Float> weights) {
+        validateIfWeightsMatchSubQueries(scores.length, weights);
+    }
+
+    /**
+     * Get weights of all sub-queries as primitive array, so weights are resolved once for scores of many documents
+     * @param weights score combination weights that are defined as part of search result processor
+     * @param numOfSubQueries number of sub-queries in hybrid query
+     * @return weight of every sub-query, user provided weight or 1.0 otherwise
+     */
+    protected float[] getWeightsPerSubQuery(final List<Float> weights, final int numOfSubQueries) {
+        validateIfWeightsMatchSubQueries(numOfSubQueries, weights);
+        float[] weightsPerSubQuery = new float[numOfSubQueries];
+        for (int indexOfSubQuery = 0; indexOfSubQuery < numOfSubQueries; indexOfSubQuery++) {
+            weightsPerSubQuery[indexOfSubQuery] = getWeightForSubQuery(weights, indexOfSubQuery);
+        }
+        return weightsPerSubQuery;
+    }
+
+    private void validateIfWeightsMatchSubQueries(final int numOfSubQueries, final List<Float> weights) {
         if (weights.isEmpty()) {
             return;
         }
-        if (scores.length != weights.size()) {
+        if (numOfSubQueries != weights.size()) {
             throw new IllegalArgumentException(
                 String.format(
                     Locale.ROOT,
                     "number of weights [%d] must match number of sub-queries [%d] in hybrid query",
                     weights.size(),
-                    scores.length
+                    numOfSubQueries
                 )
             );
         }
@@ -5,17 +5,13 @@
 package org.opensearch.neuralsearch.processor.combination;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.Objects;
 import java.util.Comparator;
-import java.util.LinkedHashSet;
-
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.TopDocs;
@@ -32,6 +28,8 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.processor.SearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
+import org.opensearch.neuralsearch.processor.explain.LazyExplanationList;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
 
 /**
  * Abstracts combination of scores in query search results.
@@ -78,6 +76,54 @@ public class ScoreCombiner {
             .forEach(compoundQueryTopDocs -> combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard));
     }
 
+    /**
+     * Performs score normalization and combination in a single pass over results of each shard, used when sorting and
+     * collapse are not enabled. Results of sub-queries are not mutated, only combined scores of each shard are updated.
+     * Main steps for each shard:
+     * - create table of scores per doc id, normalizing every score with statistics collected from results of all shards
+     * - combine scores of every doc id
+     * - select first "max number" of docs by combined score using bounded heap, directly into final array of score docs
+     * If only top N docs of each shard are needed, threshold algorithm is used instead, it combines scores of docs from
+     * the top of sub-query results until remaining docs can't get into top N.
+     *
+     * @param combineScoresDTO contains details of query top docs and score combination technique
+     * @param scoreNormalizer normalizer of scores of sub-queries
+     */
+    public void combineScores(final CombineScoresDto combineScoresDTO, final SubQueryScoreNormalizer scoreNormalizer) {
+        if (Objects.nonNull(combineScoresDTO.getSort())) {
+            throw new IllegalArgumentException("fused normalization and combination is not supported when sorting is enabled");
+        }
+        ScoreCombinationTechnique scoreCombinationTechnique = combineScoresDTO.getScoreCombinationTechnique();
+        for (CompoundTopDocs compoundQueryTopDocs : combineScoresDTO.getQueryTopDocs()) {
+            if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
+                continue;
+            }
+            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            // - max number of hits will be the same which are passed from QueryPhase
+            long maxHits = compoundQueryTopDocs.getTotalHits().value();
+            ScoreDoc[] scoreDocs;
+            if (combineScoresDTO.getTopN() > 0 && combineScoresDTO.getTopN() < maxHits) {
+                // only top N docs of the shard can get into the final results, stop combining once remaining docs can't get there
+                scoreDocs = ThresholdScoreFusion.fuse(
+                    topDocsPerSubQuery,
+                    scoreNormalizer,
+                    scoreCombinationTechnique,
+                    combineScoresDTO.getTopN(),
+                    getShardIndex(compoundQueryTopDocs)
+                );
+            } else {
+                DocIdScoresTable normalizedScoresPerDoc = DocIdScoresTable.of(topDocsPerSubQuery, scoreNormalizer);
+                normalizedScoresPerDoc.combine(scoreCombinationTechnique);
+                scoreDocs = normalizedScoresPerDoc.getTopScoreDocs(
+                    (int) Math.min(maxHits, Integer.MAX_VALUE),
+                    getShardIndex(compoundQueryTopDocs)
+                );
+            }
+            compoundQueryTopDocs.setScoreDocs(Arrays.asList(scoreDocs));
+            compoundQueryTopDocs.setTotalHits(getTotalHits(topDocsPerSubQuery, maxHits));
+        }
+    }
+
     private void combineShardScores(
         final ScoreCombinationTechnique scoreCombinationTechnique,
         final CompoundTopDocs compoundQueryTopDocs,
@@ -89,26 +135,23 @@ public class ScoreCombiner {
         }
         List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
 
-        // - create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
+        // - create table of normalized scores results returned from the single shard
+        DocIdScoresTable normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
 
-        // - create map of combined scores per doc id
-        Map<Integer, Float> combinedNormalizedScoresByDocId = combineScoresAndGetCombinedNormalizedScoresPerDocument(
-            normalizedScoresPerDoc,
-            scoreCombinationTechnique
-        );
+        // - combine scores per doc id
+        normalizedScoresPerDoc.combine(scoreCombinationTechnique);
 
         // - sort documents by scores and take first "max number" of docs
-        // create a collection of doc ids that are sorted by their combined scores
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
+        // create an array of doc ids that are sorted by their combined scores
+        int[] sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, normalizedScoresPerDoc);
 
         // - update query search results with combined scores
         updateQueryTopDocsWithCombinedScores(
             compoundQueryTopDocs,
             topDocsPerSubQuery,
-            combinedNormalizedScoresByDocId,
+            normalizedScoresPerDoc,
             sortedDocsIds,
-            getDocIdSortFieldsMap(compoundQueryTopDocs, combinedNormalizedScoresByDocId, sort),
+            getDocIdSortFieldsMap(compoundQueryTopDocs, normalizedScoresPerDoc, sort),
             sort,
             isSingleShard
         );
@@ -150,13 +193,13 @@ public class ScoreCombiner {
 
     /**
      * @param compoundTopDocs top docs that represent on shard
-     * @param combinedNormalizedScoresByDocId docId to normalized scores map
+     * @param combinedNormalizedScoresByDocId table with combined scores per doc id
      * @param sort sort criteria
      * @return map of docId and sort fields if sorting is enabled.
      */
     private Map<Integer, Object[]> getDocIdSortFieldsMap(
         final CompoundTopDocs compoundTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
+        final DocIdScoresTable combinedNormalizedScoresByDocId,
         final Sort sort
     ) {
         // If sort is null then no sort fields present therefore return null.
@@ -173,6 +216,9 @@ public class ScoreCombiner {
                 FieldDoc fieldDoc = (FieldDoc) topDocs.scoreDocs[scoreDocIndex];
 
                 if (docIdSortFieldMap.get(fieldDoc.doc) == null) {
+                    float combinedScore = combinedNormalizedScoresByDocId.getCombinedScore(
+                        combinedNormalizedScoresByDocId.getRow(fieldDoc.doc)
+                    );
                     // If sort by score then replace sort field value with normalized score.
                     // If collapse is enabled, then we append the collapse value to the end of the sort fields
                     // in order to more easily access it later.
@@ -180,10 +226,8 @@ public class ScoreCombiner {
                         docIdSortFieldMap.put(
                             fieldDoc.doc,
                             isCollapseEnabled
-                                ? new Object[] {
-                                    combinedNormalizedScoresByDocId.get(fieldDoc.doc),
-                                    ((CollapseTopFieldDocs) topDocs).collapseValues[scoreDocIndex] }
-                                : new Object[] { combinedNormalizedScoresByDocId.get(fieldDoc.doc) }
+                                ? new Object[] { combinedScore, ((CollapseTopFieldDocs) topDocs).collapseValues[scoreDocIndex] }
+                                : new Object[] { combinedScore }
                         );
                     } else {
                         if (isCollapseEnabled) {
@@ -201,14 +245,11 @@ public class ScoreCombiner {
         return docIdSortFieldMap;
     }
 
-    private List<Integer> getSortedDocIds(final Map<Integer, Float> combinedNormalizedScoresByDocId) {
-        // we're merging docs with normalized and combined scores. we need to have only maxHits results
-        List<Integer> sortedDocsIds = new ArrayList<>(combinedNormalizedScoresByDocId.keySet());
-        sortedDocsIds.sort((a, b) -> Float.compare(combinedNormalizedScoresByDocId.get(b), combinedNormalizedScoresByDocId.get(a)));
-        return sortedDocsIds;
-    }
-
-    private Set<Integer> getSortedDocIdsBySortCriteria(final List<TopFieldDocs> topFieldDocs, final Sort sort) {
+    private int[] getSortedDocIdsBySortCriteria(
+        final List<TopFieldDocs> topFieldDocs,
+        final Sort sort,
+        final DocIdScoresTable normalizedScoresPerDoc
+    ) {
         if (Objects.isNull(topFieldDocs)) {
             throw new IllegalArgumentException("topFieldDocs cannot be null when sorting is enabled.");
         }
@@ -232,33 +273,34 @@ public class ScoreCombiner {
         // < 1, 0.3, shardId, [70]>
         final TopDocs sortedTopDocs = TopDocs.merge(sort, 0, size, topFieldDocs.toArray(new TopFieldDocs[0]), SORTING_TIE_BREAKER);
 
-        // Remove duplicates from the sorted top docs.
-        Set<Integer> uniqueDocIds = new LinkedHashSet<>();
+        // Remove duplicates from the sorted top docs, every doc id has its own row in the table of normalized scores
+        boolean[] isAdded = new boolean[normalizedScoresPerDoc.size()];
+        int[] uniqueDocIds = new int[normalizedScoresPerDoc.size()];
+        int numOfUniqueDocIds = 0;
         for (ScoreDoc scoreDoc : sortedTopDocs.scoreDocs) {
-            uniqueDocIds.add(scoreDoc.doc);
+            int row = normalizedScoresPerDoc.getRow(scoreDoc.doc);
+            if (isAdded[row] == false) {
+                isAdded[row] = true;
+                uniqueDocIds[numOfUniqueDocIds++] = scoreDoc.doc;
+            }
         }
-        return uniqueDocIds;
+        return numOfUniqueDocIds == uniqueDocIds.length ? uniqueDocIds : Arrays.copyOf(uniqueDocIds, numOfUniqueDocIds);
     }
 
     private List<ScoreDoc> getCombinedScoreDocs(
         final CompoundTopDocs compoundQueryTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
+        final DocIdScoresTable combinedNormalizedScoresByDocId,
+        final int[] sortedScores,
         final long maxHits,
         final Map<Integer, Object[]> docIdSortFieldMap,
         final Sort sort,
         final boolean isSingleShard
     ) {
 
-        // ShardId will be -1 when index has multiple shards
-        int shardId = -1;
-        // ShardId will not be -1 in when index has single shard because Fetch phase gets executed before Normalization
-        if (!compoundQueryTopDocs.getScoreDocs().isEmpty()) {
-            shardId = compoundQueryTopDocs.getScoreDocs().get(0).shardIndex;
-        }
+        int shardId = getShardIndex(compoundQueryTopDocs);
         List<ScoreDoc> scoreDocs = new ArrayList<>();
         int hitCount = 0;
-        for (Integer docId : sortedScores) {
+        for (int docId : sortedScores) {
             if (hitCount == maxHits) {
                 break;
             }
@@ -268,11 +310,21 @@ public class ScoreCombiner {
         return scoreDocs;
     }
 
+    private int getShardIndex(final CompoundTopDocs compoundQueryTopDocs) {
+        // ShardId will be -1 when index has multiple shards
+        int shardId = -1;
+        // ShardId will not be -1 in when index has single shard because Fetch phase gets executed before Normalization
+        if (!compoundQueryTopDocs.getScoreDocs().isEmpty()) {
+            shardId = compoundQueryTopDocs.getScoreDocs().get(0).shardIndex;
+        }
+        return shardId;
+    }
+
     private ScoreDoc getScoreDoc(
         final Sort sort,
         final int docId,
         final int shardId,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
+        final DocIdScoresTable combinedNormalizedScoresByDocId,
         final Map<Integer, Object[]> docIdSortFieldMap,
         final boolean isSingleShard
     ) {
@@ -282,42 +334,28 @@ public class ScoreCombiner {
         if (isSortEnabled && isSortByScore == false && isSingleShard) {
             return new FieldDoc(docId, Float.NaN, docIdSortFieldMap.get(docId), shardId);
         }
+        float combinedScore = combinedNormalizedScoresByDocId.getCombinedScore(combinedNormalizedScoresByDocId.getRow(docId));
         if (isSortEnabled && docIdSortFieldMap != null) {
-            return new FieldDoc(docId, combinedNormalizedScoresByDocId.get(docId), docIdSortFieldMap.get(docId), shardId);
+            return new FieldDoc(docId, combinedScore, docIdSortFieldMap.get(docId), shardId);
         }
-        return new ScoreDoc(docId, combinedNormalizedScoresByDocId.get(docId), shardId);
+        return new ScoreDoc(docId, combinedScore, shardId);
     }
 
-    public Map<Integer, float[]> getNormalizedScoresPerDocument(final List<TopDocs> topDocsPerSubQuery) {
-        Map<Integer, float[]> normalizedScoresPerDoc = new HashMap<>();
-        for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-            TopDocs topDocs = topDocsPerSubQuery.get(j);
-            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                normalizedScoresPerDoc.computeIfAbsent(scoreDoc.doc, key -> {
-                    float[] scores = new float[topDocsPerSubQuery.size()];
-                    // we initialize with -1.0, as after normalization it's possible that score is 0.0
-                    return scores;
-                });
-                normalizedScoresPerDoc.get(scoreDoc.doc)[j] = scoreDoc.score;
-            }
-        }
-        return normalizedScoresPerDoc;
-    }
-
-    private Map<Integer, Float> combineScoresAndGetCombinedNormalizedScoresPerDocument(
-        final Map<Integer, float[]> normalizedScoresPerDocument,
-        final ScoreCombinationTechnique scoreCombinationTechnique
-    ) {
-        return normalizedScoresPerDocument.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+    /**
+     * Collect normalized scores of all sub-queries per doc id. Doc ids are kept as primitive ints, if doc is not matched by
+     * a sub-query its score is 0.0
+     * @param topDocsPerSubQuery normalized results of every sub-query of one shard
+     * @return table of normalized scores per doc id
+     */
+    DocIdScoresTable getNormalizedScoresPerDocument(final List<TopDocs> topDocsPerSubQuery) {
+        return DocIdScoresTable.of(topDocsPerSubQuery);
     }
 
     private void updateQueryTopDocsWithCombinedScores(
         final CompoundTopDocs compoundQueryTopDocs,
         final List<TopDocs> topDocsPerSubQuery,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
+        final DocIdScoresTable combinedNormalizedScoresByDocId,
+        final int[] sortedScores,
         Map<Integer, Object[]> docIdSortFieldMap,
         final Sort sort,
         final boolean isSingleShard
@@ -341,8 +379,11 @@ public class ScoreCombiner {
 
     private TotalHits getTotalHits(final List<TopDocs> topDocsPerSubQuery, final long maxHits) {
         TotalHits.Relation totalHits = TotalHits.Relation.EQUAL_TO;
-        if (topDocsPerSubQuery.stream().anyMatch(topDocs -> topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO)) {
-            totalHits = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            if (topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                totalHits = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+                break;
+            }
         }
         return new TotalHits(maxHits, totalHits);
     }
@@ -378,42 +419,44 @@ public class ScoreCombiner {
         if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
             return List.of();
         }
-        // create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(compoundQueryTopDocs.getTopDocs());
+        // create table of normalized scores results returned from the single shard
+        DocIdScoresTable normalizedScoresPerDoc = getNormalizedScoresPerDocument(compoundQueryTopDocs.getTopDocs());
         // combine scores
-        Map<Integer, Float> combinedNormalizedScoresByDocId = normalizedScoresPerDoc.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        normalizedScoresPerDoc.combine(scoreCombinationTechnique);
         // sort combined scores as per sorting criteria - either score desc or field sorting
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
+        int[] sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, normalizedScoresPerDoc);
 
-        List<ExplanationDetails> listOfExplanations = new ArrayList<>();
         String combinationDescription = String.format(
             Locale.ROOT,
             "%s combination of:",
             ((ExplainableTechnique) scoreCombinationTechnique).describe()
         );
-        for (int docId : sortedDocsIds) {
-            ExplanationDetails explanation = new ExplanationDetails(
-                docId,
-                List.of(Pair.of(combinedNormalizedScoresByDocId.get(docId), combinationDescription))
-            );
-            listOfExplanations.add(explanation);
+        // only combined scores are kept, explanation details are created for hits that are returned in the response
+        float[] combinedScores = new float[sortedDocsIds.length];
+        for (int i = 0; i < sortedDocsIds.length; i++) {
+            combinedScores[i] = normalizedScoresPerDoc.getCombinedScore(normalizedScoresPerDoc.getRow(sortedDocsIds[i]));
         }
-        return listOfExplanations;
+        return LazyExplanationList.of(
+            sortedDocsIds.length,
+            i -> new ExplanationDetails(sortedDocsIds[i], List.of(Pair.of(combinedScores[i], combinationDescription)))
+        );
     }
 
-    private Collection<Integer> getSortedDocsIds(
+    private int[] getSortedDocsIds(
         final CompoundTopDocs compoundQueryTopDocs,
         final Sort sort,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId
+        final DocIdScoresTable combinedNormalizedScoresByDocId
     ) {
-        Collection<Integer> sortedDocsIds;
+        int[] sortedDocsIds;
         if (sort != null) {
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            sortedDocsIds = getSortedDocIdsBySortCriteria(getTopFieldDocs(sort, topDocsPerSubQuery), sort);
+            sortedDocsIds = getSortedDocIdsBySortCriteria(
+                getTopFieldDocs(sort, topDocsPerSubQuery),
+                sort,
+                combinedNormalizedScoresByDocId
+            );
         } else {
-            sortedDocsIds = getSortedDocIds(combinedNormalizedScoresByDocId);
+            sortedDocsIds = combinedNormalizedScoresByDocId.getDocIdsSortedByCombinedScore();
         }
         return sortedDocsIds;
     }
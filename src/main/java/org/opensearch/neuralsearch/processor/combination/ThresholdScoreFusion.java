@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
+
+import java.util.List;
+
+/**
+ * Selects top N docs by combined score from results of sub-queries of one shard using threshold algorithm. Results of every
+ * sub-query are scanned in parallel, one position of every sub-query at a time, combined score is calculated only for docs
+ * that are reached by the scan. Scan stops when N docs are selected and no doc that hasn't been reached yet can get combined
+ * score greater than the worst of selected docs.
+ * Scores of every doc are available for all sub-queries upfront, in the table of normalized scores, that replaces random
+ * access to the lists of sub-query results in the original algorithm. Max score of the unreached part of each list is
+ * tracked separately, so normalization is not required to keep order of the scores.
+ * Result is the same as if all docs are combined and sorted, including order of docs with the same combined score.
+ */
+final class ThresholdScoreFusion {
+    // combined scores are calculated in float, upper bound is increased by relative margin to cover rounding errors
+    private static final float UPPER_BOUND_MARGIN = 1.0e-5f;
+
+    private ThresholdScoreFusion() {}
+
+    /**
+     * @param topDocsPerSubQuery results of every sub-query of one shard, sorted by score
+     * @param scoreNormalizer normalizer of scores of sub-queries
+     * @param scoreCombinationTechnique technique to combine scores
+     * @param topN number of docs to select
+     * @param shardIndex shard index for created score docs
+     * @return selected score docs with combined scores, sorted by combined score in descending order
+     */
+    static ScoreDoc[] fuse(
+        final List<TopDocs> topDocsPerSubQuery,
+        final SubQueryScoreNormalizer scoreNormalizer,
+        final ScoreCombinationTechnique scoreCombinationTechnique,
+        final int topN,
+        final int shardIndex
+    ) {
+        if (topN <= 0) {
+            return new ScoreDoc[0];
+        }
+        final int numOfSubQueries = topDocsPerSubQuery.size();
+        final DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery, scoreNormalizer);
+        // rows of the table in order of sub-query results, and max normalized score of results starting from each position
+        final int[][] rowsPerSubQuery = new int[numOfSubQueries][];
+        final float[][] maxScoreFromPositionPerSubQuery = new float[numOfSubQueries][];
+        int maxLength = 0;
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            ScoreDoc[] scoreDocs = topDocsPerSubQuery.get(subQueryIndex).scoreDocs;
+            int[] rows = new int[scoreDocs.length];
+            float[] maxScoreFromPosition = new float[scoreDocs.length + 1];
+            for (int position = scoreDocs.length - 1; position >= 0; position--) {
+                rows[position] = table.getRow(scoreDocs[position].doc);
+                maxScoreFromPosition[position] = Math.max(
+                    maxScoreFromPosition[position + 1],
+                    table.getScore(rows[position], subQueryIndex)
+                );
+            }
+            rowsPerSubQuery[subQueryIndex] = rows;
+            maxScoreFromPositionPerSubQuery[subQueryIndex] = maxScoreFromPosition;
+            maxLength = Math.max(maxLength, scoreDocs.length);
+        }
+
+        final DocIdScoresTable.TopRows topRows = table.newTopRows(topN);
+        final boolean[] isReached = new boolean[table.size()];
+        final float[] rowScores = new float[numOfSubQueries];
+        final float[] maxUnreachedScores = new float[numOfSubQueries];
+        for (int position = 0; position < maxLength; position++) {
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                int[] rows = rowsPerSubQuery[subQueryIndex];
+                if (position >= rows.length || isReached[rows[position]]) {
+                    continue;
+                }
+                isReached[rows[position]] = true;
+                table.combine(rows[position], scoreCombinationTechnique, rowScores);
+                topRows.offer(rows[position]);
+            }
+            if (topRows.isFull() == false) {
+                continue;
+            }
+            // any doc that hasn't been reached yet is at the next or later position in results of every sub-query
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                float[] maxScoreFromPosition = maxScoreFromPositionPerSubQuery[subQueryIndex];
+                maxUnreachedScores[subQueryIndex] = maxScoreFromPosition[Math.min(position + 1, maxScoreFromPosition.length - 1)];
+            }
+            float upperBound = scoreCombinationTechnique.combinedScoreUpperBound(maxUnreachedScores);
+            // strict comparison, unreached doc with the same combined score may still win by smaller doc id
+            if (topRows.getMinCombinedScore() > upperBound + Math.abs(upperBound) * UPPER_BOUND_MARGIN) {
+                break;
+            }
+        }
+        return topRows.toScoreDocs(shardIndex);
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor.explain;
 
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import java.util.List;
@@ -31,4 +32,14 @@ public interface ExplainableTechnique {
     default Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs) {
         return Map.of();
     }
+
+    /**
+     * Returns a map with explanation for each document id of results of the search query
+     * @param queryTopDocs collection of CompoundTopDocs for each shard result
+     * @param query query of the search request, null if it's not known
+     * @return map of document per shard and corresponding explanation object
+     */
+    default Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs, final QueryBuilder query) {
+        return explain(queryTopDocs);
+    }
 }
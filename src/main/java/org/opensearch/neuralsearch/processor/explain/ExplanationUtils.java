@@ -6,7 +6,6 @@ package org.opensearch.neuralsearch.processor.explain;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -20,7 +19,8 @@ import java.util.Optional;
 public class ExplanationUtils {
 
     /**
-     * Creates map of DocIdAtQueryPhase to String containing source and normalized scores
+     * Creates map of DocIdAtQueryPhase to String containing source and normalized scores. Description of the technique is
+     * created once, score details of each document are created from its normalized scores when they are read
      * @param normalizedScores map of DocIdAtQueryPhase to normalized scores
      * @return map of DocIdAtQueryPhase to String containing source and normalized scores
      */
@@ -28,14 +28,14 @@ public class ExplanationUtils {
         final Map<DocIdAtSearchShard, List<Float>> normalizedScores,
         final ExplainableTechnique technique
     ) {
-        Map<DocIdAtSearchShard, ExplanationDetails> explain = new HashMap<>();
+        Map<DocIdAtSearchShard, ExplanationDetails> explain = new HashMap<>(normalizedScores.size());
+        String description = String.format(Locale.ROOT, "%s normalization of:", technique.describe());
         for (Map.Entry<DocIdAtSearchShard, List<Float>> entry : normalizedScores.entrySet()) {
-            List<Float> normScores = normalizedScores.get(entry.getKey());
-            List<Pair<Float, String>> explanations = new ArrayList<>();
-            for (float score : normScores) {
-                String description = String.format(Locale.ROOT, "%s normalization of:", technique.describe());
-                explanations.add(Pair.of(score, description));
-            }
+            List<Float> normScores = entry.getValue();
+            List<Pair<Float, String>> explanations = LazyExplanationList.of(
+                normScores.size(),
+                index -> Pair.of(normScores.get(index), description)
+            );
             explain.put(entry.getKey(), new ExplanationDetails(explanations));
         }
 
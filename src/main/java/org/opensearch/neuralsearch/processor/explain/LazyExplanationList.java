@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.explain;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only list of explanation objects that are created from compact per document scores only when the element is read.
+ * Explanations are collected for every result in the window, but the response processor reads only those of hits that are
+ * returned in the response. Elements are not cached, each element is expected to be read once.
+ * @param <T> type of explanation object
+ */
+public final class LazyExplanationList<T> extends AbstractList<T> implements RandomAccess {
+    private final int size;
+    private final IntFunction<T> elementFactory;
+
+    private LazyExplanationList(final int size, final IntFunction<T> elementFactory) {
+        this.size = size;
+        this.elementFactory = elementFactory;
+    }
+
+    /**
+     * Create list of explanations
+     * @param size number of elements in the list
+     * @param elementFactory creates element by its index
+     * @return list that creates elements when they are read
+     */
+    public static <T> List<T> of(final int size, final IntFunction<T> elementFactory) {
+        return new LazyExplanationList<>(size, elementFactory);
+    }
+
+    @Override
+    public T get(final int index) {
+        Objects.checkIndex(index, size);
+        return elementFactory.apply(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
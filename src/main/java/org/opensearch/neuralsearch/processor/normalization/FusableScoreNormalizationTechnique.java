@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+
+/**
+ * Normalization technique that normalizes every score independently based on statistics of its sub-query, like min and max
+ * scores or l2 norm. Statistics are collected from results of all shards upfront, after that any score can be normalized
+ * without updating query results. That allows to normalize scores at the same time they are combined.
+ */
+public interface FusableScoreNormalizationTechnique extends ScoreNormalizationTechnique {
+
+    /**
+     * Collect statistics of each sub-query from results of all shards. Does not mutate input object.
+     * @param queryTopDocs original query results from multiple shards and multiple sub-queries
+     * @return normalizer of scores based on collected statistics
+     */
+    default SubQueryScoreNormalizer collectStatistics(List<CompoundTopDocs> queryTopDocs) {
+        return collectStatistics(queryTopDocs, null);
+    }
+
+    /**
+     * Collect statistics of each sub-query from results of all shards of the search query. Does not mutate input object.
+     * @param queryTopDocs original query results from multiple shards and multiple sub-queries
+     * @param query query of the search request, null if it's not known
+     * @return normalizer of scores based on collected statistics
+     */
+    default SubQueryScoreNormalizer collectStatistics(List<CompoundTopDocs> queryTopDocs, QueryBuilder query) {
+        SubQueryStatistics statistics = newStatistics(query);
+        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+            if (Objects.nonNull(compoundQueryTopDocs)) {
+                statistics.add(compoundQueryTopDocs);
+            }
+        }
+        return statistics.toScoreNormalizer();
+    }
+
+    /**
+     * Create empty statistics of sub-queries for this technique
+     * @return empty statistics, results of all shards are added to them in a single pass after the query phase
+     */
+    SubQueryStatistics newStatistics();
+
+    /**
+     * Create empty statistics of sub-queries of the search query, techniques that learn from previous searches use the query
+     * to tell apart statistics of different queries
+     * @param query query of the search request, null if it's not known
+     * @return empty statistics, results of all shards are added to them in a single pass after the query phase
+     */
+    default SubQueryStatistics newStatistics(QueryBuilder query) {
+        return newStatistics();
+    }
+
+    /**
+     * Statistics of each sub-query, collected in a single pass over results of all shards once the query phase is done,
+     * normalizer is created after results of all shards are added.
+     */
+    interface SubQueryStatistics {
+        /**
+         * Add results of one shard to the statistics. Does not mutate input object.
+         * @param compoundQueryTopDocs results of all sub-queries of one shard
+         */
+        void add(CompoundTopDocs compoundQueryTopDocs);
+
+        /**
+         * @return normalizer of scores based on statistics collected so far
+         */
+        SubQueryScoreNormalizer toScoreNormalizer();
+    }
+
+    /**
+     * Normalizes score of a single result of sub-query
+     */
+    @FunctionalInterface
+    interface SubQueryScoreNormalizer {
+        /**
+         * Normalizer that keeps scores as they are
+         */
+        SubQueryScoreNormalizer IDENTITY = (subQueryIndex, score) -> score;
+
+        /**
+         * @param subQueryIndex index of sub-query in hybrid query
+         * @param score original score of the result
+         * @return normalized score
+         */
+        float normalize(int subQueryIndex, float score);
+
+        /**
+         * Normalize scores of many results of the same sub-query in place. Default implementation normalizes every score
+         * separately, normalizers can override it with a loop over the primitive array that gives the same result.
+         * @param subQueryIndex index of sub-query in hybrid query
+         * @param scores original scores, replaced with normalized scores
+         * @param numOfScores number of scores to normalize, starting from the beginning of the array
+         */
+        default void normalize(int subQueryIndex, float[] scores, int numOfScores) {
+            for (int i = 0; i < numOfScores; i++) {
+                scores[i] = normalize(subQueryIndex, scores[i]);
+            }
+        }
+    }
+}
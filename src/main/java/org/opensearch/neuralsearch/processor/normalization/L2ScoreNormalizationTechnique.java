@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor.normalization;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -29,7 +30,7 @@ import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOf
  * Abstracts normalization of scores based on L2 method
  */
 @ToString(onlyExplicitlyIncluded = true)
-public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechnique, ExplainableTechnique {
+public class L2ScoreNormalizationTechnique implements FusableScoreNormalizationTechnique, ExplainableTechnique {
     @ToString.Include
     public static final String TECHNIQUE_NAME = "l2";
     private static final float MIN_SCORE = 0.0f;
@@ -53,7 +54,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
         // get l2 norms for each sub-query
-        List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
+        SubQueryScoreNormalizer scoreNormalizer = collectStatistics(queryTopDocs);
 
         // do normalization using actual score and l2 norm
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -64,12 +65,20 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(scoreDoc.score, normsPerSubquery.get(j));
+                    scoreDoc.score = scoreNormalizer.normalize(j, scoreDoc.score);
                 }
             }
         }
     }
 
+    /**
+     * Collect sum of squares of scores of each sub-query, l2 norm is calculated once results of all shards are added
+     */
+    @Override
+    public SubQueryStatistics newStatistics() {
+        return new L2Statistics();
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
@@ -115,30 +124,59 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
         // or it has results for all the sub-queries. In edge case of shard having results only for one sub-query, there will be TopDocs for
         // rest of sub-queries with zero total hits
         int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-        float[] l2Norms = new float[numOfSubqueries];
+        L2Statistics statistics = new L2Statistics();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
+            if (Objects.nonNull(compoundQueryTopDocs)) {
+                statistics.add(compoundQueryTopDocs);
             }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int bound = topDocsPerSubQuery.size();
-            for (int index = 0; index < bound; index++) {
-                for (ScoreDoc scoreDocs : topDocsPerSubQuery.get(index).scoreDocs) {
-                    l2Norms[index] += scoreDocs.score * scoreDocs.score;
-                }
-            }
-        }
-        for (int index = 0; index < l2Norms.length; index++) {
-            l2Norms[index] = (float) Math.sqrt(l2Norms[index]);
         }
+        float[] l2Norms = statistics.getL2Norms();
         List<Float> l2NormList = new ArrayList<>();
         for (int index = 0; index < numOfSubqueries; index++) {
-            l2NormList.add(l2Norms[index]);
+            l2NormList.add(index < l2Norms.length ? l2Norms[index] : 0.0f);
         }
         return l2NormList;
     }
 
-    private float normalizeSingleScore(final float score, final float l2Norm) {
+    private static float normalizeSingleScore(final float score, final float l2Norm) {
         return l2Norm == 0 ? MIN_SCORE : score / l2Norm;
     }
+
+    /**
+     * Sum of squares of scores of each sub-query, merged by adding sums of other shards
+     */
+    private static class L2Statistics implements SubQueryStatistics {
+        private float[] sumOfSquaresPerSubquery = new float[0];
+
+        @Override
+        public void add(final CompoundTopDocs compoundQueryTopDocs) {
+            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            ensureNumOfSubqueries(topDocsPerSubQuery.size());
+            for (int index = 0; index < topDocsPerSubQuery.size(); index++) {
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(index).scoreDocs) {
+                    sumOfSquaresPerSubquery[index] += scoreDoc.score * scoreDoc.score;
+                }
+            }
+        }
+
+        @Override
+        public SubQueryScoreNormalizer toScoreNormalizer() {
+            final float[] norms = getL2Norms();
+            return (subQueryIndex, score) -> normalizeSingleScore(score, norms[subQueryIndex]);
+        }
+
+        private float[] getL2Norms() {
+            float[] l2Norms = new float[sumOfSquaresPerSubquery.length];
+            for (int index = 0; index < l2Norms.length; index++) {
+                l2Norms[index] = (float) Math.sqrt(sumOfSquaresPerSubquery[index]);
+            }
+            return l2Norms;
+        }
+
+        private void ensureNumOfSubqueries(final int numOfSubqueries) {
+            if (numOfSubqueries > sumOfSquaresPerSubquery.length) {
+                sumOfSquaresPerSubquery = Arrays.copyOf(sumOfSquaresPerSubquery, numOfSubqueries);
+            }
+        }
+    }
 }
@@ -14,12 +14,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import org.apache.commons.lang3.Validate;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import com.google.common.primitives.Floats;
@@ -30,20 +29,20 @@ import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.normalization.bounds.BoundMode;
+import org.opensearch.neuralsearch.processor.normalization.bounds.LearnedBounds;
 import org.opensearch.neuralsearch.processor.normalization.bounds.LowerBound;
 import org.opensearch.neuralsearch.processor.normalization.bounds.UpperBound;
 
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
 import static org.opensearch.neuralsearch.processor.normalization.bounds.ScoreBound.MAX_BOUND_SCORE;
 import static org.opensearch.neuralsearch.processor.normalization.bounds.ScoreBound.MIN_BOUND_SCORE;
-import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
-import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
+import static org.opensearch.neuralsearch.query.HybridQueryBuilder.getMaxNumberOfSubQueries;
 
 /**
  * Abstracts normalization of scores based on min-max method
  */
 @ToString(onlyExplicitlyIncluded = true)
-public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTechnique, ExplainableTechnique {
+public class MinMaxScoreNormalizationTechnique implements FusableScoreNormalizationTechnique, ExplainableTechnique {
     @ToString.Include
     public static final String TECHNIQUE_NAME = "min_max";
     protected static final float MIN_SCORE = 0.001f;
@@ -54,17 +53,28 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
     private static final String PARAM_NAME_LOWER_BOUND_MIN_SCORE = "min_score";
     private static final String PARAM_NAME_UPPER_BOUNDS = "upper_bounds";
     private static final String PARAM_NAME_UPPER_BOUND_MAX_SCORE = "max_score";
+    private static final String PARAM_NAME_LEARNED_BOUNDS = "learned_bounds";
+    private static final float[][] NO_LEARNED_SCORES = new float[0][];
 
-    private static final Set<String> SUPPORTED_PARAMETERS = Set.of(PARAM_NAME_LOWER_BOUNDS, PARAM_NAME_UPPER_BOUNDS);
+    private static final Set<String> SUPPORTED_PARAMETERS = Set.of(
+        PARAM_NAME_LOWER_BOUNDS,
+        PARAM_NAME_UPPER_BOUNDS,
+        PARAM_NAME_LEARNED_BOUNDS
+    );
     private static final Map<String, Set<String>> NESTED_PARAMETERS = Map.of(
         PARAM_NAME_LOWER_BOUNDS,
         Set.of(PARAM_NAME_BOUND_MODE, PARAM_NAME_LOWER_BOUND_MIN_SCORE),
         PARAM_NAME_UPPER_BOUNDS,
-        Set.of(PARAM_NAME_BOUND_MODE, PARAM_NAME_UPPER_BOUND_MAX_SCORE)
+        Set.of(PARAM_NAME_BOUND_MODE, PARAM_NAME_UPPER_BOUND_MAX_SCORE),
+        PARAM_NAME_LEARNED_BOUNDS,
+        Set.of(LearnedBounds.PARAM_NAME_MIN_SAMPLES, LearnedBounds.PARAM_NAME_LOWER_QUANTILE, LearnedBounds.PARAM_NAME_UPPER_QUANTILE)
     );
 
     private final Optional<List<Map<String, Object>>> lowerBoundsParamsOptional;
     private final Optional<List<Map<String, Object>>> upperBoundsParamsOptional;
+    // learned scores are kept per processor and per node, every search pipeline on every node learns scores of the searches
+    // it has normalized itself
+    private final Optional<LearnedBounds> learnedBoundsOptional;
 
     public MinMaxScoreNormalizationTechnique() {
         this(Map.of(), new ScoreNormalizationUtil());
@@ -74,51 +84,47 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         scoreNormalizationUtil.validateParameters(params, SUPPORTED_PARAMETERS, NESTED_PARAMETERS);
         lowerBoundsParamsOptional = getBoundsParams(params, PARAM_NAME_LOWER_BOUNDS);
         upperBoundsParamsOptional = getBoundsParams(params, PARAM_NAME_UPPER_BOUNDS);
+        learnedBoundsOptional = getLearnedBounds(params);
     }
 
     /**
      * Min-max normalization method.
      * nscore = (score - min_score)/(max_score - min_score)
      * Main algorithm steps:
-     * - calculate min and max scores for each sub query
+     * - calculate min and max scores for each sub query, or take min and max scores learned from previous searches
      * - iterate over each result and update score as per formula above where "score" is raw score returned by Hybrid query
      */
     @Override
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
-        MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs);
+        SubQueryScoreNormalizer scoreNormalizer = collectStatistics(queryTopDocs, normalizeScoresDTO.getQuery());
         // do normalization using actual score and min and max scores for corresponding sub query
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
             if (Objects.isNull(compoundQueryTopDocs)) {
                 continue;
             }
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            if (isBoundsAndSubQueriesCountMismatched(topDocsPerSubQuery)) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "expected bounds array to contain %d elements matching the number of sub-queries, but found a mismatch",
-                        topDocsPerSubQuery.size()
-                    )
-                );
-            }
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
-                LowerBound lowerBound = getLowerBound(j);
-                UpperBound upperBound = getUpperBound(j);
-                for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(
-                        scoreDoc.score,
-                        minMaxScores.getMinScoresPerSubquery()[j],
-                        minMaxScores.getMaxScoresPerSubquery()[j],
-                        lowerBound,
-                        upperBound
-                    );
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(j).scoreDocs) {
+                    scoreDoc.score = scoreNormalizer.normalize(j, scoreDoc.score);
                 }
             }
         }
     }
 
+    /**
+     * Collect min and max scores of each sub query, results of every shard are read once
+     */
+    @Override
+    public SubQueryStatistics newStatistics() {
+        return newStatistics(null);
+    }
+
+    @Override
+    public SubQueryStatistics newStatistics(final QueryBuilder query) {
+        return new MinMaxStatistics(query, true);
+    }
+
     private boolean isBoundsAndSubQueriesCountMismatched(List<TopDocs> topDocsPerSubQuery) {
         boolean lowerBoundsMismatch = lowerBoundsParamsOptional.isPresent()
             && !topDocsPerSubQuery.isEmpty()
@@ -137,13 +143,15 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         return upperBoundsParamsOptional.map(bounds -> bounds.get(subQueryIndex)).map(UpperBound::new).orElseGet(UpperBound::new);
     }
 
-    private MinMaxScores getMinMaxScoresResult(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-        // get min scores for each sub query
-        float[] minScoresPerSubquery = getMinScores(queryTopDocs, numOfSubqueries);
-        // get max scores for each sub query
-        float[] maxScoresPerSubquery = getMaxScores(queryTopDocs, numOfSubqueries);
-        return new MinMaxScores(minScoresPerSubquery, maxScoresPerSubquery);
+    private SubQueryScoreNormalizer getScoreNormalizerForExplain(final List<CompoundTopDocs> queryTopDocs, final QueryBuilder query) {
+        // same results are normalized again after the explain, scores are not recorded twice
+        MinMaxStatistics statistics = new MinMaxStatistics(query, false);
+        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+            if (Objects.nonNull(compoundQueryTopDocs)) {
+                statistics.add(compoundQueryTopDocs);
+            }
+        }
+        return statistics.toScoreNormalizer();
     }
 
     @Override
@@ -157,6 +165,7 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
 
         description.append(buildBoundDescription(lowerBoundsParamsOptional, "lower", LowerBound.DEFAULT_LOWER_BOUND_SCORE));
         description.append(buildBoundDescription(upperBoundsParamsOptional, "upper", UpperBound.DEFAULT_UPPER_BOUND_SCORE));
+        learnedBoundsOptional.ifPresent(learnedBounds -> description.append(", learned bounds ").append(learnedBounds));
 
         return description.toString();
     }
@@ -177,7 +186,12 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
 
     @Override
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs) {
-        MinMaxScores minMaxScores = getMinMaxScoresResult(queryTopDocs);
+        return explain(queryTopDocs, null);
+    }
+
+    @Override
+    public Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs, final QueryBuilder query) {
+        SubQueryScoreNormalizer scoreNormalizer = getScoreNormalizerForExplain(queryTopDocs, query);
 
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -190,15 +204,7 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(subQueryIndex);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
                     DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, compoundQueryTopDocs.getSearchShard());
-                    LowerBound lowerBound = getLowerBound(subQueryIndex);
-                    UpperBound upperBound = getUpperBound(subQueryIndex);
-                    float normalizedScore = normalizeSingleScore(
-                        scoreDoc.score,
-                        minMaxScores.getMinScoresPerSubquery()[subQueryIndex],
-                        minMaxScores.getMaxScoresPerSubquery()[subQueryIndex],
-                        lowerBound,
-                        upperBound
-                    );
+                    float normalizedScore = scoreNormalizer.normalize(subQueryIndex, scoreDoc.score);
                     ScoreNormalizationUtil.setNormalizedScore(
                         normalizedScores,
                         docIdAtSearchShard,
@@ -213,48 +219,6 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private float[] getMaxScores(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        float[] maxScores = new float[numOfSubqueries];
-        Arrays.fill(maxScores, Float.MIN_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                maxScores[j] = Math.max(
-                    maxScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .max(Float::compare)
-                        .orElse(Float.MIN_VALUE)
-                );
-            }
-        }
-        return maxScores;
-    }
-
-    private float[] getMinScores(final List<CompoundTopDocs> queryTopDocs, final int numOfScores) {
-        float[] minScores = new float[numOfScores];
-        Arrays.fill(minScores, Float.MAX_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                minScores[j] = Math.min(
-                    minScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .min(Float::compare)
-                        .orElse(Float.MAX_VALUE)
-                );
-            }
-        }
-        return minScores;
-    }
-
     private float normalizeSingleScore(
         final float score,
         final float minScore,
@@ -305,14 +269,15 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
             .map(List.class::cast)
             .orElseThrow(() -> new IllegalArgumentException(paramName + " must be a List"));
 
-        if (boundsParams.size() > MAX_NUMBER_OF_SUB_QUERIES) {
+        final int maxNumberOfSubQueries = getMaxNumberOfSubQueries();
+        if (boundsParams.size() > maxNumberOfSubQueries) {
             throw new IllegalArgumentException(
                 String.format(
                     Locale.ROOT,
                     "%s size %d should be less than or equal to %d",
                     paramName,
                     boundsParams.size(),
-                    MAX_NUMBER_OF_SUB_QUERIES
+                    maxNumberOfSubQueries
                 )
             );
         }
@@ -352,6 +317,19 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         }).collect(Collectors.toList()));
     }
 
+    private Optional<LearnedBounds> getLearnedBounds(final Map<String, Object> params) {
+        if (Objects.isNull(params) || !params.containsKey(PARAM_NAME_LEARNED_BOUNDS)) {
+            return Optional.empty();
+        }
+        Object learnedBoundsParams = params.get(PARAM_NAME_LEARNED_BOUNDS);
+        if (learnedBoundsParams instanceof Map == false) {
+            throw new IllegalArgumentException(PARAM_NAME_LEARNED_BOUNDS + " must be a Map");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> learnedBoundsMap = (Map<String, Object>) learnedBoundsParams;
+        return Optional.of(new LearnedBounds(learnedBoundsMap));
+    }
+
     private void validateBoundScore(Map<String, Object> bound, String scoreParamName, float defaultScore) {
         Object scoreObj = bound.get(scoreParamName);
         if (scoreObj == null) {
@@ -375,12 +353,122 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
     }
 
     /**
-     * Result class to hold min and max scores for each sub query
+     * Min and max scores of each sub query, merged by taking min of min scores and max of max scores. Sub queries with
+     * learned min and max scores use learned scores of queries of the same shape, learned scores are taken once when
+     * statistics are created so all shards of the search are normalized with the same scores.
      */
-    @AllArgsConstructor
-    @Getter
-    private static class MinMaxScores {
-        float[] minScoresPerSubquery;
-        float[] maxScoresPerSubquery;
+    private class MinMaxStatistics implements SubQueryStatistics {
+        private final Optional<LearnedBounds.QueryShapeBounds> queryShapeBoundsOptional;
+        private final float[][] learnedScoresPerSubquery;
+        private final boolean recordScores;
+        private float[] minScoresPerSubquery = new float[0];
+        private float[] maxScoresPerSubquery = new float[0];
+
+        MinMaxStatistics(final QueryBuilder query, final boolean recordScores) {
+            this.queryShapeBoundsOptional = learnedBoundsOptional.map(learnedBounds -> learnedBounds.getQueryShapeBounds(query));
+            this.learnedScoresPerSubquery = queryShapeBoundsOptional.map(LearnedBounds.QueryShapeBounds::getLearnedScores)
+                .orElse(NO_LEARNED_SCORES);
+            this.recordScores = recordScores;
+        }
+
+        @Override
+        public void add(final CompoundTopDocs compoundQueryTopDocs) {
+            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            if (isBoundsAndSubQueriesCountMismatched(topDocsPerSubQuery)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "expected bounds array to contain %d elements matching the number of sub-queries, but found a mismatch",
+                        topDocsPerSubQuery.size()
+                    )
+                );
+            }
+            ensureNumOfSubqueries(topDocsPerSubQuery.size());
+            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
+                ScoreDoc[] scoreDocs = topDocsPerSubQuery.get(j).scoreDocs;
+                // scores are recorded even when they are learned, so learned scores follow recent scores of the query
+                if (recordScores && queryShapeBoundsOptional.isPresent()) {
+                    queryShapeBoundsOptional.get().record(j, scoreDocs);
+                }
+                if (LearnedBounds.isLearned(learnedScoresPerSubquery, j)) {
+                    continue;
+                }
+                for (ScoreDoc scoreDoc : scoreDocs) {
+                    minScoresPerSubquery[j] = Math.min(minScoresPerSubquery[j], scoreDoc.score);
+                    maxScoresPerSubquery[j] = Math.max(maxScoresPerSubquery[j], scoreDoc.score);
+                }
+            }
+        }
+
+        @Override
+        public SubQueryScoreNormalizer toScoreNormalizer() {
+            final int numOfSubqueries = minScoresPerSubquery.length;
+            final float[] minScores = Arrays.copyOf(minScoresPerSubquery, numOfSubqueries);
+            final float[] maxScores = Arrays.copyOf(maxScoresPerSubquery, numOfSubqueries);
+            final LowerBound[] lowerBounds = new LowerBound[numOfSubqueries];
+            final UpperBound[] upperBounds = new UpperBound[numOfSubqueries];
+            // scores outside of learned min and max scores are clipped to them
+            final boolean[] isLearned = new boolean[numOfSubqueries];
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubqueries; subQueryIndex++) {
+                lowerBounds[subQueryIndex] = getLowerBound(subQueryIndex);
+                upperBounds[subQueryIndex] = getUpperBound(subQueryIndex);
+                if (LearnedBounds.isLearned(learnedScoresPerSubquery, subQueryIndex)) {
+                    minScores[subQueryIndex] = learnedScoresPerSubquery[subQueryIndex][0];
+                    maxScores[subQueryIndex] = learnedScoresPerSubquery[subQueryIndex][1];
+                    isLearned[subQueryIndex] = true;
+                }
+            }
+            return new SubQueryScoreNormalizer() {
+                @Override
+                public float normalize(final int subQueryIndex, final float score) {
+                    return normalizeSingleScore(
+                        isLearned[subQueryIndex] ? clip(score, minScores[subQueryIndex], maxScores[subQueryIndex]) : score,
+                        minScores[subQueryIndex],
+                        maxScores[subQueryIndex],
+                        lowerBounds[subQueryIndex],
+                        upperBounds[subQueryIndex]
+                    );
+                }
+
+                /**
+                 * Without bounds effective min and max scores are the same for all scores of sub-query, so the formula
+                 * is applied in a loop without per score checks of bounds
+                 */
+                @Override
+                public void normalize(final int subQueryIndex, final float[] scores, final int numOfScores) {
+                    if (lowerBounds[subQueryIndex].isEnabled() || upperBounds[subQueryIndex].isEnabled()) {
+                        SubQueryScoreNormalizer.super.normalize(subQueryIndex, scores, numOfScores);
+                        return;
+                    }
+                    final float minScore = minScores[subQueryIndex];
+                    final float maxScore = maxScores[subQueryIndex];
+                    if (Floats.compare(maxScore, minScore) == 0) {
+                        Arrays.fill(scores, 0, numOfScores, SINGLE_RESULT_SCORE);
+                        return;
+                    }
+                    final boolean clipScores = isLearned[subQueryIndex];
+                    for (int i = 0; i < numOfScores; i++) {
+                        float score = clipScores ? clip(scores[i], minScore, maxScore) : scores[i];
+                        float normalizedScore = (score - minScore) / (maxScore - minScore);
+                        scores[i] = normalizedScore == 0.0f ? MIN_SCORE : normalizedScore;
+                    }
+                }
+            };
+        }
+
+        private float clip(final float score, final float minScore, final float maxScore) {
+            return Math.min(Math.max(score, minScore), maxScore);
+        }
+
+        private void ensureNumOfSubqueries(final int numOfSubqueries) {
+            int currentNumOfSubqueries = minScoresPerSubquery.length;
+            if (numOfSubqueries <= currentNumOfSubqueries) {
+                return;
+            }
+            minScoresPerSubquery = Arrays.copyOf(minScoresPerSubquery, numOfSubqueries);
+            maxScoresPerSubquery = Arrays.copyOf(maxScoresPerSubquery, numOfSubqueries);
+            Arrays.fill(minScoresPerSubquery, currentNumOfSubqueries, numOfSubqueries, Float.MAX_VALUE);
+            Arrays.fill(maxScoresPerSubquery, currentNumOfSubqueries, numOfSubqueries, Float.MIN_VALUE);
+        }
     }
 }
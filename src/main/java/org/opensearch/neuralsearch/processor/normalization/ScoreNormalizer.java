@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
@@ -31,6 +32,26 @@ public class ScoreNormalizer {
         }
     }
 
+    /**
+     * Collect statistics required to normalize scores later, at the time they are combined. Does not mutate input object if
+     * normalization technique is fusable, otherwise scores are normalized in place, same as by normalizeScores
+     * @param normalizeScoresDTO used as data transfer object to pass in queryTopDocs and normalization technique
+     * @return normalizer of scores of sub-queries, or normalizer that keeps scores as is if scores are already normalized or
+     * there is nothing to normalize
+     */
+    public FusableScoreNormalizationTechnique.SubQueryScoreNormalizer collectStatistics(final NormalizeScoresDTO normalizeScoresDTO) {
+        final List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
+        final ScoreNormalizationTechnique scoreNormalizationTechnique = normalizeScoresDTO.getNormalizationTechnique();
+        if (canQueryResultsBeNormalized(queryTopDocs) == false) {
+            return FusableScoreNormalizationTechnique.SubQueryScoreNormalizer.IDENTITY;
+        }
+        if (scoreNormalizationTechnique instanceof FusableScoreNormalizationTechnique fusableScoreNormalizationTechnique) {
+            return fusableScoreNormalizationTechnique.collectStatistics(queryTopDocs, normalizeScoresDTO.getQuery());
+        }
+        scoreNormalizationTechnique.normalize(normalizeScoresDTO);
+        return FusableScoreNormalizationTechnique.SubQueryScoreNormalizer.IDENTITY;
+    }
+
     private boolean canQueryResultsBeNormalized(final List<CompoundTopDocs> queryTopDocs) {
         return queryTopDocs.stream().filter(Objects::nonNull).anyMatch(topDocs -> topDocs.getTopDocs().size() > 0);
     }
@@ -45,9 +66,25 @@ public class ScoreNormalizer {
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(
         final List<CompoundTopDocs> queryTopDocs,
         final ExplainableTechnique scoreNormalizationTechnique
+    ) {
+        return explain(queryTopDocs, scoreNormalizationTechnique, null);
+    }
+
+    /**
+     * Explain normalized scores of results of the search query based on input normalization technique. Does not mutate
+     * input object.
+     * @param queryTopDocs original query results from multiple shards and multiple sub-queries
+     * @param scoreNormalizationTechnique technique that is used to normalize scores
+     * @param query query of the search request, null if it's not known
+     * @return map of doc id to explanation details
+     */
+    public Map<DocIdAtSearchShard, ExplanationDetails> explain(
+        final List<CompoundTopDocs> queryTopDocs,
+        final ExplainableTechnique scoreNormalizationTechnique,
+        final QueryBuilder query
     ) {
         if (canQueryResultsBeNormalized(queryTopDocs)) {
-            return scoreNormalizationTechnique.explain(queryTopDocs);
+            return scoreNormalizationTechnique.explain(queryTopDocs, query);
         }
         return Map.of();
     }
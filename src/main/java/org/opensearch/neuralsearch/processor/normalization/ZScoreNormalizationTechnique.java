@@ -12,11 +12,11 @@ import java.util.Objects;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Locale;
+import java.util.Arrays;
 
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import com.google.common.primitives.Floats;
 import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
@@ -30,7 +30,7 @@ import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOf
  * Abstracts normalization of scores based on z score method
  */
 @ToString(onlyExplicitlyIncluded = true)
-public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique, ExplainableTechnique {
+public class ZScoreNormalizationTechnique implements FusableScoreNormalizationTechnique, ExplainableTechnique {
     @ToString.Include
     public static final String TECHNIQUE_NAME = "z_score";
     private static final float SINGLE_RESULT_SCORE = 1.0f;
@@ -55,7 +55,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
     public void normalize(NormalizeScoresDTO normalizeScoresDTO) {
         List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
 
-        ZScores zscores = getZScoreResults(queryTopDocs);
+        SubQueryScoreNormalizer scoreNormalizer = collectStatistics(queryTopDocs);
 
         // do normalization using actual score and z-scores for corresponding sub query
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -66,18 +66,20 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(
-                        scoreDoc.score,
-                        zscores.stdPerSubquery[j],
-                        zscores.meanPerSubQuery[j],
-                        zscores.maxPerSubQuery[j],
-                        zscores.minPerSubQuery[j]
-                    );
+                    scoreDoc.score = scoreNormalizer.normalize(j, scoreDoc.score);
                 }
             }
         }
     }
 
+    /**
+     * Collect mean, standard deviation, min and max scores of each sub-query
+     */
+    @Override
+    public SubQueryStatistics newStatistics() {
+        return new ZScoreStatistics();
+    }
+
     @Override
     public String techniqueName() {
         return TECHNIQUE_NAME;
@@ -124,81 +126,15 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private static float[] calculateMaxScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] maxPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            maxPerSubQuery[i] = (float) statsPerSubquery[i].getMax();
-        }
-
-        return maxPerSubQuery;
-    }
-
-    private static float[] calculateMinScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] minPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            minPerSubQuery[i] = (float) statsPerSubquery[i].getMin();
-        }
-
-        return minPerSubQuery;
-    }
-
-    private static DescriptiveStatistics[] calculateStatsPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = new DescriptiveStatistics[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            statsPerSubquery[i] = new DescriptiveStatistics();
-        }
-
+    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
+        // to be done for each subquery, statistics are collected in a single pass over all results
+        ZScoreStatistics statistics = new ZScoreStatistics();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
+            if (Objects.nonNull(compoundQueryTopDocs)) {
+                statistics.add(compoundQueryTopDocs);
             }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
-                TopDocs topDocs = topDocsPerSubQuery.get(subQueryIndex);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    statsPerSubquery[subQueryIndex].addValue(scoreDoc.score);
-                }
-            }
-        }
-
-        return statsPerSubquery;
-    }
-
-    private static float[] calculateMeanPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] meanPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            meanPerSubQuery[i] = (float) statsPerSubquery[i].getMean();
-        }
-
-        return meanPerSubQuery;
-    }
-
-    private static float[] calculateStandardDeviationPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] stdPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            stdPerSubQuery[i] = (float) statsPerSubquery[i].getStandardDeviation();
         }
-
-        return stdPerSubQuery;
-    }
-
-    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-
-        // to be done for each subquery
-        float[] maxPerSubquery = calculateMaxScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] minPerSubquery = calculateMinScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] meanPerSubQuery = calculateMeanPerSubquery(queryTopDocs, numOfSubqueries);
-        float[] stdPerSubquery = calculateStandardDeviationPerSubquery(queryTopDocs, numOfSubqueries);
-        return new ZScores(meanPerSubQuery, stdPerSubquery, maxPerSubquery, minPerSubquery);
+        return statistics.getZScores(getNumOfSubqueries(queryTopDocs));
     }
 
     private static float normalizeSingleScore(
@@ -226,4 +162,85 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
      */
     private record ZScores(float[] meanPerSubQuery, float[] stdPerSubquery, float[] maxPerSubQuery, float[] minPerSubQuery) {
     }
+
+    /**
+     * Count, mean and sum of squared differences from the mean of scores of each sub query, along with min and max scores.
+     * Scores of all shards are added one by one in a single pass with Welford's algorithm, so scores don't need to be
+     * stored.
+     */
+    private static class ZScoreStatistics implements SubQueryStatistics {
+        private long[] countPerSubquery = new long[0];
+        private double[] meanPerSubquery = new double[0];
+        private double[] squaredDiffSumPerSubquery = new double[0];
+        private double[] minPerSubquery = new double[0];
+        private double[] maxPerSubquery = new double[0];
+
+        @Override
+        public void add(final CompoundTopDocs compoundQueryTopDocs) {
+            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            ensureNumOfSubqueries(topDocsPerSubQuery.size());
+            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                    double score = scoreDoc.score;
+                    long count = ++countPerSubquery[subQueryIndex];
+                    double delta = score - meanPerSubquery[subQueryIndex];
+                    meanPerSubquery[subQueryIndex] += delta / count;
+                    squaredDiffSumPerSubquery[subQueryIndex] += delta * (score - meanPerSubquery[subQueryIndex]);
+                    minPerSubquery[subQueryIndex] = Math.min(minPerSubquery[subQueryIndex], score);
+                    maxPerSubquery[subQueryIndex] = Math.max(maxPerSubquery[subQueryIndex], score);
+                }
+            }
+        }
+
+        @Override
+        public SubQueryScoreNormalizer toScoreNormalizer() {
+            final ZScores zscores = getZScores(countPerSubquery.length);
+            return (subQueryIndex, score) -> normalizeSingleScore(
+                score,
+                zscores.stdPerSubquery[subQueryIndex],
+                zscores.meanPerSubQuery[subQueryIndex],
+                zscores.maxPerSubQuery[subQueryIndex],
+                zscores.minPerSubQuery[subQueryIndex]
+            );
+        }
+
+        /**
+         * Standard deviation is calculated for the sample, statistics of sub query without scores are NaN
+         */
+        private ZScores getZScores(final int numOfSubqueries) {
+            float[] maxScores = new float[numOfSubqueries];
+            float[] minScores = new float[numOfSubqueries];
+            float[] means = new float[numOfSubqueries];
+            float[] standardDeviations = new float[numOfSubqueries];
+            for (int i = 0; i < numOfSubqueries; i++) {
+                long count = i < countPerSubquery.length ? countPerSubquery[i] : 0;
+                if (count == 0) {
+                    maxScores[i] = Float.NaN;
+                    minScores[i] = Float.NaN;
+                    means[i] = Float.NaN;
+                    standardDeviations[i] = Float.NaN;
+                    continue;
+                }
+                maxScores[i] = (float) maxPerSubquery[i];
+                minScores[i] = (float) minPerSubquery[i];
+                means[i] = (float) meanPerSubquery[i];
+                standardDeviations[i] = count == 1 ? 0.0f : (float) Math.sqrt(squaredDiffSumPerSubquery[i] / (count - 1));
+            }
+            return new ZScores(means, standardDeviations, maxScores, minScores);
+        }
+
+        private void ensureNumOfSubqueries(final int numOfSubqueries) {
+            int currentNumOfSubqueries = countPerSubquery.length;
+            if (numOfSubqueries <= currentNumOfSubqueries) {
+                return;
+            }
+            countPerSubquery = Arrays.copyOf(countPerSubquery, numOfSubqueries);
+            meanPerSubquery = Arrays.copyOf(meanPerSubquery, numOfSubqueries);
+            squaredDiffSumPerSubquery = Arrays.copyOf(squaredDiffSumPerSubquery, numOfSubqueries);
+            minPerSubquery = Arrays.copyOf(minPerSubquery, numOfSubqueries);
+            maxPerSubquery = Arrays.copyOf(maxPerSubquery, numOfSubqueries);
+            Arrays.fill(minPerSubquery, currentNumOfSubqueries, numOfSubqueries, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxPerSubquery, currentNumOfSubqueries, numOfSubqueries, Double.NEGATIVE_INFINITY);
+        }
+    }
 }
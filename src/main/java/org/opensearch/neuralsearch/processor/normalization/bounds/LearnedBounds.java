@@ -0,0 +1,289 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization.bounds;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.BoostingQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.DisMaxQueryBuilder;
+import org.opensearch.index.query.NestedQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.ScriptScoreQueryBuilder;
+import org.opensearch.index.query.WithFieldName;
+import org.opensearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Min and max scores of each sub-query learned from scores of previous searches of queries of the same shape. Shape of a
+ * query is its structure without values, so queries that differ only by query text, vectors or other values are learned
+ * together. Scores of each sub-query are recorded into a score histogram, once the configured number of samples is reached
+ * min and max scores are taken from the configured quantiles of the histogram and counts of the histogram are halved.
+ * Scores keep being recorded after that, and min and max scores are learned again every time the histogram has enough
+ * samples, so learned scores follow recent scores and older scores weigh exponentially less. Learned scores are used instead
+ * of min and max scores of the current results, they don't depend on the results of one search. They keep changing while
+ * scores are recorded though, so pages of the same query that are searched at different times may be normalized with
+ * different scores. Learned scores are node-local, they are kept in memory of the instance of the normalization technique
+ * on the coordinator node, and are not shared with other nodes or other search pipelines and are lost when the node
+ * restarts. Number of query shapes is limited, least recently used shapes are evicted.
+ */
+public final class LearnedBounds {
+    public static final int DEFAULT_MIN_SAMPLES = 10_000;
+    public static final double DEFAULT_LOWER_QUANTILE = 0.0;
+    public static final double DEFAULT_UPPER_QUANTILE = 1.0;
+    public static final String PARAM_NAME_MIN_SAMPLES = "min_samples";
+    public static final String PARAM_NAME_LOWER_QUANTILE = "lower_quantile";
+    public static final String PARAM_NAME_UPPER_QUANTILE = "upper_quantile";
+    private static final int MAX_QUERY_SHAPES = 1_000;
+    private static final float[][] NO_LEARNED_SCORES = new float[0][];
+
+    @Getter
+    private final int minSamples;
+    @Getter
+    private final double lowerQuantile;
+    @Getter
+    private final double upperQuantile;
+    private final Cache<String, QueryShapeBounds> boundsPerQueryShape;
+
+    /**
+     * Constructs learned bounds from a map of parameters
+     *
+     * @param learnedBounds the map containing the learned bounds parameters
+     */
+    public LearnedBounds(final Map<String, Object> learnedBounds) {
+        this(
+            parseMinSamples(learnedBounds),
+            parseQuantile(learnedBounds, PARAM_NAME_LOWER_QUANTILE, DEFAULT_LOWER_QUANTILE),
+            parseQuantile(learnedBounds, PARAM_NAME_UPPER_QUANTILE, DEFAULT_UPPER_QUANTILE)
+        );
+    }
+
+    /**
+     * Constructs learned bounds with specified parameters
+     *
+     * @param minSamples    number of scores of sub-query to record before min and max scores are learned
+     * @param lowerQuantile quantile of recorded scores that is used as min score
+     * @param upperQuantile quantile of recorded scores that is used as max score
+     */
+    public LearnedBounds(final int minSamples, final double lowerQuantile, final double upperQuantile) {
+        Validate.isTrue(minSamples > 0, "%s must be a positive number", PARAM_NAME_MIN_SAMPLES);
+        Validate.isTrue(lowerQuantile < upperQuantile, "%s must be less than %s", PARAM_NAME_LOWER_QUANTILE, PARAM_NAME_UPPER_QUANTILE);
+        this.minSamples = minSamples;
+        this.lowerQuantile = lowerQuantile;
+        this.upperQuantile = upperQuantile;
+        this.boundsPerQueryShape = CacheBuilder.<String, QueryShapeBounds>builder().setMaximumWeight(MAX_QUERY_SHAPES).build();
+    }
+
+    /**
+     * Get learned bounds of queries of the same shape as the query
+     * @param query query of the search request, queries that are not known share the same bounds
+     * @return learned bounds of the query shape
+     */
+    public QueryShapeBounds getQueryShapeBounds(final QueryBuilder query) {
+        try {
+            return boundsPerQueryShape.computeIfAbsent(getQueryShape(query), shape -> new QueryShapeBounds());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to create learned bounds of query", e);
+        }
+    }
+
+    /**
+     * @return number of query shapes with learned bounds
+     */
+    public int getNumOfQueryShapes() {
+        return boundsPerQueryShape.count();
+    }
+
+    /**
+     * Check if min and max scores of sub-query are learned
+     * @param learnedScores array of learned scores taken by QueryShapeBounds.getLearnedScores
+     * @param subQueryIndex index of sub-query in hybrid query
+     * @return true if min and max scores of sub-query are learned
+     */
+    public static boolean isLearned(final float[][] learnedScores, final int subQueryIndex) {
+        return subQueryIndex < learnedScores.length && Objects.nonNull(learnedScores[subQueryIndex]);
+    }
+
+    /**
+     * Get shape of the query, it's the structure of the query with names of queries and fields, and without values. Query
+     * builders are walked directly, the query isn't serialized, so values like vectors are never read. Sub-queries of known
+     * compound queries are part of the shape, other queries are leaves of the shape.
+     * @param query query of the search request
+     * @return shape of the query, empty string if query is not known
+     */
+    @VisibleForTesting
+    static String getQueryShape(final QueryBuilder query) {
+        if (Objects.isNull(query)) {
+            return "";
+        }
+        StringBuilder shape = new StringBuilder();
+        appendShape(query, shape);
+        return shape.toString();
+    }
+
+    private static void appendShape(final QueryBuilder query, final StringBuilder shape) {
+        shape.append(query.getWriteableName());
+        if (query instanceof WithFieldName withFieldName) {
+            shape.append('(').append(withFieldName.fieldName()).append(')');
+        }
+        if (query instanceof HybridQueryBuilder hybridQuery) {
+            appendShape("queries", hybridQuery.queries(), shape);
+            appendShape("filter", hybridQuery.sharedFilter(), shape);
+        } else if (query instanceof BoolQueryBuilder boolQuery) {
+            appendShape("must", boolQuery.must(), shape);
+            appendShape("should", boolQuery.should(), shape);
+            appendShape("filter", boolQuery.filter(), shape);
+            appendShape("must_not", boolQuery.mustNot(), shape);
+        } else if (query instanceof DisMaxQueryBuilder disMaxQuery) {
+            appendShape("queries", disMaxQuery.innerQueries(), shape);
+        } else if (query instanceof BoostingQueryBuilder boostingQuery) {
+            appendShape("positive", boostingQuery.positiveQuery(), shape);
+            appendShape("negative", boostingQuery.negativeQuery(), shape);
+        } else if (query instanceof ConstantScoreQueryBuilder constantScoreQuery) {
+            appendShape("filter", constantScoreQuery.innerQuery(), shape);
+        } else if (query instanceof NestedQueryBuilder nestedQuery) {
+            appendShape("query", nestedQuery.query(), shape);
+        } else if (query instanceof ScriptScoreQueryBuilder scriptScoreQuery) {
+            appendShape("query", scriptScoreQuery.query(), shape);
+        } else if (query instanceof FunctionScoreQueryBuilder functionScoreQuery) {
+            appendShape("query", functionScoreQuery.query(), shape);
+            shape.append("functions[");
+            for (FunctionScoreQueryBuilder.FilterFunctionBuilder function : functionScoreQuery.filterFunctionBuilders()) {
+                shape.append(function.getScoreFunction().getName());
+                appendShape("filter", function.getFilter(), shape);
+                shape.append(',');
+            }
+            shape.append(']');
+        }
+    }
+
+    private static void appendShape(final String clause, final QueryBuilder query, final StringBuilder shape) {
+        if (Objects.nonNull(query)) {
+            appendShape(clause, List.of(query), shape);
+        }
+    }
+
+    private static void appendShape(final String clause, final List<QueryBuilder> queries, final StringBuilder shape) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        shape.append(clause).append('[');
+        for (QueryBuilder query : queries) {
+            appendShape(query, shape);
+            shape.append(',');
+        }
+        shape.append(']');
+    }
+
+    /**
+     * Learned min and max scores of sub-queries of queries of the same shape
+     */
+    public final class QueryShapeBounds {
+        private final Map<Integer, ScoreHistogram> histogramsPerSubQuery = new ConcurrentHashMap<>();
+        // array is replaced on every update, so readers can take it without locking
+        private volatile float[][] learnedScoresPerSubQuery = NO_LEARNED_SCORES;
+
+        private QueryShapeBounds() {}
+
+        /**
+         * Get min and max scores learned so far. Returned array is never modified, scores of sub-query that are not learned
+         * yet are null
+         * @return array of [min score, max score] pairs indexed by sub-query
+         */
+        public float[][] getLearnedScores() {
+            return learnedScoresPerSubQuery;
+        }
+
+        /**
+         * Record scores of sub-query, min and max scores are learned again every time enough scores are recorded
+         * @param subQueryIndex index of sub-query in hybrid query
+         * @param scoreDocs results of sub-query
+         */
+        public void record(final int subQueryIndex, final ScoreDoc[] scoreDocs) {
+            if (scoreDocs.length == 0) {
+                return;
+            }
+            ScoreHistogram histogram = histogramsPerSubQuery.computeIfAbsent(subQueryIndex, index -> new ScoreHistogram());
+            for (ScoreDoc scoreDoc : scoreDocs) {
+                histogram.add(scoreDoc.score);
+            }
+            if (histogram.count() >= minSamples) {
+                learn(subQueryIndex, histogram);
+            }
+        }
+
+        private synchronized void learn(final int subQueryIndex, final ScoreHistogram histogram) {
+            // other thread may have learned scores from the same samples
+            if (histogram.count() < minSamples) {
+                return;
+            }
+            float[][] learnedScores = Arrays.copyOf(learnedScoresPerSubQuery, Math.max(learnedScoresPerSubQuery.length, subQueryIndex + 1));
+            learnedScores[subQueryIndex] = new float[] { histogram.quantile(lowerQuantile), histogram.quantile(upperQuantile) };
+            learnedScoresPerSubQuery = learnedScores;
+            // scores recorded so far weigh half as much as scores recorded from now on
+            histogram.decay();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ROOT,
+            "[%s=%d, %s=%s, %s=%s]",
+            PARAM_NAME_MIN_SAMPLES,
+            minSamples,
+            PARAM_NAME_LOWER_QUANTILE,
+            lowerQuantile,
+            PARAM_NAME_UPPER_QUANTILE,
+            upperQuantile
+        );
+    }
+
+    private static int parseMinSamples(final Map<String, Object> learnedBounds) {
+        Object minSamples = learnedBounds.get(PARAM_NAME_MIN_SAMPLES);
+        if (Objects.isNull(minSamples)) {
+            return DEFAULT_MIN_SAMPLES;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(minSamples));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "invalid format for %s: must be a valid integer value", PARAM_NAME_MIN_SAMPLES),
+                e
+            );
+        }
+    }
+
+    private static double parseQuantile(final Map<String, Object> learnedBounds, final String paramName, final double defaultQuantile) {
+        Object quantileObj = learnedBounds.get(paramName);
+        if (Objects.isNull(quantileObj)) {
+            return defaultQuantile;
+        }
+        try {
+            double quantile = Double.parseDouble(String.valueOf(quantileObj));
+            Validate.isTrue(quantile >= 0.0 && quantile <= 1.0, "%s must be a number between 0 and 1", paramName);
+            return quantile;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "invalid format for %s: must be a valid float value", paramName),
+                e
+            );
+        }
+    }
+}
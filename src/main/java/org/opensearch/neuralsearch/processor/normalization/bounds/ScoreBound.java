@@ -17,6 +17,7 @@ public abstract class ScoreBound {
     public static final float MAX_BOUND_SCORE = 10_000f;
     protected static final String PARAM_NAME_BOUND_MODE = "mode";
 
+    @Getter
     protected final boolean enabled;
     @Getter
     protected final BoundMode mode;
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization.bounds;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.opensearch.neuralsearch.processor.normalization.bounds.ScoreBound.MAX_BOUND_SCORE;
+
+/**
+ * Streaming sketch of score distribution based on a fixed histogram with logarithmic buckets. Bucket of a score is
+ * defined by the magnitude of the score, so any quantile is estimated with the same relative error regardless of the range
+ * of scores. Memory is fixed and does not depend on number of recorded scores, scores can be recorded concurrently.
+ */
+public final class ScoreHistogram {
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // scores with smaller magnitude are counted as zero
+    private static final double MIN_TRACKED_SCORE = 1e-6;
+    private static final int MIN_INDEX = index(MIN_TRACKED_SCORE);
+    private static final int MAX_INDEX = index(MAX_BOUND_SCORE);
+    private static final int NUM_OF_BUCKETS = MAX_INDEX - MIN_INDEX + 1;
+
+    private final AtomicLongArray positiveCounts = new AtomicLongArray(NUM_OF_BUCKETS);
+    private final AtomicLongArray negativeCounts = new AtomicLongArray(NUM_OF_BUCKETS);
+    private final AtomicLong zeroCount = new AtomicLong();
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Record one score, scores outside of supported range of bounds are counted in the first or last bucket
+     * @param score score to record
+     */
+    public void add(final float score) {
+        if (Float.isNaN(score)) {
+            return;
+        }
+        double magnitude = Math.abs(score);
+        if (magnitude < MIN_TRACKED_SCORE) {
+            zeroCount.incrementAndGet();
+        } else {
+            int bucket = Math.min(index(magnitude), MAX_INDEX) - MIN_INDEX;
+            (score > 0 ? positiveCounts : negativeCounts).incrementAndGet(bucket);
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * @return number of recorded scores
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Halve counts of all buckets, scores recorded before weigh half as much as scores recorded after. Scores may be recorded
+     * concurrently, every bucket is halved atomically
+     */
+    public void decay() {
+        long numOfRemovedScores = 0;
+        for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+            numOfRemovedScores += halve(positiveCounts.getAndUpdate(bucket, bucketCount -> bucketCount / 2));
+            numOfRemovedScores += halve(negativeCounts.getAndUpdate(bucket, bucketCount -> bucketCount / 2));
+        }
+        numOfRemovedScores += halve(zeroCount.getAndUpdate(bucketCount -> bucketCount / 2));
+        count.addAndGet(-numOfRemovedScores);
+    }
+
+    /**
+     * Estimate score at the quantile of recorded scores
+     * @param quantile quantile between 0 and 1, 0 is the smallest and 1 is the largest recorded score
+     * @return estimated score with relative error of about one percent, or NaN if no scores are recorded
+     */
+    public float quantile(final double quantile) {
+        long totalCount = count();
+        if (totalCount == 0) {
+            return Float.NaN;
+        }
+        long rank = (long) (quantile * (totalCount - 1));
+        long cumulativeCount = 0;
+        // negative scores go first starting from the one with the largest magnitude
+        for (int bucket = NUM_OF_BUCKETS - 1; bucket >= 0; bucket--) {
+            cumulativeCount += negativeCounts.get(bucket);
+            if (cumulativeCount > rank) {
+                return -value(bucket);
+            }
+        }
+        cumulativeCount += zeroCount.get();
+        if (cumulativeCount > rank) {
+            return 0.0f;
+        }
+        int lastNonEmptyBucket = -1;
+        for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+            long bucketCount = positiveCounts.get(bucket);
+            if (bucketCount == 0) {
+                continue;
+            }
+            lastNonEmptyBucket = bucket;
+            cumulativeCount += bucketCount;
+            if (cumulativeCount > rank) {
+                return value(bucket);
+            }
+        }
+        // counts may be updated concurrently with the scan, the largest recorded score is the best estimate in such case
+        return lastNonEmptyBucket >= 0 ? value(lastNonEmptyBucket) : 0.0f;
+    }
+
+    // number of scores that are removed when the count is halved
+    private static long halve(final long bucketCount) {
+        return bucketCount - bucketCount / 2;
+    }
+
+    private static int index(final double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / LOG_GAMMA);
+    }
+
+    private static float value(final int bucket) {
+        return (float) (2 * Math.pow(GAMMA, bucket + MIN_INDEX) / (GAMMA + 1));
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.pagination;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchPhaseContext;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflowExecuteRequest;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.query.QuerySearchResult;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Coordinator level cache of fused hybrid query results for pagination with point in time. Results of the same query
+ * in the same point in time are the same on every page, so the first page caches fused and ordered results of every
+ * shard to the full pagination depth, and next pages take them from the cache instead of normalizing and combining
+ * shard results again. Entries expire after the configured time or the keep alive of the point in time, whichever is
+ * shorter, total size of entries is limited by the memory budget. Ranking is fused once and every page materializes only
+ * documents that can get into the page.
+ * Shards skip the query phase of next pages with their own cache of query results, see
+ * {@link org.opensearch.neuralsearch.search.query.HybridQueryResultsCache}. Results are cached only for pagination with
+ * point in time, search pipelines are not called for next pages of scroll, so results of scroll are fused on shards, see
+ * {@link org.opensearch.neuralsearch.search.query.HybridScrollResults}.
+ */
+@Log4j2
+public class FusedResultsCache {
+    // size of doc id and score of one document
+    private static final long SCORE_DOC_SIZE_IN_BYTES = Integer.BYTES + Float.BYTES;
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 256;
+
+    private final BooleanSupplier isEnabled;
+    private final LongSupplier nanoTimeSupplier;
+    private final TimeValue ttl;
+    private final Cache<CursorKey, FusedResults> cache;
+
+    public FusedResultsCache(
+        final BooleanSupplier isEnabled,
+        final TimeValue ttl,
+        final ByteSizeValue maxSize,
+        final LongSupplier nanoTimeSupplier
+    ) {
+        this.isEnabled = isEnabled;
+        this.ttl = ttl;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.cache = CacheBuilder.<CursorKey, FusedResults>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .weigher((key, fusedResults) -> key.getSizeInBytes() + fusedResults.getSizeInBytes())
+            .setExpireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Create cache configured by node settings
+     * @param settings node settings
+     * @param settingsAccessor accessor of dynamic settings
+     * @return cache of fused results
+     */
+    public static FusedResultsCache create(final Settings settings, final NeuralSearchSettingsAccessor settingsAccessor) {
+        return new FusedResultsCache(
+            settingsAccessor::isHybridPaginationCursorEnabled,
+            NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_TTL.get(settings),
+            NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_MAX_SIZE.get(settings),
+            System::nanoTime
+        );
+    }
+
+    /**
+     * Create cache that never keeps results
+     * @return disabled cache
+     */
+    public static FusedResultsCache disabled() {
+        return new FusedResultsCache(
+            () -> false,
+            NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_TTL.getDefault(Settings.EMPTY),
+            ByteSizeValue.ZERO,
+            System::nanoTime
+        );
+    }
+
+    /**
+     * Get key of fused results of the request. Only plain paginated search with point in time is cached, results of
+     * the same query are then the same on every page.
+     * @param request request of normalization workflow
+     * @return key of cached results, or empty if results of request can't be cached
+     */
+    public Optional<CursorKey> getCursorKey(final NormalizationProcessorWorkflowExecuteRequest request) {
+        if (isEnabled.getAsBoolean() == false || request.isExplain() || request.getFetchSearchResultOptional().isPresent()) {
+            return Optional.empty();
+        }
+        SearchPhaseContext searchPhaseContext = request.getSearchPhaseContext();
+        if (Objects.isNull(searchPhaseContext) || Objects.isNull(searchPhaseContext.getRequest())) {
+            return Optional.empty();
+        }
+        SearchRequest searchRequest = searchPhaseContext.getRequest();
+        SearchSourceBuilder source = searchRequest.source();
+        if (Objects.isNull(source)
+            || Objects.isNull(source.pointInTimeBuilder())
+            || Objects.nonNull(searchRequest.scroll())
+            || Objects.nonNull(source.collapse())
+            || Objects.nonNull(source.sorts())
+            || source.profile()) {
+            return Optional.empty();
+        }
+        // pages differ only by from and size, keep alive of point in time can be extended by every page
+        SearchSourceBuilder sourceOfAllPages = source.shallowCopy().from(0).size(0).pointInTimeBuilder(null);
+        return Optional.of(
+            new CursorKey(
+                source.pointInTimeBuilder().getId(),
+                sourceOfAllPages.toString(),
+                request.getNormalizationTechnique(),
+                request.getCombinationTechnique()
+            )
+        );
+    }
+
+    /**
+     * Replace results of every shard with cached fused results. Fused results are ordered by score in every shard, a document
+     * at position n of a shard is at position n or later in the results of all shards, so only documents at positions below
+     * the top N of the page can get into the page and only those are set to query results.
+     * @param cursorKey key of cached results
+     * @param querySearchResults results of query phase of every shard
+     * @param topN number of top documents of each shard that can get into the page, 0 if all documents are set
+     * @return true if cached results of every shard are found and set to query results
+     */
+    public boolean restore(final CursorKey cursorKey, final List<QuerySearchResult> querySearchResults, final int topN) {
+        FusedResults fusedResults = cache.get(cursorKey);
+        if (Objects.isNull(fusedResults)) {
+            return false;
+        }
+        if (fusedResults.getExpirationTimeInNanos() - nanoTimeSupplier.getAsLong() <= 0) {
+            // point in time may have expired
+            cache.invalidate(cursorKey);
+            return false;
+        }
+        ShardResults[] resultsPerShard = new ShardResults[querySearchResults.size()];
+        for (int i = 0; i < querySearchResults.size(); i++) {
+            QuerySearchResult querySearchResult = querySearchResults.get(i);
+            if (Objects.isNull(querySearchResult) || Objects.isNull(querySearchResult.getSearchShardTarget())) {
+                return false;
+            }
+            SearchShard searchShard = SearchShard.createSearchShard(querySearchResult.getSearchShardTarget());
+            resultsPerShard[i] = fusedResults.getResultsPerShard().get(searchShard);
+            if (Objects.isNull(resultsPerShard[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < querySearchResults.size(); i++) {
+            QuerySearchResult querySearchResult = querySearchResults.get(i);
+            querySearchResult.topDocs(resultsPerShard[i].toTopDocs(topN), querySearchResult.sortValueFormats());
+        }
+        return true;
+    }
+
+    /**
+     * Cache fused results of every shard
+     * @param cursorKey key of results
+     * @param querySearchResults results of every shard after normalization and combination
+     * @param keepAlive keep alive of point in time of the request, can be null
+     */
+    public void put(final CursorKey cursorKey, final List<QuerySearchResult> querySearchResults, final TimeValue keepAlive) {
+        Map<SearchShard, ShardResults> resultsPerShard = new HashMap<>(querySearchResults.size());
+        long numOfScoreDocs = 0;
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            if (Objects.isNull(querySearchResult) || Objects.isNull(querySearchResult.getSearchShardTarget())) {
+                return;
+            }
+            ShardResults shardResults = ShardResults.of(querySearchResult.topDocs());
+            resultsPerShard.put(SearchShard.createSearchShard(querySearchResult.getSearchShardTarget()), shardResults);
+            numOfScoreDocs += shardResults.docs.length;
+        }
+        long timeToLiveInNanos = Objects.isNull(keepAlive) ? ttl.nanos() : Math.min(ttl.nanos(), keepAlive.nanos());
+        FusedResults fusedResults = new FusedResults(
+            resultsPerShard,
+            nanoTimeSupplier.getAsLong() + timeToLiveInNanos,
+            ENTRY_OVERHEAD_IN_BYTES * resultsPerShard.size() + SCORE_DOC_SIZE_IN_BYTES * numOfScoreDocs
+        );
+        cache.put(cursorKey, fusedResults);
+        log.debug("cached fused results of {} shards with {} documents", resultsPerShard.size(), numOfScoreDocs);
+    }
+
+    /**
+     * @return number of cached entries
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Get keep alive of point in time of the request
+     * @param request request of normalization workflow
+     * @return keep alive or null if it's not set
+     */
+    public static TimeValue getKeepAlive(final NormalizationProcessorWorkflowExecuteRequest request) {
+        PointInTimeBuilder pointInTimeBuilder = request.getSearchPhaseContext().getRequest().source().pointInTimeBuilder();
+        return pointInTimeBuilder.getKeepAlive();
+    }
+
+    /**
+     * Key of fused results, techniques are compared by identity so every search pipeline has own entries
+     */
+    @Value
+    public static class CursorKey {
+        String pointInTimeId;
+        String searchSource;
+        ScoreNormalizationTechnique normalizationTechnique;
+        ScoreCombinationTechnique combinationTechnique;
+
+        long getSizeInBytes() {
+            return 2L * (pointInTimeId.length() + searchSource.length());
+        }
+    }
+
+    @Value
+    private static class FusedResults {
+        Map<SearchShard, ShardResults> resultsPerShard;
+        long expirationTimeInNanos;
+        long sizeInBytes;
+    }
+
+    /**
+     * Fused results of one shard kept as columns of doc ids and scores. Score docs are owned by the search response of
+     * every page, they are created from columns on every read.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ShardResults {
+        private final TotalHits totalHits;
+        private final float maxScore;
+        private final int shardIndex;
+        private final int[] docs;
+        private final float[] scores;
+
+        static ShardResults of(final TopDocsAndMaxScore topDocsAndMaxScore) {
+            ScoreDoc[] scoreDocs = topDocsAndMaxScore.topDocs.scoreDocs;
+            int[] docs = new int[scoreDocs.length];
+            float[] scores = new float[scoreDocs.length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                docs[i] = scoreDocs[i].doc;
+                scores[i] = scoreDocs[i].score;
+            }
+            // all documents of the shard have the same shard index
+            int shardIndex = scoreDocs.length > 0 ? scoreDocs[0].shardIndex : -1;
+            return new ShardResults(topDocsAndMaxScore.topDocs.totalHits, topDocsAndMaxScore.maxScore, shardIndex, docs, scores);
+        }
+
+        TopDocsAndMaxScore toTopDocs(final int topN) {
+            int numOfScoreDocs = topN > 0 ? Math.min(topN, docs.length) : docs.length;
+            ScoreDoc[] scoreDocs = new ScoreDoc[numOfScoreDocs];
+            for (int i = 0; i < numOfScoreDocs; i++) {
+                scoreDocs[i] = new ScoreDoc(docs[i], scores[i], shardIndex);
+            }
+            return new TopDocsAndMaxScore(new TopDocs(totalHits, scoreDocs), maxScore);
+        }
+    }
+}
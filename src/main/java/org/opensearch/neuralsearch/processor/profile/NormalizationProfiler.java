@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.profile;
+
+import lombok.Getter;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.query.QueryProfileShardResult;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Profiler for normalization and combination of hybrid query results on the coordinator node. Time of every phase is
+ * recorded only if search request has profiling enabled, otherwise phases are executed as is.
+ * Recorded timings are added as a separate node to the query profile of the first shard that has profile results,
+ * per sub-query timings of the shard level execution are already part of the query profile tree of each shard.
+ */
+public class NormalizationProfiler {
+    public static final String PROFILE_TYPE = "HybridScoreNormalization";
+    public static final String PROFILE_DESCRIPTION = "normalization and combination of hybrid query results on coordinator node";
+    static final String HITS_PER_SUB_QUERY = "hits_per_sub_query";
+    static final String NUM_OF_SHARDS = "num_of_shards";
+    static final String NORMALIZATION_TECHNIQUE = "normalization_technique";
+    static final String COMBINATION_TECHNIQUE = "combination_technique";
+
+    private static final NormalizationProfiler DISABLED = new NormalizationProfiler(false);
+
+    /**
+     * Phases of normalization workflow that are timed by the profiler
+     */
+    public enum TimingType {
+        NORMALIZE,
+        COMBINE,
+        FETCH_REORDER;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Getter
+    private final boolean enabled;
+    private final Map<TimingType, Long> timings = new EnumMap<>(TimingType.class);
+    private final Map<String, Object> debug = new HashMap<>();
+
+    private NormalizationProfiler(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Create profiler
+     * @param enabled true if search request has profiling enabled
+     * @return profiler that records timings, or profiler that doesn't record anything if profiling is disabled
+     */
+    public static NormalizationProfiler create(final boolean enabled) {
+        return enabled ? new NormalizationProfiler(true) : DISABLED;
+    }
+
+    /**
+     * Run the phase of normalization workflow and record its time
+     * @param timingType phase of the workflow
+     * @param phase code of the phase
+     */
+    public void time(final TimingType timingType, final Runnable phase) {
+        time(timingType, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the phase of normalization workflow that produces a result and record its time
+     * @param timingType phase of the workflow
+     * @param phase code of the phase
+     * @return result of the phase
+     */
+    public <T> T time(final TimingType timingType, final Supplier<T> phase) {
+        if (enabled == false) {
+            return phase.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            timings.merge(timingType, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Record information about the input of normalization: number of shards and number of hits of each sub-query across all shards
+     * @param queryTopDocs compound top docs of all shards
+     */
+    public void recordQueryTopDocs(final List<CompoundTopDocs> queryTopDocs) {
+        if (enabled == false) {
+            return;
+        }
+        List<Long> hitsPerSubQuery = new ArrayList<>();
+        for (CompoundTopDocs compoundTopDocs : queryTopDocs) {
+            List<TopDocs> topDocsPerSubQuery = compoundTopDocs.getTopDocs();
+            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+                long numOfHits = topDocsPerSubQuery.get(subQueryIndex).scoreDocs.length;
+                if (subQueryIndex < hitsPerSubQuery.size()) {
+                    hitsPerSubQuery.set(subQueryIndex, hitsPerSubQuery.get(subQueryIndex) + numOfHits);
+                } else {
+                    hitsPerSubQuery.add(numOfHits);
+                }
+            }
+        }
+        debug.put(NUM_OF_SHARDS, queryTopDocs.size());
+        debug.put(HITS_PER_SUB_QUERY, hitsPerSubQuery);
+    }
+
+    /**
+     * Record names of techniques used for normalization and combination
+     */
+    public void recordTechniques(
+        final ScoreNormalizationTechnique normalizationTechnique,
+        final ScoreCombinationTechnique combinationTechnique
+    ) {
+        if (enabled == false) {
+            return;
+        }
+        if (Objects.nonNull(normalizationTechnique)) {
+            debug.put(NORMALIZATION_TECHNIQUE, normalizationTechnique.techniqueName());
+        }
+        if (Objects.nonNull(combinationTechnique)) {
+            debug.put(COMBINATION_TECHNIQUE, combinationTechnique.techniqueName());
+        }
+    }
+
+    /**
+     * Add recorded timings to the profile results of the first shard that has them
+     * @param querySearchResults query results of all shards
+     */
+    public void addToProfileResults(final List<QuerySearchResult> querySearchResults) {
+        if (enabled == false) {
+            return;
+        }
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            if (querySearchResult.hasProfileResults() == false) {
+                continue;
+            }
+            ProfileShardResult shardResult = querySearchResult.consumeProfileResult();
+            querySearchResult.profileResults(addProfileResult(shardResult));
+            return;
+        }
+    }
+
+    /**
+     * @return profile result with timings of all phases, total time is a sum of all phase timings
+     */
+    ProfileResult toProfileResult() {
+        Map<String, Long> breakdown = new HashMap<>();
+        long totalTime = 0;
+        for (TimingType timingType : TimingType.values()) {
+            long time = timings.getOrDefault(timingType, 0L);
+            breakdown.put(timingType.toString(), time);
+            totalTime += time;
+        }
+        return new ProfileResult(PROFILE_TYPE, PROFILE_DESCRIPTION, breakdown, new HashMap<>(debug), totalTime, List.of());
+    }
+
+    private ProfileShardResult addProfileResult(final ProfileShardResult shardResult) {
+        List<QueryProfileShardResult> queryProfileShardResults = new ArrayList<>(shardResult.getQueryProfileResults());
+        if (queryProfileShardResults.isEmpty()) {
+            return shardResult;
+        }
+        QueryProfileShardResult queryProfileShardResult = queryProfileShardResults.getFirst();
+        List<ProfileResult> queryResults = new ArrayList<>(queryProfileShardResult.getQueryResults());
+        queryResults.add(toProfileResult());
+        QueryProfileShardResult updatedQueryProfileShardResult = new QueryProfileShardResult(
+            queryResults,
+            queryProfileShardResult.getRewriteTime(),
+            queryProfileShardResult.getCollectorResult()
+        );
+        queryProfileShardResults.set(0, updatedQueryProfileShardResult);
+        return new ProfileShardResult(queryProfileShardResults, shardResult.getAggregationProfileResults(), shardResult.getNetworkTime());
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.twophase;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+/**
+ * Online statistics of the two-phase rescore window of one neural_sparse_two_phase_processor, so of one search pipeline.
+ * For a sample of queries positions of the true top documents in the results of the phase one query are recorded, a true top
+ * document is missed by the rescore if its position is beyond the window. Window expansion is the smallest one at which
+ * the mean recall of true top documents over recorded queries reaches the recall target.
+ */
+public final class AdaptiveTwoPhaseWindow {
+    public static final String PARAM_NAME_RECALL_TARGET = "recall_target";
+    public static final String PARAM_NAME_SAMPLE_RATE = "sample_rate";
+    public static final String PARAM_NAME_MIN_SAMPLES = "min_samples";
+    public static final double DEFAULT_RECALL_TARGET = 0.95;
+    public static final double DEFAULT_SAMPLE_RATE = 0.01;
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+    // only recent queries are kept, window follows changes of queries and data
+    private static final int MAX_SAMPLES = 200;
+
+    @Getter
+    private final double recallTarget;
+    @Getter
+    private final double sampleRate;
+    @Getter
+    private final int minSamples;
+    private final DoubleSupplier random;
+    // window sizes needed for every true top document of the query, divided by number of true top documents, sorted
+    private final float[][] samples = new float[MAX_SAMPLES][];
+    private int numOfSamples;
+    private int nextSample;
+    private volatile float expansion = Float.NaN;
+
+    /**
+     * Constructs adaptive window from a map of parameters
+     * @param config the map containing adaptive window parameters
+     * @param random supplier of random numbers in the range [0, 1) that selects sampled queries
+     */
+    public AdaptiveTwoPhaseWindow(final Map<String, Object> config, final DoubleSupplier random) {
+        this(
+            parseDouble(config, PARAM_NAME_RECALL_TARGET, DEFAULT_RECALL_TARGET),
+            parseDouble(config, PARAM_NAME_SAMPLE_RATE, DEFAULT_SAMPLE_RATE),
+            parseInt(config, PARAM_NAME_MIN_SAMPLES, DEFAULT_MIN_SAMPLES),
+            random
+        );
+    }
+
+    /**
+     * Constructs adaptive window with specified parameters
+     * @param recallTarget mean recall of true top documents that the window must reach
+     * @param sampleRate fraction of queries for which positions of true top documents are recorded
+     * @param minSamples number of recorded queries before the window is adapted
+     * @param random supplier of random numbers in the range [0, 1) that selects sampled queries
+     */
+    public AdaptiveTwoPhaseWindow(final double recallTarget, final double sampleRate, final int minSamples, final DoubleSupplier random) {
+        Validate.isTrue(recallTarget > 0.0 && recallTarget <= 1.0, "%s must be in the range (0, 1]", PARAM_NAME_RECALL_TARGET);
+        Validate.isTrue(sampleRate > 0.0 && sampleRate <= 1.0, "%s must be in the range (0, 1]", PARAM_NAME_SAMPLE_RATE);
+        Validate.isTrue(
+            minSamples > 0 && minSamples <= MAX_SAMPLES,
+            "%s must be in the range [1, %d]",
+            PARAM_NAME_MIN_SAMPLES,
+            MAX_SAMPLES
+        );
+        this.recallTarget = recallTarget;
+        this.sampleRate = sampleRate;
+        this.minSamples = minSamples;
+        this.random = random;
+    }
+
+    /**
+     * @return true if positions of true top documents of the current query must be recorded
+     */
+    public boolean shouldSample() {
+        return random.getAsDouble() < sampleRate;
+    }
+
+    /**
+     * Get window expansion that reaches the recall target
+     * @param defaultExpansion expansion that is used until enough queries are recorded
+     * @return window expansion, at least 1
+     */
+    public float getExpansion(final float defaultExpansion) {
+        float learnedExpansion = expansion;
+        return Float.isNaN(learnedExpansion) ? defaultExpansion : learnedExpansion;
+    }
+
+    /**
+     * Record positions of true top documents of one query
+     * @param phaseOnePositions position of every true top document in results of the phase one query, -1 if it is not in results
+     * @param windowSize window size that is used for the query
+     */
+    public void record(final int[] phaseOnePositions, final int windowSize) {
+        int numOfTopDocs = phaseOnePositions.length;
+        if (numOfTopDocs == 0) {
+            return;
+        }
+        EventStatsManager.increment(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_PROBES);
+        float[] requiredExpansions = new float[numOfTopDocs];
+        int numOfFoundInWindow = 0;
+        for (int i = 0; i < numOfTopDocs; i++) {
+            int position = phaseOnePositions[i];
+            // document that is not found can't be reached by any window
+            requiredExpansions[i] = position < 0 ? Float.POSITIVE_INFINITY : (float) (position + 1) / numOfTopDocs;
+            if (position >= 0 && position < windowSize) {
+                numOfFoundInWindow++;
+            }
+        }
+        if ((double) numOfFoundInWindow / numOfTopDocs < recallTarget) {
+            EventStatsManager.increment(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_RECALL_MISSES);
+        }
+        Arrays.sort(requiredExpansions);
+        addSample(requiredExpansions);
+    }
+
+    private void addSample(final float[] requiredExpansions) {
+        float updatedExpansion;
+        synchronized (this) {
+            samples[nextSample] = requiredExpansions;
+            nextSample = (nextSample + 1) % MAX_SAMPLES;
+            numOfSamples = Math.min(numOfSamples + 1, MAX_SAMPLES);
+            if (numOfSamples < minSamples) {
+                return;
+            }
+            updatedExpansion = Math.max(1.0f, computeExpansion());
+            expansion = updatedExpansion;
+        }
+        // windows of all pipelines add to the same counters, expansion of one pipeline is only kept by its window
+        EventStatsManager.increment(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES);
+        EventStatsManager.add(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXPANSION_PERCENT_TOTAL, Math.round(updatedExpansion * 100.0));
+    }
+
+    /*
+    Mean recall at expansion e is the mean over queries of the fraction of true top documents with required expansion <= e.
+    Every true top document of a query adds 1 / (number of true top documents of the query * number of queries) to the mean
+    recall, documents of all queries are taken in the order of required expansion until the recall target is reached.
+     */
+    private float computeExpansion() {
+        int numOfDocs = 0;
+        for (int i = 0; i < numOfSamples; i++) {
+            numOfDocs += samples[i].length;
+        }
+        float[] requiredExpansions = new float[numOfDocs];
+        double[] recallWeights = new double[numOfDocs];
+        Integer[] order = new Integer[numOfDocs];
+        int doc = 0;
+        for (int i = 0; i < numOfSamples; i++) {
+            for (float requiredExpansion : samples[i]) {
+                requiredExpansions[doc] = requiredExpansion;
+                recallWeights[doc] = 1.0 / ((double) samples[i].length * numOfSamples);
+                order[doc] = doc;
+                doc++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(requiredExpansions[a], requiredExpansions[b]));
+        double recall = 0.0;
+        float maxFiniteExpansion = 1.0f;
+        for (int i : order) {
+            if (Float.isInfinite(requiredExpansions[i])) {
+                break;
+            }
+            maxFiniteExpansion = requiredExpansions[i];
+            recall += recallWeights[i];
+            // tolerance for the rounding error of the sum
+            if (recall >= recallTarget - 1e-9) {
+                return requiredExpansions[i];
+            }
+        }
+        // target can't be reached, documents that are not in the results of the phase one query can't be rescored
+        return maxFiniteExpansion;
+    }
+
+    private static double parseDouble(final Map<String, Object> config, final String paramName, final double defaultValue) {
+        Object value = config.get(paramName);
+        if (Objects.isNull(value)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "invalid format for %s: must be a valid float value", paramName),
+                e
+            );
+        }
+    }
+
+    private static int parseInt(final Map<String, Object> config, final String paramName, final int defaultValue) {
+        Object value = config.get(paramName);
+        if (Objects.isNull(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "invalid format for %s: must be a valid integer value", paramName),
+                e
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.twophase;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.Rewriteable;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Finds positions of the true top documents of a query in the results of its phase one query. True top documents are
+ * the top documents of the query with all tokens, both searches run in the background and bypass search pipelines.
+ * Query is rewritten once before the searches, so tokens of neural sparse queries are inferred once and both searches
+ * use the same tokens.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class TwoPhaseWindowProbe {
+    // search pipeline that does nothing, probes must not be processed by the pipeline that started them
+    private static final String NO_PIPELINE = "_none";
+
+    private final Client client;
+    private final NamedXContentRegistry xContentRegistry;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    /**
+     * Copy query, so it can be changed independently of the query of the search request
+     * @param query query to copy
+     * @return copy of the query
+     * @throws IOException if query can't be serialized or parsed
+     */
+    public QueryBuilder copyQuery(final QueryBuilder query) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        query.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        BytesReference bytes = BytesReference.bytes(builder);
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(xContentRegistry, null, bytes.streamInput())) {
+            return AbstractQueryBuilder.parseInnerQueryBuilder(parser);
+        }
+    }
+
+    /**
+     * Search true top documents and results of the phase one query
+     * @param searchRequest search request of the query
+     * @param fullQuery query with all tokens
+     * @param toPhaseOneQuery converts copy of the rewritten query with all tokens to the query with tokens of the phase one
+     * @param numOfTopDocs number of true top documents
+     * @param probeSize number of results of the phase one query, true top documents beyond them are not found
+     * @param onPositions consumer of the position of every true top document in results of the phase one query,
+     *                    -1 if it is not in results
+     */
+    public void probe(
+        final SearchRequest searchRequest,
+        final QueryBuilder fullQuery,
+        final UnaryOperator<QueryBuilder> toPhaseOneQuery,
+        final int numOfTopDocs,
+        final int probeSize,
+        final Consumer<int[]> onPositions
+    ) {
+        ActionListener<SearchResponse> onFailure = ActionListener.wrap(
+            response -> {},
+            e -> log.debug("failed to probe two-phase window of neural sparse query", e)
+        );
+        QueryRewriteContext rewriteContext = new QueryRewriteContext(
+            xContentRegistry,
+            namedWriteableRegistry,
+            client,
+            System::currentTimeMillis
+        );
+        Rewriteable.rewriteAndFetch(fullQuery, rewriteContext, ActionListener.wrap(rewrittenQuery -> {
+            // copy of the rewritten query has its tokens, phase one query is not inferred again
+            QueryBuilder phaseOneQuery = toPhaseOneQuery.apply(copyQuery(rewrittenQuery));
+            client.search(createProbeRequest(searchRequest, rewrittenQuery, numOfTopDocs), ActionListener.wrap(topDocsResponse -> {
+                client.search(createProbeRequest(searchRequest, phaseOneQuery, probeSize), ActionListener.wrap(phaseOneResponse -> {
+                    onPositions.accept(getPositions(topDocsResponse.getHits().getHits(), phaseOneResponse.getHits().getHits()));
+                }, onFailure::onFailure));
+            }, onFailure::onFailure));
+        }, onFailure::onFailure));
+    }
+
+    private SearchRequest createProbeRequest(final SearchRequest searchRequest, final QueryBuilder query, final int size) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(query)
+            .size(size)
+            .fetchSource(false)
+            .trackTotalHits(false);
+        SearchRequest probeRequest = new SearchRequest(searchRequest.indices(), searchSourceBuilder);
+        probeRequest.indicesOptions(searchRequest.indicesOptions());
+        probeRequest.routing(searchRequest.routing());
+        probeRequest.preference(searchRequest.preference());
+        probeRequest.pipeline(NO_PIPELINE);
+        return probeRequest;
+    }
+
+    static int[] getPositions(final SearchHit[] topHits, final SearchHit[] phaseOneHits) {
+        Map<String, Integer> phaseOnePositions = new HashMap<>(phaseOneHits.length);
+        for (int i = 0; i < phaseOneHits.length; i++) {
+            phaseOnePositions.putIfAbsent(getKey(phaseOneHits[i]), i);
+        }
+        int[] positions = new int[topHits.length];
+        for (int i = 0; i < topHits.length; i++) {
+            positions[i] = phaseOnePositions.getOrDefault(getKey(topHits[i]), -1);
+        }
+        return positions;
+    }
+
+    private static String getKey(final SearchHit searchHit) {
+        return searchHit.getIndex() + "/" + searchHit.getId();
+    }
+}
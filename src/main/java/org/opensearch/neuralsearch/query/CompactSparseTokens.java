@@ -0,0 +1,191 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Compact transport encoding of sparse query tokens. Tokens are sorted, and every token is written as the length of the
+ * prefix of UTF-8 bytes it shares with the previous token and the rest of its bytes. Weights are quantized to float16
+ * relative to a per-query scale, the smallest power of two that is not below the largest absolute weight, scaling by a power
+ * of two is exact, so weights keep 11 significant bits. It's more than feature values of rank_features fields keep in the
+ * index. Tokens are decoded into parallel arrays of tokens and weights, and read as an immutable map that is sorted by token.
+ * Shards that get the query without transport must score the same weights, they use {@link #quantize(Map)}, quantized
+ * weights are quantized to themselves.
+ */
+public final class CompactSparseTokens extends AbstractMap<String, Float> {
+    private final String[] tokens;
+    private final float[] weights;
+
+    private CompactSparseTokens(final String[] tokens, final float[] weights) {
+        this.tokens = tokens;
+        this.weights = weights;
+    }
+
+    /**
+     * Write tokens in compact encoding
+     * @param queryTokens tokens and their weights
+     * @param out stream output
+     * @throws IOException if tokens can't be written
+     */
+    public static void writeTo(final Map<String, Float> queryTokens, final StreamOutput out) throws IOException {
+        String[] sortedTokens = queryTokens.keySet().toArray(new String[0]);
+        Arrays.sort(sortedTokens);
+        out.writeVInt(sortedTokens.length);
+        if (sortedTokens.length == 0) {
+            return;
+        }
+        int scaleExponent = getScaleExponent(queryTokens);
+        out.writeInt(scaleExponent);
+        BytesRef previousToken = new BytesRef();
+        for (String token : sortedTokens) {
+            BytesRef tokenBytes = new BytesRef(token);
+            int prefixLength = StringHelper.bytesDifference(previousToken, tokenBytes);
+            out.writeVInt(prefixLength);
+            out.writeVInt(tokenBytes.length - prefixLength);
+            out.writeBytes(tokenBytes.bytes, tokenBytes.offset + prefixLength, tokenBytes.length - prefixLength);
+            out.writeShort(quantize(queryTokens.get(token), scaleExponent));
+            previousToken = tokenBytes;
+        }
+    }
+
+    /**
+     * Quantize weights of tokens the same way as they are quantized when tokens are written in compact encoding
+     * @param queryTokens tokens and their weights
+     * @return tokens sorted by token with weights that are read from compact encoding of the tokens
+     */
+    public static CompactSparseTokens quantize(final Map<String, Float> queryTokens) {
+        if (queryTokens instanceof CompactSparseTokens compactSparseTokens) {
+            return compactSparseTokens;
+        }
+        String[] tokens = queryTokens.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        float[] weights = new float[tokens.length];
+        int scaleExponent = getScaleExponent(queryTokens);
+        for (int i = 0; i < tokens.length; i++) {
+            weights[i] = dequantize(quantize(queryTokens.get(tokens[i]), scaleExponent), scaleExponent);
+        }
+        return new CompactSparseTokens(tokens, weights);
+    }
+
+    /**
+     * Read tokens written in compact encoding
+     * @param in stream input
+     * @return tokens sorted by token
+     * @throws IOException if tokens can't be read
+     */
+    public static CompactSparseTokens readFrom(final StreamInput in) throws IOException {
+        int size = in.readVInt();
+        String[] tokens = new String[size];
+        float[] weights = new float[size];
+        if (size == 0) {
+            return new CompactSparseTokens(tokens, weights);
+        }
+        int scaleExponent = in.readInt();
+        byte[] tokenBytes = new byte[16];
+        for (int i = 0; i < size; i++) {
+            int prefixLength = in.readVInt();
+            int suffixLength = in.readVInt();
+            tokenBytes = ArrayUtil.grow(tokenBytes, prefixLength + suffixLength);
+            in.readBytes(tokenBytes, prefixLength, suffixLength);
+            tokens[i] = new BytesRef(tokenBytes, 0, prefixLength + suffixLength).utf8ToString();
+            weights[i] = dequantize(in.readShort(), scaleExponent);
+        }
+        return new CompactSparseTokens(tokens, weights);
+    }
+
+    @Override
+    public int size() {
+        return tokens.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Float get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? weights[index] : null;
+    }
+
+    @Override
+    public Set<Entry<String, Float>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Float>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < tokens.length;
+                    }
+
+                    @Override
+                    public Entry<String, Float> next() {
+                        if (next >= tokens.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Float> entry = new SimpleImmutableEntry<>(tokens[next], weights[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return tokens.length;
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        if (key instanceof String == false) {
+            return -1;
+        }
+        return Arrays.binarySearch(tokens, (String) key);
+    }
+
+    // exponent of the smallest power of two that is not below the largest absolute finite weight, so every scaled finite
+    // weight is in [-1, 1], infinite and NaN weights are the same in float16. Largest quantized weight is at most that power
+    // of two, so scale of quantized weights is never coarser and quantized weights don't change when quantized again
+    private static int getScaleExponent(final Map<String, Float> queryTokens) {
+        float maxWeight = 0.0f;
+        for (Float weight : queryTokens.values()) {
+            if (Float.isFinite(weight)) {
+                maxWeight = Math.max(maxWeight, Math.abs(weight));
+            }
+        }
+        if (maxWeight == 0.0f) {
+            return 0;
+        }
+        int exponent = Math.getExponent(maxWeight);
+        return Math.scalb(1.0f, exponent) == maxWeight ? exponent : exponent + 1;
+    }
+
+    private static short quantize(final float weight, final int scaleExponent) {
+        return Float.floatToFloat16(Math.scalb(weight, -scaleExponent));
+    }
+
+    private static float dequantize(final short quantizedWeight, final int scaleExponent) {
+        return Math.scalb(Float.float16ToFloat(quantizedWeight), scaleExponent);
+    }
+}
@@ -18,7 +18,9 @@ import java.util.List;
 import java.util.Objects;
 
 /**
- * Bulk scorer for hybrid query
+ * Bulk scorer for hybrid query. Scores of sub-queries are collected in windows of doc ids, only scores of sub-queries
+ * that matched a doc are stored, and sub-queries that have no more docs in the scored range are skipped, so per-window cost
+ * depends on the number of matches rather than on the number of sub-queries.
  */
 public class HybridBulkScorer extends BulkScorer {
     private static final int SHIFT = 12;
@@ -33,11 +35,17 @@ public class HybridBulkScorer extends BulkScorer {
     @Getter
     private final FixedBitSet matching;
     @Getter
-    private final float[][] windowScores;
+    private final HybridSubQueryWindowScores windowScores;
     private final HybridQueryDocIdStream hybridQueryDocIdStream;
     @Getter
     private final int maxDoc;
-    private int[] docIds;
+    private final int[] docIds;
+    // mask of sub-queries that still have docs below the upper bound of the range that is being scored
+    private final FixedBitSet activeSubQueries;
+    // iterator of docs that match the filter shared by all sub-queries, null if hybrid query has no shared filter
+    private final DocIdSetIterator filterIterator;
+    // docs of the current window that match the shared filter
+    private final FixedBitSet filterWindow;
 
     /**
      * Constructor for HybridBulkScorer
@@ -46,6 +54,17 @@ public class HybridBulkScorer extends BulkScorer {
      * @param maxDoc maximum document id
      */
     public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc) {
+        this(scorers, needsScores, maxDoc, null);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer
+     * @param scorers list of scorers for each sub query
+     * @param needsScores whether the scorer needs scores
+     * @param maxDoc maximum document id
+     * @param filterIterator docs that match the filter shared by all sub-queries, null if there is no shared filter
+     */
+    public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc, DocIdSetIterator filterIterator) {
         long cost = 0;
         int numOfQueries = scorers.size();
         this.scorers = new Scorer[numOfQueries];
@@ -61,11 +80,14 @@ public class HybridBulkScorer extends BulkScorer {
         this.hybridSubQueryScorer = new HybridSubQueryScorer(numOfQueries);
         this.needsScores = needsScores;
         this.matching = new FixedBitSet(WINDOW_SIZE);
-        this.windowScores = new float[this.scorers.length][WINDOW_SIZE];
+        this.windowScores = new HybridSubQueryWindowScores(WINDOW_SIZE);
         this.maxDoc = maxDoc;
         this.hybridQueryDocIdStream = new HybridQueryDocIdStream(this);
         this.docIds = new int[numOfQueries];
         Arrays.fill(docIds, DocIdSetIterator.NO_MORE_DOCS);
+        this.activeSubQueries = new FixedBitSet(numOfQueries);
+        this.filterIterator = filterIterator;
+        this.filterWindow = Objects.isNull(filterIterator) ? null : new FixedBitSet(WINDOW_SIZE);
     }
 
     @Override
@@ -74,28 +96,26 @@ public class HybridBulkScorer extends BulkScorer {
         // making sure we are not going over the global limit defined by maxDoc
         max = Math.min(max, maxDoc);
         // advance all scorers to the segment's minimum doc id
-        advance(min, scorers);
-        while (allDocIdsUsed(docIds, max) == false) {
-            scoreWindow(collector, acceptDocs, min, max, docIds);
+        advance(min, max);
+        int topDoc;
+        while ((topDoc = getMinDocIdOfActiveSubQueries()) != DocIdSetIterator.NO_MORE_DOCS) {
+            scoreWindow(collector, acceptDocs, min, max, topDoc);
         }
-        return getNextDocIdCandidate(docIds);
+        return getNextDocIdCandidate();
     }
 
-    private void scoreWindow(LeafCollector collector, Bits acceptDocs, int min, int max, int[] docIds) throws IOException {
-        // find the first document ID below the maximum threshold to establish the next scoring window boundary
-        int topDoc = -1;
-        for (int docId : docIds) {
-            if (docId < max) {
-                topDoc = docId;
-                break;
-            }
-        }
-
-        final int windowBase = topDoc & ~MASK; // take the next match (at random) and find the window where it belongs
+    private void scoreWindow(LeafCollector collector, Bits acceptDocs, int min, int max, int topDoc) throws IOException {
+        // window is built around the smallest doc id across sub-queries, this way docs of other sub-queries are never skipped
+        final int windowBase = topDoc & ~MASK;
         final int windowMin = Math.max(min, windowBase);
         final int windowMax = Math.min(max, windowBase + WINDOW_SIZE);
+        if (Objects.nonNull(filterIterator) && loadFilterWindow(windowMin, windowMax) == false) {
+            // none of the docs in the window match the filter, sub-queries jump to the next doc of the filter
+            skipToNextFilterDoc(max, windowMax);
+            return;
+        }
         // collect doc ids and scores for this window using leaf collector
-        scoreWindowIntoBitSetWithSubqueryScorers(collector, acceptDocs, max, docIds, windowMin, windowMax, windowBase);
+        scoreWindowIntoBitSetWithSubqueryScorers(collector, acceptDocs, max, windowMin, windowMax, windowBase);
     }
 
     /**
@@ -103,7 +123,6 @@ public class HybridBulkScorer extends BulkScorer {
      * @param collector leaf collector for the segment
      * @param acceptDocs bitset with live docs
      * @param max max doc id
-     * @param docIds last used doc ids per scorer
      * @param windowMin min doc id of this collector window
      * @param windowMax max doc id of this collector window
      * @param windowBase offset for this collector window
@@ -113,49 +132,98 @@ public class HybridBulkScorer extends BulkScorer {
         LeafCollector collector,
         Bits acceptDocs,
         int max,
-        int[] docIds,
         int windowMin,
         int windowMax,
         int windowBase
     ) throws IOException {
-        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
-            if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= max) {
-                continue;
-            }
-            DocIdSetIterator it = scorers[subQueryIndex].iterator();
-            int doc = docIds[subQueryIndex];
-            if (doc < windowMin) {
-                doc = it.advance(windowMin);
+        for (int subQueryIndex = nextActiveSubQuery(0); subQueryIndex != DocIdSetIterator.NO_MORE_DOCS;) {
+            if (docIds[subQueryIndex] < windowMax) {
+                scoreSubQueryWindow(subQueryIndex, acceptDocs, max, windowMin, windowMax);
             }
-            while (doc < windowMax) {
-                if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
-                    int d = doc & MASK;
-                    if (needsScores) {
-                        float score = scorers[subQueryIndex].score();
-                        // collect score only in case it's gt competitive score
-                        if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
-                            matching.set(d);
-                            windowScores[subQueryIndex][d] = score;
-                        }
-                    } else {
+            subQueryIndex = nextActiveSubQuery(subQueryIndex + 1);
+        }
+
+        hybridQueryDocIdStream.setBase(windowBase);
+        collector.collect(hybridQueryDocIdStream);
+
+        resetWindowState();
+    }
+
+    /**
+     * Score docs of a single sub-query that belong to the window, sub-query is marked as inactive once it has no more docs
+     * below the upper bound of the scored range
+     */
+    private void scoreSubQueryWindow(int subQueryIndex, Bits acceptDocs, int max, int windowMin, int windowMax) throws IOException {
+        Scorer scorer = scorers[subQueryIndex];
+        DocIdSetIterator it = scorer.iterator();
+        int doc = docIds[subQueryIndex];
+        if (doc < windowMin) {
+            doc = it.advance(windowMin);
+        }
+        // min competitive score is updated by collector only, it cannot change while we're scoring the window
+        final float minScore = hybridSubQueryScorer.getMinScores()[subQueryIndex];
+        while (doc < windowMax) {
+            int d = doc & MASK;
+            if ((Objects.isNull(acceptDocs) || acceptDocs.get(doc)) && (Objects.isNull(filterWindow) || filterWindow.get(d))) {
+                if (needsScores) {
+                    float score = scorer.score();
+                    // collect score only in case it's gt competitive score
+                    if (score > minScore) {
                         matching.set(d);
+                        windowScores.add(d, subQueryIndex, score);
                     }
+                } else {
+                    matching.set(d);
                 }
-                doc = it.nextDoc();
             }
-            docIds[subQueryIndex] = doc;
+            doc = it.nextDoc();
         }
+        docIds[subQueryIndex] = doc;
+        if (doc >= max) {
+            activeSubQueries.clear(subQueryIndex);
+        }
+    }
 
-        hybridQueryDocIdStream.setBase(windowBase);
-        collector.collect(hybridQueryDocIdStream);
+    /**
+     * Set bits of the docs in the window that match the shared filter, filter iterator only moves forward as windows do
+     * @return true if at least one doc of the window matches the filter
+     */
+    private boolean loadFilterWindow(int windowMin, int windowMax) throws IOException {
+        int doc = filterIterator.docID();
+        if (doc < windowMin) {
+            doc = filterIterator.advance(windowMin);
+        }
+        boolean hasMatches = false;
+        while (doc < windowMax) {
+            filterWindow.set(doc & MASK);
+            hasMatches = true;
+            doc = filterIterator.nextDoc();
+        }
+        return hasMatches;
+    }
 
-        resetWindowState();
+    /**
+     * Advance sub-queries that have docs in the window to the next doc that matches the filter
+     */
+    private void skipToNextFilterDoc(int max, int windowMax) throws IOException {
+        final int target = filterIterator.docID();
+        for (int subQueryIndex = nextActiveSubQuery(0); subQueryIndex != DocIdSetIterator.NO_MORE_DOCS;) {
+            if (docIds[subQueryIndex] < windowMax) {
+                int doc = target >= max ? max : target;
+                docIds[subQueryIndex] = scorers[subQueryIndex].iterator().advance(doc);
+                if (docIds[subQueryIndex] >= max) {
+                    activeSubQueries.clear(subQueryIndex);
+                }
+            }
+            subQueryIndex = nextActiveSubQuery(subQueryIndex + 1);
+        }
     }
 
     /**
-     * Advance all scorers to the next document that is >= min
+     * Advance all scorers to the next document that is >= min, and mark sub-queries that have docs below max as active
      */
-    private void advance(int min, Scorer[] scorers) throws IOException {
+    private void advance(int min, int max) throws IOException {
+        activeSubQueries.clear();
         for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
             if (Objects.isNull(scorers[subQueryIndex])) {
                 continue;
@@ -166,36 +234,47 @@ public class HybridBulkScorer extends BulkScorer {
                 doc = it.advance(min);
             }
             docIds[subQueryIndex] = doc;
+            if (doc < max) {
+                activeSubQueries.set(subQueryIndex);
+            }
         }
     }
 
-    private boolean allDocIdsUsed(int[] docsIds, int max) {
-        for (int docId : docsIds) {
-            if (docId < max) {
-                return false;
-            }
+    private int nextActiveSubQuery(int fromIndex) {
+        if (fromIndex >= activeSubQueries.length()) {
+            return DocIdSetIterator.NO_MORE_DOCS;
         }
-        return true;
+        return activeSubQueries.nextSetBit(fromIndex);
     }
 
-    private int getNextDocIdCandidate(final int[] docsIds) {
-        int nextDoc = -1;
-        for (int doc : docsIds) {
-            if (doc != DocIdSetIterator.NO_MORE_DOCS) {
-                nextDoc = Math.max(nextDoc, doc);
-            }
+    private int getMinDocIdOfActiveSubQueries() {
+        int minDoc = DocIdSetIterator.NO_MORE_DOCS;
+        for (int subQueryIndex = nextActiveSubQuery(0); subQueryIndex != DocIdSetIterator.NO_MORE_DOCS;) {
+            minDoc = Math.min(minDoc, docIds[subQueryIndex]);
+            subQueryIndex = nextActiveSubQuery(subQueryIndex + 1);
         }
-        return nextDoc == -1 ? DocIdSetIterator.NO_MORE_DOCS : nextDoc;
+        return minDoc;
+    }
+
+    /**
+     * Next doc id that can match after the scored range, it's the smallest doc id across all sub-queries
+     */
+    private int getNextDocIdCandidate() {
+        int nextDoc = DocIdSetIterator.NO_MORE_DOCS;
+        for (int doc : docIds) {
+            nextDoc = Math.min(nextDoc, doc);
+        }
+        return nextDoc;
     }
 
     /**
      * Reset the internal state for the next window of documents
      */
     private void resetWindowState() {
+        windowScores.reset(matching);
         matching.clear();
-
-        for (float[] windowScore : windowScores) {
-            Arrays.fill(windowScore, 0.0f);
+        if (Objects.nonNull(filterWindow)) {
+            filterWindow.clear();
         }
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Bulk scorer for hybrid query that scores sub-queries of a segment in parallel. There is one task per sub-query per segment:
+ * the task creates the scorer of the sub-query, so the scorer is only used by the thread that created it, and collects
+ * docs and scores of the sub-query into a buffer. Buffers are then scored in windows and passed to the collector on
+ * the calling thread by {@link HybridBulkScorer}, the same as scorers in the sequential mode.
+ */
+public class HybridParallelBulkScorer extends BulkScorer {
+    private final List<Weight> weights;
+    private final LeafReaderContext context;
+    private final boolean needsScores;
+    private final DocIdSetIterator filterIterator;
+    private final long cost;
+    private final TaskExecutor taskExecutor;
+    // scores buffered sub-queries, created by the first call to score
+    private HybridBulkScorer bufferedScorer;
+
+    /**
+     * Constructor for HybridParallelBulkScorer
+     * @param weights weights of sub-queries, null for a sub-query that has no docs in the segment
+     * @param needsScores whether the scorer needs scores
+     * @param context segment that is scored
+     * @param filterIterator docs that match the filter shared by all sub-queries, null if there is no shared filter
+     * @param cost estimated number of docs that match sub-queries
+     * @param taskExecutor executor of the tasks that score sub-queries
+     */
+    public HybridParallelBulkScorer(
+        List<Weight> weights,
+        boolean needsScores,
+        LeafReaderContext context,
+        DocIdSetIterator filterIterator,
+        long cost,
+        TaskExecutor taskExecutor
+    ) {
+        this.weights = weights;
+        this.needsScores = needsScores;
+        this.context = context;
+        this.filterIterator = filterIterator;
+        this.cost = cost;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+        if (Objects.isNull(bufferedScorer)) {
+            // ranges of the segment are scored in increasing order, docs below min of the first range are never scored
+            bufferedScorer = new HybridBulkScorer(collectSubQueryMatches(min), needsScores, context.reader().maxDoc(), filterIterator);
+        }
+        return bufferedScorer.score(collector, acceptDocs, min, max);
+    }
+
+    private List<Scorer> collectSubQueryMatches(int min) throws IOException {
+        List<Callable<Scorer>> tasks = new ArrayList<>(weights.size());
+        for (Weight weight : weights) {
+            tasks.add(() -> Objects.isNull(weight) ? null : collectMatches(weight, min));
+        }
+        return taskExecutor.invokeAll(tasks);
+    }
+
+    /**
+     * Create scorer of the sub-query and collect its docs and scores in the segment starting from min, this method is executed
+     * as a task and the scorer doesn't leave the task
+     */
+    private SubQueryMatches collectMatches(Weight weight, int min) throws IOException {
+        Scorer scorer = weight.scorer(context);
+        if (Objects.isNull(scorer)) {
+            return null;
+        }
+        SubQueryMatches matches = new SubQueryMatches();
+        DocIdSetIterator it = scorer.iterator();
+        for (int doc = it.advance(min); doc != DocIdSetIterator.NO_MORE_DOCS; doc = it.nextDoc()) {
+            matches.add(doc, needsScores ? scorer.score() : 0.0f);
+        }
+        return matches;
+    }
+
+    @Override
+    public long cost() {
+        return cost;
+    }
+
+    /**
+     * Docs and scores of a single sub-query collected by a task, docs are stored in increasing order
+     */
+    private static final class SubQueryMatches extends Scorer {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] docs = new int[INITIAL_CAPACITY];
+        private float[] scores = new float[INITIAL_CAPACITY];
+        private int size;
+        private int position = -1;
+        private float maxScore;
+        private final DocIdSetIterator iterator = new DocIdSetIterator() {
+            @Override
+            public int docID() {
+                return SubQueryMatches.this.docID();
+            }
+
+            @Override
+            public int nextDoc() {
+                position++;
+                return docID();
+            }
+
+            @Override
+            public int advance(int target) {
+                if (position + 1 >= size) {
+                    position = size;
+                    return DocIdSetIterator.NO_MORE_DOCS;
+                }
+                int index = Arrays.binarySearch(docs, position + 1, size, target);
+                position = index >= 0 ? index : -index - 1;
+                return docID();
+            }
+
+            @Override
+            public long cost() {
+                return size;
+            }
+        };
+
+        void add(int doc, float score) {
+            if (size == docs.length) {
+                docs = ArrayUtil.grow(docs, size + 1);
+                scores = ArrayUtil.growExact(scores, docs.length);
+            }
+            docs[size] = doc;
+            scores[size] = score;
+            maxScore = Math.max(maxScore, score);
+            size++;
+        }
+
+        @Override
+        public int docID() {
+            if (position < 0) {
+                return -1;
+            }
+            return position < size ? docs[position] : DocIdSetIterator.NO_MORE_DOCS;
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return iterator;
+        }
+
+        @Override
+        public float score() {
+            return scores[position];
+        }
+
+        @Override
+        public float getMaxScore(int upTo) {
+            return maxScore;
+        }
+    }
+}
@@ -145,6 +145,10 @@ public final class HybridQuery extends Query implements Iterable<Query> {
             }
         }
         buffer.append(")");
+        Query filter = getFilter();
+        if (Objects.nonNull(filter)) {
+            buffer.append(" #").append(filter.toString(field));
+        }
         return buffer.toString();
     }
 
@@ -208,6 +212,10 @@ public final class HybridQuery extends Query implements Iterable<Query> {
         for (Query q : subQueries) {
             q.visit(v);
         }
+        Query filter = getFilter();
+        if (Objects.nonNull(filter)) {
+            filter.visit(queryVisitor.getSubVisitor(BooleanClause.Occur.FILTER, this));
+        }
     }
 
     /**
@@ -221,7 +229,7 @@ public final class HybridQuery extends Query implements Iterable<Query> {
     }
 
     private boolean equalsTo(HybridQuery other) {
-        return Objects.equals(subQueries, other.subQueries);
+        return Objects.equals(subQueries, other.subQueries) && Objects.equals(getFilter(), other.getFilter());
     }
 
     /**
@@ -232,6 +240,7 @@ public final class HybridQuery extends Query implements Iterable<Query> {
     public int hashCode() {
         int h = classHash();
         h = 31 * h + Objects.hashCode(subQueries);
+        h = 31 * h + Objects.hashCode(getFilter());
         return h;
     }
 
@@ -243,6 +252,14 @@ public final class HybridQuery extends Query implements Iterable<Query> {
         return queryContext;
     }
 
+    /**
+     * Returns filter that is shared by all sub-queries
+     * @return shared filter, or null if hybrid query doesn't have it
+     */
+    public Query getFilter() {
+        return Objects.isNull(queryContext) ? null : queryContext.getFilter();
+    }
+
     /**
      * Create the Weight used to score this query
      *
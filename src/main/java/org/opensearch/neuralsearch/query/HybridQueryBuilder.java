@@ -18,15 +18,19 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.Query;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
@@ -34,15 +38,20 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.QueryShardException;
 import org.opensearch.index.query.QueryBuilderVisitor;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
+import org.opensearch.knn.index.query.KNNQueryBuilder;
+
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery;
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForSharedFilterInHybridQuery;
 
 /**
  * Class abstract creation of a Query type "hybrid". Hybrid query will allow execution of multiple sub-queries and
@@ -64,15 +73,67 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
 
     private Integer paginationDepth;
 
-    public static final int MAX_NUMBER_OF_SUB_QUERIES = 5;
+    // filter that is evaluated once per segment and shared by all sub-queries, set only in shared filter mode
+    private QueryBuilder sharedFilter;
+
+    // true once the shared filter is pushed down into k-NN based sub-queries, it's done on rewrite so that sub-queries
+    // of the parsed query stay the same as in the request
+    @Setter(AccessLevel.NONE)
+    private boolean sharedFilterPushedDown;
+
+    public static final int DEFAULT_MAX_NUMBER_OF_SUB_QUERIES = 5;
     private static final int LOWER_BOUND_OF_PAGINATION_DEPTH = 0;
 
+    private static NeuralSearchSettingsAccessor SETTINGS_ACCESSOR;
+
+    public static void initialize(NeuralSearchSettingsAccessor settingsAccessor) {
+        HybridQueryBuilder.SETTINGS_ACCESSOR = settingsAccessor;
+    }
+
+    /**
+     * Get maximum number of sub-queries allowed in hybrid query, value is defined by cluster setting
+     * @return max number of sub-queries
+     */
+    public static int getMaxNumberOfSubQueries() {
+        if (Objects.isNull(SETTINGS_ACCESSOR)) {
+            return DEFAULT_MAX_NUMBER_OF_SUB_QUERIES;
+        }
+        return SETTINGS_ACCESSOR.getHybridQueryMaxSubQueries();
+    }
+
+    /**
+     * Check if sub-queries of hybrid query should be scored in parallel within a segment, value is defined by cluster setting
+     * @return true if parallel scoring of sub-queries is enabled
+     */
+    public static boolean isParallelSubQueryScoringEnabled() {
+        if (Objects.isNull(SETTINGS_ACCESSOR)) {
+            return false;
+        }
+        return SETTINGS_ACCESSOR.isHybridQueryParallelSubQueryScoringEnabled();
+    }
+
+    /**
+     * Check if filter of hybrid query should be shared by sub-queries instead of being pushed down into every sub-query.
+     * Value is defined by cluster setting, shared filter is used only if all nodes in the cluster support it.
+     * @return true if shared filter mode is enabled
+     */
+    public static boolean isSharedFilterEnabled() {
+        if (Objects.isNull(SETTINGS_ACCESSOR)) {
+            return false;
+        }
+        return SETTINGS_ACCESSOR.isHybridQuerySharedFilterEnabled() && isClusterOnOrAfterMinReqVersionForSharedFilterInHybridQuery();
+    }
+
     public HybridQueryBuilder(StreamInput in) throws IOException {
         super(in);
         queries.addAll(readQueries(in));
         if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
             paginationDepth = in.readOptionalInt();
         }
+        if (isClusterOnOrAfterMinReqVersionForSharedFilterInHybridQuery()) {
+            sharedFilter = in.readOptionalNamedWriteable(QueryBuilder.class);
+            sharedFilterPushedDown = in.readBoolean();
+        }
     }
 
     /**
@@ -86,6 +147,10 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
             out.writeOptionalInt(paginationDepth);
         }
+        if (isClusterOnOrAfterMinReqVersionForSharedFilterInHybridQuery()) {
+            out.writeOptionalNamedWriteable(sharedFilter);
+            out.writeBoolean(sharedFilterPushedDown);
+        }
     }
 
     /**
@@ -104,7 +169,8 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
     /**
      * Function to support filter on HybridQueryBuilder filter.
      * If the filter is null, then we do nothing and return.
-     * Otherwise, we push down the filter to queries list.
+     * Otherwise, we push down the filter to queries list. In shared filter mode the filter is kept at the hybrid query level,
+     * it's pushed down to k-NN based sub-queries on rewrite, those need the filter for their pre-filtering.
      * @param filter the filter parameter
      * @return HybridQueryBuilder itself
      */
@@ -112,15 +178,32 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (validateFilterParams(filter) == false) {
             return this;
         }
+        boolean isSharedFilter = isSharedFilterEnabled();
         ListIterator<QueryBuilder> iterator = queries.listIterator();
         while (iterator.hasNext()) {
             QueryBuilder query = iterator.next();
+            if (isSharedFilter && (sharedFilterPushedDown == false || isFilterRequiredBySubQuery(query) == false)) {
+                continue;
+            }
             // set the query again because query.filter(filter) can return new query.
             iterator.set(query.filter(filter));
         }
+        if (isSharedFilter) {
+            sharedFilter = Objects.isNull(sharedFilter) ? filter : sharedFilter.filter(filter);
+        }
         return this;
     }
 
+    /**
+     * k-NN based queries apply filter during the vector search, for such queries result is different if the filter is applied
+     * after the search, so filter must always be pushed down to them
+     */
+    private static boolean isFilterRequiredBySubQuery(QueryBuilder queryBuilder) {
+        return queryBuilder instanceof NeuralQueryBuilder
+            || queryBuilder instanceof NeuralKNNQueryBuilder
+            || queryBuilder instanceof KNNQueryBuilder;
+    }
+
     /**
      * Create builder object with a content of this hybrid query
      * @param builder
@@ -132,13 +215,22 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         builder.startObject(NAME);
         builder.startArray(QUERIES_FIELD.getPreferredName());
         for (QueryBuilder queryBuilder : queries) {
-            queryBuilder.toXContent(builder, params);
+            if (sharedFilterPushedDown && isFilterRequiredBySubQuery(queryBuilder) == false) {
+                // rewritten query has the shared filter in k-NN based sub-queries only, it's written as filter of every
+                // sub-query so that parsed query isn't filtered twice
+                new BoolQueryBuilder().must(queryBuilder).filter(sharedFilter).toXContent(builder, params);
+            } else {
+                queryBuilder.toXContent(builder, params);
+            }
         }
         builder.endArray();
         // TODO https://github.com/opensearch-project/neural-search/issues/1097
         if (Objects.nonNull(paginationDepth)) {
             builder.field(PAGINATION_DEPTH_FIELD.getPreferredName(), paginationDepth);
         }
+        if (Objects.nonNull(sharedFilter) && sharedFilterPushedDown == false) {
+            builder.field(FILTER_FIELD.getPreferredName(), sharedFilter);
+        }
         printBoostAndQueryName(builder);
         builder.endObject();
     }
@@ -156,7 +248,11 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             return Queries.newMatchNoDocsQuery(String.format(Locale.ROOT, "no clauses for %s query", NAME));
         }
         validatePaginationDepth(paginationDepth, queryShardContext);
-        HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(paginationDepth).build();
+        HybridQueryContext hybridQueryContext = HybridQueryContext.builder()
+            .paginationDepth(paginationDepth)
+            .parallelSubQueryScoring(isParallelSubQueryScoringEnabled())
+            .filter(Objects.isNull(sharedFilter) ? null : sharedFilter.toQuery(queryShardContext))
+            .build();
         return new HybridQuery(queryCollection, hybridQueryContext);
     }
 
@@ -221,8 +317,9 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
                 }
             } else if (token == XContentParser.Token.START_ARRAY) {
                 if (QUERIES_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    final int maxNumberOfSubQueries = getMaxNumberOfSubQueries();
                     while (token != XContentParser.Token.END_ARRAY) {
-                        if (queries.size() == MAX_NUMBER_OF_SUB_QUERIES) {
+                        if (queries.size() == maxNumberOfSubQueries) {
                             throw new ParsingException(
                                 parser.getTokenLocation(),
                                 String.format(Locale.ROOT, "Number of sub-queries exceeds maximum supported by [%s] query", NAME)
@@ -276,11 +373,7 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
 
         boolean hasInnerHits = false;
         for (QueryBuilder query : queries) {
-            if (filter == null) {
-                compoundQueryBuilder.add(query);
-            } else {
-                compoundQueryBuilder.add(query.filter(filter));
-            }
+            compoundQueryBuilder.add(query);
 
             // Check if children have inner hits for stats
             if (hasInnerHits == false) {
@@ -290,6 +383,8 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             }
         }
 
+        compoundQueryBuilder.filter(filter);
+
         boolean hasFilter = filter != null;
         boolean hasPagination = paginationDepth != null;
         updateQueryStats(hasFilter, hasPagination, hasInnerHits);
@@ -299,13 +394,28 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
     protected QueryBuilder doRewrite(QueryRewriteContext queryShardContext) throws IOException {
         HybridQueryBuilder newBuilder = new HybridQueryBuilder();
         boolean changed = false;
+        boolean pushDownSharedFilter = Objects.nonNull(sharedFilter) && sharedFilterPushedDown == false;
         for (QueryBuilder query : queries) {
-            QueryBuilder result = query.rewrite(queryShardContext);
+            QueryBuilder subQuery = query;
+            if (pushDownSharedFilter && isFilterRequiredBySubQuery(query)) {
+                // filter() changes the query in place, filter is pushed down to the copy so this builder stays the same
+                subQuery = copyQueryBuilder(query, queryShardContext.getWriteableRegistry()).filter(sharedFilter);
+                newBuilder.sharedFilterPushedDown = true;
+            }
+            QueryBuilder result = subQuery.rewrite(queryShardContext);
             if (result != query) {
                 changed = true;
             }
             newBuilder.add(result);
         }
+        newBuilder.sharedFilterPushedDown |= sharedFilterPushedDown;
+        if (Objects.nonNull(sharedFilter)) {
+            QueryBuilder rewrittenSharedFilter = sharedFilter.rewrite(queryShardContext);
+            if (rewrittenSharedFilter != sharedFilter) {
+                changed = true;
+            }
+            newBuilder.sharedFilter(rewrittenSharedFilter);
+        }
         if (changed) {
             newBuilder.queryName(queryName);
             newBuilder.boost(boost);
@@ -318,6 +428,16 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         }
     }
 
+    private static QueryBuilder copyQueryBuilder(QueryBuilder queryBuilder, NamedWriteableRegistry namedWriteableRegistry)
+        throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            output.writeNamedWriteable(queryBuilder);
+            try (StreamInput input = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), namedWriteableRegistry)) {
+                return input.readNamedWriteable(QueryBuilder.class);
+            }
+        }
+    }
+
     /**
      * Indicates whether some other QueryBuilder object of the same type is "equal to" this one.
      * @param obj
@@ -334,6 +454,8 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         EqualsBuilder equalsBuilder = new EqualsBuilder();
         equalsBuilder.append(queries, obj.queries);
         equalsBuilder.append(paginationDepth, obj.paginationDepth);
+        equalsBuilder.append(sharedFilter, obj.sharedFilter);
+        equalsBuilder.append(sharedFilterPushedDown, obj.sharedFilterPushedDown);
         return equalsBuilder.isEquals();
     }
 
@@ -343,7 +465,7 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
      */
     @Override
     protected int doHashCode() {
-        return Objects.hash(queries, paginationDepth);
+        return Objects.hash(queries, paginationDepth, sharedFilter, sharedFilterPushedDown);
     }
 
     /**
@@ -409,6 +531,9 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         for (QueryBuilder subQueryBuilder : queries) {
             subQueryBuilder.visit(subVisitor);
         }
+        if (Objects.nonNull(sharedFilter)) {
+            sharedFilter.visit(visitor.getChildVisitor(Occur.FILTER));
+        }
     }
 
     /**
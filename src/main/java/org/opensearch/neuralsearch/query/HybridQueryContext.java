@@ -6,6 +6,7 @@ package org.opensearch.neuralsearch.query;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.lucene.search.Query;
 
 /**
  * Class that holds the low level information of hybrid query in the form of context
@@ -14,4 +15,8 @@ import lombok.Getter;
 @Getter
 public class HybridQueryContext {
     private Integer paginationDepth;
+    // score sub-queries of a segment in parallel using hybrid query thread pool
+    private boolean parallelSubQueryScoring;
+    // filter shared by all sub-queries, it's evaluated once per segment; null if filter is pushed down to sub-queries
+    private Query filter;
 }
@@ -11,7 +11,6 @@ import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.util.FixedBitSet;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * This class is used to create a DocIdStream for HybridQuery
@@ -56,16 +55,17 @@ public class HybridQueryDocIdStream extends DocIdStream {
                 final int docIndexInWindow = (idx << BLOCK_SHIFT) | numberOfTrailingZeros;
                 final int docId = base | docIndexInWindow;
 
-                float[][] windowScores = hybridBulkScorer.getWindowScores();
-                for (int subQueryIndex = 0; subQueryIndex < windowScores.length; subQueryIndex++) {
-                    if (Objects.isNull(windowScores[subQueryIndex])) {
-                        continue;
-                    }
-                    float scoreOfDocIdForSubQuery = windowScores[subQueryIndex][docIndexInWindow];
-                    hybridBulkScorer.getHybridSubQueryScorer().getSubQueryScores()[subQueryIndex] = scoreOfDocIdForSubQuery;
+                // only sub-queries that have matched the doc are stored, cost does not depend on total number of sub-queries
+                HybridSubQueryWindowScores windowScores = hybridBulkScorer.getWindowScores();
+                float[] subQueryScores = hybridBulkScorer.getHybridSubQueryScorer().getSubQueryScores();
+                int head = windowScores.head(docIndexInWindow);
+                for (int entry = head; entry != HybridSubQueryWindowScores.NO_ENTRY; entry = windowScores.next(entry)) {
+                    subQueryScores[windowScores.subQueryIndex(entry)] = windowScores.score(entry);
                 }
                 consumer.accept(docId);
-                hybridBulkScorer.getHybridSubQueryScorer().resetScores();
+                for (int entry = head; entry != HybridSubQueryWindowScores.NO_ENTRY; entry = windowScores.next(entry)) {
+                    subQueryScores[windowScores.subQueryIndex(entry)] = 0.0f;
+                }
 
                 bits ^= 1L << numberOfTrailingZeros;
             }
@@ -18,6 +18,7 @@ import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Matches;
 import org.apache.lucene.search.MatchesUtils;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
@@ -25,8 +26,6 @@ import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
 import org.opensearch.neuralsearch.executors.HybridQueryScoreSupplierCollectorManager;
 
-import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
-
 /**
  * Calculates query weights and build query scorers for hybrid query.
  */
@@ -36,6 +35,12 @@ public final class HybridQueryWeight extends Weight {
     @Getter(AccessLevel.PACKAGE)
     private final List<Weight> weights;
     private final ScoreMode scoreMode;
+    // score sub-queries of a segment in parallel, defined by the query context
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean parallelSubQueryScoring;
+    // weight of the filter shared by all sub-queries, null if filter is pushed down to sub-queries
+    @Getter(AccessLevel.PACKAGE)
+    private final Weight filterWeight;
 
     /**
      * Construct the Weight for this Query searched by searcher. Recursively construct subquery weights.
@@ -50,6 +55,12 @@ public final class HybridQueryWeight extends Weight {
             }
         }).collect(Collectors.toList());
         this.scoreMode = scoreMode;
+        HybridQueryContext queryContext = hybridQuery.getQueryContext();
+        this.parallelSubQueryScoring = Objects.nonNull(queryContext) && queryContext.isParallelSubQueryScoring();
+        Query filter = hybridQuery.getFilter();
+        this.filterWeight = Objects.isNull(filter)
+            ? null
+            : searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1.0f);
     }
 
     /**
@@ -62,6 +73,9 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public Matches matches(LeafReaderContext context, int doc) throws IOException {
+        if (isFilterMatch(context, doc) == false) {
+            return null;
+        }
         List<Matches> mis = weights.stream().map(weight -> {
             try {
                 return weight.matches(context, doc);
@@ -75,10 +89,18 @@ public final class HybridQueryWeight extends Weight {
     /**
      * Returns {@link HybridScorerSupplier} which contains list of {@link ScorerSupplier} from its
      * sub queries. Here, add score supplier from individual sub query is parallelized and finally
-     * {@link HybridScorerSupplier} is created with list of {@link ScorerSupplier}
+     * {@link HybridScorerSupplier} is created with list of {@link ScorerSupplier}. If hybrid query has shared filter, scorers
+     * of sub-queries are intersected with the iterator of the filter, segment is skipped if none of its docs match the filter.
      */
     @Override
     public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+        ScorerSupplier filterScorerSupplier = null;
+        if (Objects.nonNull(filterWeight)) {
+            filterScorerSupplier = filterWeight.scorerSupplier(context);
+            if (Objects.isNull(filterScorerSupplier)) {
+                return null;
+            }
+        }
         HybridQueryScoreSupplierCollectorManager manager = new HybridQueryScoreSupplierCollectorManager(context);
         List<Callable<Void>> scoreSupplierTasks = new ArrayList<>();
         List<HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier>> collectors = new ArrayList<>();
@@ -92,7 +114,18 @@ public final class HybridQueryWeight extends Weight {
         if (scorerSuppliers.isEmpty() || scorerSuppliers.stream().allMatch(Objects::isNull)) {
             return null;
         }
-        return new HybridScorerSupplier(scorerSuppliers, this, scoreMode, context);
+        return new HybridScorerSupplier(scorerSuppliers, this, scoreMode, context, filterScorerSupplier);
+    }
+
+    private boolean isFilterMatch(LeafReaderContext context, int doc) throws IOException {
+        if (Objects.isNull(filterWeight)) {
+            return true;
+        }
+        ScorerSupplier filterScorerSupplier = filterWeight.scorerSupplier(context);
+        if (Objects.isNull(filterScorerSupplier)) {
+            return false;
+        }
+        return filterScorerSupplier.get(1L).iterator().advance(doc) == doc;
     }
 
     private Void addScoreSupplier(Weight weight, HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier> collector) {
@@ -114,10 +147,13 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public boolean isCacheable(LeafReaderContext ctx) {
-        if (weights.size() > MAX_NUMBER_OF_SUB_QUERIES) {
+        if (weights.size() > HybridQueryBuilder.getMaxNumberOfSubQueries()) {
             // this situation should never happen, but in case it do such query will not be cached
             return false;
         }
+        if (Objects.nonNull(filterWeight) && filterWeight.isCacheable(ctx) == false) {
+            return false;
+        }
         return weights.stream().allMatch(w -> w.isCacheable(ctx));
     }
 
@@ -130,6 +166,9 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+        if (isFilterMatch(context, doc) == false) {
+            return Explanation.noMatch("document does not match hybrid query filter");
+        }
         boolean match = false;
         double max = 0;
         List<Explanation> subsOnNoMatch = new ArrayList<>();
@@ -5,13 +5,17 @@
 package org.opensearch.neuralsearch.query;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.DocIdSetBuilder;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -20,8 +24,8 @@ import java.util.Objects;
 
 /**
  * This class is responsible for creating a HybridScorer based on the provided list of ScorerSupplier objects.
+ * If hybrid query has shared filter, scorers of all sub-queries only match docs that match the filter.
  */
-@RequiredArgsConstructor
 public class HybridScorerSupplier extends ScorerSupplier {
 
     private long cost = -1;
@@ -30,17 +34,47 @@ public class HybridScorerSupplier extends ScorerSupplier {
     private final HybridQueryWeight weight;
     private final ScoreMode scoreMode;
     private final LeafReaderContext context;
+    // supplier of the shared filter scorer for the segment, null if hybrid query has no shared filter or supplier has been used
+    private ScorerSupplier filterScorerSupplier;
+
+    public HybridScorerSupplier(
+        List<ScorerSupplier> scorerSuppliers,
+        HybridQueryWeight weight,
+        ScoreMode scoreMode,
+        LeafReaderContext context
+    ) {
+        this(scorerSuppliers, weight, scoreMode, context, null);
+    }
+
+    public HybridScorerSupplier(
+        List<ScorerSupplier> scorerSuppliers,
+        HybridQueryWeight weight,
+        ScoreMode scoreMode,
+        LeafReaderContext context,
+        ScorerSupplier filterScorerSupplier
+    ) {
+        this.scorerSuppliers = scorerSuppliers;
+        this.weight = weight;
+        this.scoreMode = scoreMode;
+        this.context = context;
+        this.filterScorerSupplier = filterScorerSupplier;
+    }
 
     @Override
     public Scorer get(long leadCost) throws IOException {
         List<Scorer> tScorers = new ArrayList<>();
+        int numOfScorers = 0;
         for (ScorerSupplier ss : scorerSuppliers) {
             if (Objects.nonNull(ss)) {
                 tScorers.add(ss.get(leadCost));
+                numOfScorers++;
             } else {
                 tScorers.add(null);
             }
         }
+        if (isFiltered() && numOfScorers > 0) {
+            filterSubQueryScorers(tScorers, numOfScorers, leadCost);
+        }
         return new HybridQueryScorer(tScorers, scoreMode);
     }
 
@@ -71,11 +105,111 @@ public class HybridScorerSupplier extends ScorerSupplier {
 
     @Override
     public BulkScorer bulkScorer() throws IOException {
+        DocIdSetIterator filterIterator = isFiltered() ? getFilterIterator(Long.MAX_VALUE) : null;
+        if (weight.isParallelSubQueryScoring() && scorerSuppliers.stream().filter(Objects::nonNull).count() > 1) {
+            // scorers of sub-queries are created by the tasks that score them
+            List<Weight> weights = new ArrayList<>();
+            for (int i = 0; i < scorerSuppliers.size(); i++) {
+                weights.add(Objects.isNull(scorerSuppliers.get(i)) ? null : weight.getWeights().get(i));
+            }
+            return new HybridParallelBulkScorer(
+                weights,
+                scoreMode.needsScores(),
+                context,
+                filterIterator,
+                cost(),
+                HybridQueryExecutor.getExecutor()
+            );
+        }
         List<Scorer> scorers = new ArrayList<>();
         for (Weight weight : weight.getWeights()) {
             Scorer scorer = weight.scorer(context);
             scorers.add(scorer);
         }
-        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc());
+        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc(), filterIterator);
+    }
+
+    private boolean isFiltered() {
+        return Objects.nonNull(weight.getFilterWeight());
+    }
+
+    /**
+     * Wrap scorers of sub-queries so they only match docs of the shared filter. The filter is evaluated once for the segment:
+     * sub-queries are advanced independently, so with more than one sub-query the docs of the filter are collected into
+     * a doc id set and every sub-query gets its own iterator over that set.
+     */
+    private void filterSubQueryScorers(List<Scorer> scorers, int numOfScorers, long leadCost) throws IOException {
+        DocIdSetIterator filterIterator = getFilterIterator(leadCost);
+        DocIdSet filterDocIdSet = null;
+        if (numOfScorers > 1) {
+            DocIdSetBuilder docIdSetBuilder = new DocIdSetBuilder(context.reader().maxDoc());
+            docIdSetBuilder.add(filterIterator);
+            filterDocIdSet = docIdSetBuilder.build();
+        }
+        for (int i = 0; i < scorers.size(); i++) {
+            Scorer scorer = scorers.get(i);
+            if (Objects.isNull(scorer)) {
+                continue;
+            }
+            DocIdSetIterator iterator = Objects.isNull(filterDocIdSet) ? filterIterator : filterDocIdSet.iterator();
+            scorers.set(i, new FilteredSubQueryScorer(scorer, Objects.isNull(iterator) ? DocIdSetIterator.empty() : iterator));
+        }
+    }
+
+    /**
+     * Get iterator of the shared filter for the segment, it comes from the supplier that has been created for the segment
+     * by the weight. The supplier can only be used once, so this method is called at most once per segment.
+     */
+    private DocIdSetIterator getFilterIterator(long leadCost) throws IOException {
+        if (Objects.nonNull(filterScorerSupplier)) {
+            ScorerSupplier supplier = filterScorerSupplier;
+            filterScorerSupplier = null;
+            return supplier.get(leadCost).iterator();
+        }
+        Scorer filterScorer = weight.getFilterWeight().scorer(context);
+        return Objects.isNull(filterScorer) ? DocIdSetIterator.empty() : filterScorer.iterator();
+    }
+
+    /**
+     * Scorer of a sub-query that only matches docs of the shared filter
+     */
+    private static final class FilteredSubQueryScorer extends Scorer {
+        private final Scorer in;
+        private final DocIdSetIterator iterator;
+
+        FilteredSubQueryScorer(Scorer in, DocIdSetIterator filterIterator) {
+            this.in = in;
+            this.iterator = ConjunctionUtils.intersectIterators(List.of(in.iterator(), filterIterator));
+        }
+
+        @Override
+        public int docID() {
+            return iterator.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return iterator;
+        }
+
+        @Override
+        public float score() throws IOException {
+            return in.score();
+        }
+
+        @Override
+        public int advanceShallow(int target) throws IOException {
+            return in.advanceShallow(target);
+        }
+
+        @Override
+        public float getMaxScore(int upTo) throws IOException {
+            return in.getMaxScore(upTo);
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            in.setMinCompetitiveScore(minScore);
+        }
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.FixedBitSet;
+
+import java.util.Arrays;
+
+/**
+ * Sparse storage of sub-query scores for one window of doc ids scored by {@link HybridBulkScorer}.
+ * Only (doc, sub-query) pairs that matched are stored, entries of a single doc are chained into a linked list that is
+ * addressed by the position of the doc in the window. Cost of adding, reading and resetting scores depends on the number of
+ * matches in the window and not on the number of sub-queries.
+ */
+public class HybridSubQueryWindowScores {
+    public static final int NO_ENTRY = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    // index of the most recently added entry for each position in the window
+    private final int[] heads;
+    private int[] nextEntries;
+    private int[] subQueryIndexes;
+    private float[] scores;
+    private int size;
+
+    public HybridSubQueryWindowScores(int windowSize) {
+        this.heads = new int[windowSize];
+        Arrays.fill(heads, NO_ENTRY);
+        this.nextEntries = new int[INITIAL_CAPACITY];
+        this.subQueryIndexes = new int[INITIAL_CAPACITY];
+        this.scores = new float[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Add score of the sub-query for a doc at the given position in the window
+     * @param position position of the doc in the window
+     * @param subQueryIndex index of the sub-query
+     * @param score score of the doc for the sub-query
+     */
+    public void add(int position, int subQueryIndex, float score) {
+        if (size == scores.length) {
+            nextEntries = ArrayUtil.grow(nextEntries, size + 1);
+            subQueryIndexes = ArrayUtil.grow(subQueryIndexes, size + 1);
+            scores = ArrayUtil.grow(scores, size + 1);
+        }
+        subQueryIndexes[size] = subQueryIndex;
+        scores[size] = score;
+        nextEntries[size] = heads[position];
+        heads[position] = size;
+        size++;
+    }
+
+    /**
+     * @param position position of the doc in the window
+     * @return first entry for the doc, or {@link #NO_ENTRY} if no sub-query has a score for this doc
+     */
+    public int head(int position) {
+        return heads[position];
+    }
+
+    /**
+     * @param entry current entry
+     * @return next entry for the same doc, or {@link #NO_ENTRY} if there are no more entries
+     */
+    public int next(int entry) {
+        return nextEntries[entry];
+    }
+
+    public int subQueryIndex(int entry) {
+        return subQueryIndexes[entry];
+    }
+
+    public float score(int entry) {
+        return scores[entry];
+    }
+
+    /**
+     * Reset scores of the window, only positions that have been set in the matching bitset are touched
+     * @param matching bitset of positions in the window that have matched
+     */
+    public void reset(FixedBitSet matching) {
+        if (size == 0) {
+            return;
+        }
+        long[] bitArray = matching.getBits();
+        for (int idx = 0; idx < bitArray.length; idx++) {
+            long bits = bitArray[idx];
+            while (bits != 0L) {
+                int numberOfTrailingZeros = Long.numberOfTrailingZeros(bits);
+                heads[(idx << 6) | numberOfTrailingZeros] = NO_ENTRY;
+                bits ^= 1L << numberOfTrailingZeros;
+            }
+        }
+        size = 0;
+    }
+}
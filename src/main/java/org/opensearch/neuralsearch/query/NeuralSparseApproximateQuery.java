@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.Getter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocIdStream;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lucene query of approximate neural sparse search. Every query token is a SHOULD clause with the token weight as boost,
+ * top documents of such query are collected with MaxScore dynamic pruning: clauses are partitioned by the upper bound of
+ * their score, taken from impacts of postings, into essential and non-essential clauses, and postings of non-essential
+ * clauses are decoded only for documents that match essential clauses and can still get into the top documents.
+ * Approximation factor multiplies the minimum competitive score that the collector sets, so more clauses become non-essential
+ * and more blocks of documents are skipped, at the cost of missing documents whose score is within the factor of the score
+ * of the last top document.
+ */
+@Getter
+public final class NeuralSparseApproximateQuery extends Query {
+    private final Query query;
+    private final float approximationFactor;
+
+    public NeuralSparseApproximateQuery(final Query query, final float approximationFactor) {
+        this.query = Objects.requireNonNull(query, "query must not be null");
+        if (!(approximationFactor >= 1.0f) || Float.isInfinite(approximationFactor)) {
+            throw new IllegalArgumentException("approximation factor must be a finite number greater than or equal to 1.0");
+        }
+        this.approximationFactor = approximationFactor;
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher indexSearcher) throws IOException {
+        // factor 1.0 is exact search, the query is the same as the query of tokens
+        if (approximationFactor == 1.0f) {
+            return query;
+        }
+        Query rewritten = query.rewrite(indexSearcher);
+        if (rewritten == query) {
+            return this;
+        }
+        return new NeuralSparseApproximateQuery(rewritten, approximationFactor);
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        Weight weight = searcher.createWeight(query, scoreMode, boost);
+        // minimum competitive score is set only when top documents are collected by score
+        if (scoreMode != ScoreMode.TOP_SCORES) {
+            return weight;
+        }
+        return new NeuralSparseApproximateWeight(weight);
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        query.visit(visitor.getSubVisitor(BooleanClause.Occur.MUST, this));
+    }
+
+    @Override
+    public String toString(String field) {
+        return "NeuralSparseApproximateQuery(query=" + query.toString(field) + ", approximationFactor=" + approximationFactor + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        NeuralSparseApproximateQuery that = (NeuralSparseApproximateQuery) other;
+        return Float.compare(approximationFactor, that.approximationFactor) == 0 && query.equals(that.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), query, approximationFactor);
+    }
+
+    private float approximate(final float minScore) {
+        return minScore * approximationFactor;
+    }
+
+    private final class NeuralSparseApproximateWeight extends FilterWeight {
+
+        NeuralSparseApproximateWeight(final Weight weight) {
+            super(NeuralSparseApproximateQuery.this, weight);
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            ScorerSupplier scorerSupplier = in.scorerSupplier(context);
+            if (Objects.isNull(scorerSupplier)) {
+                return null;
+            }
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    return new NeuralSparseApproximateScorer(scorerSupplier.get(leadCost));
+                }
+
+                @Override
+                public BulkScorer bulkScorer() throws IOException {
+                    return new NeuralSparseApproximateBulkScorer(scorerSupplier.bulkScorer());
+                }
+
+                @Override
+                public long cost() {
+                    return scorerSupplier.cost();
+                }
+
+                @Override
+                public void setTopLevelScoringClause() throws IOException {
+                    scorerSupplier.setTopLevelScoringClause();
+                }
+            };
+        }
+    }
+
+    /**
+     * Bulk scorer that gives the collector a scorable with approximated minimum competitive score, bulk scorer of the
+     * boolean query skips documents by the score it gets from the collector.
+     */
+    private final class NeuralSparseApproximateBulkScorer extends BulkScorer {
+        private final BulkScorer in;
+
+        NeuralSparseApproximateBulkScorer(final BulkScorer in) {
+            this.in = in;
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            return in.score(new NeuralSparseApproximateLeafCollector(collector), acceptDocs, min, max);
+        }
+
+        @Override
+        public long cost() {
+            return in.cost();
+        }
+    }
+
+    private final class NeuralSparseApproximateLeafCollector implements LeafCollector {
+        private final LeafCollector in;
+
+        NeuralSparseApproximateLeafCollector(final LeafCollector in) {
+            this.in = in;
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) throws IOException {
+            in.setScorer(new NeuralSparseApproximateScorable(scorer));
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            in.collect(doc);
+        }
+
+        @Override
+        public void collect(DocIdStream stream) throws IOException {
+            in.collect(stream);
+        }
+
+        @Override
+        public DocIdSetIterator competitiveIterator() throws IOException {
+            return in.competitiveIterator();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            in.finish();
+        }
+    }
+
+    private final class NeuralSparseApproximateScorable extends Scorable {
+        private final Scorable in;
+
+        NeuralSparseApproximateScorable(final Scorable in) {
+            this.in = in;
+        }
+
+        @Override
+        public float score() throws IOException {
+            return in.score();
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            in.setMinCompetitiveScore(approximate(minScore));
+        }
+
+        @Override
+        public Collection<ChildScorable> getChildren() {
+            return List.of(new ChildScorable(in, "MUST"));
+        }
+    }
+
+    /**
+     * Scorer that approximates minimum competitive score when the query is not scored in bulk, e.g. it's a clause of
+     * another query that propagates minimum competitive score to its clauses.
+     */
+    private final class NeuralSparseApproximateScorer extends Scorer {
+        private final Scorer in;
+
+        NeuralSparseApproximateScorer(final Scorer in) {
+            this.in = in;
+        }
+
+        @Override
+        public int docID() {
+            return in.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return in.iterator();
+        }
+
+        @Override
+        public TwoPhaseIterator twoPhaseIterator() {
+            return in.twoPhaseIterator();
+        }
+
+        @Override
+        public int advanceShallow(int target) throws IOException {
+            return in.advanceShallow(target);
+        }
+
+        @Override
+        public float getMaxScore(int upTo) throws IOException {
+            return in.getMaxScore(upTo);
+        }
+
+        @Override
+        public float score() throws IOException {
+            return in.score();
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            in.setMinCompetitiveScore(approximate(minScore));
+        }
+
+        @Override
+        public Collection<ChildScorable> getChildren() {
+            return List.of(new ChildScorable(in, "MUST"));
+        }
+    }
+}
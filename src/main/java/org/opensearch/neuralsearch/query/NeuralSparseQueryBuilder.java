@@ -28,6 +28,7 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -91,6 +92,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
     static final ParseField MAX_TOKEN_SCORE_FIELD = new ParseField("max_token_score").withAllDeprecated();
     @VisibleForTesting
     static final ParseField ANALYZER_FIELD = new ParseField("analyzer");
+    // Tokens are scored with MaxScore dynamic pruning, factor greater than 1.0 prunes more aggressively than the exact search
+    @VisibleForTesting
+    static final ParseField APPROXIMATION_FACTOR_FIELD = new ParseField("approximation_factor");
     private static MLCommonsClientAccessor ML_CLIENT;
     private static final String DEFAULT_ANALYZER = "bert-uncased";
 
@@ -109,6 +113,7 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
     // twoPhaseSharedQueryToken.
     private Map<String, Float> twoPhaseSharedQueryToken;
     private NeuralSparseQueryTwoPhaseInfo neuralSparseQueryTwoPhaseInfo = new NeuralSparseQueryTwoPhaseInfo();
+    private Float approximationFactor;
 
     private static final Version MINIMAL_SUPPORTED_VERSION_DEFAULT_MODEL_ID = Version.V_2_13_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_ANALYZER = Version.V_3_1_0;
@@ -130,13 +135,21 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         }
         this.maxTokenScore = in.readOptionalFloat();
         if (in.readBoolean()) {
-            Map<String, Float> queryTokens = in.readMap(StreamInput::readString, StreamInput::readFloat);
+            Map<String, Float> queryTokens;
+            if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForCompactSparseQueryTokens(in.getVersion())) {
+                queryTokens = CompactSparseTokens.readFrom(in);
+            } else {
+                queryTokens = in.readMap(StreamInput::readString, StreamInput::readFloat);
+            }
             this.queryTokensSupplier = () -> queryTokens;
         }
         if (isClusterOnOrAfterMinReqVersionForAnalyzer()) {
             this.analyzer = in.readOptionalString();
             this.neuralSparseQueryTwoPhaseInfo = new NeuralSparseQueryTwoPhaseInfo(in);
         }
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForNeuralSparseApproximationFactor(in.getVersion())) {
+            this.approximationFactor = in.readOptionalFloat();
+        }
         // to be backward compatible with previous version, we need to use writeString/readString API instead of optionalString API
         // after supporting query by tokens, queryText and modelId can be null. here we write an empty String instead
         if (StringUtils.EMPTY.equals(this.queryText)) {
@@ -161,7 +174,12 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         out.writeOptionalFloat(maxTokenScore);
         if (!Objects.isNull(this.queryTokensSupplier) && !Objects.isNull(this.queryTokensSupplier.get())) {
             out.writeBoolean(true);
-            out.writeMap(this.queryTokensSupplier.get(), StreamOutput::writeString, StreamOutput::writeFloat);
+            // tokens are sent to every shard, compact encoding sorts and prefix compresses them and quantizes weights to float16
+            if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForCompactSparseQueryTokens(out.getVersion())) {
+                CompactSparseTokens.writeTo(this.queryTokensSupplier.get(), out);
+            } else {
+                out.writeMap(this.queryTokensSupplier.get(), StreamOutput::writeString, StreamOutput::writeFloat);
+            }
         } else {
             out.writeBoolean(false);
         }
@@ -169,6 +187,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             out.writeOptionalString(this.analyzer);
             this.neuralSparseQueryTwoPhaseInfo.writeTo(out);
         }
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForNeuralSparseApproximationFactor(out.getVersion())) {
+            out.writeOptionalFloat(this.approximationFactor);
+        }
     }
 
     /**
@@ -211,6 +232,23 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         return copy;
     }
 
+    /**
+     * Score tokens of this query in two phases by a single query, instead of adding a copy with the low score tokens to
+     * the rescorer. This function will be invoked by the search processor NeuralSparseTwoPhaseProcessor which happens before
+     * the rewrite phase, all tokens are kept and they are split when the query is converted to the Lucene query.
+     * @param pruneRatio the parameter of the NeuralSparseTwoPhaseProcessor, control the ratio of splitting the queryTokens to two phase.
+     * @param pruneType the parameter of the NeuralSparseTwoPhaseProcessor, control how to split the queryTokens to two phase.
+     * @param windowSize number of top candidates of the first phase that the low score tokens are scored for.
+     */
+    public void enableSinglePassTwoPhase(float pruneRatio, PruneType pruneType, int windowSize) {
+        this.neuralSparseQueryTwoPhaseInfo = new NeuralSparseQueryTwoPhaseInfo(
+            NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS,
+            pruneRatio,
+            pruneType,
+            windowSize
+        );
+    }
+
     @Override
     protected void doXContent(XContentBuilder xContentBuilder, Params params) throws IOException {
         xContentBuilder.startObject(NAME);
@@ -227,6 +265,9 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         if (Objects.nonNull(maxTokenScore)) {
             xContentBuilder.field(MAX_TOKEN_SCORE_FIELD.getPreferredName(), maxTokenScore);
         }
+        if (Objects.nonNull(approximationFactor)) {
+            xContentBuilder.field(APPROXIMATION_FACTOR_FIELD.getPreferredName(), approximationFactor);
+        }
         if (Objects.nonNull(queryTokensSupplier) && Objects.nonNull(queryTokensSupplier.get())) {
             xContentBuilder.field(QUERY_TOKENS_FIELD.getPreferredName(), queryTokensSupplier.get());
         }
@@ -240,7 +281,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
      *  "SAMPLE_FIELD": {
      *    "query_text": "string",
      *    "model_id": "string",
-     *    "max_token_score": float (optional)
+     *    "max_token_score": float (optional),
+     *    "approximation_factor": float (optional)
      *  }
      *
      *  or
@@ -317,6 +359,16 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         if (StringUtils.EMPTY.equals(sparseEncodingQueryBuilder.analyzer())) {
             throw new IllegalArgumentException(String.format(Locale.ROOT, "%s field can not be empty", ANALYZER_FIELD.getPreferredName()));
         }
+        Float approximationFactor = sparseEncodingQueryBuilder.approximationFactor();
+        if (Objects.nonNull(approximationFactor) && !(approximationFactor >= 1.0f && Float.isFinite(approximationFactor))) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "%s must be a finite number greater than or equal to 1.0",
+                    APPROXIMATION_FACTOR_FIELD.getPreferredName()
+                )
+            );
+        }
 
         return sparseEncodingQueryBuilder;
     }
@@ -340,6 +392,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
                     sparseEncodingQueryBuilder.analyzer(parser.text());
                 } else if (MAX_TOKEN_SCORE_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     sparseEncodingQueryBuilder.maxTokenScore(parser.floatValue());
+                } else if (APPROXIMATION_FACTOR_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    sparseEncodingQueryBuilder.approximationFactor(parser.floatValue());
                 } else {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -385,7 +439,8 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             .maxTokenScore(maxTokenScore)
             .queryTokensSupplier(queryTokensSetOnce::get)
             .twoPhaseSharedQueryToken(twoPhaseSharedQueryToken)
-            .neuralSparseQueryTwoPhaseInfo(neuralSparseQueryTwoPhaseInfo);
+            .neuralSparseQueryTwoPhaseInfo(neuralSparseQueryTwoPhaseInfo)
+            .approximationFactor(approximationFactor);
     }
 
     private boolean shouldUseAnalyzer() {
@@ -446,8 +501,10 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         // There can be certain cases that we can use the queryTokensSupplier directly:
         // 1. If the raw query tokens are provided through the query.
         // 2. If we use a ML model to generate the query tokens based on the query text.
+        // Weights are quantized by compact transport encoding, shards that get the query without transport quantize them too,
+        // so all shards score the same weights.
         if (Objects.nonNull(queryTokensSupplier) && Objects.nonNull(queryTokensSupplier.get())) {
-            return queryTokensSupplier.get();
+            return CompactSparseTokens.quantize(queryTokensSupplier.get());
         }
 
         if (shouldUseAnalyzer()) {
@@ -498,13 +555,59 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         final MappedFieldType ft = context.fieldMapper(fieldName);
         validateFieldType(ft);
         Map<String, Float> queryTokens = getQueryTokens(context);
+        Query query;
+        if (NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS.equals(neuralSparseQueryTwoPhaseInfo.getStatus())) {
+            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
+                queryTokens
+            );
+            query = new NeuralSparseTwoPhaseQuery(
+                buildFeatureFieldQuery(splitQueryTokens.v1()),
+                fieldName,
+                splitQueryTokens.v2(),
+                neuralSparseQueryTwoPhaseInfo.getWindowSize()
+            );
+        } else {
+            query = buildFeatureFieldQuery(queryTokens);
+        }
+        // without approximation factor, or with factor 1.0, the search is exact
+        if (Objects.isNull(approximationFactor) || approximationFactor == 1.0f) {
+            return query;
+        }
+        return new NeuralSparseApproximateQuery(query, approximationFactor);
+    }
+
+    private Query buildFeatureFieldQuery(Map<String, Float> queryTokens) {
         BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        SparseTermStateCache termStateCache = SparseTermStateCache.getInstance();
+        if (Objects.isNull(termStateCache)) {
+            for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+                builder.add(FeatureField.newLinearQuery(fieldName, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
+            }
+            return builder.build();
+        }
+        SparseVocabulary vocabulary = termStateCache.getVocabulary(getVocabularyKey());
         for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
-            builder.add(FeatureField.newLinearQuery(fieldName, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
+            builder.add(
+                new NeuralSparseTermQuery(fieldName, entry.getKey(), entry.getValue(), vocabulary, termStateCache),
+                BooleanClause.Occur.SHOULD
+            );
         }
         return builder.build();
     }
 
+    // tokens of the same model or analyzer share the vocabulary, raw query tokens share the vocabulary of the field
+    private String getVocabularyKey() {
+        if (Objects.nonNull(modelId)) {
+            return MODEL_ID_FIELD.getPreferredName() + ":" + modelId;
+        }
+        if (Objects.nonNull(analyzer)) {
+            return ANALYZER_FIELD.getPreferredName() + ":" + analyzer;
+        }
+        return QUERY_TOKENS_FIELD.getPreferredName() + ":" + fieldName;
+    }
+
     private static void validateForRewrite(String queryText, String modelId) {
         if (StringUtils.isBlank(queryText) || StringUtils.isBlank(modelId)) {
             throw new IllegalArgumentException(
@@ -546,8 +649,10 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             .append(neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(), obj.neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType())
             .append(neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(), obj.neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio())
             .append(neuralSparseQueryTwoPhaseInfo.getStatus().getValue(), obj.neuralSparseQueryTwoPhaseInfo.getStatus().getValue())
+            .append(neuralSparseQueryTwoPhaseInfo.getWindowSize(), obj.neuralSparseQueryTwoPhaseInfo.getWindowSize())
             .append(twoPhaseSharedQueryToken, obj.twoPhaseSharedQueryToken)
-            .append(analyzer, obj.analyzer);
+            .append(analyzer, obj.analyzer)
+            .append(approximationFactor, obj.approximationFactor);
         if (Objects.nonNull(queryTokensSupplier)) {
             equalsBuilder.append(queryTokensSupplier.get(), obj.queryTokensSupplier.get());
         }
@@ -563,8 +668,10 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             .append(neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType())
             .append(neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio())
             .append(neuralSparseQueryTwoPhaseInfo.getStatus().getValue())
+            .append(neuralSparseQueryTwoPhaseInfo.getWindowSize())
             .append(twoPhaseSharedQueryToken)
-            .append(analyzer);
+            .append(analyzer)
+            .append(approximationFactor);
         if (Objects.nonNull(queryTokensSupplier)) {
             builder.append(queryTokensSupplier.get());
         }
@@ -6,6 +6,7 @@ package org.opensearch.neuralsearch.query;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -29,6 +30,8 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
     private TwoPhaseStatus status = TwoPhaseStatus.NOT_ENABLED;
     private float twoPhasePruneRatio = 0F;
     private PruneType twoPhasePruneType = PruneType.NONE;
+    // number of top candidates of phase one that phase two tokens are scored for in a single pass
+    private int windowSize = 0;
 
     NeuralSparseQueryTwoPhaseInfo() {}
 
@@ -38,10 +41,18 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
         this.twoPhasePruneType = twoPhasePruneType;
     }
 
+    NeuralSparseQueryTwoPhaseInfo(TwoPhaseStatus status, float twoPhasePruneRatio, PruneType twoPhasePruneType, int windowSize) {
+        this(status, twoPhasePruneRatio, twoPhasePruneType);
+        this.windowSize = windowSize;
+    }
+
     NeuralSparseQueryTwoPhaseInfo(StreamInput in) throws IOException {
         this.status = TwoPhaseStatus.fromInt(in.readInt());
         this.twoPhasePruneRatio = in.readFloat();
         this.twoPhasePruneType = PruneType.fromString(in.readString());
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSinglePassNeuralSparseTwoPhase(in.getVersion())) {
+            this.windowSize = in.readVInt();
+        }
     }
 
     @Override
@@ -49,12 +60,17 @@ public class NeuralSparseQueryTwoPhaseInfo implements Writeable {
         out.writeInt(status.getValue());
         out.writeFloat(twoPhasePruneRatio);
         out.writeString(twoPhasePruneType.getValue());
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSinglePassNeuralSparseTwoPhase(out.getVersion())) {
+            out.writeVInt(windowSize);
+        }
     }
 
     public enum TwoPhaseStatus {
         NOT_ENABLED(0),
         PHASE_ONE(1),
-        PHASE_TWO(2);
+        PHASE_TWO(2),
+        // both phases are scored by one query, see NeuralSparseTwoPhaseQuery
+        SINGLE_PASS(3);
 
         private static final Map<Integer, TwoPhaseStatus> VALUE_MAP = Arrays.stream(values())
             .collect(Collectors.toUnmodifiableMap(status -> status.value, Function.identity()));
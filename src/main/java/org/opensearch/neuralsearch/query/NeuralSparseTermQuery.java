@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.Getter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TermScorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Lucene query of one sparse token of a rank_features field. Documents are scored by the linear function of the feature
+ * value of the token, the same as the query of {@link org.apache.lucene.document.FeatureField#newLinearQuery}, including
+ * max scores from impacts for dynamic pruning. Term state of the token in every segment is taken from
+ * {@link SparseTermStateCache}, repeated queries of the same token skip the lookup in the terms dictionary.
+ */
+@Getter
+public final class NeuralSparseTermQuery extends Query {
+    // same limit as weights of the linear query of FeatureField, scores and max scores from impacts stay finite
+    private static final float MAX_WEIGHT = Long.SIZE;
+
+    private final String fieldName;
+    private final String token;
+    private final float weight;
+    private final int tokenId;
+    private final SparseVocabulary vocabulary;
+    private final SparseTermStateCache termStateCache;
+
+    public NeuralSparseTermQuery(
+        final String fieldName,
+        final String token,
+        final float weight,
+        final SparseVocabulary vocabulary,
+        final SparseTermStateCache termStateCache
+    ) {
+        this.fieldName = Objects.requireNonNull(fieldName, "field name must not be null");
+        this.vocabulary = Objects.requireNonNull(vocabulary, "vocabulary must not be null");
+        this.termStateCache = Objects.requireNonNull(termStateCache, "term state cache must not be null");
+        SparseVocabulary.Token internedToken = vocabulary.getToken(Objects.requireNonNull(token, "token must not be null"));
+        this.token = Objects.isNull(internedToken) ? token : internedToken.value();
+        this.tokenId = Objects.isNull(internedToken) ? -1 : internedToken.id();
+        if (weight <= 0.0f || weight > MAX_WEIGHT) {
+            throw new IllegalArgumentException("weight must be in (0, " + MAX_WEIGHT + "], got: " + weight);
+        }
+        this.weight = weight;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        return new NeuralSparseTermWeight(scoreMode, weight * boost);
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(fieldName)) {
+            visitor.consumeTerms(this, new Term(fieldName, token));
+        }
+    }
+
+    @Override
+    public String toString(String field) {
+        return "NeuralSparseTermQuery(field=" + fieldName + ", token=" + token + ", weight=" + weight + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        NeuralSparseTermQuery that = (NeuralSparseTermQuery) other;
+        return Float.compare(weight, that.weight) == 0 && fieldName.equals(that.fieldName) && token.equals(that.token);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), fieldName, token, weight);
+    }
+
+    private final class NeuralSparseTermWeight extends Weight {
+        private final ScoreMode scoreMode;
+        private final Similarity.SimScorer simScorer;
+        private final float scaledWeight;
+
+        NeuralSparseTermWeight(final ScoreMode scoreMode, final float scaledWeight) {
+            super(NeuralSparseTermQuery.this);
+            this.scoreMode = scoreMode;
+            this.scaledWeight = scaledWeight;
+            // fields of features have no norms, score depends only on the feature value that is indexed as the term frequency
+            this.simScorer = new Similarity.SimScorer() {
+                @Override
+                public float score(float freq, long norm) {
+                    return scaledWeight * NeuralSparseTwoPhaseQuery.decodeFeatureValue(freq);
+                }
+            };
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            Terms terms = Terms.getTerms(context.reader(), fieldName);
+            TermsEnum termsEnum = terms.iterator();
+            if (termStateCache.seekExact(context, fieldName, vocabulary, tokenId, new BytesRef(token), termsEnum) == false) {
+                return null;
+            }
+            return new ScorerSupplier() {
+                private boolean topLevelScoringClause;
+
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    if (scoreMode == ScoreMode.TOP_SCORES) {
+                        return new TermScorer(termsEnum.impacts(PostingsEnum.FREQS), simScorer, null, topLevelScoringClause);
+                    }
+                    int flags = scoreMode.needsScores() ? PostingsEnum.FREQS : PostingsEnum.NONE;
+                    return new TermScorer(termsEnum.postings(null, flags), simScorer, null);
+                }
+
+                @Override
+                public long cost() {
+                    try {
+                        return termsEnum.docFreq();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("failed to read document frequency of token " + token, e);
+                    }
+                }
+
+                @Override
+                public void setTopLevelScoringClause() {
+                    topLevelScoringClause = true;
+                }
+            };
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            Scorer scorer = scorer(context);
+            if (Objects.isNull(scorer) || scorer.iterator().advance(doc) != doc) {
+                return Explanation.noMatch("token " + token + " is not in the document");
+            }
+            float score = scorer.score();
+            return Explanation.match(
+                score,
+                "Linear function on the " + fieldName + " field for the " + token + " feature, computed as w * S from:",
+                Explanation.match(scaledWeight, "w, weight of this function"),
+                Explanation.match(scaledWeight == 0.0f ? 0.0f : score / scaledWeight, "S, feature value")
+            );
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext context) {
+            // same as query of FeatureField, scores are needed whenever the query is used for ranking
+            return false;
+        }
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import lombok.Getter;
+import org.apache.lucene.index.Impact;
+import org.apache.lucene.index.Impacts;
+import org.apache.lucene.index.ImpactsEnum;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Matches;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lucene query of neural sparse two-phase search that scores both phases in a single pass. Phase one tokens are scored for
+ * every document by the phase one query with dynamic pruning, through the bulk scorer of the phase one query when the
+ * search scores whole segments. Phase two tokens are scored only for top candidates, documents that get into the top window
+ * by phase one score among documents of the segment scored so far, by advancing postings of every phase two token to the
+ * candidate. There is no second query, weight or rescore pass.
+ * <p>
+ * Every document of the top window of phase one of the shard is a candidate when it is scored, so it gets the same score
+ * as with the rescore of the window. Candidates are a superset of that window, it differs from the rescore in three ways:
+ * <ul>
+ *   <li>the window is kept per segment, every segment can have as many candidates as the window size</li>
+ *   <li>a document that is in the window of the documents of its segment scored before it is a candidate even if later
+ *   documents push it out of the window, so candidates depend on the order of documents in the segment</li>
+ *   <li>the window is taken by the phase one score of this query, not by the score of the whole query as the rescore does
+ *   when this query is a clause of a bool query</li>
+ * </ul>
+ * Documents that are candidates only because of these differences can rank higher than with the rescore.
+ */
+@Getter
+public final class NeuralSparseTwoPhaseQuery extends Query {
+    // largest term frequency that FeatureField decodes to a finite feature value
+    private static final int MAX_FREQ = Float.floatToIntBits(Float.MAX_VALUE) >>> 15;
+
+    private final Query phaseOneQuery;
+    private final String fieldName;
+    private final Map<String, Float> phaseTwoTokens;
+    private final int windowSize;
+
+    public NeuralSparseTwoPhaseQuery(
+        final Query phaseOneQuery,
+        final String fieldName,
+        final Map<String, Float> phaseTwoTokens,
+        final int windowSize
+    ) {
+        this.phaseOneQuery = Objects.requireNonNull(phaseOneQuery, "phase one query must not be null");
+        this.fieldName = Objects.requireNonNull(fieldName, "field name must not be null");
+        this.phaseTwoTokens = Map.copyOf(phaseTwoTokens);
+        if (windowSize < 0) {
+            throw new IllegalArgumentException("window size must not be negative");
+        }
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher indexSearcher) throws IOException {
+        if (phaseTwoTokens.isEmpty() || windowSize == 0) {
+            return phaseOneQuery;
+        }
+        Query rewritten = phaseOneQuery.rewrite(indexSearcher);
+        if (rewritten == phaseOneQuery) {
+            return this;
+        }
+        return new NeuralSparseTwoPhaseQuery(rewritten, fieldName, phaseTwoTokens, windowSize);
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        Weight phaseOneWeight = searcher.createWeight(phaseOneQuery, scoreMode, boost);
+        // phase two tokens only change scores, documents that match are the documents of phase one
+        if (scoreMode.needsScores() == false || phaseTwoTokens.isEmpty() || windowSize == 0) {
+            return phaseOneWeight;
+        }
+        return new NeuralSparseTwoPhaseWeight(phaseOneWeight, boost);
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        phaseOneQuery.visit(visitor.getSubVisitor(BooleanClause.Occur.MUST, this));
+    }
+
+    @Override
+    public String toString(String field) {
+        return "NeuralSparseTwoPhaseQuery(phaseOne="
+            + phaseOneQuery.toString(field)
+            + ", phaseTwo="
+            + phaseTwoTokens
+            + ", windowSize="
+            + windowSize
+            + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        NeuralSparseTwoPhaseQuery that = (NeuralSparseTwoPhaseQuery) other;
+        return windowSize == that.windowSize
+            && phaseOneQuery.equals(that.phaseOneQuery)
+            && fieldName.equals(that.fieldName)
+            && phaseTwoTokens.equals(that.phaseTwoTokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), phaseOneQuery, fieldName, phaseTwoTokens, windowSize);
+    }
+
+    /**
+     * Decode feature value of FeatureField from the term frequency it's indexed as
+     * @param freq term frequency of the feature
+     * @return feature value
+     */
+    static float decodeFeatureValue(final float freq) {
+        if (freq > MAX_FREQ) {
+            return Float.MAX_VALUE;
+        }
+        return Float.intBitsToFloat(((int) freq) << 15);
+    }
+
+    private final class NeuralSparseTwoPhaseWeight extends Weight {
+        private final Weight phaseOneWeight;
+        private final float boost;
+
+        NeuralSparseTwoPhaseWeight(final Weight phaseOneWeight, final float boost) {
+            super(NeuralSparseTwoPhaseQuery.this);
+            this.phaseOneWeight = phaseOneWeight;
+            this.boost = boost;
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            ScorerSupplier phaseOneScorerSupplier = phaseOneWeight.scorerSupplier(context);
+            if (Objects.isNull(phaseOneScorerSupplier)) {
+                return null;
+            }
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    Scorer phaseOneScorer = phaseOneScorerSupplier.get(leadCost);
+                    PhaseTwoPostings phaseTwoPostings = PhaseTwoPostings.create(context, fieldName, phaseTwoTokens, boost);
+                    if (phaseTwoPostings.isEmpty()) {
+                        return phaseOneScorer;
+                    }
+                    return new NeuralSparseTwoPhaseScorer(phaseOneScorer, phaseTwoPostings, windowSize);
+                }
+
+                @Override
+                public BulkScorer bulkScorer() throws IOException {
+                    // bulk scorer of phase one keeps its optimizations, like MaxScore of disjunctions of phase one tokens
+                    BulkScorer phaseOneBulkScorer = phaseOneScorerSupplier.bulkScorer();
+                    if (Objects.isNull(phaseOneBulkScorer)) {
+                        return null;
+                    }
+                    PhaseTwoPostings phaseTwoPostings = PhaseTwoPostings.create(context, fieldName, phaseTwoTokens, boost);
+                    if (phaseTwoPostings.isEmpty()) {
+                        return phaseOneBulkScorer;
+                    }
+                    return new NeuralSparseTwoPhaseBulkScorer(phaseOneBulkScorer, phaseTwoPostings, windowSize);
+                }
+
+                @Override
+                public long cost() {
+                    return phaseOneScorerSupplier.cost();
+                }
+
+                @Override
+                public void setTopLevelScoringClause() {
+                    phaseOneScorerSupplier.setTopLevelScoringClause();
+                }
+            };
+        }
+
+        @Override
+        public Matches matches(LeafReaderContext context, int doc) throws IOException {
+            return phaseOneWeight.matches(context, doc);
+        }
+
+        /*
+        Candidates are replayed by scoring phase one of the documents of the segment up to the document in doc id order. The
+        replay has no min competitive score of a collector, a search that skips documents by dynamic pruning has fewer
+        documents in the window, so it can take a document as a candidate that the replay doesn't.
+         */
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            Explanation phaseOneExplanation = phaseOneWeight.explain(context, doc);
+            if (phaseOneExplanation.isMatch() == false) {
+                return phaseOneExplanation;
+            }
+            PhaseTwoPostings phaseTwoPostings = PhaseTwoPostings.create(context, fieldName, phaseTwoTokens, boost);
+            if (isCandidate(context, doc, phaseTwoPostings) == false) {
+                return Explanation.match(
+                    phaseOneExplanation.getValue(),
+                    "phase one tokens, phase two tokens are not scored, document is not a top candidate of phase one",
+                    phaseOneExplanation
+                );
+            }
+            float phaseTwoScore = phaseTwoPostings.score(doc);
+            return Explanation.match(
+                phaseOneExplanation.getValue().floatValue() + phaseTwoScore,
+                "sum of phase one tokens and phase two tokens, phase two tokens are scored only for top candidates of phase one",
+                phaseOneExplanation,
+                Explanation.match(phaseTwoScore, "phase two tokens")
+            );
+        }
+
+        private boolean isCandidate(final LeafReaderContext context, final int doc, final PhaseTwoPostings phaseTwoPostings)
+            throws IOException {
+            Scorer phaseOneScorer = phaseOneWeight.scorer(context);
+            if (Objects.isNull(phaseOneScorer)) {
+                return false;
+            }
+            CandidateWindow candidateWindow = new CandidateWindow(windowSize, phaseTwoPostings.maxScore);
+            DocIdSetIterator iterator = phaseOneScorer.iterator();
+            for (int scoredDoc = iterator.nextDoc(); scoredDoc < doc; scoredDoc = iterator.nextDoc()) {
+                candidateWindow.isCandidate(phaseOneScorer.score());
+            }
+            return iterator.docID() == doc && candidateWindow.isCandidate(phaseOneScorer.score());
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return phaseOneWeight.isCacheable(ctx);
+        }
+    }
+
+    /**
+     * Postings of phase two tokens that exist in one segment, they are read by advancing to documents in increasing order
+     */
+    private static final class PhaseTwoPostings {
+        private final PostingsEnum[] postings;
+        private final float[] weights;
+        // upper bound of the score of phase two tokens of any document of the segment
+        private final float maxScore;
+
+        private PhaseTwoPostings(final PostingsEnum[] postings, final float[] weights, final float maxScore) {
+            this.postings = postings;
+            this.weights = weights;
+            this.maxScore = maxScore;
+        }
+
+        static PhaseTwoPostings create(
+            final LeafReaderContext context,
+            final String fieldName,
+            final Map<String, Float> tokens,
+            final float boost
+        ) throws IOException {
+            Terms terms = Terms.getTerms(context.reader(), fieldName);
+            TermsEnum termsEnum = terms.iterator();
+            List<PostingsEnum> postings = new ArrayList<>();
+            List<Float> weights = new ArrayList<>();
+            double maxScore = 0.0;
+            for (Map.Entry<String, Float> token : tokens.entrySet()) {
+                if (termsEnum.seekExact(new BytesRef(token.getKey())) == false) {
+                    continue;
+                }
+                float weight = token.getValue() * boost;
+                postings.add(termsEnum.postings(null, PostingsEnum.FREQS));
+                weights.add(weight);
+                maxScore += weight * getMaxFeatureValue(termsEnum.impacts(PostingsEnum.FREQS));
+            }
+            float[] weightArray = new float[weights.size()];
+            for (int i = 0; i < weightArray.length; i++) {
+                weightArray[i] = weights.get(i);
+            }
+            // bound is rounded up so it's never below the sum of float scores
+            return new PhaseTwoPostings(postings.toArray(new PostingsEnum[0]), weightArray, Math.nextUp((float) maxScore));
+        }
+
+        /*
+        Max feature value of the term in the segment is the max term frequency in impacts of the top level of skip data
+         */
+        private static float getMaxFeatureValue(final ImpactsEnum impactsEnum) throws IOException {
+            int maxFreq = 0;
+            int docIdUpTo = -1;
+            while (docIdUpTo != DocIdSetIterator.NO_MORE_DOCS) {
+                impactsEnum.advanceShallow(docIdUpTo + 1);
+                Impacts impacts = impactsEnum.getImpacts();
+                int topLevel = impacts.numLevels() - 1;
+                for (Impact impact : impacts.getImpacts(topLevel)) {
+                    maxFreq = Math.max(maxFreq, impact.freq);
+                }
+                docIdUpTo = impacts.getDocIdUpTo(topLevel);
+            }
+            return decodeFeatureValue(maxFreq);
+        }
+
+        boolean isEmpty() {
+            return postings.length == 0;
+        }
+
+        /**
+         * Score phase two tokens of the document, documents must be scored in increasing order of doc id
+         * @param doc document id in the segment
+         * @return sum of scores of phase two tokens
+         * @throws IOException If an I/O error occurs
+         */
+        float score(final int doc) throws IOException {
+            double score = 0.0;
+            for (int i = 0; i < postings.length; i++) {
+                PostingsEnum postingsEnum = postings[i];
+                int postingsDoc = postingsEnum.docID();
+                if (postingsDoc < doc) {
+                    postingsDoc = postingsEnum.advance(doc);
+                }
+                if (postingsDoc == doc) {
+                    score += weights[i] * decodeFeatureValue(postingsEnum.freq());
+                }
+            }
+            return (float) score;
+        }
+    }
+
+    /**
+     * Top window of phase one scores of documents of one segment, documents must be offered in increasing order of doc id
+     */
+    private static final class CandidateWindow {
+        // min heap of phase one scores of top candidates, the bottom is the score that a new candidate must exceed
+        private final float[] candidateScores;
+        // upper bound of the score of phase two tokens of any document of the segment
+        private final float maxPhaseTwoScore;
+        private int numOfCandidates;
+        private float minCompetitiveScore;
+
+        CandidateWindow(final int windowSize, final float maxPhaseTwoScore) {
+            this.candidateScores = new float[windowSize];
+            this.maxPhaseTwoScore = maxPhaseTwoScore;
+        }
+
+        /*
+        Documents are scored in doc id order, a document with the same phase one score as the bottom is not in the window
+         */
+        boolean isCandidate(final float phaseOneScore) {
+            if (phaseOneScore + maxPhaseTwoScore < minCompetitiveScore) {
+                // document can't be collected even with the largest score of phase two tokens
+                return false;
+            }
+            if (numOfCandidates < candidateScores.length) {
+                candidateScores[numOfCandidates] = phaseOneScore;
+                upHeap(numOfCandidates++);
+                return true;
+            }
+            if (phaseOneScore <= candidateScores[0]) {
+                return false;
+            }
+            candidateScores[0] = phaseOneScore;
+            downHeap();
+            return true;
+        }
+
+        private void upHeap(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (candidateScores[parent] <= candidateScores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void downHeap() {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= numOfCandidates) {
+                    return;
+                }
+                if (child + 1 < numOfCandidates && candidateScores[child + 1] < candidateScores[child]) {
+                    child++;
+                }
+                if (candidateScores[i] <= candidateScores[child]) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void swap(final int i, final int j) {
+            float candidateScore = candidateScores[i];
+            candidateScores[i] = candidateScores[j];
+            candidateScores[j] = candidateScore;
+        }
+
+        /**
+         * Set min competitive score of the sum of both phases
+         * @param minScore min competitive score
+         * @param phaseOneScorable scorable of phase one, it skips only documents that can't be competitive with the largest
+         *                         score of phase two tokens
+         * @throws IOException If an I/O error occurs
+         */
+        void setMinCompetitiveScore(final float minScore, final Scorable phaseOneScorable) throws IOException {
+            minCompetitiveScore = minScore;
+            float phaseOneMinScore = Math.nextDown(minScore - maxPhaseTwoScore);
+            if (phaseOneMinScore > 0) {
+                phaseOneScorable.setMinCompetitiveScore(phaseOneMinScore);
+            }
+        }
+    }
+
+    /**
+     * Scores documents of the phase one scorer, adds score of phase two tokens to top candidates
+     */
+    static final class NeuralSparseTwoPhaseScorer extends Scorer {
+        private final Scorer phaseOneScorer;
+        private final PhaseTwoPostings phaseTwoPostings;
+        private final CandidateWindow candidateWindow;
+        private int scoredDoc = -1;
+        private float score;
+
+        NeuralSparseTwoPhaseScorer(final Scorer phaseOneScorer, final PhaseTwoPostings phaseTwoPostings, final int windowSize) {
+            this.phaseOneScorer = phaseOneScorer;
+            this.phaseTwoPostings = phaseTwoPostings;
+            this.candidateWindow = new CandidateWindow(windowSize, phaseTwoPostings.maxScore);
+        }
+
+        @Override
+        public int docID() {
+            return phaseOneScorer.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return phaseOneScorer.iterator();
+        }
+
+        @Override
+        public TwoPhaseIterator twoPhaseIterator() {
+            return phaseOneScorer.twoPhaseIterator();
+        }
+
+        @Override
+        public float score() throws IOException {
+            int doc = docID();
+            // score can be read more than once for the same document, phase two tokens must be scored once per document
+            if (doc != scoredDoc) {
+                float phaseOneScore = phaseOneScorer.score();
+                score = candidateWindow.isCandidate(phaseOneScore) ? phaseOneScore + phaseTwoPostings.score(doc) : phaseOneScore;
+                scoredDoc = doc;
+            }
+            return score;
+        }
+
+        @Override
+        public int advanceShallow(int target) throws IOException {
+            return phaseOneScorer.advanceShallow(target);
+        }
+
+        @Override
+        public float getMaxScore(int upTo) throws IOException {
+            return phaseOneScorer.getMaxScore(upTo) + phaseTwoPostings.maxScore;
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            candidateWindow.setMinCompetitiveScore(minScore, phaseOneScorer);
+        }
+
+        @Override
+        public Collection<ChildScorable> getChildren() {
+            return List.of(new ChildScorable(phaseOneScorer, "MUST"));
+        }
+    }
+
+    /**
+     * Collects documents of the phase one bulk scorer, adds score of phase two tokens to top candidates when the collector
+     * reads the score. Bulk scorers collect documents in increasing order of doc id, also across calls of score.
+     */
+    static final class NeuralSparseTwoPhaseBulkScorer extends BulkScorer {
+        private final BulkScorer phaseOneBulkScorer;
+        private final PhaseTwoPostings phaseTwoPostings;
+        private final CandidateWindow candidateWindow;
+
+        NeuralSparseTwoPhaseBulkScorer(final BulkScorer phaseOneBulkScorer, final PhaseTwoPostings phaseTwoPostings, final int windowSize) {
+            this.phaseOneBulkScorer = phaseOneBulkScorer;
+            this.phaseTwoPostings = phaseTwoPostings;
+            this.candidateWindow = new CandidateWindow(windowSize, phaseTwoPostings.maxScore);
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            return phaseOneBulkScorer.score(new PhaseTwoLeafCollector(collector), acceptDocs, min, max);
+        }
+
+        @Override
+        public long cost() {
+            return phaseOneBulkScorer.cost();
+        }
+
+        private final class PhaseTwoLeafCollector implements LeafCollector {
+            private final LeafCollector collector;
+            private final PhaseTwoScorable scorable = new PhaseTwoScorable();
+
+            PhaseTwoLeafCollector(final LeafCollector collector) {
+                this.collector = collector;
+            }
+
+            @Override
+            public void setScorer(Scorable phaseOneScorable) throws IOException {
+                scorable.phaseOneScorable = phaseOneScorable;
+                collector.setScorer(scorable);
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                scorable.doc = doc;
+                collector.collect(doc);
+            }
+
+            @Override
+            public DocIdSetIterator competitiveIterator() throws IOException {
+                return collector.competitiveIterator();
+            }
+
+            @Override
+            public void finish() throws IOException {
+                collector.finish();
+            }
+        }
+
+        private final class PhaseTwoScorable extends Scorable {
+            private Scorable phaseOneScorable;
+            private int doc = -1;
+            private int scoredDoc = -1;
+            private float score;
+
+            @Override
+            public float score() throws IOException {
+                // score can be read more than once for the same document, phase two tokens must be scored once per document
+                if (doc != scoredDoc) {
+                    float phaseOneScore = phaseOneScorable.score();
+                    score = candidateWindow.isCandidate(phaseOneScore) ? phaseOneScore + phaseTwoPostings.score(doc) : phaseOneScore;
+                    scoredDoc = doc;
+                }
+                return score;
+            }
+
+            @Override
+            public void setMinCompetitiveScore(float minScore) throws IOException {
+                candidateWindow.setMinCompetitiveScore(minScore, phaseOneScorable);
+            }
+
+            @Override
+            public Collection<ChildScorable> getChildren() {
+                return List.of(new ChildScorable(phaseOneScorable, "MUST"));
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.TermState;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Node level cache of term states of sparse tokens in segments. Every token query starts with the lookup of the token in
+ * the terms dictionary of the segment, with the term state of the token the query seeks to the token without the lookup.
+ * Entries are keyed by the core of the segment and the id of the token in the vocabulary of the model, they are shared by
+ * all readers of the segment. Least recently used entries are evicted when the cache is full, so the cache keeps term
+ * states of the hottest tokens, entries of a segment are evicted when the segment is closed. Tokens that are not in the
+ * segment are cached too. The cache also keeps the vocabularies of the node, a limited number of the most recently used
+ * ones. The cache is enabled by the node setting {@link NeuralSearchSettings#NEURAL_SPARSE_TERM_STATE_CACHE_SIZE}, it's
+ * created when the plugin creates its components and released when the plugin is closed.
+ */
+public final class SparseTermStateCache {
+    // one vocabulary per model, analyzer or field of raw tokens that is queried on the node
+    @VisibleForTesting
+    static final int MAX_VOCABULARIES = 16;
+    // cached lookup of a token that is not in the terms dictionary of the segment
+    private static final CachedTermState ABSENT = new CachedTermState(null);
+    private static volatile SparseTermStateCache INSTANCE;
+
+    private final Cache<Key, CachedTermState> cache;
+    private final Cache<String, SparseVocabulary> vocabularies;
+    // segments with cached term states, entries are evicted by the closed listener of the segment
+    private final Set<IndexReader.CacheKey> segments = ConcurrentHashMap.newKeySet();
+
+    SparseTermStateCache(final int maxEntries) {
+        this.cache = CacheBuilder.<Key, CachedTermState>builder().setMaximumWeight(maxEntries).build();
+        this.vocabularies = CacheBuilder.<String, SparseVocabulary>builder().setMaximumWeight(MAX_VOCABULARIES).build();
+    }
+
+    /**
+     * Initialize the cache of the node, cache is disabled if its size is 0
+     * @param settings node level settings
+     */
+    public static void initialize(final Settings settings) {
+        int maxEntries = NeuralSearchSettings.NEURAL_SPARSE_TERM_STATE_CACHE_SIZE.get(settings);
+        INSTANCE = maxEntries > 0 ? new SparseTermStateCache(maxEntries) : null;
+    }
+
+    /**
+     * Release the cache of the node, term states and vocabularies are dropped
+     */
+    public static void close() {
+        SparseTermStateCache instance = INSTANCE;
+        INSTANCE = null;
+        if (Objects.nonNull(instance)) {
+            instance.cache.invalidateAll();
+            instance.vocabularies.invalidateAll();
+        }
+    }
+
+    /**
+     * @return cache of the node, or null if the cache is disabled
+     */
+    public static SparseTermStateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get vocabulary of the model, it's shared by all queries of the model while it's in the cache
+     * @param key model id, or other name of the source of tokens if tokens don't come from a model
+     * @return vocabulary of the model
+     */
+    public SparseVocabulary getVocabulary(final String key) {
+        Objects.requireNonNull(key, "vocabulary key must not be null");
+        try {
+            return vocabularies.computeIfAbsent(key, k -> new SparseVocabulary(SparseVocabulary.MAX_TOKENS));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to create sparse vocabulary " + key, e);
+        }
+    }
+
+    /**
+     * Seek terms enum of the segment to the token, term state of the token is taken from the cache or cached after the lookup
+     * @param context context of the segment
+     * @param fieldName name of the field of the terms enum
+     * @param vocabulary vocabulary of the token
+     * @param tokenId id of the token in the vocabulary, tokens without id are not cached
+     * @param term bytes of the token
+     * @param termsEnum terms enum of the field in the segment
+     * @return true if the token is in the segment
+     * @throws IOException if terms dictionary can't be read
+     */
+    public boolean seekExact(
+        final LeafReaderContext context,
+        final String fieldName,
+        final SparseVocabulary vocabulary,
+        final int tokenId,
+        final BytesRef term,
+        final TermsEnum termsEnum
+    ) throws IOException {
+        IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        if (Objects.isNull(cacheHelper) || tokenId < 0) {
+            return termsEnum.seekExact(term);
+        }
+        Key key = new Key(cacheHelper.getKey(), fieldName, vocabulary, tokenId);
+        CachedTermState cachedTermState = cache.get(key);
+        if (Objects.nonNull(cachedTermState)) {
+            if (Objects.isNull(cachedTermState.termState())) {
+                return false;
+            }
+            termsEnum.seekExact(term, cachedTermState.termState());
+            return true;
+        }
+        boolean found = termsEnum.seekExact(term);
+        if (segments.add(cacheHelper.getKey())) {
+            cacheHelper.addClosedListener(this::evictSegment);
+        }
+        cache.put(key, found ? new CachedTermState(termsEnum.termState()) : ABSENT);
+        return found;
+    }
+
+    /**
+     * @return number of cached term states
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /*
+    Segments are closed far less often than they are searched, keys of all segments are scanned to find keys of the segment
+     */
+    private void evictSegment(final IndexReader.CacheKey segment) {
+        segments.remove(segment);
+        List<Key> keysOfSegment = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.segment() == segment) {
+                keysOfSegment.add(key);
+            }
+        }
+        keysOfSegment.forEach(cache::invalidate);
+    }
+
+    // vocabulary is compared by identity, ids of different vocabularies are different tokens
+    private record Key(IndexReader.CacheKey segment, String fieldName, SparseVocabulary vocabulary, int tokenId) {
+    }
+
+    // term state is null if the token is not in the segment
+    private record CachedTermState(TermState termState) {
+    }
+}
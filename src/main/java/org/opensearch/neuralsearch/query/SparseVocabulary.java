@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Interned vocabulary of sparse tokens of one model. Sparse models emit tokens of a fixed vocabulary, every token gets an
+ * int id and one canonical string the first time it's seen, so the same token of different queries is the same object and
+ * per token data can be keyed by id. Vocabulary of a model isn't exposed by its predict API, it's learned from tokens of
+ * queries. Size of every vocabulary is limited, tokens of raw queries can't grow it without bound, tokens that don't fit
+ * have no id. Vocabularies of the node are kept by {@link SparseTermStateCache}.
+ */
+public final class SparseVocabulary {
+    // several times the size of WordPiece vocabularies of sparse models
+    @VisibleForTesting
+    static final int MAX_TOKENS = 1 << 18;
+
+    private final int maxTokens;
+    private final Map<String, Token> tokens = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTokenId = new AtomicInteger();
+
+    @VisibleForTesting
+    SparseVocabulary(final int maxTokens) {
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Get interned token, token is added to the vocabulary if it's not there and the vocabulary isn't full
+     * @param token token string
+     * @return interned token, or null if token is not in the vocabulary and the vocabulary is full
+     */
+    public Token getToken(final String token) {
+        Token internedToken = tokens.get(token);
+        if (Objects.nonNull(internedToken) || nextTokenId.get() >= maxTokens) {
+            return internedToken;
+        }
+        return tokens.computeIfAbsent(token, value -> {
+            int id = nextTokenId.getAndIncrement();
+            return id < maxTokens ? new Token(value, id) : null;
+        });
+    }
+
+    /**
+     * @return number of tokens in the vocabulary
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * Token of the vocabulary
+     * @param value canonical string of the token
+     * @param id id of the token in the vocabulary
+     */
+    public record Token(String value, int id) {
+    }
+}
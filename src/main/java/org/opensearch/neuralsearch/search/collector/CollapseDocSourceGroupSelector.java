@@ -79,6 +79,20 @@ abstract class CollapseDocSourceGroupSelector<T> extends GroupSelector<T> {
             return currentValue();
         }
 
+        /**
+         * @return true if the current document has a collapse value
+         */
+        boolean hasValue() {
+            return hasValue;
+        }
+
+        /**
+         * @return collapse value of the current document without boxing, valid only if the document has a value
+         */
+        long longValue() {
+            return value;
+        }
+
         @Override
         public void setNextReader(LeafReaderContext readerContext) throws IOException {
             LeafReader reader = readerContext.reader();
@@ -190,6 +204,20 @@ abstract class CollapseDocSourceGroupSelector<T> extends GroupSelector<T> {
             }
         }
 
+        /**
+         * @return ordinal of the collapse value of the current document in the current segment, or -1 if the document has no value
+         */
+        int currentOrd() {
+            return ord;
+        }
+
+        /**
+         * @return number of unique collapse values in the current segment
+         */
+        int getValueCount() {
+            return values.getValueCount();
+        }
+
         @Override
         public void setNextReader(LeafReaderContext readerContext) throws IOException {
             LeafReader reader = readerContext.reader();
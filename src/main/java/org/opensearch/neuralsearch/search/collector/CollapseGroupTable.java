@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.internal.hppc.LongObjectHashMap;
+import org.apache.lucene.search.FieldValueHitQueue;
+import org.apache.lucene.search.LeafFieldComparator;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Table of collapse groups collected by the hybrid collapsing collector. Group of a document is found by the segment ordinal of
+ * its keyword value or by its numeric value, so collecting a document of a known group neither hashes objects nor allocates.
+ * @param <T> Type of collapse value: Numeric or Keyword
+ */
+abstract class CollapseGroupTable<T> {
+
+    private final List<Group<T>> groups = new ArrayList<>();
+    // marker that collapse values of evicted groups are mapped to, documents of these values are not collected into groups
+    final Group<T> evictedGroup = new Group<>(null, 0);
+
+    /**
+     * Set the segment that next documents are collected from
+     * @param context context of the segment
+     * @throws IOException If an I/O error occurs
+     */
+    abstract void setNextReader(LeafReaderContext context) throws IOException;
+
+    /**
+     * Advance to the document and find its group
+     * @param doc document id in the current segment
+     * @return group of the document, or null if this is the first document of the group
+     * @throws IOException If an I/O error occurs
+     */
+    abstract Group<T> advanceTo(int doc) throws IOException;
+
+    /**
+     * @return copy of the collapse value of the current document that can be kept after the segment is collected
+     */
+    abstract T copyValue();
+
+    /**
+     * Add group of the current document, must be called only if advanceTo did not find the group
+     * @param group new group
+     */
+    void add(final Group<T> group) {
+        groups.add(group);
+        register(group);
+    }
+
+    abstract void register(Group<T> group);
+
+    /**
+     * Remove groups from the table, advanceTo returns the evicted group marker for documents of removed groups
+     * @param isEvicted returns true for groups that are removed
+     */
+    void evict(final Predicate<Group<T>> isEvicted) {
+        groups.removeIf(group -> {
+            if (isEvicted.test(group)) {
+                markEvicted(group);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    abstract void markEvicted(Group<T> group);
+
+    /**
+     * @return all groups in the order they were added
+     */
+    List<Group<T>> groups() {
+        return groups;
+    }
+
+    /**
+     * All state of one collapse group, one element per sub-query in each array. Queue of a sub-query is created when
+     * the first document of the group that matches the sub-query is collected.
+     * @param <T> Type of collapse value
+     */
+    static final class Group<T> {
+        final T groupValue;
+        final FieldValueHitQueue<FieldValueHitQueue.Entry>[] queues;
+        final int[] collectedHits;
+        final FieldValueHitQueue.Entry[] bottomEntries;
+        final LeafFieldComparator[] leafComparators;
+        final boolean[] queueFull;
+        // segment for which leaf comparators are created
+        LeafReaderContext leafContext;
+        // estimated memory of the group that is accounted in the circuit breaker
+        long sizeInBytes;
+        // set while non-competitive groups are evicted
+        boolean competitive;
+
+        Group(final T groupValue, final int numSubQueries) {
+            this.groupValue = groupValue;
+            this.queues = new FieldValueHitQueue[numSubQueries];
+            this.collectedHits = new int[numSubQueries];
+            this.bottomEntries = new FieldValueHitQueue.Entry[numSubQueries];
+            this.leafComparators = new LeafFieldComparator[numSubQueries];
+            this.queueFull = new boolean[numSubQueries];
+        }
+    }
+
+    /**
+     * Groups of keyword values are addressed by segment ordinal. Ordinals are mapped to groups once per segment, when
+     * the first document of an ordinal is collected.
+     */
+    static final class Keyword extends CollapseGroupTable<BytesRef> {
+        private final CollapseDocSourceGroupSelector.Keyword groupSelector;
+        private final Map<BytesRef, Group<BytesRef>> groupsByValue = new HashMap<>();
+        private Group<BytesRef>[] groupsByOrd = new Group[0];
+        private int numOfOrds;
+        private Group<BytesRef> missingValueGroup;
+
+        Keyword(final CollapseDocSourceGroupSelector.Keyword groupSelector) {
+            this.groupSelector = groupSelector;
+        }
+
+        @Override
+        void setNextReader(final LeafReaderContext context) throws IOException {
+            groupSelector.setNextReader(context);
+            Arrays.fill(groupsByOrd, 0, numOfOrds, null);
+            numOfOrds = groupSelector.getValueCount();
+            if (numOfOrds > groupsByOrd.length) {
+                groupsByOrd = new Group[ArrayUtil.oversize(numOfOrds, RamUsageEstimator.NUM_BYTES_OBJECT_REF)];
+            }
+        }
+
+        @Override
+        Group<BytesRef> advanceTo(final int doc) throws IOException {
+            groupSelector.advanceTo(doc);
+            int ord = groupSelector.currentOrd();
+            if (ord == -1) {
+                return missingValueGroup;
+            }
+            Group<BytesRef> group = groupsByOrd[ord];
+            if (group == null) {
+                // first document of the ordinal in this segment, value of the ordinal is not copied for the lookup
+                group = groupsByValue.get(groupSelector.currentValue());
+                groupsByOrd[ord] = group;
+            }
+            return group;
+        }
+
+        @Override
+        BytesRef copyValue() {
+            return groupSelector.copyValue();
+        }
+
+        @Override
+        void register(final Group<BytesRef> group) {
+            int ord = groupSelector.currentOrd();
+            if (ord == -1) {
+                missingValueGroup = group;
+                return;
+            }
+            groupsByValue.put(group.groupValue, group);
+            groupsByOrd[ord] = group;
+        }
+
+        @Override
+        void evict(final Predicate<Group<BytesRef>> isEvicted) {
+            super.evict(isEvicted);
+            // ordinals of the current segment are mapped to groups again
+            Arrays.fill(groupsByOrd, 0, numOfOrds, null);
+        }
+
+        @Override
+        void markEvicted(final Group<BytesRef> group) {
+            if (group == missingValueGroup) {
+                missingValueGroup = evictedGroup;
+                return;
+            }
+            groupsByValue.put(group.groupValue, evictedGroup);
+        }
+    }
+
+    /**
+     * Groups of numeric values are addressed by the primitive value, which is the same in every segment
+     */
+    static final class Numeric extends CollapseGroupTable<Long> {
+        private final CollapseDocSourceGroupSelector.Numeric groupSelector;
+        private final LongObjectHashMap<Group<Long>> groupsByValue = new LongObjectHashMap<>();
+        private Group<Long> missingValueGroup;
+
+        Numeric(final CollapseDocSourceGroupSelector.Numeric groupSelector) {
+            this.groupSelector = groupSelector;
+        }
+
+        @Override
+        void setNextReader(final LeafReaderContext context) throws IOException {
+            groupSelector.setNextReader(context);
+        }
+
+        @Override
+        Group<Long> advanceTo(final int doc) throws IOException {
+            groupSelector.advanceTo(doc);
+            return groupSelector.hasValue() ? groupsByValue.get(groupSelector.longValue()) : missingValueGroup;
+        }
+
+        @Override
+        Long copyValue() {
+            return groupSelector.copyValue();
+        }
+
+        @Override
+        void register(final Group<Long> group) {
+            if (groupSelector.hasValue()) {
+                groupsByValue.put(groupSelector.longValue(), group);
+            } else {
+                missingValueGroup = group;
+            }
+        }
+
+        @Override
+        void markEvicted(final Group<Long> group) {
+            if (group == missingValueGroup) {
+                missingValueGroup = evictedGroup;
+                return;
+            }
+            groupsByValue.put(group.groupValue, evictedGroup);
+        }
+    }
+}
@@ -20,9 +20,12 @@ import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
-import org.apache.lucene.search.grouping.GroupSelector;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
@@ -30,46 +33,64 @@ import org.opensearch.neuralsearch.search.lucene.MultiLeafFieldComparator;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
  * Collects the CollapseTopFieldDocs based on a collapse field passed in a search request containing a hybrid query.
+ * Estimated memory of collected groups is accounted in the request circuit breaker and released when the collector is closed.
+ * In bounded memory mode, groups that are not in top groups of any subquery are evicted once the number of groups reaches
+ * twice the number of groups that can be competitive, so memory doesn't grow with cardinality of the collapse field.
+ * Only the collapse value of an evicted group is kept: documents of the value that are collected later are counted in total
+ * hits but not collected, so a collapse value is either returned with all its documents or not returned at all.
+ * Queue of a group for a sub-query is created on the first document of the group that matches the sub-query.
  */
 @Log4j2
-public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollector, Collector {
+public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollector, Collector, Releasable {
+    private static final String CIRCUIT_BREAKER_LABEL = "hybrid_collapse";
+    private static final long GROUP_OVERHEAD_IN_BYTES = 128;
+    private static final long QUEUE_OVERHEAD_IN_BYTES = 64;
+    // largest comparator slot, sort values are stored as primitive longs or doubles or as references
+    private static final long SLOT_SIZE_IN_BYTES = Long.BYTES;
+    private static final long BYTES_REF_SIZE_IN_BYTES = RamUsageEstimator.shallowSizeOfInstance(BytesRef.class);
+    private static final long ENTRY_SIZE_IN_BYTES = RamUsageEstimator.shallowSizeOfInstance(FieldValueHitQueue.Entry.class)
+        + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
     protected final String collapseField;
     private int totalHitCount;
     private float maxScore = 0.0f;
     private Sort sort;
-    private final GroupSelector<T> groupSelector;
+    private final CollapseGroupTable<T> groupTable;
     private final int[] reversed;
+    // comparators of multiple sort fields apply reverse order of each field themselves
+    private final int reverseMul;
     private final boolean needsScores = true;
     private int docBase;
-    private final Map<T, FieldValueHitQueue<FieldValueHitQueue.Entry>[]> groupQueueMap;
-    private Map<T, int[]> collectedHitsPerSubQueryMap;
-    private Map<T, FieldValueHitQueue.Entry[]> fieldValueLeafTrackersMap;
-    private Map<T, LeafFieldComparator[]> comparatorsMap;
-    private Map<T, FieldComparator<?>> firstComparatorMap;
-    private Map<T, Integer> reverseMulMap;
-    private Map<T, boolean[]> queueFullMap;
     private final int numHits;
     private final int docsPerGroupPerSubQuery;
+    // number of slots of the queue of a group per subquery
+    private final int queueSize;
+    // number of documents a group keeps per subquery, at most topNGroups
+    private final int queueCapacity;
+    private final boolean boundedMemory;
+    private final CircuitBreaker circuitBreaker;
+    private long accountedBytes;
+    private int[] evictedHitsPerSubQuery;
     @Setter
     TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
     private HitsThresholdChecker hitsThresholdChecker;
 
     HybridCollapsingTopDocsCollector(
-        GroupSelector<T> groupSelector,
+        CollapseGroupTable<T> groupTable,
         String collapseField,
         Sort groupSort,
         int topNGroups,
         HitsThresholdChecker hitsThresholdChecker,
-        int docsPerGroupPerSubQuery
+        int docsPerGroupPerSubQuery,
+        boolean boundedMemory,
+        CircuitBreaker circuitBreaker
     ) {
-        this.groupSelector = groupSelector;
+        this.groupTable = groupTable;
         this.collapseField = collapseField;
         this.sort = groupSort;
         if (topNGroups < 1) {
@@ -82,19 +103,17 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 SortField sortField = sortFields[i];
                 this.reversed[i] = sortField.getReverse() ? -1 : 1;
             }
-
-            this.groupQueueMap = new HashMap<>();
-            this.collectedHitsPerSubQueryMap = new HashMap<>();
-            this.fieldValueLeafTrackersMap = new HashMap<>();
-            this.comparatorsMap = new HashMap<>();
-            this.firstComparatorMap = new HashMap<>();
-            this.reverseMulMap = new HashMap<>();
-            this.queueFullMap = new HashMap<>();
+            this.reverseMul = reversed.length == 1 ? reversed[0] : 1;
 
             this.numHits = topNGroups;
             this.hitsThresholdChecker = hitsThresholdChecker;
             // If docsPerGroupPerSubQuery is not larger than 0, use the size for hybrid search without collapse
             this.docsPerGroupPerSubQuery = docsPerGroupPerSubQuery > 0 ? docsPerGroupPerSubQuery : topNGroups;
+            this.boundedMemory = boundedMemory;
+            // in bounded memory mode queues are sized to the documents a group keeps, otherwise to docsPerGroupPerSubQuery
+            this.queueCapacity = boundedMemory ? Math.min(this.docsPerGroupPerSubQuery, topNGroups) : topNGroups;
+            this.queueSize = boundedMemory ? queueCapacity : this.docsPerGroupPerSubQuery;
+            this.circuitBreaker = circuitBreaker;
         }
     }
 
@@ -115,14 +134,51 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         int topNGroups,
         HitsThresholdChecker hitsThresholdChecker,
         int docsPerGroupPerSubQuery
+    ) {
+        return createKeyword(
+            collapseField,
+            fieldType,
+            sort,
+            topNGroups,
+            hitsThresholdChecker,
+            docsPerGroupPerSubQuery,
+            false,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST)
+        );
+    }
+
+    /**
+     * Creates a HybridCollapsingTopDocsCollector for keyword fields that accounts memory of groups in the circuit breaker.
+     *
+     * @param collapseField The field to collapse on
+     * @param fieldType The mapped field type
+     * @param sort The sort criteria to apply
+     * @param topNGroups The number of top groups to collect
+     * @param hitsThresholdChecker Checker for hits threshold
+     * @param docsPerGroupPerSubQuery The number of documents stored per group per subquery
+     * @param boundedMemory If true, non-competitive groups are evicted while documents are collected
+     * @param circuitBreaker The request circuit breaker
+     * @return A new HybridCollapsingTopDocsCollector instance for keyword fields
+     */
+    public static HybridCollapsingTopDocsCollector<?> createKeyword(
+        String collapseField,
+        MappedFieldType fieldType,
+        Sort sort,
+        int topNGroups,
+        HitsThresholdChecker hitsThresholdChecker,
+        int docsPerGroupPerSubQuery,
+        boolean boundedMemory,
+        CircuitBreaker circuitBreaker
     ) {
         return new HybridCollapsingTopDocsCollector<>(
-            new CollapseDocSourceGroupSelector.Keyword(fieldType),
+            new CollapseGroupTable.Keyword(new CollapseDocSourceGroupSelector.Keyword(fieldType)),
             collapseField,
             sort,
             topNGroups,
             hitsThresholdChecker,
-            docsPerGroupPerSubQuery
+            docsPerGroupPerSubQuery,
+            boundedMemory,
+            circuitBreaker
         );
     }
 
@@ -143,14 +199,51 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         int topNGroups,
         HitsThresholdChecker hitsThresholdChecker,
         int docsPerGroupPerSubQuery
+    ) {
+        return createNumeric(
+            collapseField,
+            fieldType,
+            sort,
+            topNGroups,
+            hitsThresholdChecker,
+            docsPerGroupPerSubQuery,
+            false,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST)
+        );
+    }
+
+    /**
+     * Creates a HybridCollapsingTopDocsCollector for numeric fields that accounts memory of groups in the circuit breaker.
+     *
+     * @param collapseField The field to collapse on
+     * @param fieldType The mapped field type
+     * @param sort The sort criteria to apply
+     * @param topNGroups The number of top groups to collect
+     * @param hitsThresholdChecker Checker for hits threshold
+     * @param docsPerGroupPerSubQuery The number of documents stored per group per subquery
+     * @param boundedMemory If true, non-competitive groups are evicted while documents are collected
+     * @param circuitBreaker The request circuit breaker
+     * @return A new HybridCollapsingTopDocsCollector instance for numeric fields
+     */
+    public static HybridCollapsingTopDocsCollector<?> createNumeric(
+        String collapseField,
+        MappedFieldType fieldType,
+        Sort sort,
+        int topNGroups,
+        HitsThresholdChecker hitsThresholdChecker,
+        int docsPerGroupPerSubQuery,
+        boolean boundedMemory,
+        CircuitBreaker circuitBreaker
     ) {
         return new HybridCollapsingTopDocsCollector<>(
-            new CollapseDocSourceGroupSelector.Numeric(fieldType),
+            new CollapseGroupTable.Numeric(new CollapseDocSourceGroupSelector.Numeric(fieldType)),
             collapseField,
             sort,
             topNGroups,
             hitsThresholdChecker,
-            docsPerGroupPerSubQuery
+            docsPerGroupPerSubQuery,
+            boundedMemory,
+            circuitBreaker
         );
     }
 
@@ -163,28 +256,26 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
     @Override
     public List<CollapseTopFieldDocs> topDocs() throws IOException {
         List<CollapseTopFieldDocs> topDocsList = new ArrayList<>();
-        if (collectedHitsPerSubQueryMap.isEmpty()) {
+        List<CollapseGroupTable.Group<T>> groups = groupTable.groups();
+        if (groups.isEmpty()) {
             return topDocsList;
         }
-        int numSubQueries = collectedHitsPerSubQueryMap.values().iterator().next().length;
+        int numSubQueries = groups.get(0).collectedHits.length;
 
         for (int subQueryNumber = 0; subQueryNumber < numSubQueries; subQueryNumber++) {
             GroupPriorityQueue<T> topGroupsQueue = new GroupPriorityQueue<>(numHits);
 
             // Calculate total hits for current subquery
             int totalHitsForSubQuery = 0;
-            for (int[] hits : collectedHitsPerSubQueryMap.values()) {
-                totalHitsForSubQuery += hits[subQueryNumber];
+            for (CollapseGroupTable.Group<T> group : groups) {
+                totalHitsForSubQuery += group.collectedHits[subQueryNumber];
+            }
+            if (evictedHitsPerSubQuery != null) {
+                totalHitsForSubQuery += evictedHitsPerSubQuery[subQueryNumber];
             }
 
             // Collect top N groups
-            for (Map.Entry<T, FieldValueHitQueue<FieldValueHitQueue.Entry>[]> entry : groupQueueMap.entrySet()) {
-                T groupValue = entry.getKey();
-                FieldValueHitQueue<FieldValueHitQueue.Entry> queue = entry.getValue()[subQueryNumber];
-                if (queue.size() > 0) {
-                    topGroupsQueue.insertWithOverflow(new GroupEntry<>(groupValue, queue));
-                }
-            }
+            collectTopGroups(topGroupsQueue, groups, subQueryNumber);
 
             ArrayList<ScoreDoc> fieldDocs = new ArrayList<>();
             ArrayList<T> collapseValues = new ArrayList<>();
@@ -197,7 +288,7 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
 
             // Process the top groups and include all docs from each group
             for (GroupEntry<T> groupEntry : topGroups) {
-                T groupValue = groupEntry.groupValue;
+                T groupValue = groupEntry.group.groupValue;
                 FieldValueHitQueue<FieldValueHitQueue.Entry> priorityQueue = groupEntry.queue;
                 final int n = priorityQueue.getComparators().length;
 
@@ -231,12 +322,84 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
         return topDocsList;
     }
 
+    private void collectTopGroups(
+        GroupPriorityQueue<T> topGroupsQueue,
+        List<CollapseGroupTable.Group<T>> groups,
+        int subQueryNumber
+    ) {
+        for (CollapseGroupTable.Group<T> group : groups) {
+            FieldValueHitQueue<FieldValueHitQueue.Entry> queue = group.queues[subQueryNumber];
+            if (queue != null && queue.size() > 0) {
+                topGroupsQueue.insertWithOverflow(new GroupEntry<>(group, queue));
+            }
+        }
+    }
+
+    /**
+     * Evicts groups that are not in top groups of any subquery, hits of evicted groups are still counted in total hits.
+     * Memory of the queues of evicted groups is released, collapse values of evicted groups stay accounted.
+     */
+    private void evictNonCompetitiveGroups(int numSubQueries) {
+        List<CollapseGroupTable.Group<T>> groups = groupTable.groups();
+        for (int subQueryNumber = 0; subQueryNumber < numSubQueries; subQueryNumber++) {
+            GroupPriorityQueue<T> topGroupsQueue = new GroupPriorityQueue<>(numHits);
+            collectTopGroups(topGroupsQueue, groups, subQueryNumber);
+            while (topGroupsQueue.size() > 0) {
+                topGroupsQueue.pop().group.competitive = true;
+            }
+        }
+        int numOfGroups = groups.size();
+        long releasedBytes = 0;
+        for (CollapseGroupTable.Group<T> group : groups) {
+            if (group.competitive == false) {
+                for (int subQueryNumber = 0; subQueryNumber < numSubQueries; subQueryNumber++) {
+                    evictedHitsPerSubQuery[subQueryNumber] += group.collectedHits[subQueryNumber];
+                }
+                releasedBytes += group.sizeInBytes - estimateValueSizeInBytes(group.groupValue);
+            }
+        }
+        groupTable.evict(group -> group.competitive == false);
+        for (CollapseGroupTable.Group<T> group : groups) {
+            group.competitive = false;
+        }
+        circuitBreaker.addWithoutBreaking(-releasedBytes);
+        accountedBytes -= releasedBytes;
+        log.debug("evicted {} non-competitive collapse groups out of {}", numOfGroups - groups.size(), numOfGroups);
+    }
+
+    private long estimateGroupSizeInBytes(T groupValue, int numSubQueries) {
+        long arraysSizeInBytes = numSubQueries * (4L * RamUsageEstimator.NUM_BYTES_OBJECT_REF + Integer.BYTES + 1);
+        return GROUP_OVERHEAD_IN_BYTES + arraysSizeInBytes + estimateValueSizeInBytes(groupValue);
+    }
+
+    // collapse value and its entry in the table, this memory is kept after the group is evicted
+    private long estimateValueSizeInBytes(T groupValue) {
+        long valueSizeInBytes = groupValue instanceof BytesRef
+            ? BYTES_REF_SIZE_IN_BYTES + RamUsageEstimator.sizeOf(((BytesRef) groupValue).bytes)
+            : Long.BYTES;
+        return valueSizeInBytes + 2L * RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+    }
+
+    private long estimateQueueSizeInBytes() {
+        return QUEUE_OVERHEAD_IN_BYTES + (queueSize + 1L) * RamUsageEstimator.NUM_BYTES_OBJECT_REF
+            + queueSize * (ENTRY_SIZE_IN_BYTES + sort.getSort().length * SLOT_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Releases memory of collected groups accounted in the circuit breaker
+     */
+    @Override
+    public void close() {
+        circuitBreaker.addWithoutBreaking(-accountedBytes);
+        accountedBytes = 0;
+    }
+
     private static class GroupEntry<T> {
-        final T groupValue;
+        final CollapseGroupTable.Group<T> group;
         final FieldValueHitQueue<FieldValueHitQueue.Entry> queue;
 
-        GroupEntry(T groupValue, FieldValueHitQueue<FieldValueHitQueue.Entry> queue) {
-            this.groupValue = groupValue;
+        GroupEntry(CollapseGroupTable.Group<T> group, FieldValueHitQueue<FieldValueHitQueue.Entry> queue) {
+            this.group = group;
             this.queue = queue;
         }
     }
@@ -317,14 +480,8 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
     @Override
     public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
         docBase = context.docBase;
-        groupSelector.setNextReader(context);
+        groupTable.setNextReader(context);
         return new HybridLeafCollector() {
-            Map<T, Boolean> initializeLeafComparatorsPerSegmentOnceMap;
-
-            {
-                initializeLeafComparatorsPerSegmentOnceMap = new HashMap<>();
-            }
-
             /**
              * Collects a document and processes it based on its group value, scores, and sort.
              *
@@ -338,72 +495,115 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                     return;
                 }
 
-                // Gets the collapse group value associated with the current document
-                groupSelector.advanceTo(doc);
-                T groupValue = groupSelector.currentValue();
-                assert groupValue != null;
-
                 float[] subScoresByQuery = compoundQueryScorer.getSubQueryScores();
-                initializeQueueIfNeeded(groupValue, subScoresByQuery.length);
-                initializeLeafComparatorsIfNeeded(groupValue, subScoresByQuery.length, compoundQueryScorer);
+                // Gets the collapse group associated with the current document, the group is created on its first document
+                CollapseGroupTable.Group<T> group = groupTable.advanceTo(doc);
+                if (group == groupTable.evictedGroup) {
+                    updateHitCount();
+                    countEvictedHits(subScoresByQuery);
+                    return;
+                }
+                if (group == null) {
+                    group = createGroup(subScoresByQuery.length);
+                }
+                if (group.leafContext != context) {
+                    initializeLeafComparators(group, compoundQueryScorer);
+                }
 
                 updateHitCount();
 
                 for (int subQueryNumber = 0; subQueryNumber < subScoresByQuery.length; subQueryNumber++) {
                     float score = subScoresByQuery[subQueryNumber];
+                    // if score is 0.0 the sub-query doesn't match the document
+                    if (score == 0) {
+                        continue;
+                    }
+                    if (group.queues[subQueryNumber] == null) {
+                        createQueue(group, subQueryNumber, compoundQueryScorer);
+                    }
 
-                    // Retrieve the array of collected hits for the current group
-                    int[] collectedHitsForCurrentSubQuery = collectedHitsPerSubQueryMap.get(groupValue);
-                    int slot = collectedHitsForCurrentSubQuery[subQueryNumber];
-
-                    // Increment the hit count for the current subquery
-                    collectedHitsForCurrentSubQuery[subQueryNumber]++;
-                    collectedHitsPerSubQueryMap.put(groupValue, collectedHitsForCurrentSubQuery);
+                    // Increment the hit count for the current subquery, the previous count is the slot of a new entry
+                    int slot = group.collectedHits[subQueryNumber]++;
 
                     // If the priority queue is full, replace the lowest scoring document per the comparator.
                     // If the priority queue is not full, add the entry to the queue.
-                    if (isQueueFull(groupValue, subQueryNumber)) {
-                        updateExistingEntry(groupValue, subQueryNumber, doc);
+                    if (group.queueFull[subQueryNumber]) {
+                        updateExistingEntry(group, subQueryNumber, doc);
                     } else {
-                        addNewEntry(groupValue, subQueryNumber, doc, score, slot);
+                        addNewEntry(group, subQueryNumber, doc, score, slot);
                     }
                 }
             }
 
-            private void initializeQueueIfNeeded(T groupValue, int subQueryCount) throws IOException {
-                if (groupQueueMap.get(groupValue) == null) {
-                    initializeQueue(subQueryCount);
+            private CollapseGroupTable.Group<T> createGroup(int numSubQueries) {
+                if (boundedMemory) {
+                    if (evictedHitsPerSubQuery == null) {
+                        evictedHitsPerSubQuery = new int[numSubQueries];
+                    }
+                    if (groupTable.groups().size() >= 2 * numHits * numSubQueries) {
+                        evictNonCompetitiveGroups(numSubQueries);
+                    }
                 }
+                T groupValue = groupTable.copyValue();
+                long sizeInBytes = estimateGroupSizeInBytes(groupValue, numSubQueries);
+                circuitBreaker.addEstimateBytesAndMaybeBreak(sizeInBytes, CIRCUIT_BREAKER_LABEL);
+                accountedBytes += sizeInBytes;
+
+                CollapseGroupTable.Group<T> group = new CollapseGroupTable.Group<>(groupValue, numSubQueries);
+                group.sizeInBytes = sizeInBytes;
+                groupTable.add(group);
+                return group;
             }
 
-            private void initializeLeafComparatorsIfNeeded(T groupValue, int numSubQueries, HybridSubQueryScorer compoundQueryScorer)
+            private void createQueue(CollapseGroupTable.Group<T> group, int subQueryNumber, HybridSubQueryScorer compoundQueryScorer)
                 throws IOException {
-                if (initializeLeafComparatorsPerSegmentOnceMap.get(groupValue) == null) {
-                    initializeLeafComparators(groupValue, numSubQueries, compoundQueryScorer);
+                long sizeInBytes = estimateQueueSizeInBytes();
+                circuitBreaker.addEstimateBytesAndMaybeBreak(sizeInBytes, CIRCUIT_BREAKER_LABEL);
+                accountedBytes += sizeInBytes;
+                group.sizeInBytes += sizeInBytes;
+
+                group.queues[subQueryNumber] = FieldValueHitQueue.create(sort.getSort(), queueSize);
+                initializeLeafComparator(group, subQueryNumber, compoundQueryScorer);
+            }
+
+            // hits of a sub-query are counted for a document of an evicted group that matches the sub-query
+            private void countEvictedHits(float[] subScoresByQuery) {
+                for (int subQueryNumber = 0; subQueryNumber < subScoresByQuery.length; subQueryNumber++) {
+                    if (subScoresByQuery[subQueryNumber] != 0) {
+                        evictedHitsPerSubQuery[subQueryNumber]++;
+                    }
                 }
             }
 
-            private void initializeLeafComparators(T groupValue, int numSubQueries, HybridSubQueryScorer compoundQueryScorer)
+            private void initializeLeafComparators(CollapseGroupTable.Group<T> group, HybridSubQueryScorer compoundQueryScorer)
                 throws IOException {
-                LeafFieldComparator[] comparators = comparatorsMap.get(groupValue);
-                FieldValueHitQueue<FieldValueHitQueue.Entry>[] compoundScores = groupQueueMap.get(groupValue);
-
-                for (int subQueryNumber = 0; subQueryNumber < numSubQueries; subQueryNumber++) {
-                    LeafFieldComparator[] leafFieldComparators = compoundScores[subQueryNumber].getComparators(context);
-                    int[] reverseMuls = compoundScores[subQueryNumber].getReverseMul();
-
-                    if (leafFieldComparators.length == 1) {
-                        reverseMulMap.put(groupSelector.copyValue(), reverseMuls[0]);
-                        comparators[subQueryNumber] = leafFieldComparators[0];
-                    } else {
-                        reverseMulMap.put(groupSelector.copyValue(), 1);
-                        comparators[subQueryNumber] = new MultiLeafFieldComparator(leafFieldComparators, reverseMuls);
+                for (int subQueryNumber = 0; subQueryNumber < group.queues.length; subQueryNumber++) {
+                    if (group.queues[subQueryNumber] != null) {
+                        initializeLeafComparator(group, subQueryNumber, compoundQueryScorer);
                     }
-                    comparators[subQueryNumber].setScorer(compoundQueryScorer);
                 }
+                group.leafContext = context;
+            }
+
+            private void initializeLeafComparator(
+                CollapseGroupTable.Group<T> group,
+                int subQueryNumber,
+                HybridSubQueryScorer compoundQueryScorer
+            ) throws IOException {
+                LeafFieldComparator[] leafFieldComparators = group.queues[subQueryNumber].getComparators(context);
+                int[] reverseMuls = group.queues[subQueryNumber].getReverseMul();
 
-                comparatorsMap.put(groupSelector.copyValue(), comparators);
-                initializeLeafComparatorsPerSegmentOnceMap.put(groupSelector.copyValue(), false);
+                if (leafFieldComparators.length == 1) {
+                    group.leafComparators[subQueryNumber] = leafFieldComparators[0];
+                } else {
+                    group.leafComparators[subQueryNumber] = new MultiLeafFieldComparator(leafFieldComparators, reverseMuls);
+                }
+                group.leafComparators[subQueryNumber].setScorer(compoundQueryScorer);
+                FieldValueHitQueue.Entry bottomEntry = group.bottomEntries[subQueryNumber];
+                if (group.queueFull[subQueryNumber] && bottomEntry != null) {
+                    // comparator of a new segment doesn't know the bottom of the full queue
+                    group.leafComparators[subQueryNumber].setBottom(bottomEntry.slot);
+                }
             }
 
             private void updateHitCount() throws CollectionTerminatedException {
@@ -417,91 +617,48 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 }
             }
 
-            private boolean isQueueFull(T groupValue, int index) {
-                boolean[] queueFullArray = queueFullMap.get(groupValue);
-                return queueFullArray[index];
-            }
-
-            private void updateExistingEntry(T groupValue, int index, int doc) throws IOException {
-                // Retrieve the array of comparators for the current group
-                LeafFieldComparator[] comparators = comparatorsMap.get(groupValue);
+            private void updateExistingEntry(CollapseGroupTable.Group<T> group, int index, int doc) throws IOException {
+                LeafFieldComparator comparator = group.leafComparators[index];
 
                 // Check if the current document should replace the bottom entry in the queue
                 // The comparison is multiplied by reverseMul to handle ascending/descending order
-                if (reverseMulMap.get(groupValue) * comparators[index].compareBottom(doc) > 0) {
-                    // Retrieve the leaf trackers and compound scores for the current group
-                    FieldValueHitQueue.Entry[] fieldValueLeafTrackers = fieldValueLeafTrackersMap.get(groupValue);
-                    FieldValueHitQueue<FieldValueHitQueue.Entry>[] compoundScores = groupQueueMap.get(groupValue);
+                if (reverseMul * comparator.compareBottom(doc) > 0) {
+                    FieldValueHitQueue.Entry[] fieldValueLeafTrackers = group.bottomEntries;
 
                     // Copy the current document's data to the slot of the bottom entry
-                    comparators[index].copy(fieldValueLeafTrackers[index].slot, doc);
+                    comparator.copy(fieldValueLeafTrackers[index].slot, doc);
 
                     // Update the document ID in the leaf tracker
                     fieldValueLeafTrackers[index].doc = docBase + doc;
 
-                    // Update the top entry in the compound scores and get the new bottom entry
-                    fieldValueLeafTrackers[index] = compoundScores[index].updateTop();
+                    // Update the top entry in the queue and get the new bottom entry
+                    fieldValueLeafTrackers[index] = group.queues[index].updateTop();
 
                     // Set the new bottom entry in the comparator
-                    comparators[index].setBottom(fieldValueLeafTrackers[index].slot);
-
-                    // Update related maps with the new information
-                    updateMaps(comparators, fieldValueLeafTrackers, compoundScores);
+                    comparator.setBottom(fieldValueLeafTrackers[index].slot);
                 }
             }
 
-            private void addNewEntry(T groupValue, int subQueryNumber, int doc, float score, int slot) throws IOException {
-                // Retrieve the compound scores for the current group
-                FieldValueHitQueue<FieldValueHitQueue.Entry>[] compoundScores = groupQueueMap.get(groupValue);
+            private void addNewEntry(CollapseGroupTable.Group<T> group, int subQueryNumber, int doc, float score, int slot)
+                throws IOException {
                 // Update the maximum score if necessary
                 maxScore = Math.max(score, maxScore);
 
-                // Retrieve leaf trackers and comparators for the current group
-                FieldValueHitQueue.Entry[] fieldValueLeafTrackers = fieldValueLeafTrackersMap.get(groupValue);
-                LeafFieldComparator[] comparators = comparatorsMap.get(groupValue);
-
                 // Copy the document data to the appropriate slot in the comparator
-                comparators[subQueryNumber].copy(slot, doc);
+                group.leafComparators[subQueryNumber].copy(slot, doc);
 
                 // Create a new entry with the current slot, document, and score
                 FieldValueHitQueue.Entry bottomEntry = new FieldValueHitQueue.Entry(slot, docBase + doc);
                 bottomEntry.score = score;
 
-                // Add the new entry to the compound scores and update the leaf tracker
-                fieldValueLeafTrackers[subQueryNumber] = compoundScores[subQueryNumber].add(bottomEntry);
-
-                // Update related maps with the new information
-                updateMaps(comparators, fieldValueLeafTrackers, compoundScores);
+                // Add the new entry to the queue and update the leaf tracker
+                group.bottomEntries[subQueryNumber] = group.queues[subQueryNumber].add(bottomEntry);
 
                 // Check if the queue is full for this subquery
-                if (slot == (numHits - 1)) {
-                    boolean[] queueFullArray = queueFullMap.get(groupValue);
-                    queueFullArray[subQueryNumber] = true;
-                    queueFullMap.put(groupSelector.copyValue(), queueFullArray);
-                }
-            }
-
-            private void updateMaps(
-                LeafFieldComparator[] comparators,
-                FieldValueHitQueue.Entry[] fieldValueLeafTrackers,
-                FieldValueHitQueue<FieldValueHitQueue.Entry>[] compoundScores
-            ) throws IOException {
-                comparatorsMap.put(groupSelector.copyValue(), comparators);
-                fieldValueLeafTrackersMap.put(groupSelector.copyValue(), fieldValueLeafTrackers);
-                groupQueueMap.put(groupSelector.copyValue(), compoundScores);
-            }
-
-            private void initializeQueue(int numSubQueries) throws IOException {
-                FieldValueHitQueue<FieldValueHitQueue.Entry>[] compoundScores = new FieldValueHitQueue[numSubQueries];
-                for (int i = 0; i < numSubQueries; i++) {
-                    compoundScores[i] = FieldValueHitQueue.create(sort.getSort(), docsPerGroupPerSubQuery);
-                    firstComparatorMap.put(groupSelector.copyValue(), compoundScores[i].getComparators()[0]);
+                if (slot == (queueCapacity - 1)) {
+                    group.queueFull[subQueryNumber] = true;
+                    group.leafComparators[subQueryNumber].setBottom(group.bottomEntries[subQueryNumber].slot);
                 }
-                groupQueueMap.put(groupSelector.copyValue(), compoundScores);
-                collectedHitsPerSubQueryMap.put(groupSelector.copyValue(), new int[numSubQueries]);
-                comparatorsMap.put(groupSelector.copyValue(), new LeafFieldComparator[numSubQueries]);
-                fieldValueLeafTrackersMap.put(groupSelector.copyValue(), new FieldValueHitQueue.Entry[numSubQueries]);
-                queueFullMap.put(groupSelector.copyValue(), new boolean[numSubQueries]);
             }
         };
     }
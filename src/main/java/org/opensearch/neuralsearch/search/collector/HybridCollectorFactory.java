@@ -8,6 +8,10 @@ import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
@@ -18,6 +22,7 @@ import org.opensearch.search.sort.SortAndFormats;
 
 import java.util.Locale;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_COLLAPSE_BOUNDED_MEMORY_ENABLED;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY;
 
 /**
@@ -42,27 +47,33 @@ public class HybridCollectorFactory {
         FieldDoc after = hybridCollectorFactoryDTO.getAfter();
         if (collapseContext != null) {
             // Collapse is applied
-            int docsPerGroupPerSubquery = HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY.get(
-                searchContext.indexShard().indexSettings().getSettings()
-            );
+            Settings indexSettings = searchContext.indexShard().indexSettings().getSettings();
+            int docsPerGroupPerSubquery = HYBRID_COLLAPSE_DOCS_PER_GROUP_PER_SUBQUERY.get(indexSettings);
+            boolean boundedMemory = HYBRID_COLLAPSE_BOUNDED_MEMORY_ENABLED.get(indexSettings);
+            CircuitBreaker circuitBreaker = getRequestCircuitBreaker(searchContext);
             MappedFieldType fieldType = collapseContext.getFieldType();
+            HybridCollapsingTopDocsCollector<?> collapsingCollector;
             if (fieldType instanceof KeywordFieldMapper.KeywordFieldType) {
-                return HybridCollapsingTopDocsCollector.createKeyword(
+                collapsingCollector = HybridCollapsingTopDocsCollector.createKeyword(
                     collapseContext.getFieldName(),
                     fieldType,
                     sortAndFormats == null ? new Sort(new SortField(null, SortField.Type.SCORE)) : sortAndFormats.sort,
                     numHits,
                     hitsThresholdChecker,
-                    docsPerGroupPerSubquery
+                    docsPerGroupPerSubquery,
+                    boundedMemory,
+                    circuitBreaker
                 );
             } else if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
-                return HybridCollapsingTopDocsCollector.createNumeric(
+                collapsingCollector = HybridCollapsingTopDocsCollector.createNumeric(
                     collapseContext.getFieldName(),
                     fieldType,
                     sortAndFormats == null ? new Sort(new SortField(null, SortField.Type.SCORE)) : sortAndFormats.sort,
                     numHits,
                     hitsThresholdChecker,
-                    docsPerGroupPerSubquery
+                    docsPerGroupPerSubquery,
+                    boundedMemory,
+                    circuitBreaker
                 );
             } else {
                 throw new IllegalStateException(
@@ -73,12 +84,19 @@ public class HybridCollectorFactory {
                     )
                 );
             }
+            // memory accounted by the collector is released together with the search context
+            searchContext.addReleasable(collapsingCollector);
+            return collapsingCollector;
         } else {
             if (sortAndFormats == null) {
                 return new HybridTopScoreDocCollector(numHits, hitsThresholdChecker);
             } else {
                 // Sorting is applied
                 if (after == null) {
+                    if (SimpleNumericFieldCollector.isSupported(sortAndFormats.sort, numHits)) {
+                        // sort by one numeric field is collected into primitive heaps
+                        return new SimpleNumericFieldCollector(numHits, hitsThresholdChecker, sortAndFormats.sort);
+                    }
                     return new SimpleFieldCollector(numHits, hitsThresholdChecker, sortAndFormats.sort);
                 } else {
                     // search_after is applied
@@ -89,6 +107,14 @@ public class HybridCollectorFactory {
         }
     }
 
+    private static CircuitBreaker getRequestCircuitBreaker(SearchContext searchContext) {
+        BigArrays bigArrays = searchContext.bigArrays();
+        if (bigArrays == null || bigArrays.breakerService() == null) {
+            return new NoopCircuitBreaker(CircuitBreaker.REQUEST);
+        }
+        return bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST);
+    }
+
     private static void validateSearchAfterFieldAndSortFormats(SortAndFormats sortAndFormats, FieldDoc after) {
         if (after.fields == null) {
             throw new IllegalArgumentException("after.fields wasn't set; you must pass fillFields=true for the previous search");
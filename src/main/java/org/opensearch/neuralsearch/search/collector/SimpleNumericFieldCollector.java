@@ -0,0 +1,370 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+
+/**
+ * Collects sorted results of every sub-query when hybrid query is sorted by one numeric doc values field. This is the fast path of
+ * {@link SimpleFieldCollector}: sort value of a document is read once from doc values and compared as a primitive long with
+ * the bottom of primitive heaps of every sub-query, instead of copying it to comparators of every sub-query.
+ * Results are the same as results of {@link SimpleFieldCollector}, including early termination of collection of segments
+ * when the sort is the first field of the index sort.
+ */
+public final class SimpleNumericFieldCollector implements HybridSearchCollector {
+    private static final TopFieldDocs EMPTY_TOP_FIELD_DOCS = new TopFieldDocs(
+        new TotalHits(0, TotalHits.Relation.EQUAL_TO),
+        new ScoreDoc[0],
+        new SortField[0]
+    );
+
+    private final int numHits;
+    private final HitsThresholdChecker hitsThresholdChecker;
+    private final Sort sort;
+    private final SortField sortField;
+    private final SortField.Type numericType;
+    // sort value of documents without a value, as raw bits of doc values
+    private final long missingValueBits;
+    // true if segments are sorted by the sort field, evaluated on the first segment as all segments are sorted in the same way
+    private Boolean searchSortPartOfIndexSort = null;
+    private SortValueHeap[] heaps;
+    private int[] collectedHits;
+    @Getter
+    private int totalHits;
+    @Getter
+    private float maxScore = 0.0f;
+    @Getter
+    @Setter
+    private TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
+
+    public SimpleNumericFieldCollector(int numHits, HitsThresholdChecker hitsThresholdChecker, Sort sort) {
+        if (isSupported(sort, numHits) == false) {
+            throw new IllegalArgumentException("sort must be by one numeric field");
+        }
+        this.numHits = numHits;
+        this.hitsThresholdChecker = hitsThresholdChecker;
+        this.sort = sort;
+        this.sortField = sort.getSort()[0];
+        this.numericType = getNumericType(sortField);
+        this.missingValueBits = toBits(sortField.getMissingValue(), numericType);
+    }
+
+    /**
+     * Check if results sorted by the sort can be collected by this collector
+     * @param sort sort of the search request
+     * @param numHits number of hits to collect for every sub-query
+     * @return true if sort is by one numeric doc values field
+     */
+    public static boolean isSupported(final Sort sort, final int numHits) {
+        if (numHits <= 0 || Objects.isNull(sort) || sort.getSort().length != 1) {
+            return false;
+        }
+        SortField sortField = sort.getSort()[0];
+        // subclasses other than sorted numeric may compare values differently
+        boolean isNumericSortField = sortField.getClass() == SortField.class || sortField instanceof SortedNumericSortField;
+        if (Objects.isNull(sortField.getField()) || isNumericSortField == false) {
+            return false;
+        }
+        SortField.Type numericType = getNumericType(sortField);
+        return numericType == SortField.Type.INT
+            || numericType == SortField.Type.LONG
+            || numericType == SortField.Type.FLOAT
+            || numericType == SortField.Type.DOUBLE;
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return hitsThresholdChecker.scoreMode();
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+        final int docBase = context.docBase;
+        final NumericDocValues values = getNumericDocValues(context);
+        if (Objects.isNull(searchSortPartOfIndexSort)) {
+            Sort indexSort = context.reader().getMetaData().sort();
+            searchSortPartOfIndexSort = Objects.nonNull(indexSort)
+                && indexSort.getSort().length > 0
+                && indexSort.getSort()[0].equals(sortField);
+        }
+
+        return new HybridLeafCollector() {
+            private boolean collectedAllCompetitiveHits = false;
+
+            @Override
+            public void collect(int doc) throws IOException {
+                if (Objects.isNull(compoundQueryScorer)) {
+                    throw new IllegalArgumentException("scorers are null for all sub-queries in hybrid query");
+                }
+                float[] subScoresByQuery = compoundQueryScorer.getSubQueryScores();
+                if (Objects.isNull(heaps)) {
+                    initializeHeaps(subScoresByQuery.length);
+                }
+                incrementTotalHitCount();
+                // sort value is the same for every sub-query, it's read only once
+                long sortKey = toSortKey(values.advanceExact(doc) ? values.longValue() : missingValueBits);
+                for (int i = 0; i < subScoresByQuery.length; i++) {
+                    float score = subScoresByQuery[i];
+                    // if score is 0.0 there is no hits for that sub-query
+                    if (score == 0) {
+                        continue;
+                    }
+                    maxScore = Math.max(score, maxScore);
+                    SortValueHeap heap = heaps[i];
+                    if (heap.isFull()) {
+                        // docs are visited in doc id order, document with the same sort value as the bottom is not competitive.
+                        // Non-competitive document is not collected for the next sub-queries, same as in SimpleFieldCollector
+                        if (collectedAllCompetitiveHits || sortKey >= heap.bottomSortKey()) {
+                            checkEarlyTermination();
+                            return;
+                        }
+                        heap.replaceBottom(sortKey, docBase + doc, score);
+                    } else {
+                        collectedHits[i]++;
+                        heap.add(sortKey, docBase + doc, score);
+                    }
+                }
+            }
+
+            /*
+            In a segment that is sorted by the sort field, docs after a non-competitive doc are not competitive either. Collection
+            of the segment is terminated once the hits threshold is reached, until then docs are only counted.
+             */
+            private void checkEarlyTermination() {
+                if (searchSortPartOfIndexSort == false) {
+                    return;
+                }
+                if (hitsThresholdChecker.isThresholdReached()) {
+                    setTotalHitsRelation(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                    throw new CollectionTerminatedException();
+                }
+                collectedAllCompetitiveHits = true;
+            }
+        };
+    }
+
+    /**
+     * HybridCollectorManager fetches the topDocs in the reduce method.
+     * @return List of TopFieldDocs which represents results of Top Docs of individual subquery.
+     */
+    @Override
+    public List<TopFieldDocs> topDocs() {
+        List<TopFieldDocs> topFieldDocs = new ArrayList<>();
+        if (Objects.isNull(heaps)) {
+            return topFieldDocs;
+        }
+        for (int subQueryNumber = 0; subQueryNumber < heaps.length; subQueryNumber++) {
+            SortValueHeap heap = heaps[subQueryNumber];
+            if (heap.size() == 0) {
+                topFieldDocs.add(EMPTY_TOP_FIELD_DOCS);
+                continue;
+            }
+            ScoreDoc[] results = new ScoreDoc[heap.size()];
+            for (int i = results.length - 1; i >= 0; i--) {
+                results[i] = new FieldDoc(heap.bottomDoc(), heap.bottomScore(), new Object[] { toSortValue(heap.bottomSortKey()) });
+                heap.pop();
+            }
+            topFieldDocs.add(
+                new TopFieldDocs(new TotalHits(collectedHits[subQueryNumber], totalHitsRelation), results, sort.getSort())
+            );
+        }
+        return topFieldDocs;
+    }
+
+    private void initializeHeaps(int numberOfSubQueries) {
+        heaps = new SortValueHeap[numberOfSubQueries];
+        for (int i = 0; i < numberOfSubQueries; i++) {
+            heaps[i] = new SortValueHeap(numHits);
+        }
+        collectedHits = new int[numberOfSubQueries];
+    }
+
+    /*
+    Increment total hit count and validate if threshold is reached.
+     */
+    private void incrementTotalHitCount() {
+        totalHits++;
+        hitsThresholdChecker.incrementHitCount();
+        if (scoreMode().isExhaustive() == false
+            && totalHitsRelation == TotalHits.Relation.EQUAL_TO
+            && hitsThresholdChecker.isThresholdReached()) {
+            totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+        }
+    }
+
+    private NumericDocValues getNumericDocValues(LeafReaderContext context) throws IOException {
+        if (sortField instanceof SortedNumericSortField) {
+            SortedNumericSortField sortedNumericSortField = (SortedNumericSortField) sortField;
+            return SortedNumericSelector.wrap(
+                DocValues.getSortedNumeric(context.reader(), sortField.getField()),
+                sortedNumericSortField.getSelector(),
+                numericType
+            );
+        }
+        return DocValues.getNumeric(context.reader(), sortField.getField());
+    }
+
+    /*
+    Sort key is a long with the same order as the sort value, smaller key is sorted first
+     */
+    private long toSortKey(long bits) {
+        long sortKey = switch (numericType) {
+            case INT -> (int) bits;
+            case FLOAT -> NumericUtils.floatToSortableInt(Float.intBitsToFloat((int) bits));
+            case DOUBLE -> NumericUtils.doubleToSortableLong(Double.longBitsToDouble(bits));
+            default -> bits;
+        };
+        // bitwise not reverses the order without overflow
+        return sortField.getReverse() ? ~sortKey : sortKey;
+    }
+
+    private Object toSortValue(long sortKey) {
+        long key = sortField.getReverse() ? ~sortKey : sortKey;
+        return switch (numericType) {
+            case INT -> (int) key;
+            case FLOAT -> NumericUtils.sortableIntToFloat((int) key);
+            case DOUBLE -> NumericUtils.sortableLongToDouble(key);
+            default -> key;
+        };
+    }
+
+    private static SortField.Type getNumericType(SortField sortField) {
+        return sortField instanceof SortedNumericSortField
+            ? ((SortedNumericSortField) sortField).getNumericType()
+            : sortField.getType();
+    }
+
+    private static long toBits(Object missingValue, SortField.Type numericType) {
+        if (Objects.isNull(missingValue)) {
+            return 0L;
+        }
+        return switch (numericType) {
+            case FLOAT -> Float.floatToIntBits((Float) missingValue);
+            case DOUBLE -> Double.doubleToLongBits((Double) missingValue);
+            default -> ((Number) missingValue).longValue();
+        };
+    }
+
+    /**
+     * Max heap of sort keys of collected documents, bottom of the heap is the least competitive document. Ties of sort keys are
+     * ordered by doc id, document with the larger doc id is less competitive.
+     */
+    static final class SortValueHeap {
+        private final long[] sortKeys;
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        SortValueHeap(int capacity) {
+            // element 0 is not used, children of element i are 2i and 2i + 1
+            this.sortKeys = new long[capacity + 1];
+            this.docs = new int[capacity + 1];
+            this.scores = new float[capacity + 1];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isFull() {
+            return size == sortKeys.length - 1;
+        }
+
+        long bottomSortKey() {
+            return sortKeys[1];
+        }
+
+        int bottomDoc() {
+            return docs[1];
+        }
+
+        float bottomScore() {
+            return scores[1];
+        }
+
+        void add(long sortKey, int doc, float score) {
+            size++;
+            set(size, sortKey, doc, score);
+            upHeap(size);
+        }
+
+        void replaceBottom(long sortKey, int doc, float score) {
+            set(1, sortKey, doc, score);
+            downHeap(1);
+        }
+
+        void pop() {
+            set(1, sortKeys[size], docs[size], scores[size]);
+            size--;
+            if (size > 0) {
+                downHeap(1);
+            }
+        }
+
+        private boolean lessCompetitive(int i, int j) {
+            return sortKeys[i] > sortKeys[j] || (sortKeys[i] == sortKeys[j] && docs[i] > docs[j]);
+        }
+
+        private void upHeap(int i) {
+            while (i > 1 && lessCompetitive(i, i >>> 1)) {
+                swap(i, i >>> 1);
+                i >>>= 1;
+            }
+        }
+
+        private void downHeap(int i) {
+            while (true) {
+                int child = i << 1;
+                if (child > size) {
+                    return;
+                }
+                if (child < size && lessCompetitive(child + 1, child)) {
+                    child++;
+                }
+                if (lessCompetitive(child, i) == false) {
+                    return;
+                }
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void set(int i, long sortKey, int doc, float score) {
+            sortKeys[i] = sortKey;
+            docs[i] = doc;
+            scores[i] = score;
+        }
+
+        private void swap(int i, int j) {
+            long sortKey = sortKeys[i];
+            int doc = docs[i];
+            float score = scores[i];
+            set(i, sortKeys[j], docs[j], scores[j]);
+            set(j, sortKey, doc, score);
+        }
+    }
+}
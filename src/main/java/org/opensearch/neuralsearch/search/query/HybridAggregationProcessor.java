@@ -15,6 +15,7 @@ import org.opensearch.search.query.ReduceableSearchResult;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 import static org.opensearch.neuralsearch.util.HybridQueryUtil.isHybridQuery;
 
@@ -58,7 +59,9 @@ public class HybridAggregationProcessor implements AggregationProcessor {
             if (!context.shouldUseConcurrentSearch()) {
                 reduceCollectorResults(context);
             }
+            fuseScrollResults(context);
             updateQueryResult(context.queryResult(), context);
+            cacheQueryResult(context);
         }
 
         delegateAggsProcessor.postProcess(context);
@@ -73,6 +76,27 @@ public class HybridAggregationProcessor implements AggregationProcessor {
         }
     }
 
+    private void fuseScrollResults(final SearchContext context) {
+        // search pipelines are not called for next rounds of scroll, results collected by the query are fused on the shard
+        if (Objects.nonNull(context.scrollContext()) && isCollectedByQuery(context)) {
+            HybridScrollResults.fuse(context);
+        }
+    }
+
+    private void cacheQueryResult(final SearchContext context) {
+        HybridQueryResultsCache hybridQueryResultsCache = HybridQueryResultsCache.getInstance();
+        if (Objects.nonNull(hybridQueryResultsCache) && isCollectedByQuery(context)) {
+            hybridQueryResultsCache.getKey(context).ifPresent(key -> hybridQueryResultsCache.put(key, context));
+        }
+    }
+
+    /**
+     * Results that are taken from a previous page by the query phase searcher are reduced by other collector manager
+     */
+    private boolean isCollectedByQuery(final SearchContext context) {
+        return context.queryCollectorManagers().get(HybridCollectorManager.class) instanceof HybridCollectorManager;
+    }
+
     private void updateQueryResult(final QuerySearchResult queryResult, final SearchContext searchContext) {
         boolean isSingleShard = searchContext.numberOfShards() == 1;
         if (isSingleShard) {
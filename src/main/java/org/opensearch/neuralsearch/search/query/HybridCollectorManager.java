@@ -31,6 +31,7 @@ import org.opensearch.neuralsearch.search.collector.HybridCollectorFactory;
 import org.opensearch.neuralsearch.search.collector.HybridCollectorFactoryDTO;
 import org.opensearch.neuralsearch.search.collector.HybridSearchCollector;
 import org.opensearch.neuralsearch.search.collector.HybridTopFieldDocSortCollector;
+import org.opensearch.neuralsearch.search.collector.SimpleNumericFieldCollector;
 import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.internal.ContextIndexSearcher;
@@ -84,6 +85,7 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
     private final Set<Class<?>> VALID_COLLECTOR_TYPES = Set.of(
         HybridTopScoreDocCollector.class,
         HybridTopFieldDocSortCollector.class,
+        SimpleNumericFieldCollector.class,
         HybridCollapsingTopDocsCollector.class
     );
 
@@ -95,7 +97,7 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
      */
     public static CollectorManager createHybridCollectorManager(final SearchContext searchContext) throws IOException {
         if (searchContext.scrollContext() != null) {
-            throw new IllegalArgumentException(String.format(Locale.ROOT, "Scroll operation is not supported in hybrid query"));
+            validateScroll(searchContext);
         }
         final IndexReader reader = searchContext.searcher().getIndexReader();
         final int totalNumDocs = Math.max(0, reader.numDocs());
@@ -184,6 +186,11 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
     private List<ReduceableSearchResult> getSearchResults(final List<HybridSearchCollector> hybridSearchCollectors) throws IOException {
         List<ReduceableSearchResult> results = new ArrayList<>();
         DocValueFormat[] docValueFormats = getSortValueFormats(sortAndFormats);
+        if (canMergeCollectorResultsInSinglePass(hybridSearchCollectors, docValueFormats)) {
+            TopDocsAndMaxScore topDocsAndMaxScore = getMergedTopDocsAndMaxScore(hybridSearchCollectors);
+            results.add((QuerySearchResult result) -> reduceCollectorResults(result, topDocsAndMaxScore, docValueFormats));
+            return results;
+        }
         for (HybridSearchCollector collector : hybridSearchCollectors) {
             boolean isSortEnabled = docValueFormats != null;
             boolean isCollapseEnabled = collector instanceof HybridCollapsingTopDocsCollector;
@@ -199,6 +206,52 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         return results;
     }
 
+    /**
+     * Results of multiple collectors without sorting and collapse are merged in a single pass, for other cases collector
+     * results are merged pairwise
+     */
+    private boolean canMergeCollectorResultsInSinglePass(
+        final List<HybridSearchCollector> hybridSearchCollectors,
+        final DocValueFormat[] docValueFormats
+    ) {
+        return hybridSearchCollectors.size() > 1
+            && Objects.isNull(docValueFormats)
+            && hybridSearchCollectors.stream().allMatch(collector -> collector instanceof HybridTopScoreDocCollector);
+    }
+
+    /**
+     * Merge hits of every sub-query from all collectors using k-way merge, number of hits per sub-query is capped by numHits
+     */
+    private TopDocsAndMaxScore getMergedTopDocsAndMaxScore(final List<HybridSearchCollector> hybridSearchCollectors) {
+        List<List<TopDocs>> topDocsPerCollector = new ArrayList<>(hybridSearchCollectors.size());
+        long totalHits = 0;
+        float maxScore = 0.0f;
+        Relation relation = Relation.EQUAL_TO;
+        for (HybridSearchCollector collector : hybridSearchCollectors) {
+            List<TopDocs> topDocs = collector.topDocs();
+            if (shouldRescore()) {
+                topDocs = rescore(topDocs);
+            }
+            TotalHits collectorTotalHits = getTotalHits(this.trackTotalHitsUpTo, topDocs, collector.getTotalHits());
+            // same as for pairwise merge, results of collectors without hits are skipped
+            if (collectorTotalHits.value() == 0) {
+                continue;
+            }
+            totalHits += collectorTotalHits.value();
+            if (collectorTotalHits.relation() == Relation.GREATER_THAN_OR_EQUAL_TO) {
+                relation = Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+            maxScore = Math.max(maxScore, calculateMaxScore(topDocs, collector.getMaxScore()));
+            topDocsPerCollector.add(topDocs);
+        }
+        if (topDocsPerCollector.isEmpty()) {
+            return new TopDocsAndMaxScore(new TopDocs(getTotalHits(this.trackTotalHitsUpTo, List.of(), 0), new ScoreDoc[0]), maxScore);
+        }
+        // merged hits are already in the format of hybrid query results
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(topDocsPerCollector.size(), numHits).merge(topDocsPerCollector);
+        return new TopDocsAndMaxScore(new TopDocs(new TotalHits(totalHits, relation), mergedScoreDocs), maxScore);
+    }
+
     private TopDocsAndMaxScore getTopDocsAndAndMaxScore(
         final HybridSearchCollector hybridSearchCollector,
         final boolean isSortEnabled,
@@ -284,7 +337,9 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         for (final Collector collector : collectors) {
             if (collector instanceof MultiCollectorWrapper) {
                 for (final Collector sub : (((MultiCollectorWrapper) collector).getCollectors())) {
-                    if (sub instanceof HybridTopScoreDocCollector || sub instanceof HybridTopFieldDocSortCollector) {
+                    if (sub instanceof HybridTopScoreDocCollector
+                        || sub instanceof HybridTopFieldDocSortCollector
+                        || sub instanceof SimpleNumericFieldCollector) {
                         hybridSearchCollectors.add((HybridSearchCollector) sub);
                     }
                 }
@@ -583,6 +638,25 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         };
     }
 
+    /**
+     * Validate scroll of hybrid query. Results of scroll are fused on the shard and returned in slices of the scroll size,
+     * see {@link HybridScrollResults}, so every sub-query must be limited by pagination depth and results can't be sorted,
+     * collapsed or aggregated.
+     * @param searchContext search context of the scroll round
+     */
+    private static void validateScroll(final SearchContext searchContext) {
+        if (Objects.nonNull(searchContext.sort())
+            || Objects.nonNull(searchContext.collapse())
+            || Objects.nonNull(searchContext.aggregations())) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Sort, collapse and aggregations are not supported in scroll of hybrid query")
+            );
+        }
+        if (Objects.isNull(extractHybridQuery(searchContext).getQueryContext().getPaginationDepth())) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "pagination_depth param is required for scroll of hybrid query"));
+        }
+    }
+
     /**
      * Get maximum subquery results count to be collected from each shard.
      * @param searchContext search context that contains pagination depth
@@ -5,8 +5,11 @@
 package org.opensearch.neuralsearch.search.query;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -14,8 +17,11 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.DisjunctionMaxQuery;
 import org.apache.lucene.search.Query;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.neuralsearch.query.HybridQuery;
@@ -28,6 +34,7 @@ import org.opensearch.search.query.QueryCollectorContext;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QueryPhaseSearcher;
 import org.opensearch.search.query.QueryPhaseSearcherWrapper;
+import org.opensearch.search.query.ReduceableSearchResult;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -66,6 +73,12 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
         } else {
             Query hybridQuery = extractHybridQuery(searchContext, query);
             validateHybridQuery((HybridQuery) hybridQuery);
+            Optional<TopDocsAndMaxScore> resultsOfPreviousPage = getResultsOfPreviousPage(searchContext);
+            if (resultsOfPreviousPage.isPresent()) {
+                // results are taken from a previous page of the point in time or the scroll, the query is not executed
+                setResultsWithoutCollecting(searchContext, resultsOfPreviousPage.get());
+                return false;
+            }
             QueryPhaseSearcher queryPhaseSearcher = getQueryPhaseSearcher(searchContext);
             queryPhaseSearcher.searchWith(searchContext, searcher, hybridQuery, collectors, hasFilterCollector, hasTimeout);
             // we decide on rescore later in collector manager
@@ -73,6 +86,42 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
         }
     }
 
+    /**
+     * Get results of the query computed for a previous page: next slice of fused results of the scroll, or cached results
+     * of pagination with point in time
+     * @return results of the query, or empty if the query must be executed
+     */
+    private Optional<TopDocsAndMaxScore> getResultsOfPreviousPage(final SearchContext searchContext) {
+        if (Objects.nonNull(searchContext.scrollContext())) {
+            return HybridScrollResults.getNextSlice(searchContext);
+        }
+        HybridQueryResultsCache hybridQueryResultsCache = HybridQueryResultsCache.getInstance();
+        if (Objects.isNull(hybridQueryResultsCache)) {
+            return Optional.empty();
+        }
+        return hybridQueryResultsCache.getKey(searchContext).flatMap(hybridQueryResultsCache::get);
+    }
+
+    /**
+     * Set results to the query result of the search context. Collector manager of hybrid query hasn't collected any documents,
+     * it's replaced by the manager that reduces to the same results, so they are not overwritten when the aggregation processor
+     * reduces collector managers.
+     */
+    private void setResultsWithoutCollecting(final SearchContext searchContext, final TopDocsAndMaxScore topDocs) {
+        searchContext.queryResult().topDocs(topDocs, null);
+        searchContext.queryCollectorManagers().put(HybridCollectorManager.class, new CollectorManager<Collector, ReduceableSearchResult>() {
+            @Override
+            public Collector newCollector() {
+                throw new IllegalStateException("results of hybrid query are taken from a previous page, documents are not collected");
+            }
+
+            @Override
+            public ReduceableSearchResult reduce(final Collection<Collector> collectors) {
+                return result -> result.topDocs(topDocs, null);
+            }
+        });
+    }
+
     private QueryPhaseSearcher getQueryPhaseSearcher(final SearchContext searchContext) {
         return searchContext.shouldUseConcurrentSearch()
             ? concurrentQueryPhaseSearcherWithEmptyCollectorContext
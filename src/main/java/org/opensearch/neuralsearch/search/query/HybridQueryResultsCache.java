@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.util.HybridQueryUtil;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Shard level cache of hybrid query results for pagination with point in time. The point in time keeps the same reader of
+ * the shard for every page, so results of sub-queries collected to the pagination depth are the same on every page. The
+ * first page executes the query and caches its results, next pages of the same query take results from the cache and skip
+ * the query phase, only documents of the page are fetched. Entries are keyed by the reader context of the point in time,
+ * they expire after the configured time or the keep alive of the point in time, whichever is shorter, and are dropped when
+ * the reader context is freed. Total size of entries is limited by the memory budget. The cache is enabled by the same
+ * settings as the coordinator level cache of fused results, it's created when the plugin creates its components and
+ * released when the plugin is closed.
+ */
+@Log4j2
+public final class HybridQueryResultsCache {
+    // size of doc id and score of one document
+    private static final long SCORE_DOC_SIZE_IN_BYTES = Integer.BYTES + Float.BYTES;
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 256;
+
+    private static volatile HybridQueryResultsCache INSTANCE;
+
+    private final BooleanSupplier isEnabled;
+    private final LongSupplier nanoTimeSupplier;
+    private final TimeValue ttl;
+    private final Cache<Key, ShardResults> cache;
+
+    HybridQueryResultsCache(
+        final BooleanSupplier isEnabled,
+        final TimeValue ttl,
+        final ByteSizeValue maxSize,
+        final LongSupplier nanoTimeSupplier
+    ) {
+        this.isEnabled = isEnabled;
+        this.ttl = ttl;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.cache = CacheBuilder.<Key, ShardResults>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .weigher((key, shardResults) -> key.getSizeInBytes() + shardResults.getSizeInBytes())
+            .setExpireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Create cache of the node configured by node settings
+     * @param settings node settings
+     * @param settingsAccessor accessor of dynamic settings
+     */
+    public static void initialize(final Settings settings, final NeuralSearchSettingsAccessor settingsAccessor) {
+        INSTANCE = new HybridQueryResultsCache(
+            settingsAccessor::isHybridPaginationCursorEnabled,
+            NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_TTL.get(settings),
+            NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_MAX_SIZE.get(settings),
+            System::nanoTime
+        );
+    }
+
+    /**
+     * Release the cache of the node, cached results are dropped
+     */
+    public static void close() {
+        HybridQueryResultsCache instance = INSTANCE;
+        INSTANCE = null;
+        if (Objects.nonNull(instance)) {
+            instance.cache.invalidateAll();
+        }
+    }
+
+    /**
+     * @return cache of the node, null if it's not initialized
+     */
+    public static HybridQueryResultsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get key of results of the hybrid query of the search context. Only plain paginated search with point in time and
+     * pagination depth is cached, results of the query are then the same on every page.
+     * @param searchContext search context of the shard
+     * @return key of cached results, or empty if results of the query can't be cached
+     */
+    public Optional<Key> getKey(final SearchContext searchContext) {
+        if (isEnabled.getAsBoolean() == false) {
+            return Optional.empty();
+        }
+        ShardSearchRequest request = searchContext.request();
+        if (Objects.isNull(request) || Objects.isNull(request.readerId())) {
+            return Optional.empty();
+        }
+        // other collectors and post processing of the query phase depend on documents collected by the query
+        if (Objects.nonNull(searchContext.scrollContext())
+            || Objects.nonNull(searchContext.sort())
+            || Objects.nonNull(searchContext.collapse())
+            || Objects.nonNull(searchContext.aggregations())
+            || Objects.nonNull(searchContext.parsedPostFilter())
+            || Objects.nonNull(searchContext.minimumScore())
+            || Objects.nonNull(searchContext.getProfilers())
+            || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || searchContext.rescore().isEmpty() == false
+            || searchContext.explain()) {
+            return Optional.empty();
+        }
+        Integer paginationDepth = HybridQueryUtil.extractHybridQuery(searchContext).getQueryContext().getPaginationDepth();
+        if (Objects.isNull(paginationDepth)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Key(request.readerId(), searchContext.query(), paginationDepth, searchContext.trackTotalHitsUpTo()));
+    }
+
+    /**
+     * Get cached results of the query, every call returns new score docs
+     * @param key key of results
+     * @return results of the query, or empty if they are not cached
+     */
+    public Optional<TopDocsAndMaxScore> get(final Key key) {
+        ShardResults shardResults = cache.get(key);
+        if (Objects.isNull(shardResults)) {
+            return Optional.empty();
+        }
+        if (shardResults.getExpirationTimeInNanos() - nanoTimeSupplier.getAsLong() <= 0) {
+            // point in time may have expired
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(shardResults.toTopDocs());
+    }
+
+    /**
+     * Cache results of the query that are set to the query result of the search context
+     * @param key key of results
+     * @param searchContext search context of the shard after the query phase
+     */
+    public void put(final Key key, final SearchContext searchContext) {
+        QuerySearchResult querySearchResult = searchContext.queryResult();
+        if (querySearchResult.searchTimedOut() || querySearchResult.hasConsumedTopDocs() || Objects.isNull(querySearchResult.topDocs())) {
+            return;
+        }
+        TimeValue keepAlive = searchContext.request().keepAlive();
+        long timeToLiveInNanos = Objects.isNull(keepAlive) ? ttl.nanos() : Math.min(ttl.nanos(), keepAlive.nanos());
+        ShardResults shardResults = ShardResults.of(querySearchResult.topDocs(), nanoTimeSupplier.getAsLong() + timeToLiveInNanos);
+        cache.put(key, shardResults);
+        log.debug("cached results of hybrid query with {} documents", shardResults.docs.length);
+    }
+
+    /**
+     * Drop cached results of the reader context, it's called when the reader context is freed
+     * @param readerId id of the reader context
+     */
+    public void invalidate(final ShardSearchContextId readerId) {
+        if (cache.count() == 0) {
+            return;
+        }
+        List<Key> keys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (readerId.equals(key.getReaderId())) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(cache::invalidate);
+    }
+
+    /**
+     * @return number of cached entries
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Key of results of the query in the reader context of the point in time. Pagination depth is part of the key because
+     * it's not compared by the hybrid query.
+     */
+    @Value
+    public static class Key {
+        ShardSearchContextId readerId;
+        Query query;
+        int paginationDepth;
+        int trackTotalHitsUpTo;
+
+        long getSizeInBytes() {
+            return ENTRY_OVERHEAD_IN_BYTES + RamUsageEstimator.sizeOf(query);
+        }
+    }
+
+    /**
+     * Results of the query kept as columns of doc ids and scores. Score docs are owned by the query result of every page,
+     * and the query result of a local shard is changed by the coordinator, so they are created from columns on every read.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ShardResults {
+        private final TotalHits totalHits;
+        private final float maxScore;
+        private final int shardIndex;
+        private final int[] docs;
+        private final float[] scores;
+        private final long expirationTimeInNanos;
+
+        static ShardResults of(final TopDocsAndMaxScore topDocsAndMaxScore, final long expirationTimeInNanos) {
+            ScoreDoc[] scoreDocs = topDocsAndMaxScore.topDocs.scoreDocs;
+            int[] docs = new int[scoreDocs.length];
+            float[] scores = new float[scoreDocs.length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                docs[i] = scoreDocs[i].doc;
+                scores[i] = scoreDocs[i].score;
+            }
+            int shardIndex = scoreDocs.length > 0 ? scoreDocs[0].shardIndex : -1;
+            return new ShardResults(
+                topDocsAndMaxScore.topDocs.totalHits,
+                topDocsAndMaxScore.maxScore,
+                shardIndex,
+                docs,
+                scores,
+                expirationTimeInNanos
+            );
+        }
+
+        long getExpirationTimeInNanos() {
+            return expirationTimeInNanos;
+        }
+
+        long getSizeInBytes() {
+            return ENTRY_OVERHEAD_IN_BYTES + SCORE_DOC_SIZE_IN_BYTES * docs.length;
+        }
+
+        TopDocsAndMaxScore toTopDocs() {
+            ScoreDoc[] scoreDocs = new ScoreDoc[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                scoreDocs[i] = new ScoreDoc(docs[i], scores[i], shardIndex);
+            }
+            return new TopDocsAndMaxScore(new TopDocs(totalHits, scoreDocs), maxScore);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
+import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.search.internal.ScrollContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fused results of hybrid query for scroll. Search pipelines are called only for the first request of the scroll, so
+ * results of sub-queries are fused on the shard: scores are normalized with statistics of the shard by the default min-max
+ * technique and combined by the default arithmetic mean. The first round of the scroll collects results of every sub-query
+ * to the pagination depth and fuses them once, the fused ranking is kept as columns of doc ids and scores, 8 bytes per
+ * document, and every round returns the next slice of the scroll size. Next rounds don't execute the query, the slice
+ * starts after the last document of the shard that the coordinator has emitted. Rankings are kept in the node level store
+ * until the scroll is released, total size of rankings is limited by the memory budget. A round that doesn't find the
+ * ranking of its scroll in the store collects and fuses results again, ranking of the same reader is the same.
+ */
+@Log4j2
+public final class HybridScrollResults {
+    // size of doc id and score of one document
+    private static final long SCORE_DOC_SIZE_IN_BYTES = Integer.BYTES + Float.BYTES;
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 256;
+    private static final ScoreNormalizer SCORE_NORMALIZER = new ScoreNormalizer();
+    private static final ScoreCombiner SCORE_COMBINER = new ScoreCombiner();
+
+    private static volatile HybridScrollResults INSTANCE;
+
+    private final Cache<ShardSearchContextId, FusedRanking> rankings;
+
+    HybridScrollResults(final ByteSizeValue maxSize) {
+        this.rankings = CacheBuilder.<ShardSearchContextId, FusedRanking>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .weigher((readerId, fusedRanking) -> fusedRanking.getSizeInBytes())
+            .build();
+    }
+
+    /**
+     * Create store of the node configured by node settings
+     * @param settings node settings
+     */
+    public static void initialize(final Settings settings) {
+        INSTANCE = new HybridScrollResults(NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_MAX_SIZE.get(settings));
+    }
+
+    /**
+     * Release the store of the node, fused rankings are dropped
+     */
+    public static void close() {
+        HybridScrollResults instance = INSTANCE;
+        INSTANCE = null;
+        if (Objects.nonNull(instance)) {
+            instance.rankings.invalidateAll();
+        }
+    }
+
+    /**
+     * Get next slice of fused results of the scroll
+     * @param searchContext search context of the scroll round
+     * @return next slice, or empty if results of the scroll are not fused yet
+     */
+    public static Optional<TopDocsAndMaxScore> getNextSlice(final SearchContext searchContext) {
+        HybridScrollResults instance = INSTANCE;
+        if (Objects.isNull(instance)) {
+            return Optional.empty();
+        }
+        FusedRanking fusedRanking = instance.rankings.get(searchContext.id());
+        if (Objects.isNull(fusedRanking)) {
+            return Optional.empty();
+        }
+        return Optional.of(fusedRanking.nextSlice(searchContext.scrollContext(), searchContext.size()));
+    }
+
+    /**
+     * Fuse results of sub-queries collected by the query of the scroll round, keep the fused ranking for next rounds and
+     * set the next slice to the query result
+     * @param searchContext search context of the scroll round after results are collected
+     */
+    public static void fuse(final SearchContext searchContext) {
+        QuerySearchResult querySearchResult = searchContext.queryResult();
+        FusedRanking fusedRanking = FusedRanking.of(querySearchResult);
+        HybridScrollResults instance = INSTANCE;
+        if (Objects.nonNull(instance)) {
+            instance.rankings.put(searchContext.id(), fusedRanking);
+        }
+        log.debug("fused results of hybrid query for scroll with {} documents", fusedRanking.docs.length);
+        querySearchResult.topDocs(fusedRanking.nextSlice(searchContext.scrollContext(), searchContext.size()), null);
+    }
+
+    /**
+     * Drop fused ranking of the scroll, it's called when the reader context is freed
+     * @param readerId id of the reader context
+     */
+    public static void invalidate(final ShardSearchContextId readerId) {
+        HybridScrollResults instance = INSTANCE;
+        if (Objects.nonNull(instance)) {
+            instance.rankings.invalidate(readerId);
+        }
+    }
+
+    /**
+     * @return number of kept rankings, 0 if the store is not initialized
+     */
+    static int count() {
+        HybridScrollResults instance = INSTANCE;
+        return Objects.isNull(instance) ? 0 : instance.rankings.count();
+    }
+
+    /**
+     * Fused results of the shard ordered by combined score. Rounds of the scroll are executed one after another, the ranking
+     * remembers the last slice to find the last emitted document without scanning the whole ranking.
+     */
+    private static final class FusedRanking {
+        private final TotalHits totalHits;
+        private final float maxScore;
+        private final int shardIndex;
+        private final int[] docs;
+        private final float[] scores;
+        // range of the last returned slice, whole ranking for the first round
+        private int sliceStart;
+        private int sliceEnd;
+
+        private FusedRanking(final TotalHits totalHits, final int shardIndex, final int[] docs, final float[] scores) {
+            this.totalHits = totalHits;
+            this.maxScore = scores.length > 0 ? scores[0] : Float.NaN;
+            this.shardIndex = shardIndex;
+            this.docs = docs;
+            this.scores = scores;
+            this.sliceStart = 0;
+            this.sliceEnd = docs.length;
+        }
+
+        static FusedRanking of(final QuerySearchResult querySearchResult) {
+            CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+            List<CompoundTopDocs> queryTopDocs = List.of(compoundTopDocs);
+            SubQueryScoreNormalizer scoreNormalizer = SCORE_NORMALIZER.collectStatistics(
+                NormalizeScoresDTO.builder()
+                    .queryTopDocs(queryTopDocs)
+                    .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+                    .build()
+            );
+            SCORE_COMBINER.combineScores(
+                CombineScoresDto.builder()
+                    .queryTopDocs(queryTopDocs)
+                    .scoreCombinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+                    .querySearchResults(List.of(querySearchResult))
+                    .build(),
+                scoreNormalizer
+            );
+            List<ScoreDoc> scoreDocs = compoundTopDocs.getScoreDocs();
+            int[] docs = new int[scoreDocs.size()];
+            float[] scores = new float[scoreDocs.size()];
+            for (int i = 0; i < scoreDocs.size(); i++) {
+                docs[i] = scoreDocs.get(i).doc;
+                scores[i] = scoreDocs.get(i).score;
+            }
+            int shardIndex = scoreDocs.isEmpty() ? -1 : scoreDocs.get(0).shardIndex;
+            return new FusedRanking(compoundTopDocs.getTotalHits(), shardIndex, docs, scores);
+        }
+
+        /**
+         * Get slice that starts after the last document of the shard emitted by the coordinator. The coordinator merges
+         * slices of shards by score, so emitted documents are a prefix of the last slice, if no document of the last slice
+         * is emitted the last slice is returned again.
+         */
+        synchronized TopDocsAndMaxScore nextSlice(final ScrollContext scrollContext, final int size) {
+            ScoreDoc lastEmittedDoc = Objects.isNull(scrollContext) ? null : scrollContext.lastEmittedDoc;
+            int start = sliceStart;
+            if (Objects.nonNull(lastEmittedDoc)) {
+                for (int i = sliceStart; i < sliceEnd; i++) {
+                    if (docs[i] == lastEmittedDoc.doc) {
+                        start = i + 1;
+                        break;
+                    }
+                }
+            }
+            sliceStart = start;
+            sliceEnd = (int) Math.min(docs.length, (long) start + Math.max(size, 0));
+            ScoreDoc[] scoreDocs = new ScoreDoc[sliceEnd - sliceStart];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                scoreDocs[i] = new ScoreDoc(docs[sliceStart + i], scores[sliceStart + i], shardIndex);
+            }
+            return new TopDocsAndMaxScore(new TopDocs(totalHits, scoreDocs), maxScore);
+        }
+
+        long getSizeInBytes() {
+            return ENTRY_OVERHEAD_IN_BYTES + SCORE_DOC_SIZE_IN_BYTES * docs.length;
+        }
+    }
+}
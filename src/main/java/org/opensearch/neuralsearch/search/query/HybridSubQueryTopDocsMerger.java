@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
+
+/**
+ * Merges results of all collectors created for a shard during concurrent segment search. Hits of every sub-query are merged
+ * in a single pass with a heap of collector cursors straight into the output array in the format of hybrid query results.
+ * Output array is allocated once with the exact size, hits of every sub-query are capped at the number of hits requested per
+ * sub-query. Hits of every sub-query must be sorted by score in descending order, hits with equal scores keep the order of
+ * collectors.
+ */
+class HybridSubQueryTopDocsMerger {
+    private static final ScoreDoc[] EMPTY_SCORE_DOCS = new ScoreDoc[0];
+
+    private final int numHits;
+    // heap of collector indexes, collector with the highest score at the current position is on top
+    private final int[] heap;
+    private final int[] positions;
+    private final ScoreDoc[][] scoreDocsPerCollector;
+    private int heapSize;
+
+    HybridSubQueryTopDocsMerger(final int numOfCollectors, final int numHits) {
+        this.numHits = numHits;
+        this.heap = new int[numOfCollectors];
+        this.positions = new int[numOfCollectors];
+        this.scoreDocsPerCollector = new ScoreDoc[numOfCollectors][];
+    }
+
+    /**
+     * Merge hits of every sub-query across all collectors
+     * @param topDocsPerCollector list of top docs per sub-query for every collector, collectors without results may have empty list
+     * @return merged hits in the format of hybrid query results: start element, then delimiter element and at most numHits
+     * hits for every sub-query, then stop element. Empty array if there are no hits
+     */
+    ScoreDoc[] merge(final List<List<TopDocs>> topDocsPerCollector) {
+        if (topDocsPerCollector.size() > heap.length) {
+            throw new IllegalArgumentException("number of collectors is greater than merger has been created for");
+        }
+        int numOfSubQueries = 0;
+        for (List<TopDocs> topDocs : topDocsPerCollector) {
+            numOfSubQueries = Math.max(numOfSubQueries, topDocs.size());
+        }
+        int[] numOfHitsPerSubQuery = new int[numOfSubQueries];
+        int numOfHits = 0;
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            numOfHitsPerSubQuery[subQueryIndex] = countHits(topDocsPerCollector, subQueryIndex);
+            numOfHits += numOfHitsPerSubQuery[subQueryIndex];
+        }
+        if (numOfHits == 0) {
+            return EMPTY_SCORE_DOCS;
+        }
+        // start element, delimiter element of every sub-query followed by its hits, stop element
+        ScoreDoc[] mergedScoreDocs = new ScoreDoc[numOfHits + numOfSubQueries + 2];
+        int delimiterDocId = -1;
+        int index = 1;
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            index++;
+            mergeSubQuery(topDocsPerCollector, subQueryIndex, mergedScoreDocs, index, numOfHitsPerSubQuery[subQueryIndex]);
+            if (delimiterDocId == -1 && numOfHitsPerSubQuery[subQueryIndex] > 0) {
+                delimiterDocId = mergedScoreDocs[index].doc;
+            }
+            index += numOfHitsPerSubQuery[subQueryIndex];
+        }
+        mergedScoreDocs[0] = createStartStopElementForHybridSearchResults(delimiterDocId);
+        index = 1;
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            mergedScoreDocs[index] = createDelimiterElementForHybridSearchResults(delimiterDocId);
+            index += numOfHitsPerSubQuery[subQueryIndex] + 1;
+        }
+        mergedScoreDocs[index] = createStartStopElementForHybridSearchResults(delimiterDocId);
+        return mergedScoreDocs;
+    }
+
+    private int countHits(final List<List<TopDocs>> topDocsPerCollector, final int subQueryIndex) {
+        long numOfHits = 0;
+        for (List<TopDocs> topDocs : topDocsPerCollector) {
+            numOfHits += getScoreDocs(topDocs, subQueryIndex).length;
+        }
+        return (int) Math.min(numHits, numOfHits);
+    }
+
+    private void mergeSubQuery(
+        final List<List<TopDocs>> topDocsPerCollector,
+        final int subQueryIndex,
+        final ScoreDoc[] mergedScoreDocs,
+        final int offset,
+        final int numOfHits
+    ) {
+        if (numOfHits == 0) {
+            return;
+        }
+        heapSize = 0;
+        for (int collectorIndex = 0; collectorIndex < topDocsPerCollector.size(); collectorIndex++) {
+            ScoreDoc[] scoreDocs = getScoreDocs(topDocsPerCollector.get(collectorIndex), subQueryIndex);
+            scoreDocsPerCollector[collectorIndex] = scoreDocs;
+            positions[collectorIndex] = 0;
+            if (scoreDocs.length > 0) {
+                heap[heapSize++] = collectorIndex;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        for (int i = offset; i < offset + numOfHits; i++) {
+            int top = heap[0];
+            mergedScoreDocs[i] = scoreDocsPerCollector[top][positions[top]++];
+            if (positions[top] == scoreDocsPerCollector[top].length) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(0);
+        }
+    }
+
+    private ScoreDoc[] getScoreDocs(final List<TopDocs> topDocs, final int subQueryIndex) {
+        if (subQueryIndex >= topDocs.size()) {
+            return EMPTY_SCORE_DOCS;
+        }
+        TopDocs subQueryTopDocs = topDocs.get(subQueryIndex);
+        if (Objects.isNull(subQueryTopDocs) || Objects.isNull(subQueryTopDocs.scoreDocs)) {
+            return EMPTY_SCORE_DOCS;
+        }
+        return subQueryTopDocs.scoreDocs;
+    }
+
+    private void siftDown(int index) {
+        int collectorIndex = heap[index];
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (isBefore(collectorIndex, heap[child]) == false) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = collectorIndex;
+    }
+
+    /**
+     * Current hit of the first collector goes before current hit of the second one if it has higher score,
+     * for equal scores the collector that has been added earlier goes first
+     */
+    private boolean isBefore(final int firstCollectorIndex, final int secondCollectorIndex) {
+        float firstScore = scoreDocsPerCollector[firstCollectorIndex][positions[firstCollectorIndex]].score;
+        float secondScore = scoreDocsPerCollector[secondCollectorIndex][positions[secondCollectorIndex]].score;
+        if (firstScore != secondScore) {
+            return firstScore > secondScore;
+        }
+        return firstCollectorIndex < secondCollectorIndex;
+    }
+}
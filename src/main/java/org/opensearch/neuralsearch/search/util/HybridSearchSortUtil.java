@@ -31,6 +31,14 @@ public class HybridSearchSortUtil {
         return createSort(getTopFieldDocs(queryTopDocs));
     }
 
+    /**
+     * @param querySearchResults list of query search results where each search result represents a result from the shard.
+     * @return true if shard results are sorted by sort criteria, sort criteria is evaluated only in such case
+     */
+    public static boolean isSortEnabled(final List<QuerySearchResult> querySearchResults) {
+        return checkIfSortEnabled(querySearchResults);
+    }
+
     // Check if sort is enabled by checking docValueFormats Object
     private static boolean checkIfSortEnabled(final List<QuerySearchResult> querySearchResults) {
         if (querySearchResults == null || querySearchResults.isEmpty() || querySearchResults.get(0) == null) {
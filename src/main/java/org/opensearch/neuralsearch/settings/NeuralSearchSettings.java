@@ -5,6 +5,8 @@
 package org.opensearch.neuralsearch.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -62,6 +64,18 @@ public final class NeuralSearchSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Enables bounded memory mode of HybridCollapsingTopDocsCollector. Only groups that are competitive for at least one
+     * subquery are kept, other groups and their documents are evicted while documents are collected, and queues of groups
+     * are sized to the documents a group keeps instead of docs_per_group_per_subquery.
+     */
+    public static final Setting<Boolean> HYBRID_COLLAPSE_BOUNDED_MEMORY_ENABLED = Setting.boolSetting(
+        "index.neural_search.hybrid_collapse_bounded_memory_enabled",
+        false,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
     /*
     * Enables or disables agentic query clause
     */
@@ -71,4 +85,104 @@ public final class NeuralSearchSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Maximum number of sub-queries allowed in a single hybrid query
+     */
+    public static final Setting<Integer> HYBRID_QUERY_MAX_SUB_QUERIES = Setting.intSetting(
+        "plugins.neural_search.hybrid_query_max_sub_queries",
+        5,
+        1,
+        100,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables scoring of hybrid sub-queries in parallel within a single segment. Scorer of every sub-query is created and
+     * consumed by one task on the hybrid query thread pool, docs and scores of the sub-query in the segment are buffered by
+     * the task and passed to the collector on the search thread
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query_parallel_sub_query_scoring_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables hybrid level filter, filter of hybrid query is evaluated once per segment and shared by all sub-queries
+     * instead of being pushed down into every sub-query
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_SHARED_FILTER_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query_shared_filter_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Runs tasks of hybrid query executor on virtual threads instead of the fixed thread pool. Number of tasks that run
+     * at the same time is limited by {@link #HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY}
+     */
+    public static final Setting<Boolean> HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_query_executor_virtual_threads_enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of hybrid query tasks that run at the same time when virtual threads are enabled.
+     * Default is set to 0, which will use the same limit as the size of the fixed thread pool.
+     */
+    public static final Setting<Integer> HYBRID_QUERY_EXECUTOR_VIRTUAL_THREADS_MAX_CONCURRENCY = Setting.intSetting(
+        "plugins.neural_search.hybrid_query_executor_virtual_threads_max_concurrency",
+        0,
+        0,
+        10000,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables caching of hybrid query results for pagination with point in time. Shards cache results of sub-queries
+     * collected to the pagination depth and skip the query phase for next pages of the same query, the coordinator node
+     * caches fused results instead of normalizing and combining results of shards again.
+     */
+    public static final Setting<Boolean> HYBRID_PAGINATION_CURSOR_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_pagination_cursor_enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum time results of hybrid query are kept in the caches, results expire earlier if keep alive of
+     * the point in time is shorter
+     */
+    public static final Setting<TimeValue> HYBRID_PAGINATION_CURSOR_TTL = Setting.positiveTimeSetting(
+        "plugins.neural_search.hybrid_pagination_cursor_ttl",
+        TimeValue.timeValueMinutes(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Memory budget of each of the shard level and the coordinator level caches of hybrid query results and of the store of
+     * fused results of hybrid query for scroll, least recently used results are evicted when it's exceeded
+     */
+    public static final Setting<ByteSizeValue> HYBRID_PAGINATION_CURSOR_MAX_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.hybrid_pagination_cursor_max_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of term states of sparse tokens in segments that are kept in the node level cache, neural_sparse
+     * queries of cached tokens skip lookup in the terms dictionary. Cache is disabled if it's 0
+     */
+    public static final Setting<Integer> NEURAL_SPARSE_TERM_STATE_CACHE_SIZE = Setting.intSetting(
+        "plugins.neural_search.neural_sparse_term_state_cache_size",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
 }
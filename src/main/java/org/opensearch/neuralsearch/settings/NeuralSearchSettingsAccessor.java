@@ -19,6 +19,18 @@ public class NeuralSearchSettingsAccessor {
     @Getter
     private volatile boolean isAgenticSearchEnabled;
 
+    @Getter
+    private volatile int hybridQueryMaxSubQueries;
+
+    @Getter
+    private volatile boolean isHybridQueryParallelSubQueryScoringEnabled;
+
+    @Getter
+    private volatile boolean isHybridQuerySharedFilterEnabled;
+
+    @Getter
+    private volatile boolean isHybridPaginationCursorEnabled;
+
     /**
      * Constructor, registers callbacks to update settings
      * @param clusterService
@@ -27,6 +39,10 @@ public class NeuralSearchSettingsAccessor {
     public NeuralSearchSettingsAccessor(ClusterService clusterService, Settings settings) {
         isStatsEnabled = NeuralSearchSettings.NEURAL_STATS_ENABLED.get(settings);
         isAgenticSearchEnabled = NeuralSearchSettings.AGENTIC_SEARCH_ENABLED.get(settings);
+        hybridQueryMaxSubQueries = NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES.get(settings);
+        isHybridQueryParallelSubQueryScoringEnabled = NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED.get(settings);
+        isHybridQuerySharedFilterEnabled = NeuralSearchSettings.HYBRID_QUERY_SHARED_FILTER_ENABLED.get(settings);
+        isHybridPaginationCursorEnabled = NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_ENABLED.get(settings);
         registerSettingsCallbacks(clusterService);
     }
 
@@ -41,5 +57,18 @@ public class NeuralSearchSettingsAccessor {
         clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.AGENTIC_SEARCH_ENABLED, value -> {
             isAgenticSearchEnabled = value;
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES, value -> {
+            hybridQueryMaxSubQueries = value;
+        });
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED, value -> {
+                isHybridQueryParallelSubQueryScoringEnabled = value;
+            });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_QUERY_SHARED_FILTER_ENABLED, value -> {
+            isHybridQuerySharedFilterEnabled = value;
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_ENABLED, value -> {
+            isHybridPaginationCursorEnabled = value;
+        });
     }
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.stats.events;
+
+/**
+ * Interface for event stats that count events. Unlike gauges, their values are updated by the code that records events.
+ */
+public interface CounterEventStat extends EventStat {
+    /**
+     * Increments the stat
+     */
+    void increment();
+
+    /**
+     * Adds the given amount to the stat, used for stats that accumulate values like time spent
+     * @param delta amount to add
+     */
+    void add(long delta);
+}
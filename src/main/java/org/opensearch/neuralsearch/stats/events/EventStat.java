@@ -8,6 +8,7 @@ import org.opensearch.neuralsearch.stats.common.StatSnapshot;
 
 /**
  * Interface for event stats. These contain logic to store and update ongoing event information.
+ * Stats that count events implement {@link CounterEventStat}, gauges only expose their current value.
  */
 public interface EventStat {
     /**
@@ -22,11 +23,6 @@ public interface EventStat {
      */
     StatSnapshot<?> getStatSnapshot();
 
-    /**
-     * Increments the stat
-     */
-    void increment();
-
     /**
      * Resets the stat value
      */
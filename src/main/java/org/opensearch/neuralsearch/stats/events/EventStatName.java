@@ -230,7 +230,79 @@ public enum EventStatName implements StatName {
         Version.V_3_1_0
     ),
     /** Tracks executions of the ML reranking processor */
-    RERANK_ML_PROCESSOR_EXECUTIONS("rerank_ml_executions", "processors.search", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),;
+    RERANK_ML_PROCESSOR_EXECUTIONS("rerank_ml_executions", "processors.search", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
+    /** Counts tasks executed by the hybrid query executor */
+    HYBRID_QUERY_EXECUTOR_TASKS(
+        "hybrid_query_executor_tasks",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Counts tasks rejected by the hybrid query executor because its queue is full */
+    HYBRID_QUERY_EXECUTOR_REJECTIONS(
+        "hybrid_query_executor_rejections",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks total time in nanoseconds that hybrid query executor tasks have been waiting in the queue */
+    HYBRID_QUERY_EXECUTOR_QUEUE_TIME_NANOS(
+        "hybrid_query_executor_queue_time_nanos",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks total time in nanoseconds that hybrid query executor tasks have been running */
+    HYBRID_QUERY_EXECUTOR_TASK_TIME_NANOS(
+        "hybrid_query_executor_task_time_nanos",
+        "query.hybrid.executor",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Number of tasks that are waiting in the queue of the hybrid query executor on the node */
+    HYBRID_QUERY_EXECUTOR_QUEUE_SIZE("hybrid_query_executor_queue_size", "query.hybrid.executor", EventStatType.GAUGE, Version.V_3_2_0),
+    /** Tracks executions of the neural sparse two phase processor with adaptive window */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXECUTIONS(
+        "neural_sparse_two_phase_adaptive_executions",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks total of window sizes chosen by adaptive window, divided by adaptive executions it is the mean window size */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_WINDOW_SIZE_TOTAL(
+        "neural_sparse_two_phase_adaptive_window_size_total",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks sampled queries for which positions of true top documents are recorded by adaptive window */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_PROBES(
+        "neural_sparse_two_phase_adaptive_probes",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks sampled queries for which the window of adaptive window missed the recall target */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_RECALL_MISSES(
+        "neural_sparse_two_phase_adaptive_recall_misses",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks updates of window expansion by adaptive windows, every search pipeline has its own adaptive window */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES(
+        "neural_sparse_two_phase_adaptive_updates",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),
+    /** Tracks total of window expansions in percent learned by adaptive windows, divided by adaptive updates it is the mean */
+    NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXPANSION_PERCENT_TOTAL(
+        "neural_sparse_two_phase_adaptive_expansion_percent_total",
+        "processors.search",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_2_0
+    ),;
 
     private final String nameString;
     private final String path;
@@ -261,6 +333,9 @@ public enum EventStatName implements StatName {
             case EventStatType.TIMESTAMPED_EVENT_COUNTER:
                 eventStat = new TimestampedEventStat(this);
                 break;
+            case EventStatType.GAUGE:
+                eventStat = new GaugeEventStat(this);
+                break;
         }
 
         // Validates all event stats are instantiated correctly. This is covered by unit tests as well.
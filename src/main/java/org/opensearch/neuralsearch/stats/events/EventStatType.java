@@ -12,7 +12,8 @@ import java.util.Locale;
  * Enum for different kinds of event stat types to track
  */
 public enum EventStatType implements StatType {
-    TIMESTAMPED_EVENT_COUNTER;
+    TIMESTAMPED_EVENT_COUNTER,
+    GAUGE;
 
     /**
      * Gets the name of the stat type, the enum name in lowercase
@@ -10,7 +10,9 @@ import org.opensearch.neuralsearch.stats.common.StatSnapshot;
 
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * Singleton manager class for event stats, used to increment and store event stat related data
@@ -43,6 +45,29 @@ public class EventStatsManager {
         instance().inc(eventStatName);
     }
 
+    /**
+     * Static helper to add an amount to a specified event statistic on the singleton
+     *
+     * @param eventStatName The name of the event stat to add to
+     * @param delta amount to add
+     */
+    public static void add(EventStatName eventStatName, long delta) {
+        instance().addValue(eventStatName, delta);
+    }
+
+    /**
+     * Static helper to register the supplier of the current value of a gauge stat
+     *
+     * @param eventStatName The name of the gauge stat
+     * @param valueSupplier supplier of the current value
+     */
+    public static void registerGauge(EventStatName eventStatName, LongSupplier valueSupplier) {
+        if (eventStatName.getStatType() != EventStatType.GAUGE) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Event stat [%s] is not a gauge", eventStatName.getNameString()));
+        }
+        ((GaugeEventStat) eventStatName.getEventStat()).setValueSupplier(valueSupplier);
+    }
+
     /**
      * Initializes dependencies for the EventStats manager
      * @param settingsAccessor
@@ -57,9 +82,39 @@ public class EventStatsManager {
      * @param eventStatName The name of the event stat to increment
      */
     public void inc(EventStatName eventStatName) {
-        if (settingsAccessor.isStatsEnabled()) {
-            eventStatName.getEventStat().increment();
+        CounterEventStat counter = getCounter(eventStatName);
+        if (isStatsEnabled()) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Instance level method to add an amount to a specified event statistic.
+     *
+     * @param eventStatName The name of the event stat to add to
+     * @param delta amount to add
+     */
+    public void addValue(EventStatName eventStatName, long delta) {
+        CounterEventStat counter = getCounter(eventStatName);
+        if (isStatsEnabled()) {
+            counter.add(delta);
+        }
+    }
+
+    private CounterEventStat getCounter(EventStatName eventStatName) {
+        if (eventStatName.getEventStat() instanceof CounterEventStat counter) {
+            return counter;
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "Event stat [%s] is a gauge, it is updated by its value supplier", eventStatName.getNameString())
+        );
+    }
+
+    private boolean isStatsEnabled() {
+        if (settingsAccessor == null) {
+            throw new IllegalStateException("Event stats manager must be initialized before stats are recorded");
         }
+        return settingsAccessor.isStatsEnabled();
     }
 
     /**
@@ -72,7 +127,7 @@ public class EventStatsManager {
         // Filter stats based on passed in collection
         Map<EventStatName, TimestampedEventStatSnapshot> eventStatsDataMap = new HashMap<>();
         for (EventStatName statName : statsToRetrieve) {
-            if (statName.getStatType() == EventStatType.TIMESTAMPED_EVENT_COUNTER) {
+            if (statName.getStatType() == EventStatType.TIMESTAMPED_EVENT_COUNTER || statName.getStatType() == EventStatType.GAUGE) {
                 StatSnapshot<?> snapshot = statName.getEventStat().getStatSnapshot();
                 if (snapshot instanceof TimestampedEventStatSnapshot) {
                     // Get event data snapshot
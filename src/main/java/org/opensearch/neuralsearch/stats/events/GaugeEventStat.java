@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.stats.events;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Event stat for a current value of the node, like a size of a queue. Value is read from the supplier that is registered
+ * by the component that owns the value, it's 0 until the supplier is registered. Snapshot has the current value both as
+ * the value and as the trailing interval value, gauge has no history of events. Gauges of nodes are aggregated with
+ * the max, as a sum of current values of different nodes doesn't describe any of them.
+ */
+public class GaugeEventStat implements EventStat {
+    private static final LongSupplier NO_VALUE = () -> 0L;
+
+    private final EventStatName statName;
+    private volatile LongSupplier valueSupplier = NO_VALUE;
+
+    /**
+     * Constructor
+     * @param statName the associate stat name identifier
+     */
+    public GaugeEventStat(EventStatName statName) {
+        this.statName = statName;
+    }
+
+    /**
+     * Sets the supplier of the current value
+     * @param valueSupplier supplier of the current value
+     */
+    public void setValueSupplier(LongSupplier valueSupplier) {
+        this.valueSupplier = Objects.requireNonNull(valueSupplier, "value supplier must not be null");
+    }
+
+    /**
+     * Gets the current value
+     * @return the current value
+     */
+    public long getValue() {
+        return valueSupplier.getAsLong();
+    }
+
+    /**
+     * Gets the StatSnapshot for the current value
+     * @return
+     */
+    public TimestampedEventStatSnapshot getStatSnapshot() {
+        long value = getValue();
+        return TimestampedEventStatSnapshot.builder()
+            .statName(statName)
+            .value(value)
+            .trailingIntervalValue(value)
+            .minutesSinceLastEvent(0)
+            .build();
+    }
+
+    /**
+     * Gauge reflects the current value of its owner, there is nothing to reset
+     */
+    public void reset() {}
+}
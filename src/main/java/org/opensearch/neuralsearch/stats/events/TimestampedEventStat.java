@@ -15,7 +15,7 @@ import java.util.concurrent.atomic.LongAdder;
  * Tracks a single monotonically increasing counter, a unix timestamp of the last event, and a value of the counter
  * in a recent trailing interval of time defined by the constants
  */
-public class TimestampedEventStat implements EventStat {
+public class TimestampedEventStat implements CounterEventStat {
     // The length of the rotating time bucket used to track the trailing interval
     // Trailing interval size is determined by interval size * number of intervals
     private static final long TRAILING_BUCKET_INTERVAL_MS = TimeUnit.SECONDS.toMillis(60);
@@ -55,15 +55,23 @@ public class TimestampedEventStat implements EventStat {
      * Increments the counter
      */
     public void increment() {
-        totalCounter.increment();
+        add(1);
+    }
+
+    /**
+     * Adds the given amount to the counter
+     * @param delta amount to add
+     */
+    public void add(long delta) {
+        totalCounter.add(delta);
         lastEventTimestamp = getCurrentTimeInMillis();
-        incrementCurrentBucket();
+        addToCurrentBucket(delta);
     }
 
     /**
-     * Helper to increment the current bucket based on system time
+     * Helper to add to the current bucket based on system time
      */
-    private void incrementCurrentBucket() {
+    private void addToCurrentBucket(long delta) {
         long now = getCurrentTimeInMillis();
 
         // Align current time to current minute
@@ -79,7 +87,7 @@ public class TimestampedEventStat implements EventStat {
         if (bucketTimestamp != currentBucketTime && bucket.timestamp.compareAndSet(bucketTimestamp, currentBucketTime)) {
             bucket.count.reset();
         }
-        bucket.count.add(1);
+        bucket.count.add(delta);
     }
 
     /**
@@ -71,7 +71,7 @@ public class TimestampedEventStatSnapshot implements Writeable, StatSnapshot<Lon
      * Static method to aggregate multiple event stats snapshots.
      * This is intended for combining stat snapshots from multiple nodes to give an cluster level aggregate
      * for the stat across nodes.
-     * Different metadata fields are aggregated differently
+     * Different metadata fields are aggregated differently, values of counters are summed and values of gauges take the max
      * @param snapshots the collection of snapshots
      * @return
      */
@@ -100,11 +100,17 @@ public class TimestampedEventStatSnapshot implements Writeable, StatSnapshot<Lon
                 throw new IllegalArgumentException("Should not aggregate snapshots across different stat names");
             }
 
-            // The value is summed
-            totalValue += stat.getValue();
+            if (name.getStatType() == EventStatType.GAUGE) {
+                // Gauge is a current value of a node, the max across nodes is taken
+                totalValue = Math.max(totalValue, stat.getValue());
+                totalTrailingValue = Math.max(totalTrailingValue, stat.getTrailingIntervalValue());
+            } else {
+                // The value is summed
+                totalValue += stat.getValue();
 
-            // The trailing value is summed
-            totalTrailingValue += stat.getTrailingIntervalValue();
+                // The trailing value is summed
+                totalTrailingValue += stat.getTrailingIntervalValue();
+            }
 
             // Take the min of minutes since last event
             if (minMinutes == null || stat.getMinutesSinceLastEvent() < minMinutes) {
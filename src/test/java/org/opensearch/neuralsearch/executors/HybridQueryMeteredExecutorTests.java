@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import org.junit.Before;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class HybridQueryMeteredExecutorTests extends OpenSearchTestCase {
+
+    @Before
+    public void setUpEventStats() {
+        TestUtils.initializeEventStatsManager();
+    }
+
+    public void testExecute_whenTaskRun_thenTaskCounted() {
+        HybridQueryMeteredExecutor executor = new HybridQueryMeteredExecutor(Runnable::run);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        executor.execute(() -> executed.set(true));
+        executor.execute(() -> {});
+
+        assertTrue(executed.get());
+        assertEquals(2, EventStatName.HYBRID_QUERY_EXECUTOR_TASKS.getEventStat().getValue());
+        assertEquals(0, EventStatName.HYBRID_QUERY_EXECUTOR_REJECTIONS.getEventStat().getValue());
+    }
+
+    public void testExecute_whenShortTasks_thenTimeSummedInNanos() {
+        HybridQueryMeteredExecutor executor = new HybridQueryMeteredExecutor(Runnable::run);
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {});
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+        // tasks shorter than a millisecond are still accounted
+        long taskTime = EventStatName.HYBRID_QUERY_EXECUTOR_TASK_TIME_NANOS.getEventStat().getValue();
+        assertTrue(taskTime > 0);
+        assertTrue(taskTime <= elapsedTime);
+        assertTrue(EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_TIME_NANOS.getEventStat().getValue() <= elapsedTime);
+    }
+
+    public void testExecute_whenTaskFails_thenTaskCounted() {
+        HybridQueryMeteredExecutor executor = new HybridQueryMeteredExecutor(Runnable::run);
+
+        expectThrows(IllegalStateException.class, () -> executor.execute(() -> { throw new IllegalStateException("failed"); }));
+
+        assertEquals(1, EventStatName.HYBRID_QUERY_EXECUTOR_TASKS.getEventStat().getValue());
+    }
+
+    public void testExecute_whenRejected_thenRejectionCounted() {
+        HybridQueryMeteredExecutor executor = new HybridQueryMeteredExecutor(command -> {
+            throw new OpenSearchRejectedExecutionException("queue is full");
+        });
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> executor.execute(() -> {}));
+
+        assertEquals(1, EventStatName.HYBRID_QUERY_EXECUTOR_REJECTIONS.getEventStat().getValue());
+        assertEquals(0, EventStatName.HYBRID_QUERY_EXECUTOR_TASKS.getEventStat().getValue());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.SneakyThrows;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HybridQueryVirtualThreadExecutorTests extends OpenSearchTestCase {
+
+    private static final String EXECUTOR_NAME = "test_hybrid_query_executor";
+
+    @SneakyThrows
+    public void testExecute_whenTaskSubmitted_thenRunOnVirtualThread() {
+        HybridQueryVirtualThreadExecutor executor = new HybridQueryVirtualThreadExecutor(EXECUTOR_NAME, 2, 10, null);
+        AtomicBoolean isVirtual = new AtomicBoolean(false);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(isVirtual.get());
+    }
+
+    @SneakyThrows
+    public void testExecute_whenMoreTasksThanConcurrency_thenConcurrencyLimited() {
+        int maxConcurrency = 2;
+        int numOfTasks = 10;
+        HybridQueryVirtualThreadExecutor executor = new HybridQueryVirtualThreadExecutor(EXECUTOR_NAME, maxConcurrency, numOfTasks, null);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(numOfTasks);
+
+        for (int i = 0; i < numOfTasks; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        assertBusy(() -> assertEquals(numOfTasks - maxConcurrency, executor.getQueueSize()));
+        release.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= maxConcurrency);
+        assertEquals(0, executor.getQueueSize());
+    }
+
+    @SneakyThrows
+    public void testExecute_whenQueueIsFull_thenRejected() {
+        HybridQueryVirtualThreadExecutor executor = new HybridQueryVirtualThreadExecutor(EXECUTOR_NAME, 1, 1, null);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockingTask = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // first task takes the only permit, second one waits in the queue
+        executor.execute(blockingTask);
+        executor.execute(blockingTask);
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> executor.execute(blockingTask));
+        release.countDown();
+    }
+
+    @SneakyThrows
+    public void testExecute_whenThreadContextSet_thenContextPreserved() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        HybridQueryVirtualThreadExecutor executor = new HybridQueryVirtualThreadExecutor(EXECUTOR_NAME, 1, 1, threadContext);
+        AtomicBoolean hasHeader = new AtomicBoolean(false);
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("test_header", "value");
+            executor.execute(() -> {
+                hasHeader.set("value".equals(threadContext.getHeader("test_header")));
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(hasHeader.get());
+    }
+}
@@ -97,7 +97,14 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         // Mock ClusterSettings
         ClusterSettings clusterSettings = new ClusterSettings(
             settings,
-            Set.of(NeuralSearchSettings.NEURAL_STATS_ENABLED, NeuralSearchSettings.AGENTIC_SEARCH_ENABLED)
+            Set.of(
+                NeuralSearchSettings.NEURAL_STATS_ENABLED,
+                NeuralSearchSettings.AGENTIC_SEARCH_ENABLED,
+                NeuralSearchSettings.HYBRID_QUERY_MAX_SUB_QUERIES,
+                NeuralSearchSettings.HYBRID_QUERY_PARALLEL_SUB_QUERY_SCORING_ENABLED,
+                NeuralSearchSettings.HYBRID_QUERY_SHARED_FILTER_ENABLED,
+                NeuralSearchSettings.HYBRID_PAGINATION_CURSOR_ENABLED
+            )
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
@@ -171,7 +178,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
-        assertEquals(5, settings.size());
+        assertEquals(15, settings.size());
     }
 
     public void testRequestProcessors() {
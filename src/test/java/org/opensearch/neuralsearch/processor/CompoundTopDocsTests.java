@@ -12,8 +12,17 @@ import org.apache.commons.lang3.RandomUtils;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.query.QuerySearchResult;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 
 public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
     private static final SearchShard SEARCH_SHARD = new SearchShard("my_index", 0, "12345678");
@@ -237,4 +246,38 @@ public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
 
         assertNotEquals("not a CompoundTopDocs", compoundTopDocs);
     }
+
+    public void testCreateFromQuerySearchResult_whenPlainScoreResults_thenSubQueryTopDocsKeepScoreDocs() {
+        ScoreDoc scoreDoc1 = new ScoreDoc(0, 0.8f, 3);
+        ScoreDoc scoreDoc2 = new ScoreDoc(2, 0.5f, 3);
+        ScoreDoc scoreDoc3 = new ScoreDoc(5, 0.65f, 3);
+        TopDocs topDocs = new TopDocs(
+            new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+            new ScoreDoc[] {
+                createStartStopElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                scoreDoc1,
+                scoreDoc2,
+                createDelimiterElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                scoreDoc3,
+                createStartStopElementForHybridSearchResults(0) }
+        );
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, 0.8f), null);
+        SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("my_index", "uuid", 0), null, OriginalIndices.NONE);
+        querySearchResult.setSearchShardTarget(searchShardTarget);
+
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+
+        List<TopDocs> subQueryTopDocs = compoundTopDocs.getTopDocs();
+        assertEquals(3, subQueryTopDocs.size());
+        assertArrayEquals(new ScoreDoc[] { scoreDoc1, scoreDoc2 }, subQueryTopDocs.get(0).scoreDocs);
+        assertSame(scoreDoc1, subQueryTopDocs.get(0).scoreDocs[0]);
+        assertEquals(2, subQueryTopDocs.get(0).totalHits.value());
+        assertEquals(0, subQueryTopDocs.get(1).scoreDocs.length);
+        assertSame(scoreDoc3, subQueryTopDocs.get(2).scoreDocs[0]);
+        assertEquals(3, subQueryTopDocs.get(2).scoreDocs[0].shardIndex);
+        assertFalse(subQueryTopDocs.get(0) instanceof TopFieldDocs);
+    }
 }
@@ -6,26 +6,49 @@ package org.opensearch.neuralsearch.processor;
 
 import lombok.SneakyThrows;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.neuralsearch.processor.twophase.AdaptiveTwoPhaseWindow;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralSparseQueryTwoPhaseInfo;
+import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
 import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
     static final private String PARAMETER_KEY = "two_phase_parameter";
     static final private String ENABLE_KEY = "enabled";
     static final private String EXPANSION_KEY = "expansion_rate";
     static final private String MAX_WINDOW_SIZE_KEY = "max_window_size";
+    static final private String ADAPTIVE_WINDOW_KEY = "adaptive_window";
+    static final private String SINGLE_PASS_KEY = "single_pass";
 
     @Before
     public void setup() {
@@ -197,6 +220,147 @@ public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
         assertNull(returnRequest.source().rescores());
     }
 
+    public void testFactory_whenAdaptiveWindowWithoutClient_thenThrowException() {
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
+        expectThrows(IllegalArgumentException.class, () -> createAdaptiveTestProcessor(factory, Map.of()));
+    }
+
+    public void testFactory_whenAdaptiveWindowConfigured_thenSuccess() throws Exception {
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory(
+            mock(Client.class),
+            xContentRegistry(),
+            writableRegistry()
+        );
+        NeuralSparseTwoPhaseProcessor processor = createAdaptiveTestProcessor(
+            factory,
+            Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_RECALL_TARGET, 0.9, AdaptiveTwoPhaseWindow.PARAM_NAME_SAMPLE_RATE, 0.1)
+        );
+        assertNotNull(processor.getAdaptiveWindow());
+        assertEquals(0.9, processor.getAdaptiveWindow().getRecallTarget(), 1e-6);
+        assertEquals(0.1, processor.getAdaptiveWindow().getSampleRate(), 1e-6);
+        assertNotNull(processor.getWindowProbe());
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> createAdaptiveTestProcessor(factory, Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_RECALL_TARGET, 2.0))
+        );
+    }
+
+    @SneakyThrows
+    public void testProcessRequest_whenAdaptiveWindowLearned_thenLearnedWindowSize() {
+        Client client = mock(Client.class);
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory(
+            client,
+            xContentRegistry(),
+            writableRegistry()
+        );
+        NeuralSparseTwoPhaseProcessor processor = createAdaptiveTestProcessor(factory, Map.of());
+        // queries are never sampled
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(1.0, 0.5, 1, () -> 0.9);
+        processor.setAdaptiveWindow(adaptiveWindow);
+
+        // no recorded queries, window is size multiplied by the expansion rate
+        SearchRequest searchRequest = createNeuralSparseSearchRequest(2);
+        processor.processRequest(searchRequest);
+        assertEquals(8, (int) searchRequest.source().rescores().getFirst().windowSize());
+
+        adaptiveWindow.record(new int[] { 0, 5 }, 8);
+        searchRequest = createNeuralSparseSearchRequest(2);
+        processor.processRequest(searchRequest);
+        assertEquals(6, (int) searchRequest.source().rescores().getFirst().windowSize());
+
+        // learned window is limited by max window size instead of failing the search
+        adaptiveWindow.record(new int[] { 0, 999 }, 8);
+        adaptiveWindow.record(new int[] { 0, 999 }, 8);
+        searchRequest = createNeuralSparseSearchRequest(2);
+        processor.processRequest(searchRequest);
+        assertEquals(100, (int) searchRequest.source().rescores().getFirst().windowSize());
+        verify(client, never()).search(any(SearchRequest.class), any(ActionListener.class));
+    }
+
+    @SneakyThrows
+    public void testProcessRequest_whenAdaptiveWindowSamplesQuery_thenProbeSearchBypassesPipeline() {
+        Client client = mock(Client.class);
+        NamedXContentRegistry xContentRegistry = new NamedXContentRegistry(
+            List.of(
+                new NamedXContentRegistry.Entry(
+                    QueryBuilder.class,
+                    new ParseField(NeuralSparseQueryBuilder.NAME),
+                    NeuralSparseQueryBuilder::fromXContent
+                )
+            )
+        );
+        NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory(
+            client,
+            xContentRegistry,
+            writableRegistry()
+        );
+        NeuralSparseTwoPhaseProcessor processor = createAdaptiveTestProcessor(factory, Map.of());
+        // every query is sampled
+        processor.setAdaptiveWindow(new AdaptiveTwoPhaseWindow(1.0, 0.5, 1, () -> 0.0));
+        SearchRequest searchRequest = createNeuralSparseSearchRequest(2);
+        SearchResponse probeResponse = mock(SearchResponse.class);
+        when(probeResponse.getHits()).thenReturn(SearchHits.empty());
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(probeResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any(ActionListener.class));
+
+        processor.processRequest(searchRequest);
+
+        ArgumentCaptor<SearchRequest> probeRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(probeRequestCaptor.capture(), any(ActionListener.class));
+        SearchRequest probeRequest = probeRequestCaptor.getAllValues().get(0);
+        assertEquals("_none", probeRequest.pipeline());
+        assertEquals(2, probeRequest.source().size());
+        assertNull(probeRequest.source().rescores());
+        // probe searches true top documents with all tokens of the query
+        NeuralSparseQueryBuilder probeQueryBuilder = (NeuralSparseQueryBuilder) probeRequest.source().query();
+        assertEquals(Map.of("a", 1.0f, "b", 0.1f), probeQueryBuilder.queryTokensSupplier().get());
+        // phase one probe searches twice the window of 8 with tokens of the phase one
+        SearchRequest phaseOneProbeRequest = probeRequestCaptor.getAllValues().get(1);
+        assertEquals("_none", phaseOneProbeRequest.pipeline());
+        assertEquals(16, phaseOneProbeRequest.source().size());
+        NeuralSparseQueryBuilder phaseOneProbeQueryBuilder = (NeuralSparseQueryBuilder) phaseOneProbeRequest.source().query();
+        assertEquals(Map.of("a", 1.0f), phaseOneProbeQueryBuilder.queryTokensSupplier().get());
+        assertNotSame(probeQueryBuilder, phaseOneProbeQueryBuilder);
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) searchRequest.source().query();
+        assertEquals(Map.of("a", 1.0f), queryBuilder.queryTokensSupplier().get());
+    }
+
+    @SneakyThrows
+    public void testProcessRequest_whenSinglePass_thenQueryScoresBothPhasesWithoutRescorer() {
+        NeuralSearchClusterTestUtils.setUpClusterService(Version.CURRENT);
+        NeuralSparseTwoPhaseProcessor processor = createSinglePassTestProcessor(new NeuralSparseTwoPhaseProcessor.Factory());
+        assertTrue(processor.isSinglePass());
+        SearchRequest searchRequest = createNeuralSparseSearchRequest(2);
+
+        processor.processRequest(searchRequest);
+
+        assertNull(searchRequest.source().rescores());
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) searchRequest.source().query();
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS, queryBuilder.neuralSparseQueryTwoPhaseInfo().getStatus());
+        assertEquals(0.5f, queryBuilder.neuralSparseQueryTwoPhaseInfo().getTwoPhasePruneRatio(), 1e-6);
+        assertEquals(8, queryBuilder.neuralSparseQueryTwoPhaseInfo().getWindowSize());
+        // tokens are split when the query is converted to the Lucene query
+        assertEquals(Map.of("a", 1.0f, "b", 0.1f), queryBuilder.queryTokensSupplier().get());
+    }
+
+    @SneakyThrows
+    public void testProcessRequest_whenSinglePassAndClusterHasOlderNodes_thenRescorer() {
+        NeuralSearchClusterTestUtils.setUpClusterService(Version.V_3_1_0);
+        NeuralSparseTwoPhaseProcessor processor = createSinglePassTestProcessor(new NeuralSparseTwoPhaseProcessor.Factory());
+        SearchRequest searchRequest = createNeuralSparseSearchRequest(2);
+
+        processor.processRequest(searchRequest);
+
+        assertNotNull(searchRequest.source().rescores());
+        assertEquals(8, (int) searchRequest.source().rescores().getFirst().windowSize());
+        NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) searchRequest.source().query();
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE, queryBuilder.neuralSparseQueryTwoPhaseInfo().getStatus());
+    }
+
     public void testType() throws Exception {
         NeuralSparseTwoPhaseProcessor.Factory factory = new NeuralSparseTwoPhaseProcessor.Factory();
         NeuralSparseTwoPhaseProcessor processor = createTestProcessor(factory);
@@ -239,6 +403,41 @@ public class NeuralSparseTwoPhaseProcessorTests extends OpenSearchTestCase {
         return factory.create(Collections.emptyMap(), null, null, false, configMap, null);
     }
 
+    private SearchRequest createNeuralSparseSearchRequest(int size) {
+        NeuralSparseQueryBuilder neuralQueryBuilder = new NeuralSparseQueryBuilder().fieldName("field");
+        neuralQueryBuilder.queryTokensSupplier(() -> Map.of("a", 1.0f, "b", 0.1f));
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().query(neuralQueryBuilder).size(size));
+        return searchRequest;
+    }
+
+    private NeuralSparseTwoPhaseProcessor createSinglePassTestProcessor(NeuralSparseTwoPhaseProcessor.Factory factory) throws Exception {
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(ENABLE_KEY, true);
+        Map<String, Object> twoPhaseParaMap = new HashMap<>();
+        twoPhaseParaMap.put(PruneUtils.PRUNE_RATIO_FIELD, 0.5f);
+        twoPhaseParaMap.put(EXPANSION_KEY, 4.0f);
+        twoPhaseParaMap.put(MAX_WINDOW_SIZE_KEY, 100);
+        twoPhaseParaMap.put(SINGLE_PASS_KEY, true);
+        configMap.put(PARAMETER_KEY, twoPhaseParaMap);
+        return factory.create(Collections.emptyMap(), null, null, false, configMap, null);
+    }
+
+    private NeuralSparseTwoPhaseProcessor createAdaptiveTestProcessor(
+        NeuralSparseTwoPhaseProcessor.Factory factory,
+        Map<String, Object> adaptiveWindowParaMap
+    ) throws Exception {
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(ENABLE_KEY, true);
+        Map<String, Object> twoPhaseParaMap = new HashMap<>();
+        twoPhaseParaMap.put(PruneUtils.PRUNE_RATIO_FIELD, 0.5f);
+        twoPhaseParaMap.put(EXPANSION_KEY, 4.0f);
+        twoPhaseParaMap.put(MAX_WINDOW_SIZE_KEY, 100);
+        twoPhaseParaMap.put(ADAPTIVE_WINDOW_KEY, new HashMap<>(adaptiveWindowParaMap));
+        configMap.put(PARAMETER_KEY, twoPhaseParaMap);
+        return factory.create(Collections.emptyMap(), null, null, false, configMap, null);
+    }
+
     private NeuralSparseTwoPhaseProcessor createTestProcessor(NeuralSparseTwoPhaseProcessor.Factory factory) throws Exception {
         Map<String, Object> configMap = new HashMap<>();
         configMap.put(ENABLE_KEY, true);
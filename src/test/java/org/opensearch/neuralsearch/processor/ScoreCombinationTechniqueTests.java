@@ -20,7 +20,12 @@ import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_SCORE_ASSERTI
 import java.util.List;
 
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechnique;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationTechnique;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class ScoreCombinationTechniqueTests extends OpenSearchTestCase {
@@ -208,4 +213,100 @@ public class ScoreCombinationTechniqueTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testFusedNormalizationAndCombination_whenScoreBasedTechniques_thenSameResultsAsSeparateSteps() {
+        ScoreNormalizer scoreNormalizer = new ScoreNormalizer();
+        ScoreCombiner scoreCombiner = new ScoreCombiner();
+        ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
+        ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
+        for (String normalizationTechniqueName : List.of("min_max", "l2", "z_score")) {
+            for (String combinationTechniqueName : List.of("arithmetic_mean", "geometric_mean", "harmonic_mean")) {
+                ScoreNormalizationTechnique normalizationTechnique = scoreNormalizationFactory.createNormalization(
+                    normalizationTechniqueName
+                );
+                ScoreCombinationTechnique combinationTechnique = scoreCombinationFactory.createCombination(combinationTechniqueName);
+                assertTrue(normalizationTechnique instanceof FusableScoreNormalizationTechnique);
+
+                List<CompoundTopDocs> expectedTopDocs = createQueryTopDocsForFusion();
+                scoreNormalizer.normalizeScores(
+                    NormalizeScoresDTO.builder().queryTopDocs(expectedTopDocs).normalizationTechnique(normalizationTechnique).build()
+                );
+                scoreCombiner.combineScores(
+                    CombineScoresDto.builder()
+                        .queryTopDocs(expectedTopDocs)
+                        .scoreCombinationTechnique(combinationTechnique)
+                        .querySearchResults(Collections.emptyList())
+                        .build()
+                );
+
+                List<CompoundTopDocs> fusedTopDocs = createQueryTopDocsForFusion();
+                NormalizeScoresDTO normalizeScoresDTO = NormalizeScoresDTO.builder()
+                    .queryTopDocs(fusedTopDocs)
+                    .normalizationTechnique(normalizationTechnique)
+                    .build();
+                scoreCombiner.combineScores(
+                    CombineScoresDto.builder()
+                        .queryTopDocs(fusedTopDocs)
+                        .scoreCombinationTechnique(combinationTechnique)
+                        .querySearchResults(Collections.emptyList())
+                        .build(),
+                    scoreNormalizer.collectStatistics(normalizeScoresDTO)
+                );
+
+                for (int shard = 0; shard < expectedTopDocs.size(); shard++) {
+                    List<ScoreDoc> expectedScoreDocs = expectedTopDocs.get(shard).getScoreDocs();
+                    List<ScoreDoc> fusedScoreDocs = fusedTopDocs.get(shard).getScoreDocs();
+                    assertEquals(expectedTopDocs.get(shard).getTotalHits(), fusedTopDocs.get(shard).getTotalHits());
+                    assertEquals(expectedScoreDocs.size(), fusedScoreDocs.size());
+                    for (int i = 0; i < expectedScoreDocs.size(); i++) {
+                        assertEquals(expectedScoreDocs.get(i).doc, fusedScoreDocs.get(i).doc);
+                        assertEquals(expectedScoreDocs.get(i).score, fusedScoreDocs.get(i).score, DELTA_FOR_SCORE_ASSERTION);
+                    }
+                }
+                // results of sub-queries are not changed by fused normalization
+                assertEquals(0.9f, fusedTopDocs.get(1).getTopDocs().get(1).scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+            }
+        }
+    }
+
+    private List<CompoundTopDocs> createQueryTopDocsForFusion() {
+        return List.of(
+            new CompoundTopDocs(
+                new TotalHits(5, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(1, 2.5f), new ScoreDoc(2, 1.2f), new ScoreDoc(4, 0.3f) }
+                    ),
+                    new TopDocs(
+                        new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(3, 0.8f), new ScoreDoc(1, 0.7f), new ScoreDoc(5, 0.1f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(7, 1.9f) }),
+                    new TopDocs(
+                        new TotalHits(4, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(2, 0.9f), new ScoreDoc(4, 0.6f), new ScoreDoc(7, 0.5f), new ScoreDoc(9, 0.01f) }
+                    )
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(0, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]),
+                    new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0])
+                ),
+                false,
+                SEARCH_SHARD
+            )
+        );
+    }
 }
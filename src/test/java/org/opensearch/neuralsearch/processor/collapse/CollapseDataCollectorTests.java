@@ -4,10 +4,15 @@
  */
 package org.opensearch.neuralsearch.processor.collapse;
 
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
+import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.List;
@@ -70,4 +75,80 @@ public class CollapseDataCollectorTests extends OpenSearchTestCase {
         assertThrows(IllegalArgumentException.class, () -> new CollapseDataCollector<>(mockCollapseDTO));
     }
 
+    public void testCollectCollapseData_whenMultipleShards_thenTopDocOfEveryCollapseValueInScoreOrder() {
+        CollapseDTO collapseDTO = mockCollapseDTO(
+            List.of(
+                shardTopDocs(fieldDoc(1, 0.9f, "a"), fieldDoc(2, 0.7f, "b"), fieldDoc(3, 0.4f, "c")),
+                // results of the shard are not sorted by combined score
+                shardTopDocs(fieldDoc(3, 0.5f, "d"), fieldDoc(1, 0.8f, "a"), fieldDoc(2, 0.6f, "c"))
+            ),
+            0
+        );
+
+        CollapseDataCollector<BytesRef> collector = new CollapseDataCollector<>(collapseDTO);
+        collector.collectCollapseData(collapseDTO);
+
+        FieldDoc[] firstShardDocs = collector.getCollapsedFieldDocs(0);
+        assertEquals(2, firstShardDocs.length);
+        assertEquals(1, firstShardDocs[0].doc);
+        assertEquals(2, firstShardDocs[1].doc);
+        assertArrayEquals(new Object[] { new BytesRef("a"), new BytesRef("b") }, collector.getCollapseValues(0));
+
+        FieldDoc[] secondShardDocs = collector.getCollapsedFieldDocs(1);
+        assertEquals(2, secondShardDocs.length);
+        assertEquals(2, secondShardDocs[0].doc);
+        assertEquals(3, secondShardDocs[1].doc);
+        assertArrayEquals(new Object[] { new BytesRef("c"), new BytesRef("d") }, collector.getCollapseValues(1));
+        assertEquals("field", collector.getCollapseField());
+    }
+
+    public void testCollectCollapseData_whenTopNIsSet_thenStopAfterTopNCollapseValues() {
+        CollapseDTO collapseDTO = mockCollapseDTO(
+            List.of(
+                shardTopDocs(fieldDoc(1, 0.9f, "a"), fieldDoc(2, 0.7f, "b"), fieldDoc(3, 0.4f, "c")),
+                shardTopDocs(fieldDoc(1, 0.8f, "a"), fieldDoc(2, 0.6f, "c"), fieldDoc(3, 0.5f, "d"))
+            ),
+            3
+        );
+
+        CollapseDataCollector<BytesRef> collector = new CollapseDataCollector<>(collapseDTO);
+        collector.collectCollapseData(collapseDTO);
+
+        assertArrayEquals(new Object[] { new BytesRef("a"), new BytesRef("b") }, collector.getCollapseValues(0));
+        assertArrayEquals(new Object[] { new BytesRef("c") }, collector.getCollapseValues(1));
+        assertEquals(2, collector.getCollapsedFieldDocs(1)[0].doc);
+    }
+
+    private static FieldDoc fieldDoc(int doc, float score, String collapseValue) {
+        return new FieldDoc(doc, score, new Object[] { score, new BytesRef(collapseValue) });
+    }
+
+    private static CompoundTopDocs shardTopDocs(FieldDoc... fieldDocs) {
+        Object[] collapseValues = new Object[fieldDocs.length];
+        for (int i = 0; i < fieldDocs.length; i++) {
+            collapseValues[i] = fieldDocs[i].fields[1];
+        }
+        TotalHits totalHits = new TotalHits(fieldDocs.length, TotalHits.Relation.EQUAL_TO);
+        CollapseTopFieldDocs collapseTopFieldDocs = new CollapseTopFieldDocs(
+            "field",
+            totalHits,
+            fieldDocs,
+            new SortField[] { SortField.FIELD_SCORE },
+            collapseValues
+        );
+        return new CompoundTopDocs(totalHits, List.of(collapseTopFieldDocs), List.<ScoreDoc>of(fieldDocs), null);
+    }
+
+    private static CollapseDTO mockCollapseDTO(List<CompoundTopDocs> shardTopDocs, int topN) {
+        CombineScoresDto combineScoresDTO = mock(CombineScoresDto.class);
+        when(combineScoresDTO.getTopN()).thenReturn(topN);
+        List<QuerySearchResult> querySearchResults = shardTopDocs.stream().map(topDocs -> mock(QuerySearchResult.class)).toList();
+
+        CollapseDTO collapseDTO = mock(CollapseDTO.class);
+        when(collapseDTO.getCollapseQueryTopDocs()).thenReturn(shardTopDocs);
+        when(collapseDTO.getCollapseQuerySearchResults()).thenReturn(querySearchResults);
+        when(collapseDTO.getIndexOfFirstNonEmpty()).thenReturn(0);
+        when(collapseDTO.getCollapseCombineScoresDTO()).thenReturn(combineScoresDTO);
+        return collapseDTO;
+    }
 }
@@ -58,6 +58,19 @@ public class ArithmeticMeanScoreCombinationTechniqueTests extends BaseScoreCombi
         testRandomValues_whenNotAllScoresAndWeightsPresent_thenCorrectScores(technique, weights);
     }
 
+    public void testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument() {
+        List<Double> weights = List.of(0.4, 0.1, 0.3, 0.2);
+        ScoreCombinationTechnique technique = new ArithmeticMeanScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, weights),
+            scoreCombinationUtil
+        );
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(technique, weights.size());
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(
+            new ArithmeticMeanScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            randomIntBetween(1, 5)
+        );
+    }
+
     private float arithmeticMean(List<Float> scores, List<Double> weights) {
         assertEquals(scores.size(), weights.size());
         float sumOfWeightedScores = 0;
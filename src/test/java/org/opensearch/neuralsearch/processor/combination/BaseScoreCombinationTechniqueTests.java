@@ -89,6 +89,29 @@ public class BaseScoreCombinationTechniqueTests extends OpenSearchTestCase {
         assertEquals(expectedScore, actualScore, DELTA_FOR_ASSERTION);
     }
 
+    public void testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(
+        final ScoreCombinationTechnique technique,
+        final int numOfSubQueries
+    ) {
+        int numOfDocs = RandomizedTest.randomIntBetween(1, RANDOM_SCORES_SIZE);
+        float[][] scoresPerSubQuery = new float[numOfSubQueries][numOfDocs];
+        for (float[] scores : scoresPerSubQuery) {
+            for (int doc = 0; doc < numOfDocs; doc++) {
+                scores[doc] = RandomizedTest.randomBoolean() ? 0.0f : randomScore();
+            }
+        }
+        float[] combinedScores = new float[numOfDocs];
+        technique.combine(scoresPerSubQuery, numOfDocs, combinedScores);
+
+        float[] scores = new float[numOfSubQueries];
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                scores[subQueryIndex] = scoresPerSubQuery[subQueryIndex][doc];
+            }
+            assertEquals(technique.combine(scores), combinedScores[doc], 0.0f);
+        }
+    }
+
     private float randomScore() {
         return RandomizedTest.randomBoolean() ? -1.0f : RandomizedTest.randomFloat();
     }
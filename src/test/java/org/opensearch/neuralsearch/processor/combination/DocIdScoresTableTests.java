@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DocIdScoresTableTests extends OpenSearchTestCase {
+    private static final float DELTA_FOR_SCORE_ASSERTION = 0.001f;
+    private final ScoreCombinationTechnique arithmeticMean = new ArithmeticMeanScoreCombinationTechnique(
+        Map.of(),
+        new ScoreCombinationUtil()
+    );
+
+    public void testOf_whenDocsMatchedBySeveralSubQueries_thenScoresGroupedByDocId() {
+        List<TopDocs> topDocsPerSubQuery = List.of(
+            new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(5, 1.0f), new ScoreDoc(3, 0.5f) }),
+            new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]),
+            new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, 0.8f), new ScoreDoc(7, 0.2f) })
+        );
+
+        DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery);
+        table.combine(arithmeticMean);
+
+        assertEquals(3, table.size());
+        assertEquals(-1, table.getRow(4));
+        // scores of sub-queries that don't match the doc are 0.0
+        assertEquals(1.0f / 3, table.getCombinedScore(table.getRow(5)), DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(1.3f / 3, table.getCombinedScore(table.getRow(3)), DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(0.2f / 3, table.getCombinedScore(table.getRow(7)), DELTA_FOR_SCORE_ASSERTION);
+        assertArrayEquals(new int[] { 3, 5, 7 }, table.getDocIdsSortedByCombinedScore());
+    }
+
+    public void testCombine_whenSameTopDocs_thenBatchCombineEqualsCombineOfEveryDocument() {
+        int numOfSubQueries = 3;
+        List<TopDocs> topDocsPerSubQuery = new ArrayList<>();
+        Map<Integer, float[]> scoresPerDocId = new HashMap<>();
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            int numOfHits = randomIntBetween(0, 50);
+            Set<Integer> docIds = new HashSet<>();
+            List<ScoreDoc> scoreDocs = new ArrayList<>();
+            for (int i = 0; i < numOfHits; i++) {
+                int docId = randomIntBetween(0, 100);
+                if (docIds.add(docId)) {
+                    float score = randomFloat();
+                    scoreDocs.add(new ScoreDoc(docId, score));
+                    scoresPerDocId.computeIfAbsent(docId, id -> new float[numOfSubQueries])[subQueryIndex] = score;
+                }
+            }
+            topDocsPerSubQuery.add(
+                new TopDocs(new TotalHits(scoreDocs.size(), TotalHits.Relation.EQUAL_TO), scoreDocs.toArray(new ScoreDoc[0]))
+            );
+        }
+        ScoreCombinationUtil scoreCombinationUtil = new ScoreCombinationUtil();
+        Map<String, Object> weights = Map.of(ScoreCombinationUtil.PARAM_NAME_WEIGHTS, List.of(0.5, 0.2, 0.3));
+        List<ScoreCombinationTechnique> techniques = List.of(
+            arithmeticMean,
+            new ArithmeticMeanScoreCombinationTechnique(weights, scoreCombinationUtil),
+            new GeometricMeanScoreCombinationTechnique(weights, scoreCombinationUtil),
+            new HarmonicMeanScoreCombinationTechnique(weights, scoreCombinationUtil),
+            new RRFScoreCombinationTechnique(weights, scoreCombinationUtil)
+        );
+
+        for (ScoreCombinationTechnique technique : techniques) {
+            DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery);
+            table.combine(technique);
+
+            assertEquals(scoresPerDocId.size(), table.size());
+            // batch combine over columns of the table gives exactly the scores of the per-document combine
+            for (Map.Entry<Integer, float[]> entry : scoresPerDocId.entrySet()) {
+                assertEquals(technique.combine(entry.getValue()), table.getCombinedScore(table.getRow(entry.getKey())), 0.0f);
+            }
+        }
+    }
+
+    public void testGetDocIdsSortedByCombinedScore_whenScoresAreEqual_thenSortedByDocId() {
+        List<TopDocs> topDocsPerSubQuery = List.of(
+            new TopDocs(
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                new ScoreDoc[] { new ScoreDoc(9, 0.5f), new ScoreDoc(2, 0.5f), new ScoreDoc(4, 0.7f) }
+            )
+        );
+
+        DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery);
+        table.combine(arithmeticMean);
+
+        assertArrayEquals(new int[] { 4, 2, 9 }, table.getDocIdsSortedByCombinedScore());
+    }
+
+    public void testAddIfAbsent_whenManyDocIds_thenTableGrowsAndKeepsAllRows() {
+        int numOfSubQueries = 2;
+        DocIdScoresTable table = new DocIdScoresTable(numOfSubQueries, 1);
+        Set<Integer> expectedDocIds = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            int docId = randomIntBetween(0, 5000);
+            table.setScore(table.addIfAbsent(docId), randomIntBetween(0, numOfSubQueries - 1), randomFloat());
+            expectedDocIds.add(docId);
+        }
+        table.combine(arithmeticMean);
+
+        assertEquals(expectedDocIds.size(), table.size());
+        for (int docId : expectedDocIds) {
+            int row = table.getRow(docId);
+            assertTrue(row >= 0);
+            assertEquals(row, table.addIfAbsent(docId));
+        }
+        assertEquals(expectedDocIds.size(), table.getDocIdsSortedByCombinedScore().length);
+    }
+
+    public void testGetTopScoreDocs_whenTopNLessThanSize_thenBestDocsSelectedInOrder() {
+        List<TopDocs> topDocsPerSubQuery = List.of(
+            new TopDocs(
+                new TotalHits(5, TotalHits.Relation.EQUAL_TO),
+                new ScoreDoc[] {
+                    new ScoreDoc(9, 0.5f),
+                    new ScoreDoc(2, 0.5f),
+                    new ScoreDoc(4, 0.7f),
+                    new ScoreDoc(1, 0.1f),
+                    new ScoreDoc(6, 0.9f) }
+            )
+        );
+
+        DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery, (subQueryIndex, score) -> score * 2);
+        table.combine(arithmeticMean);
+        ScoreDoc[] topScoreDocs = table.getTopScoreDocs(3, 0);
+
+        assertEquals(3, topScoreDocs.length);
+        assertEquals(6, topScoreDocs[0].doc);
+        assertEquals(1.8f, topScoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(4, topScoreDocs[1].doc);
+        assertEquals(2, topScoreDocs[2].doc);
+        assertEquals(0, topScoreDocs[2].shardIndex);
+        assertEquals(5, table.getTopScoreDocs(10, 0).length);
+        assertEquals(0, table.getTopScoreDocs(0, 0).length);
+    }
+}
@@ -73,6 +73,20 @@ public class GeometricMeanScoreCombinationTechniqueTests extends BaseScoreCombin
      * Verify score correctness by using alternative formula for geometric mean as n-th root of product of weighted scores,
      * more details in here https://en.wikipedia.org/wiki/Weighted_geometric_mean
      */
+
+    public void testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument() {
+        List<Double> weights = List.of(0.4, 0.1, 0.3, 0.2);
+        ScoreCombinationTechnique technique = new GeometricMeanScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, weights),
+            scoreCombinationUtil
+        );
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(technique, weights.size());
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(
+            new GeometricMeanScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            randomIntBetween(1, 5)
+        );
+    }
+
     private float geometricMean(List<Float> scores, List<Double> weights) {
         float product = 1.0f;
         float sumOfWeights = 0.0f;
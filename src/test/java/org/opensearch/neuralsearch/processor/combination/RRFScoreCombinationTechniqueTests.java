@@ -35,7 +35,10 @@ public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechn
     public void testLogic_whenNotAllScoresAndWeightsPresent_thenCorrectScores() {
         List<Float> scores = List.of(1.0f, 0.0f, 0.6f);
         List<Double> weights = List.of(0.45, 0.15, 0.4);
-        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(Map.of(PARAM_NAME_WEIGHTS, weights), scoreCombinationUtil);
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, weights),
+            scoreCombinationUtil
+        );
         // 1 x 0.45 + 0 x 0.15 + 0.6 x 0.4 = 0.69
         float expectedScore = 0.69f;
         testLogic_whenNotAllScoresAndWeightsPresent_thenCorrectScores(technique, scores, expectedScore);
@@ -43,7 +46,10 @@ public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechn
 
     public void testRandomValues_whenNotAllScoresAndWeightsPresent_thenCorrectScores() {
         List<Double> weights = IntStream.range(0, RANDOM_SCORES_SIZE).mapToObj(i -> 1.0 / RANDOM_SCORES_SIZE).collect(Collectors.toList());
-        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(Map.of(PARAM_NAME_WEIGHTS, weights), scoreCombinationUtil);
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, weights),
+            scoreCombinationUtil
+        );
         testRandomValues_whenNotAllScoresAndWeightsPresent_thenCorrectScores(technique, weights);
     }
 
@@ -82,6 +88,19 @@ public class RRFScoreCombinationTechniqueTests extends BaseScoreCombinationTechn
         assertEquals("scores array cannot be null", exception.getMessage());
     }
 
+    public void testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument() {
+        List<Double> weights = List.of(0.4, 0.1, 0.3, 0.2);
+        ScoreCombinationTechnique technique = new RRFScoreCombinationTechnique(
+            Map.of(PARAM_NAME_WEIGHTS, weights),
+            scoreCombinationUtil
+        );
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(technique, weights.size());
+        testCombineColumns_whenScoresOfManyDocuments_thenSameScoresAsCombineOfEveryDocument(
+            new RRFScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            randomIntBetween(1, 5)
+        );
+    }
+
     private float RRF(List<Float> scores, List<Double> weights) {
         float sumScores = 0.0f;
         float sumOfWeights = 0;
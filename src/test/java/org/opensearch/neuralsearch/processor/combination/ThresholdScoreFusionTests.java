@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.normalization.FusableScoreNormalizationTechnique.SubQueryScoreNormalizer;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThresholdScoreFusionTests extends OpenSearchTestCase {
+    private static final int SHARD_INDEX = 0;
+
+    public void testFuse_whenTopNLessThanNumberOfDocs_thenSameResultsAsFullCombination() {
+        ScoreCombinationUtil scoreCombinationUtil = new ScoreCombinationUtil();
+        List<ScoreCombinationTechnique> techniques = List.of(
+            new ArithmeticMeanScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            new GeometricMeanScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            new HarmonicMeanScoreCombinationTechnique(Map.of(), scoreCombinationUtil),
+            new RRFScoreCombinationTechnique(Map.of(), scoreCombinationUtil)
+        );
+        for (ScoreCombinationTechnique technique : techniques) {
+            for (int iteration = 0; iteration < 20; iteration++) {
+                List<TopDocs> topDocsPerSubQuery = createRandomTopDocs(randomIntBetween(2, 4), randomIntBetween(1, 200));
+                int topN = randomIntBetween(1, 20);
+
+                ScoreDoc[] fusedScoreDocs = ThresholdScoreFusion.fuse(
+                    topDocsPerSubQuery,
+                    SubQueryScoreNormalizer.IDENTITY,
+                    technique,
+                    topN,
+                    SHARD_INDEX
+                );
+
+                DocIdScoresTable table = DocIdScoresTable.of(topDocsPerSubQuery);
+                table.combine(technique);
+                ScoreDoc[] expectedScoreDocs = table.getTopScoreDocs(topN, SHARD_INDEX);
+                assertEquals(expectedScoreDocs.length, fusedScoreDocs.length);
+                for (int i = 0; i < expectedScoreDocs.length; i++) {
+                    assertEquals(expectedScoreDocs[i].doc, fusedScoreDocs[i].doc);
+                    assertEquals(expectedScoreDocs[i].score, fusedScoreDocs[i].score, 0.0f);
+                    assertEquals(SHARD_INDEX, fusedScoreDocs[i].shardIndex);
+                }
+            }
+        }
+    }
+
+    public void testFuse_whenTopDocsAreClear_thenScanStopsEarly() {
+        int numOfDocs = 1000;
+        ScoreDoc[] firstSubQueryDocs = new ScoreDoc[numOfDocs];
+        ScoreDoc[] secondSubQueryDocs = new ScoreDoc[numOfDocs];
+        for (int i = 0; i < numOfDocs; i++) {
+            float score = 1.0f - (float) i / numOfDocs;
+            firstSubQueryDocs[i] = new ScoreDoc(i, score);
+            secondSubQueryDocs[i] = new ScoreDoc(i, score);
+        }
+        List<TopDocs> topDocsPerSubQuery = List.of(
+            new TopDocs(new TotalHits(numOfDocs, TotalHits.Relation.EQUAL_TO), firstSubQueryDocs),
+            new TopDocs(new TotalHits(numOfDocs, TotalHits.Relation.EQUAL_TO), secondSubQueryDocs)
+        );
+        AtomicInteger numOfCombinedDocs = new AtomicInteger();
+        ScoreCombinationTechnique arithmeticMean = new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
+        ScoreCombinationTechnique countingTechnique = new ScoreCombinationTechnique() {
+            @Override
+            public float combine(float[] scores) {
+                numOfCombinedDocs.incrementAndGet();
+                return arithmeticMean.combine(scores);
+            }
+
+            @Override
+            public float combinedScoreUpperBound(float[] maxScores) {
+                return arithmeticMean.combinedScoreUpperBound(maxScores);
+            }
+
+            @Override
+            public String techniqueName() {
+                return arithmeticMean.techniqueName();
+            }
+        };
+
+        ScoreDoc[] scoreDocs = ThresholdScoreFusion.fuse(topDocsPerSubQuery, SubQueryScoreNormalizer.IDENTITY, countingTechnique, 10, 0);
+
+        assertEquals(10, scoreDocs.length);
+        for (int i = 0; i < scoreDocs.length; i++) {
+            assertEquals(i, scoreDocs[i].doc);
+        }
+        assertTrue(numOfCombinedDocs.get() < 20);
+    }
+
+    public void testFuse_whenTopNIsZero_thenNoResults() {
+        List<TopDocs> topDocsPerSubQuery = createRandomTopDocs(2, 10);
+        ScoreCombinationTechnique arithmeticMean = new ArithmeticMeanScoreCombinationTechnique(Map.of(), new ScoreCombinationUtil());
+
+        assertEquals(0, ThresholdScoreFusion.fuse(topDocsPerSubQuery, SubQueryScoreNormalizer.IDENTITY, arithmeticMean, 0, 0).length);
+    }
+
+    private List<TopDocs> createRandomTopDocs(final int numOfSubQueries, final int maxDoc) {
+        List<TopDocs> topDocsPerSubQuery = new ArrayList<>(numOfSubQueries);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            int numOfHits = randomIntBetween(0, maxDoc);
+            Set<Integer> docIds = new HashSet<>();
+            while (docIds.size() < numOfHits) {
+                docIds.add(randomIntBetween(0, maxDoc - 1));
+            }
+            ScoreDoc[] scoreDocs = docIds.stream()
+                // rounded scores produce ties between docs
+                .map(docId -> new ScoreDoc(docId, Math.round(randomFloat() * 20) / 20.0f))
+                .sorted((a, b) -> Float.compare(b.score, a.score))
+                .toArray(ScoreDoc[]::new);
+            topDocsPerSubQuery.add(new TopDocs(new TotalHits(numOfHits, TotalHits.Relation.EQUAL_TO), scoreDocs));
+        }
+        return topDocsPerSubQuery;
+    }
+}
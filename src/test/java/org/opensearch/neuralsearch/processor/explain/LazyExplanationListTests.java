@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.explain;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyExplanationListTests extends OpenSearchTestCase {
+
+    public void testGet_whenElementIsRead_thenOnlyThisElementCreated() {
+        float[] scores = new float[] { 0.9f, 0.5f, 0.1f };
+        AtomicInteger numOfCreatedElements = new AtomicInteger();
+        List<ExplanationDetails> explanations = LazyExplanationList.of(scores.length, index -> {
+            numOfCreatedElements.incrementAndGet();
+            return new ExplanationDetails(index, List.of(Pair.of(scores[index], "arithmetic_mean combination of:")));
+        });
+
+        assertEquals(3, explanations.size());
+        assertEquals(0, numOfCreatedElements.get());
+
+        ExplanationDetails explanationDetails = explanations.get(1);
+        assertEquals(1, explanationDetails.getDocId());
+        assertEquals(0.5f, explanationDetails.getScoreDetails().get(0).getKey(), 0.0f);
+        assertEquals(1, numOfCreatedElements.get());
+    }
+
+    public void testEquals_whenSameElements_thenEqualToEagerList() {
+        List<Pair<Float, String>> scoreDetails = LazyExplanationList.of(2, index -> Pair.of(index * 0.5f, "min_max normalization of:"));
+
+        assertEquals(List.of(Pair.of(0.0f, "min_max normalization of:"), Pair.of(0.5f, "min_max normalization of:")), scoreDetails);
+    }
+
+    public void testGet_whenIndexOutOfBounds_thenFail() {
+        List<Integer> explanations = LazyExplanationList.of(2, index -> index);
+
+        expectThrows(IndexOutOfBoundsException.class, () -> explanations.get(2));
+        expectThrows(IndexOutOfBoundsException.class, () -> explanations.get(-1));
+        expectThrows(UnsupportedOperationException.class, () -> explanations.add(3));
+    }
+}
@@ -17,6 +17,8 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 import org.opensearch.neuralsearch.processor.SearchShard;
 import org.opensearch.neuralsearch.processor.NormalizeScoresDTO;
@@ -28,7 +30,7 @@ import org.opensearch.search.SearchShardTarget;
 
 import static org.opensearch.neuralsearch.processor.normalization.MinMaxScoreNormalizationTechnique.MAX_SCORE;
 import static org.opensearch.neuralsearch.processor.normalization.MinMaxScoreNormalizationTechnique.MIN_SCORE;
-import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
+import static org.opensearch.neuralsearch.query.HybridQueryBuilder.DEFAULT_MAX_NUMBER_OF_SUB_QUERIES;
 import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_SCORE_ASSERTION;
 import static org.opensearch.neuralsearch.util.TestUtils.PARAM_NAME_LOWER_BOUNDS;
 
@@ -459,7 +461,7 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
                 Locale.ROOT,
                 "lower_bounds size %d should be less than or equal to %d",
                 lowerBounds.size(),
-                MAX_NUMBER_OF_SUB_QUERIES
+                DEFAULT_MAX_NUMBER_OF_SUB_QUERIES
             ),
             exception.getMessage()
         );
@@ -841,7 +843,7 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
                 Locale.ROOT,
                 "upper_bounds size %d should be less than or equal to %d",
                 upperBounds.size(),
-                MAX_NUMBER_OF_SUB_QUERIES
+                DEFAULT_MAX_NUMBER_OF_SUB_QUERIES
             ),
             exception.getMessage()
         );
@@ -1267,6 +1269,93 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
         assertEquals(1.0f, technique.calculateNormalizedScore(0.5f, 0.7f, 0.7f), DELTA_FOR_SCORE_ASSERTION);
     }
 
+    public void testLearnedBounds_whenMinSamplesRecorded_thenLearnedScoresUsedForNormalization() {
+        MinMaxScoreNormalizationTechnique technique = new MinMaxScoreNormalizationTechnique(
+            Map.of("learned_bounds", Map.of("min_samples", 4)),
+            new ScoreNormalizationUtil()
+        );
+        QueryBuilder query = new TermQueryBuilder("title", "text");
+        // first search is normalized with min and max scores of its results, scores are recorded
+        List<CompoundTopDocs> firstSearchTopDocs = createSingleSubQueryTopDocs(1.0f, 3.0f, 5.0f, 9.0f);
+        technique.normalize(
+            NormalizeScoresDTO.builder().queryTopDocs(firstSearchTopDocs).normalizationTechnique(technique).query(query).build()
+        );
+        ScoreDoc[] firstSearchScoreDocs = firstSearchTopDocs.get(0).getTopDocs().get(0).scoreDocs;
+        assertEquals(MIN_SCORE, firstSearchScoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(0.5f, firstSearchScoreDocs[2].score, DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(MAX_SCORE, firstSearchScoreDocs[3].score, DELTA_FOR_SCORE_ASSERTION);
+
+        // next search is normalized with learned scores, scores outside of learned scores are clipped
+        List<CompoundTopDocs> secondSearchTopDocs = createSingleSubQueryTopDocs(20.0f, 5.0f, 3.0f, 0.5f);
+        technique.normalize(
+            NormalizeScoresDTO.builder()
+                .queryTopDocs(secondSearchTopDocs)
+                .normalizationTechnique(technique)
+                .query(new TermQueryBuilder("title", "other"))
+                .build()
+        );
+        ScoreDoc[] secondSearchScoreDocs = secondSearchTopDocs.get(0).getTopDocs().get(0).scoreDocs;
+        float delta = 0.02f;
+        assertEquals(MAX_SCORE, secondSearchScoreDocs[0].score, delta);
+        assertEquals(0.5f, secondSearchScoreDocs[1].score, delta);
+        assertEquals(0.25f, secondSearchScoreDocs[2].score, delta);
+        assertEquals(MIN_SCORE, secondSearchScoreDocs[3].score, DELTA_FOR_SCORE_ASSERTION);
+
+        // search of query of other shape is normalized with min and max scores of its results
+        List<CompoundTopDocs> otherQueryTopDocs = createSingleSubQueryTopDocs(20.0f, 5.0f, 3.0f, 0.5f);
+        technique.normalize(
+            NormalizeScoresDTO.builder()
+                .queryTopDocs(otherQueryTopDocs)
+                .normalizationTechnique(technique)
+                .query(new TermQueryBuilder("body", "text"))
+                .build()
+        );
+        ScoreDoc[] otherQueryScoreDocs = otherQueryTopDocs.get(0).getTopDocs().get(0).scoreDocs;
+        assertEquals(MAX_SCORE, otherQueryScoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        assertEquals((5.0f - 0.5f) / (20.0f - 0.5f), otherQueryScoreDocs[1].score, DELTA_FOR_SCORE_ASSERTION);
+        assertEquals(MIN_SCORE, otherQueryScoreDocs[3].score, DELTA_FOR_SCORE_ASSERTION);
+    }
+
+    public void testLearnedBounds_whenInvalidInput_thenFail() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new MinMaxScoreNormalizationTechnique(Map.of("learned_bounds", Map.of("window", 10)), new ScoreNormalizationUtil())
+        );
+        assertEquals("unrecognized parameters in normalization technique", exception.getMessage());
+
+        exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new MinMaxScoreNormalizationTechnique(
+                Map.of("learned_bounds", Map.of("lower_quantile", -1)),
+                new ScoreNormalizationUtil()
+            )
+        );
+        assertEquals("lower_quantile must be a number between 0 and 1", exception.getMessage());
+    }
+
+    public void testDescribe_whenLearnedBoundsArePresent_thenSuccessful() {
+        MinMaxScoreNormalizationTechnique technique = new MinMaxScoreNormalizationTechnique(
+            Map.of("learned_bounds", Map.of("min_samples", 100, "upper_quantile", 0.99)),
+            new ScoreNormalizationUtil()
+        );
+        assertEquals("min_max, learned bounds [min_samples=100, lower_quantile=0.0, upper_quantile=0.99]", technique.describe());
+    }
+
+    private List<CompoundTopDocs> createSingleSubQueryTopDocs(float... scores) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i]);
+        }
+        return List.of(
+            new CompoundTopDocs(
+                new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO),
+                List.of(new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs)),
+                false,
+                SEARCH_SHARD
+            )
+        );
+    }
+
     private void assertNormalizedScores(MinMaxScoreNormalizationTechnique technique, float[][] testCases) {
         for (float[] testCase : testCases) {
             float inputScore = testCase[0];
@@ -1306,6 +1395,41 @@ public class MinMaxScoreNormalizationTechniqueTests extends OpenSearchQueryTestC
         }
     }
 
+    public void testCollectStatistics_whenScoresNormalizedInBatch_thenSameScoresAsNormalizationOfEveryScore() {
+        List<Map<String, Object>> lowerBounds = List.of(Map.of("mode", "clip", "min_score", 0.3), Map.of("mode", "ignore"));
+        List<MinMaxScoreNormalizationTechnique> techniques = List.of(
+            new MinMaxScoreNormalizationTechnique(Map.of(), new ScoreNormalizationUtil()),
+            new MinMaxScoreNormalizationTechnique(Map.of(PARAM_NAME_LOWER_BOUNDS, lowerBounds), new ScoreNormalizationUtil())
+        );
+        for (MinMaxScoreNormalizationTechnique technique : techniques) {
+            float[][] scoresPerSubQuery = new float[2][];
+            List<TopDocs> topDocsPerSubQuery = new ArrayList<>();
+            for (int subQueryIndex = 0; subQueryIndex < scoresPerSubQuery.length; subQueryIndex++) {
+                // second sub-query has one score, min and max scores are the same
+                int numOfScores = subQueryIndex == 0 ? randomIntBetween(2, 50) : 1;
+                scoresPerSubQuery[subQueryIndex] = new float[numOfScores];
+                ScoreDoc[] scoreDocs = new ScoreDoc[numOfScores];
+                for (int i = 0; i < numOfScores; i++) {
+                    scoresPerSubQuery[subQueryIndex][i] = randomFloat();
+                    scoreDocs[i] = new ScoreDoc(i, scoresPerSubQuery[subQueryIndex][i]);
+                }
+                topDocsPerSubQuery.add(new TopDocs(new TotalHits(numOfScores, TotalHits.Relation.EQUAL_TO), scoreDocs));
+            }
+            FusableScoreNormalizationTechnique.SubQueryScoreNormalizer scoreNormalizer = technique.collectStatistics(
+                List.of(new CompoundTopDocs(new TotalHits(50, TotalHits.Relation.EQUAL_TO), topDocsPerSubQuery, false, SEARCH_SHARD))
+            );
+
+            for (int subQueryIndex = 0; subQueryIndex < scoresPerSubQuery.length; subQueryIndex++) {
+                float[] scores = scoresPerSubQuery[subQueryIndex];
+                float[] normalizedScores = Arrays.copyOf(scores, scores.length);
+                scoreNormalizer.normalize(subQueryIndex, normalizedScores, normalizedScores.length);
+                for (int i = 0; i < scores.length; i++) {
+                    assertEquals(scoreNormalizer.normalize(subQueryIndex, scores[i]), normalizedScores[i], 0.0f);
+                }
+            }
+        }
+    }
+
     private void assertCompoundTopDocs(TopDocs expected, TopDocs actual) {
         assertEquals(expected.totalHits.value(), actual.totalHits.value());
         assertEquals(expected.totalHits.relation(), actual.totalHits.relation());
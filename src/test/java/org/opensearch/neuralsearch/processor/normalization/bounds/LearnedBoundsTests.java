@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization.bounds;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.MatchQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+
+public class LearnedBoundsTests extends OpenSearchTestCase {
+    private static final float RELATIVE_ERROR = 0.011f;
+
+    public void testConstructor_whenDefault_thenSuccessful() {
+        LearnedBounds learnedBounds = new LearnedBounds(Map.of());
+        assertEquals(LearnedBounds.DEFAULT_MIN_SAMPLES, learnedBounds.getMinSamples());
+        assertEquals(LearnedBounds.DEFAULT_LOWER_QUANTILE, learnedBounds.getLowerQuantile(), 0.0);
+        assertEquals(LearnedBounds.DEFAULT_UPPER_QUANTILE, learnedBounds.getUpperQuantile(), 0.0);
+        assertEquals(0, learnedBounds.getQueryShapeBounds(null).getLearnedScores().length);
+    }
+
+    public void testConstructor_whenInvalidInput_thenFail() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new LearnedBounds(Map.of("min_samples", "many"))
+        );
+        assertEquals("invalid format for min_samples: must be a valid integer value", exception.getMessage());
+
+        exception = expectThrows(IllegalArgumentException.class, () -> new LearnedBounds(Map.of("min_samples", 0)));
+        assertEquals("min_samples must be a positive number", exception.getMessage());
+
+        exception = expectThrows(IllegalArgumentException.class, () -> new LearnedBounds(Map.of("upper_quantile", 1.5)));
+        assertEquals("upper_quantile must be a number between 0 and 1", exception.getMessage());
+
+        exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> new LearnedBounds(Map.of("lower_quantile", 0.9, "upper_quantile", 0.1))
+        );
+        assertEquals("lower_quantile must be less than upper_quantile", exception.getMessage());
+    }
+
+    public void testRecord_whenMinSamplesRecorded_thenScoresLearned() {
+        LearnedBounds learnedBounds = new LearnedBounds(4, 0.0, 1.0);
+        LearnedBounds.QueryShapeBounds queryShapeBounds = learnedBounds.getQueryShapeBounds(new TermQueryBuilder("title", "a"));
+        queryShapeBounds.record(1, new ScoreDoc[] { new ScoreDoc(0, 2.0f), new ScoreDoc(1, 0.5f) });
+        assertFalse(LearnedBounds.isLearned(queryShapeBounds.getLearnedScores(), 1));
+
+        queryShapeBounds.record(1, new ScoreDoc[] { new ScoreDoc(2, 8.0f), new ScoreDoc(3, 1.0f) });
+        float[][] learnedScores = queryShapeBounds.getLearnedScores();
+        assertFalse(LearnedBounds.isLearned(learnedScores, 0));
+        assertTrue(LearnedBounds.isLearned(learnedScores, 1));
+        assertEquals(0.5f, learnedScores[1][0], 0.5f * RELATIVE_ERROR);
+        assertEquals(8.0f, learnedScores[1][1], 8.0f * RELATIVE_ERROR);
+
+        // learned scores stay the same until enough new scores are recorded
+        queryShapeBounds.record(1, new ScoreDoc[] { new ScoreDoc(4, 100.0f) });
+        assertSame(learnedScores, queryShapeBounds.getLearnedScores());
+    }
+
+    public void testRecord_whenScoresChange_thenLearnedScoresFollowRecentScores() {
+        LearnedBounds learnedBounds = new LearnedBounds(4, 0.0, 1.0);
+        LearnedBounds.QueryShapeBounds queryShapeBounds = learnedBounds.getQueryShapeBounds(new TermQueryBuilder("title", "a"));
+        queryShapeBounds.record(
+            0,
+            new ScoreDoc[] { new ScoreDoc(0, 1.0f), new ScoreDoc(1, 1.0f), new ScoreDoc(2, 1.0f), new ScoreDoc(3, 2.0f) }
+        );
+        assertEquals(1.0f, queryShapeBounds.getLearnedScores()[0][0], RELATIVE_ERROR);
+        assertEquals(2.0f, queryShapeBounds.getLearnedScores()[0][1], 2.0f * RELATIVE_ERROR);
+
+        // max score is learned again from new scores, old scores are halved every time scores are learned until they are gone
+        for (int i = 0; i < 5; i++) {
+            queryShapeBounds.record(0, new ScoreDoc[] { new ScoreDoc(0, 4.0f), new ScoreDoc(1, 4.0f), new ScoreDoc(2, 8.0f) });
+        }
+        float[][] learnedScores = queryShapeBounds.getLearnedScores();
+        assertEquals(4.0f, learnedScores[0][0], 4.0f * RELATIVE_ERROR);
+        assertEquals(8.0f, learnedScores[0][1], 8.0f * RELATIVE_ERROR);
+    }
+
+    public void testGetQueryShapeBounds_whenQueriesOfDifferentShapes_thenScoresLearnedPerShape() {
+        LearnedBounds learnedBounds = new LearnedBounds(2, 0.0, 1.0);
+        LearnedBounds.QueryShapeBounds queryShapeBounds = learnedBounds.getQueryShapeBounds(new TermQueryBuilder("title", "a"));
+        queryShapeBounds.record(0, new ScoreDoc[] { new ScoreDoc(0, 2.0f), new ScoreDoc(1, 1.0f) });
+
+        // queries that differ only by values share learned scores
+        assertSame(queryShapeBounds, learnedBounds.getQueryShapeBounds(new TermQueryBuilder("title", "b")));
+        LearnedBounds.QueryShapeBounds otherFieldBounds = learnedBounds.getQueryShapeBounds(new TermQueryBuilder("body", "a"));
+        assertNotSame(queryShapeBounds, otherFieldBounds);
+        assertTrue(LearnedBounds.isLearned(queryShapeBounds.getLearnedScores(), 0));
+        assertFalse(LearnedBounds.isLearned(otherFieldBounds.getLearnedScores(), 0));
+        assertEquals(2, learnedBounds.getNumOfQueryShapes());
+    }
+
+    public void testGetQueryShape_whenSameStructure_thenSameShape() {
+        QueryBuilder query = new BoolQueryBuilder().should(new TermQueryBuilder("title", "a"))
+            .should(new MatchQueryBuilder("body", "hello world"));
+        QueryBuilder sameShapeQuery = new BoolQueryBuilder().should(new TermQueryBuilder("title", "b"))
+            .should(new MatchQueryBuilder("body", "goodbye").boost(2.0f));
+        QueryBuilder otherShapeQuery = new BoolQueryBuilder().should(new MatchQueryBuilder("body", "hello world"))
+            .should(new TermQueryBuilder("title", "a"));
+
+        assertEquals(LearnedBounds.getQueryShape(query), LearnedBounds.getQueryShape(sameShapeQuery));
+        assertNotEquals(LearnedBounds.getQueryShape(query), LearnedBounds.getQueryShape(otherShapeQuery));
+        assertFalse(LearnedBounds.getQueryShape(query).contains("hello"));
+        assertEquals("", LearnedBounds.getQueryShape(null));
+    }
+
+    public void testGetQueryShape_whenCompoundQueries_thenShapeOfQueryTree() {
+        HybridQueryBuilder hybridQuery = new HybridQueryBuilder().add(new TermQueryBuilder("title", "a"))
+            .add(
+                new BoolQueryBuilder().must(new MatchQueryBuilder("body", "hello world"))
+                    .filter(new ConstantScoreQueryBuilder(new TermQueryBuilder("tag", "x")))
+            );
+        HybridQueryBuilder otherValuesQuery = new HybridQueryBuilder().add(new TermQueryBuilder("title", "b"))
+            .add(
+                new BoolQueryBuilder().must(new MatchQueryBuilder("body", "goodbye"))
+                    .filter(new ConstantScoreQueryBuilder(new TermQueryBuilder("tag", "y")).boost(3.0f))
+            );
+
+        assertEquals(
+            "hybridqueries[term(title),boolmust[match(body),]filter[constant_scorefilter[term(tag),],],]",
+            LearnedBounds.getQueryShape(hybridQuery)
+        );
+        assertEquals(LearnedBounds.getQueryShape(hybridQuery), LearnedBounds.getQueryShape(otherValuesQuery));
+    }
+
+    public void testToString_thenSuccessful() {
+        assertEquals(
+            "[min_samples=100, lower_quantile=0.01, upper_quantile=0.99]",
+            new LearnedBounds(Map.of("min_samples", 100, "lower_quantile", 0.01, "upper_quantile", 0.99)).toString()
+        );
+    }
+}
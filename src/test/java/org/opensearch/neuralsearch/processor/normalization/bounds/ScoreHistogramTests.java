@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization.bounds;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+
+public class ScoreHistogramTests extends OpenSearchTestCase {
+    private static final float RELATIVE_ERROR = 0.011f;
+
+    public void testQuantile_whenNoScores_thenNaN() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        assertEquals(0, histogram.count());
+        assertTrue(Float.isNaN(histogram.quantile(0.5)));
+    }
+
+    public void testQuantile_whenRandomScores_thenEstimateWithinRelativeError() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        float[] scores = new float[randomIntBetween(100, 1000)];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = randomFloat() * 100 + 0.01f;
+            histogram.add(scores[i]);
+        }
+        Arrays.sort(scores);
+
+        assertEquals(scores.length, histogram.count());
+        for (double quantile : new double[] { 0.0, 0.01, 0.5, 0.99, 1.0 }) {
+            float expectedScore = scores[(int) (quantile * (scores.length - 1))];
+            assertEquals(expectedScore, histogram.quantile(quantile), expectedScore * RELATIVE_ERROR);
+        }
+    }
+
+    public void testQuantile_whenNegativeAndZeroScores_thenOrderedBySign() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(-2.0f);
+        histogram.add(0.0f);
+        histogram.add(3.0f);
+        histogram.add(Float.NaN);
+
+        assertEquals(3, histogram.count());
+        assertEquals(-2.0f, histogram.quantile(0.0), 2.0f * RELATIVE_ERROR);
+        assertEquals(0.0f, histogram.quantile(0.5), 0.0f);
+        assertEquals(3.0f, histogram.quantile(1.0), 3.0f * RELATIVE_ERROR);
+    }
+
+    public void testQuantile_whenScoreOutOfBoundRange_thenCountedInLastBucket() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(ScoreBound.MAX_BOUND_SCORE * 10);
+
+        assertEquals(ScoreBound.MAX_BOUND_SCORE, histogram.quantile(1.0), ScoreBound.MAX_BOUND_SCORE * RELATIVE_ERROR);
+    }
+
+    public void testDecay_whenScoresRecordedAfterDecay_thenOlderScoresWeighLess() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        for (int i = 0; i < 4; i++) {
+            histogram.add(1.0f);
+        }
+        histogram.add(-1.0f);
+        histogram.add(0.0f);
+        histogram.add(0.0f);
+
+        histogram.decay();
+        // odd counts are rounded down, single negative score is removed
+        assertEquals(3, histogram.count());
+        assertEquals(0.0f, histogram.quantile(0.0), 0.0f);
+
+        for (int i = 0; i < 3; i++) {
+            histogram.add(10.0f);
+        }
+        assertEquals(6, histogram.count());
+        assertEquals(10.0f, histogram.quantile(0.6), 10.0f * RELATIVE_ERROR);
+        assertEquals(1.0f, histogram.quantile(0.4), RELATIVE_ERROR);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.pagination;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.SearchPhaseContext;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflowExecuteRequest;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FusedResultsCacheTests extends OpenSearchTestCase {
+
+    private static final String PIT_ID = "pit_id";
+
+    public void testCursorKey_whenPaginationWithPointInTime_thenSameKeyForEveryPage() {
+        FusedResultsCache fusedResultsCache = createCache(new AtomicLong());
+
+        Optional<FusedResultsCache.CursorKey> firstPageKey = fusedResultsCache.getCursorKey(createRequest(createSource(0, 10), false));
+        Optional<FusedResultsCache.CursorKey> secondPageKey = fusedResultsCache.getCursorKey(createRequest(createSource(10, 10), false));
+
+        assertTrue(firstPageKey.isPresent());
+        assertEquals(firstPageKey, secondPageKey);
+        assertEquals(PIT_ID, firstPageKey.get().getPointInTimeId());
+    }
+
+    public void testCursorKey_whenResultsCantBeCached_thenNoKey() {
+        FusedResultsCache fusedResultsCache = createCache(new AtomicLong());
+
+        assertTrue(fusedResultsCache.getCursorKey(createRequest(createSource(0, 10), true)).isEmpty());
+        SearchSourceBuilder sourceWithoutPointInTime = createSource(0, 10).pointInTimeBuilder(null);
+        assertTrue(fusedResultsCache.getCursorKey(createRequest(sourceWithoutPointInTime, false)).isEmpty());
+        SearchSourceBuilder sourceWithSort = createSource(0, 10).sort("field");
+        assertTrue(fusedResultsCache.getCursorKey(createRequest(sourceWithSort, false)).isEmpty());
+
+        FusedResultsCache disabledCache = FusedResultsCache.disabled();
+        assertTrue(disabledCache.getCursorKey(createRequest(createSource(0, 10), false)).isEmpty());
+    }
+
+    public void testRestore_whenResultsCached_thenSetResultsOfEveryShard() {
+        FusedResultsCache fusedResultsCache = createCache(new AtomicLong());
+        FusedResultsCache.CursorKey cursorKey = fusedResultsCache.getCursorKey(createRequest(createSource(0, 10), false)).get();
+        List<QuerySearchResult> firstPageResults = createQuerySearchResults(new float[] { 0.9f, 0.5f }, new float[] { 0.7f });
+
+        fusedResultsCache.put(cursorKey, firstPageResults, null);
+        assertEquals(1, fusedResultsCache.count());
+
+        List<QuerySearchResult> nextPageResults = createQuerySearchResults(new float[] { 0.1f }, new float[] { 0.2f, 0.3f });
+        assertTrue(fusedResultsCache.restore(cursorKey, nextPageResults, 0));
+
+        for (int shard = 0; shard < firstPageResults.size(); shard++) {
+            ScoreDoc[] expected = firstPageResults.get(shard).topDocs().topDocs.scoreDocs;
+            ScoreDoc[] actual = nextPageResults.get(shard).topDocs().topDocs.scoreDocs;
+            assertEquals(expected.length, actual.length);
+            for (int i = 0; i < expected.length; i++) {
+                assertNotSame(expected[i], actual[i]);
+                assertEquals(expected[i].doc, actual[i].doc);
+                assertEquals(expected[i].score, actual[i].score, 0.0f);
+            }
+        }
+    }
+
+    public void testRestore_whenTopNIsSet_thenOnlyDocumentsThatCanGetIntoPage() {
+        FusedResultsCache fusedResultsCache = createCache(new AtomicLong());
+        FusedResultsCache.CursorKey cursorKey = fusedResultsCache.getCursorKey(createRequest(createSource(0, 2), false)).get();
+        fusedResultsCache.put(cursorKey, createQuerySearchResults(new float[] { 0.9f, 0.5f, 0.3f }, new float[] { 0.7f }), null);
+
+        List<QuerySearchResult> nextPageResults = createQuerySearchResults(new float[] { 0.1f }, new float[] { 0.2f });
+        assertTrue(fusedResultsCache.restore(cursorKey, nextPageResults, 2));
+
+        ScoreDoc[] firstShardScoreDocs = nextPageResults.get(0).topDocs().topDocs.scoreDocs;
+        assertEquals(2, firstShardScoreDocs.length);
+        assertEquals(0.9f, firstShardScoreDocs[0].score, 0.0f);
+        assertEquals(0.5f, firstShardScoreDocs[1].score, 0.0f);
+        assertEquals(0, firstShardScoreDocs[1].shardIndex);
+        assertEquals(1, nextPageResults.get(1).topDocs().topDocs.scoreDocs.length);
+        // total hits are not changed by the page
+        assertEquals(3, nextPageResults.get(0).topDocs().topDocs.totalHits.value());
+    }
+
+    public void testRestore_whenEntryExpired_thenNoResults() {
+        AtomicLong nanoTime = new AtomicLong();
+        FusedResultsCache fusedResultsCache = createCache(nanoTime);
+        FusedResultsCache.CursorKey cursorKey = fusedResultsCache.getCursorKey(createRequest(createSource(0, 10), false)).get();
+
+        List<QuerySearchResult> firstPageResults = createQuerySearchResults(new float[] { 0.9f }, new float[] { 0.7f });
+        fusedResultsCache.put(cursorKey, firstPageResults, TimeValue.timeValueSeconds(1));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertFalse(fusedResultsCache.restore(cursorKey, createQuerySearchResults(new float[] { 0.1f }, new float[] { 0.2f }), 0));
+        assertEquals(0, fusedResultsCache.count());
+    }
+
+    public void testRestore_whenShardIsMissing_thenResultsAreNotChanged() {
+        FusedResultsCache fusedResultsCache = createCache(new AtomicLong());
+        FusedResultsCache.CursorKey cursorKey = fusedResultsCache.getCursorKey(createRequest(createSource(0, 10), false)).get();
+        fusedResultsCache.put(cursorKey, createQuerySearchResults(new float[] { 0.9f }), null);
+
+        List<QuerySearchResult> nextPageResults = createQuerySearchResults(new float[] { 0.1f }, new float[] { 0.2f });
+        assertFalse(fusedResultsCache.restore(cursorKey, nextPageResults, 0));
+        assertEquals(0.1f, nextPageResults.get(0).topDocs().topDocs.scoreDocs[0].score, 0.0f);
+    }
+
+    private FusedResultsCache createCache(final AtomicLong nanoTime) {
+        return new FusedResultsCache(() -> true, TimeValue.timeValueMinutes(1), new ByteSizeValue(1024 * 1024), nanoTime::get);
+    }
+
+    private SearchSourceBuilder createSource(final int from, final int size) {
+        return new SearchSourceBuilder().query(QueryBuilders.matchAllQuery())
+            .from(from)
+            .size(size)
+            .pointInTimeBuilder(new PointInTimeBuilder(PIT_ID).setKeepAlive(TimeValue.timeValueMinutes(5)));
+    }
+
+    private NormalizationProcessorWorkflowExecuteRequest createRequest(final SearchSourceBuilder source, final boolean explain) {
+        SearchPhaseContext searchPhaseContext = mock(SearchPhaseContext.class);
+        SearchRequest searchRequest = new SearchRequest().source(source);
+        when(searchPhaseContext.getRequest()).thenReturn(searchRequest);
+        return NormalizationProcessorWorkflowExecuteRequest.builder()
+            .querySearchResults(List.of())
+            .fetchSearchResultOptional(Optional.empty())
+            .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+            .combinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+            .explain(explain)
+            .searchPhaseContext(searchPhaseContext)
+            .build();
+    }
+
+    private List<QuerySearchResult> createQuerySearchResults(final float[]... scoresPerShard) {
+        List<QuerySearchResult> querySearchResults = new ArrayList<>();
+        for (int shardId = 0; shardId < scoresPerShard.length; shardId++) {
+            ScoreDoc[] scoreDocs = new ScoreDoc[scoresPerShard[shardId].length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                scoreDocs[i] = new ScoreDoc(i, scoresPerShard[shardId][i], shardId);
+            }
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            querySearchResult.topDocs(
+                new TopDocsAndMaxScore(
+                    new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs),
+                    scoreDocs.length > 0 ? scoreDocs[0].score : 0.0f
+                ),
+                null
+            );
+            querySearchResult.setSearchShardTarget(
+                new SearchShardTarget("node", new ShardId("index", "uuid", shardId), null, OriginalIndices.NONE)
+            );
+            querySearchResult.setShardIndex(shardId);
+            querySearchResults.add(querySearchResult);
+        }
+        return querySearchResults;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.profile;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.query.QueryProfileShardResult;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class NormalizationProfilerTests extends OpenSearchTestCase {
+    private static final SearchShard SEARCH_SHARD = new SearchShard("my_index", 0, "12345678");
+
+    public void testTime_whenProfilingDisabled_thenPhaseExecutedAndNothingRecorded() {
+        NormalizationProfiler profiler = NormalizationProfiler.create(false);
+        AtomicBoolean executed = new AtomicBoolean(false);
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+
+        profiler.time(NormalizationProfiler.TimingType.NORMALIZE, () -> executed.set(true));
+        profiler.addToProfileResults(List.of(querySearchResult));
+
+        assertTrue(executed.get());
+        assertFalse(profiler.isEnabled());
+        assertFalse(querySearchResult.hasProfileResults());
+    }
+
+    public void testToProfileResult_whenProfilingEnabled_thenTimingsAndDebugInfoRecorded() {
+        NormalizationProfiler profiler = NormalizationProfiler.create(true);
+        List<CompoundTopDocs> queryTopDocs = List.of(
+            new CompoundTopDocs(
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] { new ScoreDoc(1, 0.5f), new ScoreDoc(2, 0.3f) }
+                    ),
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, 0.9f) })
+                ),
+                false,
+                SEARCH_SHARD
+            ),
+            new CompoundTopDocs(
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                List.of(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(4, 0.7f) }),
+                    new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0])
+                ),
+                false,
+                SEARCH_SHARD
+            )
+        );
+
+        profiler.recordQueryTopDocs(queryTopDocs);
+        profiler.recordTechniques(ScoreNormalizationFactory.DEFAULT_METHOD, ScoreCombinationFactory.DEFAULT_METHOD);
+        profiler.time(NormalizationProfiler.TimingType.NORMALIZE, () -> {});
+        profiler.time(NormalizationProfiler.TimingType.COMBINE, () -> {});
+
+        ProfileResult profileResult = profiler.toProfileResult();
+
+        assertEquals(NormalizationProfiler.PROFILE_TYPE, profileResult.getQueryName());
+        assertEquals(3, profileResult.getTimeBreakdown().size());
+        assertTrue(profileResult.getTimeBreakdown().containsKey("normalize"));
+        assertTrue(profileResult.getTimeBreakdown().containsKey("combine"));
+        assertEquals(0L, profileResult.getTimeBreakdown().get("fetch_reorder").longValue());
+        assertEquals(List.of(3L, 1L), profileResult.getDebugInfo().get(NormalizationProfiler.HITS_PER_SUB_QUERY));
+        assertEquals(2, profileResult.getDebugInfo().get(NormalizationProfiler.NUM_OF_SHARDS));
+        assertEquals(
+            ScoreNormalizationFactory.DEFAULT_METHOD.techniqueName(),
+            profileResult.getDebugInfo().get(NormalizationProfiler.NORMALIZATION_TECHNIQUE)
+        );
+        assertEquals(
+            ScoreCombinationFactory.DEFAULT_METHOD.techniqueName(),
+            profileResult.getDebugInfo().get(NormalizationProfiler.COMBINATION_TECHNIQUE)
+        );
+    }
+
+    public void testAddToProfileResults_whenShardHasProfile_thenNormalizationResultAdded() {
+        NormalizationProfiler profiler = NormalizationProfiler.create(true);
+        QuerySearchResult resultWithoutProfile = new QuerySearchResult();
+        QuerySearchResult resultWithProfile = new QuerySearchResult();
+        resultWithProfile.profileResults(new ProfileShardResult(List.of(new QueryProfileShardResult(List.of(), 10L, null)), null, null));
+
+        profiler.time(NormalizationProfiler.TimingType.COMBINE, () -> {});
+        profiler.addToProfileResults(List.of(resultWithoutProfile, resultWithProfile));
+
+        assertFalse(resultWithoutProfile.hasProfileResults());
+        assertTrue(resultWithProfile.hasProfileResults());
+        ProfileShardResult shardResult = resultWithProfile.consumeProfileResult();
+        QueryProfileShardResult queryProfileShardResult = shardResult.getQueryProfileResults().get(0);
+        assertEquals(10L, queryProfileShardResult.getRewriteTime());
+        assertEquals(1, queryProfileShardResult.getQueryResults().size());
+        assertEquals(NormalizationProfiler.PROFILE_TYPE, queryProfileShardResult.getQueryResults().get(0).getQueryName());
+    }
+}
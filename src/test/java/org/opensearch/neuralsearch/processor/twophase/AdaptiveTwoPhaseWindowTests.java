@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.twophase;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.junit.Before;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveTwoPhaseWindowTests extends OpenSearchTestCase {
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+    }
+
+    public void testCreate_whenParametersNotSet_thenDefaults() {
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(Map.of(), () -> 0.5);
+        assertEquals(AdaptiveTwoPhaseWindow.DEFAULT_RECALL_TARGET, adaptiveWindow.getRecallTarget(), 0.0);
+        assertEquals(AdaptiveTwoPhaseWindow.DEFAULT_SAMPLE_RATE, adaptiveWindow.getSampleRate(), 0.0);
+        assertEquals(AdaptiveTwoPhaseWindow.DEFAULT_MIN_SAMPLES, adaptiveWindow.getMinSamples());
+        assertFalse(adaptiveWindow.shouldSample());
+    }
+
+    public void testCreate_whenParametersInvalid_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new AdaptiveTwoPhaseWindow(Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_RECALL_TARGET, 1.5), () -> 0.0)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new AdaptiveTwoPhaseWindow(Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_SAMPLE_RATE, 0), () -> 0.0)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new AdaptiveTwoPhaseWindow(Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_MIN_SAMPLES, 500), () -> 0.0)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new AdaptiveTwoPhaseWindow(Map.of(AdaptiveTwoPhaseWindow.PARAM_NAME_MIN_SAMPLES, "many"), () -> 0.0)
+        );
+    }
+
+    public void testGetExpansion_whenNotEnoughSamples_thenDefaultExpansion() {
+        long updates = getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES);
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(0.9, 1.0, 2, () -> 0.0);
+        adaptiveWindow.record(new int[] { 0, 1, 2, 30 }, 20);
+        assertEquals(5.0f, adaptiveWindow.getExpansion(5.0f), 0.0f);
+        // stats aren't updated until the window is adapted
+        assertEquals(updates, getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES));
+    }
+
+    public void testGetExpansion_whenEnoughSamples_thenSmallestExpansionThatReachesRecallTarget() {
+        long updates = getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES);
+        long expansionPercentTotal = getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXPANSION_PERCENT_TOTAL);
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(0.75, 1.0, 2, () -> 0.0);
+        // required expansions are 0.5, 1.0, 1.5, 8.0 and 0.5, 1.0, 2.0, 3.0
+        adaptiveWindow.record(new int[] { 1, 3, 5, 31 }, 20);
+        adaptiveWindow.record(new int[] { 1, 3, 7, 11 }, 20);
+        // recall 0.75 is reached when 6 of 8 documents are in the window
+        assertEquals(2.0f, adaptiveWindow.getExpansion(5.0f), 1e-6f);
+        assertEquals(updates + 1, getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_UPDATES));
+        assertEquals(
+            expansionPercentTotal + 200L,
+            getStatValue(EventStatName.NEURAL_SPARSE_TWO_PHASE_ADAPTIVE_EXPANSION_PERCENT_TOTAL)
+        );
+    }
+
+    public void testGetExpansion_whenDocumentsAreRankedFirst_thenExpansionIsAtLeastOne() {
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(1.0, 1.0, 1, () -> 0.0);
+        adaptiveWindow.record(new int[] { 0, 1, 2, 3 }, 20);
+        assertEquals(1.0f, adaptiveWindow.getExpansion(5.0f), 0.0f);
+    }
+
+    public void testGetExpansion_whenRecallTargetCanNotBeReached_thenLargestExpansionOfFoundDocuments() {
+        AdaptiveTwoPhaseWindow adaptiveWindow = new AdaptiveTwoPhaseWindow(1.0, 1.0, 1, () -> 0.0);
+        adaptiveWindow.record(new int[] { 0, 7, -1, -1 }, 20);
+        assertEquals(2.0f, adaptiveWindow.getExpansion(5.0f), 1e-6f);
+    }
+
+    public void testShouldSample_whenRandomBelowSampleRate_thenSample() {
+        assertTrue(new AdaptiveTwoPhaseWindow(0.95, 0.1, 20, () -> 0.05).shouldSample());
+        assertFalse(new AdaptiveTwoPhaseWindow(0.95, 0.1, 20, () -> 0.1).shouldSample());
+    }
+
+    private long getStatValue(final EventStatName statName) {
+        return EventStatsManager.instance().getTimestampedEventStatSnapshots(EnumSet.of(statName)).get(statName).getValue();
+    }
+}
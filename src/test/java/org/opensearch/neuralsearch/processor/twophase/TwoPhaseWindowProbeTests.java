@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.twophase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+import lombok.SneakyThrows;
+
+public class TwoPhaseWindowProbeTests extends OpenSearchTestCase {
+
+    @SneakyThrows
+    public void testCopyQuery_whenQueryIsCopied_thenCopyIsEqualAndIndependent() {
+        TwoPhaseWindowProbe windowProbe = new TwoPhaseWindowProbe(mock(Client.class), xContentRegistry(), writableRegistry());
+        BoolQueryBuilder query = QueryBuilders.boolQuery().should(QueryBuilders.termQuery("field", "value"));
+
+        QueryBuilder copy = windowProbe.copyQuery(query);
+
+        assertEquals(query, copy);
+        assertNotSame(query, copy);
+        query.should(QueryBuilders.matchAllQuery());
+        assertEquals(1, ((BoolQueryBuilder) copy).should().size());
+    }
+
+    public void testProbe_whenSearchesReturn_thenPhaseOneQueryOfCopyAtProbeSizeAndPositions() {
+        Client client = mock(Client.class);
+        SearchResponse topDocsResponse = mockResponse(createHit("index1", "1"), createHit("index1", "2"));
+        SearchResponse phaseOneResponse = mockResponse(createHit("index1", "2"), createHit("index1", "3"));
+        AtomicInteger numOfSearches = new AtomicInteger();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(numOfSearches.getAndIncrement() == 0 ? topDocsResponse : phaseOneResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any(ActionListener.class));
+        TwoPhaseWindowProbe windowProbe = new TwoPhaseWindowProbe(client, xContentRegistry(), writableRegistry());
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+            .should(QueryBuilders.termQuery("field", "value"))
+            .should(QueryBuilders.termQuery("field", "other"));
+        AtomicReference<int[]> positions = new AtomicReference<>();
+
+        windowProbe.probe(new SearchRequest("index1"), query, phaseOneQuery -> {
+            assertNotSame(query, phaseOneQuery);
+            return ((BoolQueryBuilder) phaseOneQuery).should(QueryBuilders.matchAllQuery());
+        }, 2, 16, positions::set);
+
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requestCaptor.capture(), any(ActionListener.class));
+        SearchRequest topDocsRequest = requestCaptor.getAllValues().get(0);
+        assertEquals(2, topDocsRequest.source().size());
+        assertEquals(2, ((BoolQueryBuilder) topDocsRequest.source().query()).should().size());
+        SearchRequest phaseOneRequest = requestCaptor.getAllValues().get(1);
+        assertEquals(16, phaseOneRequest.source().size());
+        assertEquals(3, ((BoolQueryBuilder) phaseOneRequest.source().query()).should().size());
+        assertEquals(2, query.should().size());
+        assertArrayEquals(new int[] { -1, 0 }, positions.get());
+    }
+
+    public void testGetPositions_whenTopDocumentsInPhaseOneResults_thenPositions() {
+        SearchHit[] topHits = new SearchHit[] { createHit("index1", "1"), createHit("index1", "2"), createHit("index2", "1") };
+        SearchHit[] phaseOneHits = new SearchHit[] {
+            createHit("index1", "2"),
+            createHit("index1", "3"),
+            createHit("index2", "1"),
+            createHit("index1", "1") };
+
+        assertArrayEquals(new int[] { 3, 0, 2 }, TwoPhaseWindowProbe.getPositions(topHits, phaseOneHits));
+    }
+
+    public void testGetPositions_whenTopDocumentNotInPhaseOneResults_thenMinusOne() {
+        SearchHit[] topHits = new SearchHit[] { createHit("index1", "1"), createHit("index2", "2") };
+        SearchHit[] phaseOneHits = new SearchHit[] { createHit("index1", "1"), createHit("index1", "2") };
+
+        assertArrayEquals(new int[] { 0, -1 }, TwoPhaseWindowProbe.getPositions(topHits, phaseOneHits));
+    }
+
+    private SearchResponse mockResponse(final SearchHit... hits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, null, 0.0f));
+        return searchResponse;
+    }
+
+    private SearchHit createHit(final String index, final String id) {
+        SearchHit searchHit = new SearchHit(0, id, Collections.emptyMap(), Collections.emptyMap());
+        searchHit.shard(new SearchShardTarget("node", new ShardId(index, "uuid", 0), null, OriginalIndices.NONE));
+        return searchHit;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class CompactSparseTokensTests extends OpenSearchTestCase {
+    // float16 keeps 11 significant bits of weights relative to the scale
+    private static final float MAX_RELATIVE_ERROR = 1.0f / (1 << 11);
+
+    @SneakyThrows
+    public void testRoundTrip_whenRandomTokens_thenSameTokensAndWeightsWithinFloat16Precision() {
+        Map<String, Float> queryTokens = new HashMap<>();
+        int numOfTokens = randomIntBetween(1, 500);
+        for (int i = 0; i < numOfTokens; i++) {
+            queryTokens.put(randomAlphaOfLengthBetween(1, 12), randomFloatBetween(0.01f, 10.0f, true));
+        }
+
+        CompactSparseTokens copy = roundTrip(queryTokens);
+
+        assertEquals(queryTokens.keySet(), copy.keySet());
+        float maxWeight = queryTokens.values().stream().max(Float::compare).orElseThrow();
+        for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+            float weight = entry.getValue();
+            float decodedWeight = copy.get(entry.getKey());
+            // weights that are normal float16 after scaling have relative error, smaller weights have absolute error
+            float maxError = Math.max(weight * MAX_RELATIVE_ERROR, 2.0f * maxWeight * (float) Math.pow(2, -25));
+            assertEquals(weight, decodedWeight, maxError);
+        }
+    }
+
+    @SneakyThrows
+    public void testRoundTrip_whenWeightsAreFloat16Values_thenExactWeights() {
+        Map<String, Float> queryTokens = Map.of("hello", 1.0f, "world", 2.0f, "help", 0.375f, "wor", 1.5f);
+
+        CompactSparseTokens copy = roundTrip(queryTokens);
+
+        assertEquals(queryTokens, copy);
+        assertEquals(copy, queryTokens);
+        assertEquals(queryTokens.hashCode(), copy.hashCode());
+        assertEquals(List.of("hello", "help", "wor", "world"), new ArrayList<>(copy.keySet()));
+        assertTrue(copy.containsKey("help"));
+        assertFalse(copy.containsKey("he"));
+        assertNull(copy.get("missing"));
+        assertNull(copy.get(1));
+        expectThrows(UnsupportedOperationException.class, () -> copy.put("new", 1.0f));
+    }
+
+    @SneakyThrows
+    public void testRoundTrip_whenMultiByteTokensSharePrefix_thenSameTokens() {
+        Map<String, Float> queryTokens = Map.of("über", 1.0f, "überall", 2.0f, "日本", 3.0f, "日本語", 4.0f, "##ing", 0.5f);
+
+        CompactSparseTokens copy = roundTrip(queryTokens);
+
+        assertEquals(queryTokens, copy);
+    }
+
+    @SneakyThrows
+    public void testRoundTrip_whenEmptyOrSpecialWeights_thenSameWeights() {
+        assertTrue(roundTrip(Map.of()).isEmpty());
+
+        Map<String, Float> queryTokens = Map.of("zero", 0.0f, "large", 1.0e6f, "infinite", Float.POSITIVE_INFINITY, "nan", Float.NaN);
+        CompactSparseTokens copy = roundTrip(queryTokens);
+        assertEquals(0.0f, copy.get("zero"), 0.0f);
+        assertEquals(1.0e6f, copy.get("large"), 1.0e6f * MAX_RELATIVE_ERROR);
+        assertEquals(Float.POSITIVE_INFINITY, copy.get("infinite"), 0.0f);
+        assertTrue(Float.isNaN(copy.get("nan")));
+    }
+
+    @SneakyThrows
+    public void testQuantize_whenRandomTokens_thenSameWeightsAsRoundTripAndQuantizedAgainToThemselves() {
+        Map<String, Float> queryTokens = new HashMap<>();
+        int numOfTokens = randomIntBetween(1, 500);
+        for (int i = 0; i < numOfTokens; i++) {
+            queryTokens.put(randomAlphaOfLengthBetween(1, 12), randomFloatBetween(1.0e-6f, 10.0f, true));
+        }
+        // largest weight that rounds up to the power of two of the scale
+        queryTokens.put("max", 1.9999f);
+
+        CompactSparseTokens quantizedTokens = CompactSparseTokens.quantize(queryTokens);
+
+        assertEquals(roundTrip(queryTokens), quantizedTokens);
+        assertSame(quantizedTokens, CompactSparseTokens.quantize(quantizedTokens));
+        Map<String, Float> quantizedWeights = new HashMap<>(quantizedTokens);
+        for (Map<String, Float> requantizedTokens : List.of(CompactSparseTokens.quantize(quantizedWeights), roundTrip(quantizedWeights))) {
+            for (Map.Entry<String, Float> entry : quantizedWeights.entrySet()) {
+                assertEquals(Float.floatToIntBits(entry.getValue()), Float.floatToIntBits(requantizedTokens.get(entry.getKey())));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testWriteTo_whenTokensSharePrefixes_thenSmallerThanMap() {
+        Map<String, Float> queryTokens = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            queryTokens.put("token_" + i, randomFloatBetween(0.01f, 3.0f, true));
+        }
+
+        BytesStreamOutput compactOutput = new BytesStreamOutput();
+        CompactSparseTokens.writeTo(queryTokens, compactOutput);
+        BytesStreamOutput mapOutput = new BytesStreamOutput();
+        mapOutput.writeMap(queryTokens, StreamOutput::writeString, StreamOutput::writeFloat);
+
+        assertTrue(compactOutput.size() * 2 < mapOutput.size());
+    }
+
+    private CompactSparseTokens roundTrip(final Map<String, Float> queryTokens) throws Exception {
+        BytesStreamOutput output = new BytesStreamOutput();
+        CompactSparseTokens.writeTo(queryTokens, output);
+        try (StreamInput input = output.bytes().streamInput()) {
+            return CompactSparseTokens.readFrom(input);
+        }
+    }
+}
@@ -6,17 +6,23 @@ package org.opensearch.neuralsearch.query;
 
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HybridBulkScorerTests extends OpenSearchTestCase {
@@ -57,7 +63,7 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
 
         assertNotNull(bulkScorer);
-        assertEquals(0, bulkScorer.getWindowScores().length);
+        assertEquals(0, bulkScorer.getHybridSubQueryScorer().getNumOfSubQueries());
     }
 
     public void testHybridBulkScorerWithSingleScorer() {
@@ -65,16 +71,17 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
 
         assertNotNull(bulkScorer);
-        assertEquals(1, bulkScorer.getWindowScores().length);
+        assertEquals(1, bulkScorer.getHybridSubQueryScorer().getNumOfSubQueries());
     }
 
     public void testWindowScoresInitialization() {
         List<Scorer> scorers = Arrays.asList(mockScorer1, mockScorer2);
         HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
 
-        float[][] windowScores = bulkScorer.getWindowScores();
-        assertEquals(2, windowScores.length);
-        assertEquals(4096, windowScores[0].length); // 2^12 (WINDOW_SIZE)
+        HybridSubQueryWindowScores windowScores = bulkScorer.getWindowScores();
+        for (int position = 0; position < 4096; position++) { // 2^12 (WINDOW_SIZE)
+            assertEquals(HybridSubQueryWindowScores.NO_ENTRY, windowScores.head(position));
+        }
     }
 
     public void testMatchingBitSetInitialization() {
@@ -106,4 +113,162 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC + 100);
         assertEquals(MAX_DOC, result);
     }
+
+    public void testScore_whenManySubQueries_thenAllScoresCollected() throws IOException {
+        int numOfSubQueries = 30;
+        int docsPerSubQuery = 50;
+        List<Scorer> scorers = new ArrayList<>();
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            // sub-queries overlap by half of their docs, scores are unique per sub-query
+            int minDoc = subQueryIndex * docsPerSubQuery / 2;
+            scorers.add(createScorer(DocIdSetIterator.range(minDoc, minDoc + docsPerSubQuery), subQueryIndex + 1));
+        }
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(scorers, true, MAX_DOC);
+
+        Map<Integer, float[]> collectedScores = new HashMap<>();
+        int nextDoc = bulkScorer.score(createCollector(collectedScores), null, 0, MAX_DOC);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, nextDoc);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            int minDoc = subQueryIndex * docsPerSubQuery / 2;
+            for (int doc = minDoc; doc < minDoc + docsPerSubQuery; doc++) {
+                assertTrue(collectedScores.containsKey(doc));
+                assertEquals(subQueryIndex + 1, collectedScores.get(doc)[subQueryIndex], 0.0f);
+            }
+        }
+        // every doc matches exactly two sub-queries except docs at both ends of the range
+        for (float[] scores : collectedScores.values()) {
+            int numOfMatchedSubQueries = 0;
+            for (float score : scores) {
+                if (score > 0) {
+                    numOfMatchedSubQueries++;
+                }
+            }
+            assertTrue(numOfMatchedSubQueries == 1 || numOfMatchedSubQueries == 2);
+        }
+    }
+
+    public void testScore_whenSubQueriesStartInDifferentWindows_thenNoDocsSkipped() throws IOException {
+        int maxDoc = 10000;
+        // first sub-query has docs in the second window only, second sub-query has docs in the first window only
+        Scorer scorer1 = createScorer(DocIdSetIterator.range(5000, 5010), 1.0f);
+        Scorer scorer2 = createScorer(DocIdSetIterator.range(10, 20), 2.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), true, maxDoc);
+
+        Map<Integer, float[]> collectedScores = new HashMap<>();
+        bulkScorer.score(createCollector(collectedScores), null, 0, maxDoc);
+
+        assertEquals(20, collectedScores.size());
+        for (int doc = 10; doc < 20; doc++) {
+            assertEquals(2.0f, collectedScores.get(doc)[1], 0.0f);
+            assertEquals(0.0f, collectedScores.get(doc)[0], 0.0f);
+        }
+        for (int doc = 5000; doc < 5010; doc++) {
+            assertEquals(1.0f, collectedScores.get(doc)[0], 0.0f);
+            assertEquals(0.0f, collectedScores.get(doc)[1], 0.0f);
+        }
+    }
+
+    public void testScore_whenScoredInRanges_thenReturnSmallestNextDoc() throws IOException {
+        Scorer scorer1 = createScorer(DocIdSetIterator.range(0, 500), 1.0f);
+        Scorer scorer2 = createScorer(DocIdSetIterator.range(100, 200), 2.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(scorer1, scorer2), true, MAX_DOC);
+
+        Map<Integer, float[]> collectedScores = new HashMap<>();
+        int nextDoc = bulkScorer.score(createCollector(collectedScores), null, 0, 150);
+        assertEquals(150, nextDoc);
+        assertEquals(150, collectedScores.size());
+
+        nextDoc = bulkScorer.score(createCollector(collectedScores), null, nextDoc, MAX_DOC);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, nextDoc);
+        assertEquals(500, collectedScores.size());
+        for (int doc = 100; doc < 200; doc++) {
+            assertEquals(2.0f, collectedScores.get(doc)[1], 0.0f);
+        }
+    }
+
+    public void testScore_whenSharedFilter_thenCombinedWithAcceptDocs() throws IOException {
+        Scorer scorer1 = createScorer(DocIdSetIterator.range(0, 100), 1.0f);
+        Scorer scorer2 = createScorer(DocIdSetIterator.range(50, 150), 2.0f);
+        FixedBitSet liveDocs = new FixedBitSet(MAX_DOC);
+        for (int doc = 0; doc < MAX_DOC; doc += 2) {
+            liveDocs.set(doc);
+        }
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(scorer1, scorer2),
+            true,
+            MAX_DOC,
+            DocIdSetIterator.range(0, 120)
+        );
+
+        Map<Integer, float[]> collectedScores = new HashMap<>();
+        bulkScorer.score(createCollector(collectedScores), liveDocs, 0, MAX_DOC);
+
+        // even docs below 120
+        assertEquals(60, collectedScores.size());
+        for (int doc : collectedScores.keySet()) {
+            assertEquals(0, doc % 2);
+            assertTrue(doc < 120);
+        }
+
+        // filter alone is used when there are no deleted docs
+        Map<Integer, float[]> collectedScoresNoDeletes = new HashMap<>();
+        new HybridBulkScorer(
+            Arrays.asList(createScorer(DocIdSetIterator.range(0, 100), 1.0f), createScorer(DocIdSetIterator.range(50, 150), 2.0f)),
+            true,
+            MAX_DOC,
+            DocIdSetIterator.range(0, 120)
+        ).score(createCollector(collectedScoresNoDeletes), null, 0, MAX_DOC);
+        assertEquals(120, collectedScoresNoDeletes.size());
+    }
+
+    public void testScore_whenSharedFilterHasNoDocsInWindows_thenSubQueriesSkipToFilterDocs() throws IOException {
+        int maxDoc = 50_000;
+        Scorer scorer1 = createScorer(DocIdSetIterator.range(0, 40_000), 1.0f);
+        Scorer scorer2 = createScorer(DocIdSetIterator.range(30_000, 31_000), 2.0f);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(scorer1, scorer2),
+            true,
+            maxDoc,
+            DocIdSetIterator.range(30_500, 30_510)
+        );
+
+        Map<Integer, float[]> collectedScores = new HashMap<>();
+        // range ends in the middle of a window, rest of the docs are scored by the second call
+        int nextDoc = bulkScorer.score(createCollector(collectedScores), null, 0, 30_505);
+        assertEquals(30_505, nextDoc);
+        nextDoc = bulkScorer.score(createCollector(collectedScores), null, nextDoc, maxDoc);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, nextDoc);
+        assertEquals(10, collectedScores.size());
+        for (int doc = 30_500; doc < 30_510; doc++) {
+            assertArrayEquals(new float[] { 1.0f, 2.0f }, collectedScores.get(doc), 0.0f);
+        }
+        // docs outside of the filter are never scored
+        verify(scorer1, times(10)).score();
+        verify(scorer2, times(10)).score();
+    }
+
+    private Scorer createScorer(DocIdSetIterator iterator, float score) throws IOException {
+        Scorer scorer = mock(Scorer.class);
+        when(scorer.iterator()).thenReturn(iterator);
+        when(scorer.score()).thenReturn(score);
+        return scorer;
+    }
+
+    private LeafCollector createCollector(Map<Integer, float[]> collectedScores) {
+        return new LeafCollector() {
+            private HybridSubQueryScorer scorer;
+
+            @Override
+            public void setScorer(Scorable scorer) {
+                this.scorer = (HybridSubQueryScorer) scorer;
+            }
+
+            @Override
+            public void collect(int doc) {
+                collectedScores.put(doc, Arrays.copyOf(scorer.getSubQueryScores(), scorer.getNumOfSubQueries()));
+            }
+        };
+    }
 }
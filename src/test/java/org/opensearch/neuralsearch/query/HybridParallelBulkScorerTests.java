@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import static org.opensearch.neuralsearch.query.HybridQueryBuilderTests.TEXT_FIELD_NAME;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+import lombok.SneakyThrows;
+
+public class HybridParallelBulkScorerTests extends OpenSearchQueryTestCase {
+
+    private static final String[] TERMS = { "alpha", "beta", "gamma", "delta" };
+    private static final int NUM_OF_DOCS = 10_000;
+
+    private final AtomicInteger numOfScorers = new AtomicInteger();
+    private final AtomicInteger numOfCallsFromOtherThreads = new AtomicInteger();
+
+    @SneakyThrows
+    public void testScore_whenSubQueriesScoredInParallel_thenSameScoresAsSequential() {
+        Directory directory = new ByteBuffersDirectory();
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig());
+        addDocuments(writer);
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            for (LeafReaderContext context : reader.leaves()) {
+                List<Weight> weights = createWeights(searcher, context);
+
+                numOfScorers.set(0);
+                Map<Integer, float[]> parallelScores = new HashMap<>();
+                HybridParallelBulkScorer parallelScorer = new HybridParallelBulkScorer(
+                    weights,
+                    true,
+                    context,
+                    null,
+                    NUM_OF_DOCS,
+                    new TaskExecutor(executorService)
+                );
+                // segment is scored in two ranges, scorers of sub-queries are created once per segment
+                int nextDoc = parallelScorer.score(createCollector(parallelScores), null, 0, context.reader().maxDoc() / 2);
+                nextDoc = parallelScorer.score(createCollector(parallelScores), null, nextDoc, DocIdSetIterator.NO_MORE_DOCS);
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, nextDoc);
+                // one scorer per sub-query that has docs in the segment
+                assertEquals(weights.stream().filter(Objects::nonNull).count(), numOfScorers.get());
+                assertEquals(0, numOfCallsFromOtherThreads.get());
+
+                Map<Integer, float[]> sequentialScores = new HashMap<>();
+                new HybridBulkScorer(createScorers(weights, context), true, context.reader().maxDoc()).score(
+                    createCollector(sequentialScores),
+                    null,
+                    0,
+                    DocIdSetIterator.NO_MORE_DOCS
+                );
+                assertScores(sequentialScores, parallelScores);
+            }
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            reader.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    @SneakyThrows
+    public void testScore_whenSharedFilterAndScoredInParallel_thenOnlyFilteredDocsCollected() {
+        Directory directory = new ByteBuffersDirectory();
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig());
+        addDocuments(writer);
+        writer.forceMerge(1);
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        LeafReaderContext context = reader.leaves().get(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            List<Weight> weights = createWeights(searcher, context);
+
+            Map<Integer, float[]> parallelScores = new HashMap<>();
+            new HybridParallelBulkScorer(
+                weights,
+                true,
+                context,
+                DocIdSetIterator.range(5000, 5100),
+                NUM_OF_DOCS,
+                new TaskExecutor(executorService)
+            ).score(createCollector(parallelScores), null, 0, DocIdSetIterator.NO_MORE_DOCS);
+            assertEquals(0, numOfCallsFromOtherThreads.get());
+
+            Map<Integer, float[]> sequentialScores = new HashMap<>();
+            new HybridBulkScorer(createScorers(weights, context), true, context.reader().maxDoc(), DocIdSetIterator.range(5000, 5100))
+                .score(createCollector(sequentialScores), null, 0, DocIdSetIterator.NO_MORE_DOCS);
+            assertFalse(parallelScores.isEmpty());
+            for (int doc : parallelScores.keySet()) {
+                assertTrue(doc >= 5000 && doc < 5100);
+            }
+            assertScores(sequentialScores, parallelScores);
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            reader.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    private void addDocuments(IndexWriter writer) throws IOException {
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        for (int i = 0; i < NUM_OF_DOCS; i++) {
+            // every doc has one or two of the first three terms, the last term is not in the index
+            String text = TERMS[i % 3] + " " + TERMS[random().nextInt(3)];
+            writer.addDocument(getDocument(TEXT_FIELD_NAME, i, text, ft));
+        }
+        writer.commit();
+    }
+
+    /**
+     * Weights of sub-queries, weight of the sub-query that has no docs in the segment is null as in the scorer supplier
+     */
+    private List<Weight> createWeights(IndexSearcher searcher, LeafReaderContext context) throws IOException {
+        List<Weight> weights = new ArrayList<>();
+        for (String term : TERMS) {
+            Query query = new ThreadConfinedQuery(new TermQuery(new Term(TEXT_FIELD_NAME, term)));
+            Weight weight = searcher.createWeight(query, ScoreMode.COMPLETE, 1.0f);
+            weights.add(weight.scorerSupplier(context) == null ? null : weight);
+        }
+        return weights;
+    }
+
+    private List<Scorer> createScorers(List<Weight> weights, LeafReaderContext context) throws IOException {
+        List<Scorer> scorers = new ArrayList<>();
+        for (Weight weight : weights) {
+            scorers.add(weight == null ? null : weight.scorer(context));
+        }
+        return scorers;
+    }
+
+    private void assertScores(Map<Integer, float[]> expectedScores, Map<Integer, float[]> actualScores) {
+        assertEquals(expectedScores.keySet(), actualScores.keySet());
+        for (Map.Entry<Integer, float[]> entry : expectedScores.entrySet()) {
+            assertArrayEquals(entry.getValue(), actualScores.get(entry.getKey()), 0.0f);
+        }
+    }
+
+    private LeafCollector createCollector(Map<Integer, float[]> collectedScores) {
+        return new LeafCollector() {
+            private HybridSubQueryScorer scorer;
+
+            @Override
+            public void setScorer(Scorable scorer) {
+                this.scorer = (HybridSubQueryScorer) scorer;
+            }
+
+            @Override
+            public void collect(int doc) {
+                collectedScores.put(doc, Arrays.copyOf(scorer.getSubQueryScores(), scorer.getNumOfSubQueries()));
+            }
+        };
+    }
+
+    /**
+     * Query that counts created scorers and calls to a scorer from a thread other than the one that created it
+     */
+    private final class ThreadConfinedQuery extends Query {
+        private final Query in;
+
+        ThreadConfinedQuery(Query in) {
+            this.in = in;
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            return new FilterWeight(this, in.createWeight(searcher, scoreMode, boost)) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                    ScorerSupplier supplier = super.scorerSupplier(context);
+                    if (supplier == null) {
+                        return null;
+                    }
+                    return new ScorerSupplier() {
+                        @Override
+                        public Scorer get(long leadCost) throws IOException {
+                            numOfScorers.incrementAndGet();
+                            return new ThreadConfinedScorer(supplier.get(leadCost), Thread.currentThread());
+                        }
+
+                        @Override
+                        public long cost() {
+                            return supplier.cost();
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public String toString(String field) {
+            return in.toString(field);
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            in.visit(visitor);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return sameClassAs(other) && in.equals(((ThreadConfinedQuery) other).in);
+        }
+
+        @Override
+        public int hashCode() {
+            return classHash() ^ in.hashCode();
+        }
+    }
+
+    private final class ThreadConfinedScorer extends Scorer {
+        private final Scorer in;
+        private final Thread owner;
+        private final DocIdSetIterator iterator;
+
+        ThreadConfinedScorer(Scorer in, Thread owner) {
+            this.in = in;
+            this.owner = owner;
+            DocIdSetIterator it = in.iterator();
+            this.iterator = new DocIdSetIterator() {
+                @Override
+                public int docID() {
+                    checkThread();
+                    return it.docID();
+                }
+
+                @Override
+                public int nextDoc() throws IOException {
+                    checkThread();
+                    return it.nextDoc();
+                }
+
+                @Override
+                public int advance(int target) throws IOException {
+                    checkThread();
+                    return it.advance(target);
+                }
+
+                @Override
+                public long cost() {
+                    return it.cost();
+                }
+            };
+        }
+
+        private void checkThread() {
+            if (Thread.currentThread() != owner) {
+                numOfCallsFromOtherThreads.incrementAndGet();
+            }
+        }
+
+        @Override
+        public int docID() {
+            checkThread();
+            return in.docID();
+        }
+
+        @Override
+        public DocIdSetIterator iterator() {
+            return iterator;
+        }
+
+        @Override
+        public float getMaxScore(int upTo) throws IOException {
+            return in.getMaxScore(upTo);
+        }
+
+        @Override
+        public float score() throws IOException {
+            checkThread();
+            return in.score();
+        }
+    }
+}
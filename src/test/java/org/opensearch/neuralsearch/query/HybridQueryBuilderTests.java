@@ -59,6 +59,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.index.query.AbstractQueryBuilder;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -67,6 +68,7 @@ import org.opensearch.index.query.MatchQueryBuilder;
 import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.remote.RemoteStoreEnums;
@@ -82,6 +84,7 @@ import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import com.carrotsearch.randomizedtesting.RandomizedTest;
 
 import lombok.SneakyThrows;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.neuralsearch.util.TestUtils;
 
 public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
@@ -223,6 +226,34 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         assertEquals(TERM_QUERY_TEXT, termQuery.getTerm().text());
     }
 
+    @SneakyThrows
+    public void testDoToQuery_whenParallelSubQueryScoringEnabled_thenSetInQueryContext() {
+        setUpClusterService(Version.V_3_0_0);
+        QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+        IndexMetadata indexMetadata = getIndexMetadata();
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, Integer.toString(3)).build();
+        when(mockQueryShardContext.getIndexSettings()).thenReturn(new IndexSettings(indexMetadata, settings));
+        TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
+        when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+
+        HybridQueryBuilder queryBuilder = new HybridQueryBuilder();
+        queryBuilder.add(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT));
+
+        HybridQuery queryWithDefaultSettings = (HybridQuery) queryBuilder.doToQuery(mockQueryShardContext);
+        assertFalse(queryWithDefaultSettings.getQueryContext().isParallelSubQueryScoring());
+
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getHybridQueryMaxSubQueries()).thenReturn(HybridQueryBuilder.DEFAULT_MAX_NUMBER_OF_SUB_QUERIES);
+        when(settingsAccessor.isHybridQueryParallelSubQueryScoringEnabled()).thenReturn(true);
+        HybridQueryBuilder.initialize(settingsAccessor);
+        try {
+            HybridQuery query = (HybridQuery) queryBuilder.doToQuery(mockQueryShardContext);
+            assertTrue(query.getQueryContext().isParallelSubQueryScoring());
+        } finally {
+            HybridQueryBuilder.initialize(null);
+        }
+    }
+
     @SneakyThrows
     public void testDoToQuery_whenPaginationDepthIsGreaterThan10000_thenBuildSuccessfully() {
         setUpClusterService(Version.V_3_0_0);
@@ -360,6 +391,55 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         assertThat(exception.getMessage(), containsString("Number of sub-queries exceeds maximum supported"));
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenMaxSubQueriesSettingIncreased_thenAllowMoreSubqueries() {
+        int numberOfSubQueries = 12;
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder().startObject().startArray("queries");
+        for (int i = 0; i < numberOfSubQueries; i++) {
+            xContentBuilder.startObject()
+                .startObject("term")
+                .field(TEXT_FIELD_NAME, RandomizedTest.randomAsciiAlphanumOfLength(10))
+                .endObject()
+                .endObject();
+        }
+        xContentBuilder.endArray().endObject();
+
+        NamedXContentRegistry namedXContentRegistry = new NamedXContentRegistry(
+            List.of(
+                new NamedXContentRegistry.Entry(QueryBuilder.class, new ParseField(TermQueryBuilder.NAME), TermQueryBuilder::fromXContent)
+            )
+        );
+
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getHybridQueryMaxSubQueries()).thenReturn(numberOfSubQueries);
+        HybridQueryBuilder.initialize(settingsAccessor);
+        try {
+            XContentParser contentParser = createParser(
+                namedXContentRegistry,
+                xContentBuilder.contentType().xContent(),
+                BytesReference.bytes(xContentBuilder)
+            );
+            contentParser.nextToken();
+            HybridQueryBuilder queryBuilder = HybridQueryBuilder.fromXContent(contentParser);
+            assertEquals(numberOfSubQueries, queryBuilder.queries().size());
+
+            when(settingsAccessor.getHybridQueryMaxSubQueries()).thenReturn(numberOfSubQueries - 1);
+            XContentParser contentParserOverLimit = createParser(
+                namedXContentRegistry,
+                xContentBuilder.contentType().xContent(),
+                BytesReference.bytes(xContentBuilder)
+            );
+            contentParserOverLimit.nextToken();
+            ParsingException exception = expectThrows(
+                ParsingException.class,
+                () -> HybridQueryBuilder.fromXContent(contentParserOverLimit)
+            );
+            assertThat(exception.getMessage(), containsString("Number of sub-queries exceeds maximum supported"));
+        } finally {
+            HybridQueryBuilder.initialize(null);
+        }
+    }
+
     /**
      * Tests basic query:
      * {
@@ -565,6 +645,112 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         );
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenSharedFilterEnabled_thenFilterKeptAtHybridLevelUntilRewrite() {
+        setUpClusterService();
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startArray("queries")
+            .startObject()
+            .startObject(NeuralQueryBuilder.NAME)
+            .startObject(VECTOR_FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(K_FIELD.getPreferredName(), K)
+            .endObject()
+            .endObject()
+            .endObject()
+            .startObject()
+            .startObject(TermQueryBuilder.NAME)
+            .field(TEXT_FIELD_NAME, TERM_QUERY_TEXT)
+            .endObject()
+            .endObject()
+            .endArray()
+            .startObject("filter")
+            .startObject(TermQueryBuilder.NAME)
+            .field(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT)
+            .endObject()
+            .endObject()
+            .endObject();
+
+        NamedXContentRegistry namedXContentRegistry = new NamedXContentRegistry(
+            List.of(
+                new NamedXContentRegistry.Entry(QueryBuilder.class, new ParseField(TermQueryBuilder.NAME), TermQueryBuilder::fromXContent),
+                new NamedXContentRegistry.Entry(
+                    QueryBuilder.class,
+                    new ParseField(NeuralQueryBuilder.NAME),
+                    NeuralQueryBuilder::fromXContent
+                ),
+                new NamedXContentRegistry.Entry(
+                    QueryBuilder.class,
+                    new ParseField(HybridQueryBuilder.NAME),
+                    HybridQueryBuilder::fromXContent
+                )
+            )
+        );
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            List.of(
+                new NamedWriteableRegistry.Entry(QueryBuilder.class, TermQueryBuilder.NAME, TermQueryBuilder::new),
+                new NamedWriteableRegistry.Entry(QueryBuilder.class, NeuralQueryBuilder.NAME, NeuralQueryBuilder::new)
+            )
+        );
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getHybridQueryMaxSubQueries()).thenReturn(HybridQueryBuilder.DEFAULT_MAX_NUMBER_OF_SUB_QUERIES);
+        when(settingsAccessor.isHybridQuerySharedFilterEnabled()).thenReturn(true);
+        HybridQueryBuilder.initialize(settingsAccessor);
+        try {
+            XContentParser contentParser = createParser(
+                namedXContentRegistry,
+                xContentBuilder.contentType().xContent(),
+                BytesReference.bytes(xContentBuilder)
+            );
+            contentParser.nextToken();
+
+            HybridQueryBuilder queryBuilder = HybridQueryBuilder.fromXContent(contentParser);
+            TermQueryBuilder filter = new TermQueryBuilder(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT);
+            assertEquals(filter, queryBuilder.sharedFilter());
+            assertFalse(queryBuilder.sharedFilterPushedDown());
+            // sub-queries are the same as in the request
+            assertNull(((NeuralQueryBuilder) queryBuilder.queries().get(0)).filter());
+            assertEquals(new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT), queryBuilder.queries().get(1));
+
+            // parsed query is written and parsed back to the same query
+            XContentBuilder parsedQueryContent = queryBuilder.toXContent(XContentFactory.jsonBuilder(), EMPTY_PARAMS);
+            XContentParser parsedQueryParser = createParser(
+                namedXContentRegistry,
+                parsedQueryContent.contentType().xContent(),
+                BytesReference.bytes(parsedQueryContent)
+            );
+            assertEquals(queryBuilder, AbstractQueryBuilder.parseInnerQueryBuilder(parsedQueryParser));
+
+            // k-NN based sub-query needs the filter for pre-filtering, it's pushed down to a copy of the sub-query on rewrite
+            QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+            when(queryRewriteContext.getWriteableRegistry()).thenReturn(namedWriteableRegistry);
+            HybridQueryBuilder rewrittenQueryBuilder = (HybridQueryBuilder) queryBuilder.rewrite(queryRewriteContext);
+            assertTrue(rewrittenQueryBuilder.sharedFilterPushedDown());
+            assertEquals(filter, rewrittenQueryBuilder.sharedFilter());
+            assertEquals(filter, ((NeuralQueryBuilder) rewrittenQueryBuilder.queries().get(0)).filter());
+            assertNull(((NeuralQueryBuilder) queryBuilder.queries().get(0)).filter());
+            // other sub-queries are not wrapped into bool query with a filter clause
+            assertEquals(new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT), rewrittenQueryBuilder.queries().get(1));
+            assertSame(rewrittenQueryBuilder, rewrittenQueryBuilder.rewrite(queryRewriteContext));
+
+            // filter is converted into a single query that is shared by all sub-queries
+            QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+            TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
+            when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+            HybridQueryBuilder termOnlyQueryBuilder = new HybridQueryBuilder();
+            termOnlyQueryBuilder.add(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT));
+            termOnlyQueryBuilder.filter(filter);
+            HybridQuery query = (HybridQuery) termOnlyQueryBuilder.doToQuery(mockQueryShardContext);
+            assertEquals(1, query.getSubQueries().size());
+            assertTrue(query.getSubQueries().iterator().next() instanceof TermQuery);
+            assertEquals(filter.toQuery(mockQueryShardContext), query.getFilter());
+        } finally {
+            HybridQueryBuilder.initialize(null);
+        }
+    }
+
     @SneakyThrows
     public void testFromXContent_whenIncorrectFormat_thenFail() {
         XContentBuilder unsupportedFieldXContentBuilder = XContentFactory.jsonBuilder()
@@ -9,7 +9,9 @@ import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -172,10 +174,10 @@ public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
         when(mockScorer.getMaxDoc()).thenReturn(200);
 
         // setup window scores with the specified number of docs
-        float[][] windowScores = new float[2][numDocs];
+        HybridSubQueryWindowScores windowScores = new HybridSubQueryWindowScores(numDocs);
         for (int i = 0; i < numDocs; i++) {
-            windowScores[0][i] = random().nextFloat();
-            windowScores[1][i] = random().nextFloat();
+            windowScores.add(i, 0, random().nextFloat());
+            windowScores.add(i, 1, random().nextFloat());
         }
         when(mockScorer.getWindowScores()).thenReturn(windowScores);
 
@@ -193,10 +195,10 @@ public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
         when(mockScorer.getMaxDoc()).thenReturn(200);
 
         // setup window scores
-        float[][] windowScores = new float[2][NUM_DOCS]; // 2 sub-queries
+        HybridSubQueryWindowScores windowScores = new HybridSubQueryWindowScores(NUM_DOCS);
         for (int i = 0; i < NUM_DOCS; i++) {
-            windowScores[0][i] = random().nextFloat();
-            windowScores[1][i] = random().nextFloat();
+            windowScores.add(i, 0, random().nextFloat());
+            windowScores.add(i, 1, random().nextFloat());
         }
         when(mockScorer.getWindowScores()).thenReturn(windowScores);
 
@@ -207,4 +209,41 @@ public class HybridQueryDocIdStreamTests extends OpenSearchTestCase {
 
         return mockScorer;
     }
+
+    @SneakyThrows
+    public void testForEach_whenSubQueryScoresAreSparse_thenOnlyMatchedScoresSetAndReset() {
+        // setup
+        int numOfSubQueries = 20;
+        FixedBitSet matchingDocs = new FixedBitSet(NUM_DOCS);
+        matchingDocs.set(DOC_ID_1);
+        matchingDocs.set(DOC_ID_2);
+        HybridSubQueryWindowScores windowScores = new HybridSubQueryWindowScores(NUM_DOCS);
+        windowScores.add(DOC_ID_1, 3, 0.3f);
+        windowScores.add(DOC_ID_1, 17, 0.7f);
+        windowScores.add(DOC_ID_2, 5, 0.5f);
+        HybridSubQueryScorer subQueryScorer = new HybridSubQueryScorer(numOfSubQueries);
+
+        HybridBulkScorer mockScorer = mock(HybridBulkScorer.class);
+        when(mockScorer.getMatching()).thenReturn(matchingDocs);
+        when(mockScorer.getWindowScores()).thenReturn(windowScores);
+        when(mockScorer.getHybridSubQueryScorer()).thenReturn(subQueryScorer);
+
+        HybridQueryDocIdStream stream = new HybridQueryDocIdStream(mockScorer);
+        Map<Integer, float[]> processedScores = new HashMap<>();
+
+        // execute
+        stream.forEach(docId -> processedScores.put(docId, subQueryScorer.getSubQueryScores().clone()));
+
+        // verify
+        assertEquals(2, processedScores.size());
+        float[] expectedScoresDoc1 = new float[numOfSubQueries];
+        expectedScoresDoc1[3] = 0.3f;
+        expectedScoresDoc1[17] = 0.7f;
+        assertArrayEquals(expectedScoresDoc1, processedScores.get(DOC_ID_1), 0.0f);
+        float[] expectedScoresDoc2 = new float[numOfSubQueries];
+        expectedScoresDoc2[5] = 0.5f;
+        assertArrayEquals(expectedScoresDoc2, processedScores.get(DOC_ID_2), 0.0f);
+        // scores are reset after each doc
+        assertArrayEquals(new float[numOfSubQueries], subQueryScorer.getSubQueryScores(), 0.0f);
+    }
 }
@@ -72,18 +72,18 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
 
         HybridQuery query1 = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         HybridQuery query2 = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         HybridQuery query3 = new HybridQuery(
             List.of(
                 QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext),
                 QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT).toQuery(mockQueryShardContext)
             ),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         QueryUtils.check(query1);
         QueryUtils.checkEqual(query1, query2);
@@ -123,7 +123,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
         // Test with TermQuery
         HybridQuery hybridQueryWithTerm = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         Query rewritten = hybridQueryWithTerm.rewrite(new IndexSearcher(reader));
         // term query is the same after we rewrite it
@@ -132,7 +132,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
         // Test empty query list
         IllegalArgumentException exception = expectThrows(
             IllegalArgumentException.class,
-            () -> new HybridQuery(List.of(), new HybridQueryContext(10))
+            () -> new HybridQuery(List.of(), HybridQueryContext.builder().paginationDepth(10).build())
         );
         assertThat(exception.getMessage(), containsString("collection of queries must not be empty"));
 
@@ -165,7 +165,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
 
         HybridQuery query = new HybridQuery(
             List.of(new TermQuery(new Term(TEXT_FIELD_NAME, field1Value)), new TermQuery(new Term(TEXT_FIELD_NAME, field2Value))),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         // executing search query, getting up to 3 docs in result
         TopDocs hybridQueryResult = searcher.search(query, 3);
@@ -209,7 +209,10 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
         DirectoryReader reader = DirectoryReader.open(w);
         IndexSearcher searcher = new IndexSearcher(reader);
 
-        HybridQuery query = new HybridQuery(List.of(new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT))), new HybridQueryContext(10));
+        HybridQuery query = new HybridQuery(
+            List.of(new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT))),
+            HybridQueryContext.builder().paginationDepth(10).build()
+        );
         // executing search query, getting up to 3 docs in result
         TopDocs hybridQueryResult = searcher.search(query, 3);
 
@@ -244,7 +247,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
 
         HybridQuery query = new HybridQuery(
             List.of(new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT)), new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT))),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         // executing search query, getting up to 3 docs in result
         TopDocs hybridQueryResult = searcher.search(query, 3);
@@ -260,7 +263,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
     public void testWithRandomDocuments_whenNoSubQueries_thenFail() {
         IllegalArgumentException exception = expectThrows(
             IllegalArgumentException.class,
-            () -> new HybridQuery(List.of(), new HybridQueryContext(10))
+            () -> new HybridQuery(List.of(), HybridQueryContext.builder().paginationDepth(10).build())
         );
         assertThat(exception.getMessage(), containsString("collection of queries must not be empty"));
     }
@@ -271,7 +274,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
             IllegalArgumentException.class,
             () -> new HybridQuery(
                 List.of(new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT)), new TermQuery(new Term(TEXT_FIELD_NAME, QUERY_TEXT))),
-                new HybridQueryContext(0)
+                HybridQueryContext.builder().paginationDepth(0).build()
             )
         );
         assertThat(exception.getMessage(), containsString("pagination_depth must not be zero"));
@@ -291,7 +294,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
                     .should(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT))
                     .toQuery(mockQueryShardContext)
             ),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
 
         String queryString = query.toString(TEXT_FIELD_NAME);
@@ -312,7 +315,7 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
                 QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT).toQuery(mockQueryShardContext)
             ),
             List.of(filter),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         QueryUtils.check(hybridQuery);
 
@@ -345,7 +348,11 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
             QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext),
             QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT).toQuery(mockQueryShardContext)
         );
-        HybridQuery originHybridQuery = new HybridQuery(originHybridSubQueries, List.of(), new HybridQueryContext(10));
+        HybridQuery originHybridQuery = new HybridQuery(
+            originHybridSubQueries,
+            List.of(),
+            HybridQueryContext.builder().paginationDepth(10).build()
+        );
 
         Query dlsQueryNotTest = QueryBuilders.constantScoreQuery(
             QueryBuilders.boolQuery().mustNot(QueryBuilders.termQuery(TEXT_FIELD_NAME, "test"))
@@ -399,7 +406,11 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
             QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext),
             QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT).toQuery(mockQueryShardContext)
         );
-        HybridQuery originHybridQuery = new HybridQuery(originHybridSubQueries, List.of(), new HybridQueryContext(10));
+        HybridQuery originHybridQuery = new HybridQuery(
+            originHybridSubQueries,
+            List.of(),
+            HybridQueryContext.builder().paginationDepth(10).build()
+        );
 
         Query dlsQueryNotTest = QueryBuilders.constantScoreQuery(
             QueryBuilders.boolQuery().mustNot(QueryBuilders.termQuery(TEXT_FIELD_NAME, "test"))
@@ -11,8 +11,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.query.HybridQueryBuilderTests.TEXT_FIELD_NAME;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.FieldType;
@@ -25,12 +28,17 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.Matches;
 import org.apache.lucene.search.MatchesIterator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.ByteBuffersDirectory;
@@ -71,7 +79,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         IndexReader reader = DirectoryReader.open(w);
         HybridQuery hybridQueryWithTerm = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         IndexSearcher searcher = new IndexSearcher(reader);
         Weight weight = hybridQueryWithTerm.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
@@ -126,7 +134,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
                     .toQuery(mockQueryShardContext),
                 QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)
             ),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         IndexSearcher searcher = new IndexSearcher(reader);
         Weight weight = hybridQueryWithTerm.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
@@ -172,7 +180,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         IndexReader reader = DirectoryReader.open(w);
         HybridQuery hybridQueryWithTerm = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         IndexSearcher searcher = new IndexSearcher(reader);
         Weight weight = searcher.createWeight(hybridQueryWithTerm, ScoreMode.COMPLETE, 1.0f);
@@ -192,7 +200,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
     public void testExplainWithNonMatchingExplanationsAddedToMatchingClauses() {
         float boost = 1.0f;
         List<Query> queries = Arrays.asList(new TermQuery(new Term("field", "term1")), new TermQuery(new Term("field", "term2")));
-        HybridQuery hybridQuery = new HybridQuery(queries, new HybridQueryContext(10));
+        HybridQuery hybridQuery = new HybridQuery(queries, HybridQueryContext.builder().paginationDepth(10).build());
 
         // Create a real LeafReaderContext
         LeafReaderContext context = createLeafReaderContext();
@@ -239,7 +247,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
             new TermQuery(new Term("field", "term2")),
             new TermQuery(new Term("field", "term3"))
         );
-        HybridQuery hybridQuery = new HybridQuery(queries, new HybridQueryContext(10));
+        HybridQuery hybridQuery = new HybridQuery(queries, HybridQueryContext.builder().paginationDepth(10).build());
 
         LeafReaderContext context = createLeafReaderContext();
         IndexSearcher searcher = mock(IndexSearcher.class);
@@ -279,7 +287,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
     public void testExplainWithAllNonMatchingClauses() {
         float boost = 1.0f;
         List<Query> queries = Arrays.asList(new TermQuery(new Term("field", "term1")), new TermQuery(new Term("field", "term2")));
-        HybridQuery hybridQuery = new HybridQuery(queries, new HybridQueryContext(10));
+        HybridQuery hybridQuery = new HybridQuery(queries, HybridQueryContext.builder().paginationDepth(10).build());
 
         LeafReaderContext context = createLeafReaderContext();
         IndexSearcher searcher = mock(IndexSearcher.class);
@@ -309,6 +317,104 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         cleanup();
     }
 
+    @SneakyThrows
+    public void testSharedFilter_whenFilterSet_thenOnlyFilteredDocsMatch() {
+        Directory directory = new ByteBuffersDirectory();
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig());
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 0, "keyword alpha", ft));
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 1, "keyword beta", ft));
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 2, "gamma alpha", ft));
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+        LeafReaderContext leafReaderContext = reader.leaves().get(0);
+
+        List<Query> subQueries = List.of(
+            new TermQuery(new Term(TEXT_FIELD_NAME, "keyword")),
+            new TermQuery(new Term(TEXT_FIELD_NAME, "gamma"))
+        );
+        HybridQuery hybridQuery = new HybridQuery(
+            subQueries,
+            HybridQueryContext.builder().paginationDepth(10).filter(new TermQuery(new Term(TEXT_FIELD_NAME, "alpha"))).build()
+        );
+        Weight weight = searcher.createWeight(hybridQuery, ScoreMode.COMPLETE, 1.0f);
+
+        // scorer path
+        DocIdSetIterator iterator = weight.scorer(leafReaderContext).iterator();
+        assertEquals(0, iterator.nextDoc());
+        assertEquals(2, iterator.nextDoc());
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+
+        // bulk scorer path
+        List<Integer> collectedDocs = new ArrayList<>();
+        weight.bulkScorer(leafReaderContext).score(new LeafCollector() {
+            @Override
+            public void setScorer(Scorable scorer) {}
+
+            @Override
+            public void collect(int doc) {
+                collectedDocs.add(doc);
+            }
+        }, null, 0, DocIdSetIterator.NO_MORE_DOCS);
+        assertEquals(List.of(0, 2), collectedDocs);
+
+        // doc that matches sub-query but not the filter
+        assertFalse(weight.explain(leafReaderContext, 1).isMatch());
+        assertNull(weight.matches(leafReaderContext, 1));
+        assertTrue(weight.explain(leafReaderContext, 0).isMatch());
+
+        // filter that doesn't match any doc
+        HybridQuery hybridQueryNoFilterMatches = new HybridQuery(
+            subQueries,
+            HybridQueryContext.builder().paginationDepth(10).filter(new TermQuery(new Term(TEXT_FIELD_NAME, "delta"))).build()
+        );
+        assertNull(searcher.createWeight(hybridQueryNoFilterMatches, ScoreMode.COMPLETE, 1.0f).scorer(leafReaderContext));
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testSharedFilter_whenManySubQueries_thenFilterScorerCreatedOncePerSegment() {
+        Directory directory = new ByteBuffersDirectory();
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig());
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 0, "keyword alpha", ft));
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 1, "keyword beta", ft));
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 2, "gamma alpha", ft));
+        writer.addDocument(getDocument(TEXT_FIELD_NAME, 3, "gamma keyword alpha", ft));
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+        IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        LeafReaderContext leafReaderContext = reader.leaves().get(0);
+
+        List<Query> subQueries = List.of(
+            new TermQuery(new Term(TEXT_FIELD_NAME, "keyword")),
+            new TermQuery(new Term(TEXT_FIELD_NAME, "gamma")),
+            new TermQuery(new Term(TEXT_FIELD_NAME, "beta"))
+        );
+        AtomicInteger numOfFilterScorers = new AtomicInteger();
+        Query filter = new CountingScorersQuery(new TermQuery(new Term(TEXT_FIELD_NAME, "alpha")), numOfFilterScorers);
+        HybridQuery hybridQuery = new HybridQuery(subQueries, HybridQueryContext.builder().paginationDepth(10).filter(filter).build());
+        Weight weight = searcher.createWeight(hybridQuery, ScoreMode.COMPLETE, 1.0f);
+
+        DocIdSetIterator iterator = weight.scorer(leafReaderContext).iterator();
+        assertEquals(0, iterator.nextDoc());
+        assertEquals(2, iterator.nextDoc());
+        assertEquals(3, iterator.nextDoc());
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+        assertEquals(1, numOfFilterScorers.get());
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
     @SneakyThrows
     private LeafReaderContext createLeafReaderContext() {
         Directory directory = new ByteBuffersDirectory();
@@ -331,4 +437,48 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         if (writer != null) writer.close();
         if (directory != null) directory.close();
     }
+
+    /**
+     * Query that counts scorer suppliers created by its weight
+     */
+    private static final class CountingScorersQuery extends Query {
+        private final Query in;
+        private final AtomicInteger numOfScorers;
+
+        CountingScorersQuery(Query in, AtomicInteger numOfScorers) {
+            this.in = in;
+            this.numOfScorers = numOfScorers;
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            return new FilterWeight(this, in.createWeight(searcher, scoreMode, boost)) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                    numOfScorers.incrementAndGet();
+                    return super.scorerSupplier(context);
+                }
+            };
+        }
+
+        @Override
+        public String toString(String field) {
+            return in.toString(field);
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            in.visit(visitor);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return sameClassAs(other) && in.equals(((CountingScorersQuery) other).in);
+        }
+
+        @Override
+        public int hashCode() {
+            return classHash() ^ in.hashCode();
+        }
+    }
 }
@@ -63,7 +63,7 @@ public class HybridScorerSupplierTests extends OpenSearchQueryTestCase {
         reader = DirectoryReader.open(w);
         HybridQuery hybridQuery = new HybridQuery(
             List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)),
-            new HybridQueryContext(10)
+            HybridQueryContext.builder().paginationDepth(10).build()
         );
         IndexSearcher searcher = newSearcher(reader);
         weight = (HybridQueryWeight) hybridQuery.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
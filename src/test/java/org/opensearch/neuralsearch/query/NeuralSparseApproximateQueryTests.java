@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class NeuralSparseApproximateQueryTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "sparse";
+    private static final float DELTA_FOR_SCORE_ASSERTION = 0.001f;
+
+    private static final Query TOKENS_QUERY = new BooleanQuery.Builder().add(
+        FeatureField.newLinearQuery(FIELD_NAME, "a", 1.0f),
+        BooleanClause.Occur.SHOULD
+    )
+        .add(FeatureField.newLinearQuery(FIELD_NAME, "b", 1.0f), BooleanClause.Occur.SHOULD)
+        .add(FeatureField.newLinearQuery(FIELD_NAME, "c", 1.0f), BooleanClause.Occur.SHOULD)
+        .build();
+
+    @SneakyThrows
+    public void testSearch_whenExactQuery_thenTopDocumentOfAllSegments() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(TOKENS_QUERY, new TopScoreDocCollectorManager(1, 1));
+
+            assertEquals(1, topDocs.scoreDocs.length);
+            assertEquals(1, topDocs.scoreDocs[0].doc);
+            assertEquals(4.0f, topDocs.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenDocumentScoreAboveApproximatedMinScore_thenTopDocumentOfAllSegments() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new NeuralSparseApproximateQuery(TOKENS_QUERY, 1.5f), new TopScoreDocCollectorManager(1, 1));
+
+            assertEquals(1, topDocs.scoreDocs.length);
+            assertEquals(1, topDocs.scoreDocs[0].doc);
+            assertEquals(4.0f, topDocs.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenDocumentScoreBelowApproximatedMinScore_thenDocumentSkipped() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new NeuralSparseApproximateQuery(TOKENS_QUERY, 10.0f), new TopScoreDocCollectorManager(1, 1));
+
+            // minimum competitive score of the second segment is 10 times the score of the first document, no document can reach it
+            assertEquals(1, topDocs.scoreDocs.length);
+            assertEquals(0, topDocs.scoreDocs[0].doc);
+            assertEquals(1.0f, topDocs.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenScoresNotNeeded_thenAllDocuments() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+
+            assertEquals(2, searcher.count(new NeuralSparseApproximateQuery(TOKENS_QUERY, 10.0f)));
+        }
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenFactorIsOne_thenTokensQuery() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+
+            assertEquals(TOKENS_QUERY, new NeuralSparseApproximateQuery(TOKENS_QUERY, 1.0f).rewrite(searcher));
+            assertTrue(new NeuralSparseApproximateQuery(TOKENS_QUERY, 2.0f).rewrite(searcher) instanceof NeuralSparseApproximateQuery);
+        }
+    }
+
+    public void testEqualsAndHashCode() {
+        NeuralSparseApproximateQuery query = new NeuralSparseApproximateQuery(TOKENS_QUERY, 2.0f);
+        NeuralSparseApproximateQuery sameQuery = new NeuralSparseApproximateQuery(TOKENS_QUERY, 2.0f);
+
+        assertEquals(query, sameQuery);
+        assertEquals(query.hashCode(), sameQuery.hashCode());
+        assertNotEquals(query, new NeuralSparseApproximateQuery(TOKENS_QUERY, 3.0f));
+        assertNotEquals(query, new NeuralSparseApproximateQuery(FeatureField.newLinearQuery(FIELD_NAME, "a", 1.0f), 2.0f));
+        expectThrows(IllegalArgumentException.class, () -> new NeuralSparseApproximateQuery(TOKENS_QUERY, 0.5f));
+        expectThrows(IllegalArgumentException.class, () -> new NeuralSparseApproximateQuery(TOKENS_QUERY, Float.NaN));
+        expectThrows(IllegalArgumentException.class, () -> new NeuralSparseApproximateQuery(TOKENS_QUERY, Float.POSITIVE_INFINITY));
+    }
+
+    /*
+    Two segments with one document each, the document of the first segment is collected first and sets the minimum
+    competitive score when the second segment is searched.
+     */
+    private Directory createIndex() throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            writer.addDocument(createDocument(Map.of("a", 1.0f)));
+            writer.commit();
+            writer.addDocument(createDocument(Map.of("b", 2.0f, "c", 2.0f)));
+            writer.commit();
+        }
+        return directory;
+    }
+
+    private Document createDocument(final Map<String, Float> tokens) {
+        Document document = new Document();
+        tokens.forEach((token, weight) -> document.add(new FeatureField(FIELD_NAME, token, weight)));
+        return document;
+    }
+}
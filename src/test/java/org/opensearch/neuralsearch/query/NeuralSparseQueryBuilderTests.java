@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.ANALYZER_FIELD;
+import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.APPROXIMATION_FACTOR_FIELD;
 import static org.opensearch.neuralsearch.util.TestUtils.xContentBuilderToMap;
 import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.MAX_TOKEN_SCORE_FIELD;
 import static org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder.MODEL_ID_FIELD;
@@ -60,6 +61,7 @@ import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.FilterStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -70,6 +72,7 @@ import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.test.OpenSearchTestCase;
@@ -122,6 +125,54 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(MODEL_ID, sparseEncodingQueryBuilder.modelId());
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenBuiltWithApproximationFactor_thenBuildSuccessfully() {
+        /*
+          {
+              "VECTOR_FIELD": {
+                "query_text": "string",
+                "model_id": "string",
+                "approximation_factor": 1.5
+              }
+          }
+        */
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(APPROXIMATION_FACTOR_FIELD.getPreferredName(), 1.5f)
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = NeuralSparseQueryBuilder.fromXContent(contentParser);
+
+        assertEquals(FIELD_NAME, sparseEncodingQueryBuilder.fieldName());
+        assertEquals(1.5f, sparseEncodingQueryBuilder.approximationFactor(), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenApproximationFactorBelowOne_thenFail() {
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(FIELD_NAME)
+            .field(QUERY_TEXT_FIELD.getPreferredName(), QUERY_TEXT)
+            .field(MODEL_ID_FIELD.getPreferredName(), MODEL_ID)
+            .field(APPROXIMATION_FACTOR_FIELD.getPreferredName(), 0.5f)
+            .endObject()
+            .endObject();
+
+        XContentParser contentParser = createParser(xContentBuilder);
+        contentParser.nextToken();
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> NeuralSparseQueryBuilder.fromXContent(contentParser)
+        );
+        assertEquals("approximation_factor must be a finite number greater than or equal to 1.0", exception.getMessage());
+    }
+
     @SneakyThrows
     public void testFromXContent_whenBuiltWithQueryTokens_thenBuildSuccessfully() {
         /*
@@ -510,6 +561,57 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testStreams_whenApproximationFactor_thenSuccess() {
+        NeuralSparseQueryBuilder original = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryTokensSupplier(QUERY_TOKENS_SUPPLIER)
+            .approximationFactor(2.0f);
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        original.writeTo(streamOutput);
+        NeuralSparseQueryBuilder copy = new NeuralSparseQueryBuilder(streamOutput.bytes().streamInput());
+        assertEquals(original, copy);
+        assertEquals(2.0f, copy.approximationFactor(), 0.0f);
+
+        // node that doesn't know approximation factor runs exact search
+        streamOutput = new BytesStreamOutput();
+        streamOutput.setVersion(Version.V_3_1_0);
+        original.writeTo(streamOutput);
+        StreamInput streamInput = streamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_1_0);
+        copy = new NeuralSparseQueryBuilder(streamInput);
+        assertNull(copy.approximationFactor());
+        assertEquals(original.queryTokensSupplier().get(), copy.queryTokensSupplier().get());
+    }
+
+    @SneakyThrows
+    public void testStreams_whenQueryTokens_thenCompactEncodingOnlyForNewVersions() {
+        Map<String, Float> queryTokens = Map.of("hello", 0.1f, "hell", 1.7f, "world", 2.3f);
+        NeuralSparseQueryBuilder original = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME).queryTokensSupplier(() -> queryTokens);
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        original.writeTo(streamOutput);
+        NeuralSparseQueryBuilder copy = new NeuralSparseQueryBuilder(streamOutput.bytes().streamInput());
+        assertTrue(copy.queryTokensSupplier().get() instanceof CompactSparseTokens);
+        assertEquals(queryTokens.keySet(), copy.queryTokensSupplier().get().keySet());
+        for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
+            assertEquals(entry.getValue(), copy.queryTokensSupplier().get().get(entry.getKey()), entry.getValue() / 2048);
+        }
+        // shard that gets the query without transport scores the same weights as shards that get it from the stream
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        assertEquals(copy.queryTokensSupplier().get(), original.getQueryTokens(mockedQueryShardContext));
+        assertEquals(copy.queryTokensSupplier().get(), copy.getQueryTokens(mockedQueryShardContext));
+
+        // node that doesn't know compact encoding gets exact weights
+        streamOutput = new BytesStreamOutput();
+        streamOutput.setVersion(Version.V_3_1_0);
+        original.writeTo(streamOutput);
+        StreamInput streamInput = streamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_1_0);
+        copy = new NeuralSparseQueryBuilder(streamInput);
+        assertEquals(queryTokens, copy.queryTokensSupplier().get());
+    }
+
     @SneakyThrows
     private void testStreamsWithQueryTokensOnly() {
         NeuralSparseQueryBuilder original = new NeuralSparseQueryBuilder();
@@ -825,6 +927,99 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext), targetQueryBuilder.build());
     }
 
+    @SneakyThrows
+    public void testDoToQuery_whenSinglePassTwoPhase_thenTwoPhaseQuery() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .maxTokenScore(MAX_TOKEN_SCORE)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .queryTokensSupplier(QUERY_TOKENS_SUPPLIER);
+        sparseEncodingQueryBuilder.enableSinglePassTwoPhase(0.6f, PruneType.MAX_RATIO, 50);
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        MappedFieldType mockedMappedFieldType = mock(MappedFieldType.class);
+        doAnswer(invocation -> "rank_features").when(mockedMappedFieldType).typeName();
+        doAnswer(invocation -> mockedMappedFieldType).when(mockedQueryShardContext).fieldMapper(any());
+
+        BooleanQuery.Builder phaseOneQueryBuilder = new BooleanQuery.Builder();
+        phaseOneQueryBuilder.add(FeatureField.newLinearQuery(FIELD_NAME, "world", 2.f), BooleanClause.Occur.SHOULD);
+        NeuralSparseTwoPhaseQuery expectedQuery = new NeuralSparseTwoPhaseQuery(
+            phaseOneQueryBuilder.build(),
+            FIELD_NAME,
+            Map.of("hello", 1.f),
+            50
+        );
+
+        assertEquals(expectedQuery, sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext));
+    }
+
+    @SneakyThrows
+    public void testDoToQuery_whenApproximationFactor_thenApproximateQuery() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryTokensSupplier(QUERY_TOKENS_SUPPLIER)
+            .approximationFactor(2.0f);
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        MappedFieldType mockedMappedFieldType = mock(MappedFieldType.class);
+        doAnswer(invocation -> "rank_features").when(mockedMappedFieldType).typeName();
+        doAnswer(invocation -> mockedMappedFieldType).when(mockedQueryShardContext).fieldMapper(any());
+
+        BooleanQuery.Builder targetQueryBuilder = new BooleanQuery.Builder();
+        targetQueryBuilder.add(FeatureField.newLinearQuery(FIELD_NAME, "hello", 1.f), BooleanClause.Occur.SHOULD);
+        targetQueryBuilder.add(FeatureField.newLinearQuery(FIELD_NAME, "world", 2.f), BooleanClause.Occur.SHOULD);
+
+        assertEquals(
+            new NeuralSparseApproximateQuery(targetQueryBuilder.build(), 2.0f),
+            sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext)
+        );
+
+        // factor 1.0 is exact search
+        sparseEncodingQueryBuilder.approximationFactor(1.0f);
+        assertEquals(targetQueryBuilder.build(), sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext));
+        NeuralSparseQueryBuilder exactQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryTokensSupplier(QUERY_TOKENS_SUPPLIER);
+        assertNotEquals(exactQueryBuilder, sparseEncodingQueryBuilder);
+        assertNotEquals(exactQueryBuilder.hashCode(), sparseEncodingQueryBuilder.hashCode());
+    }
+
+    @SneakyThrows
+    public void testDoToQuery_whenTermStateCacheEnabled_thenTokenQueries() {
+        NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .queryTokensSupplier(QUERY_TOKENS_SUPPLIER);
+        QueryShardContext mockedQueryShardContext = mock(QueryShardContext.class);
+        MappedFieldType mockedMappedFieldType = mock(MappedFieldType.class);
+        doAnswer(invocation -> "rank_features").when(mockedMappedFieldType).typeName();
+        doAnswer(invocation -> mockedMappedFieldType).when(mockedQueryShardContext).fieldMapper(any());
+
+        try {
+            SparseTermStateCache.initialize(
+                Settings.builder().put(NeuralSearchSettings.NEURAL_SPARSE_TERM_STATE_CACHE_SIZE.getKey(), 100).build()
+            );
+            SparseTermStateCache termStateCache = SparseTermStateCache.getInstance();
+            SparseVocabulary vocabulary = termStateCache.getVocabulary("model_id:" + MODEL_ID);
+
+            BooleanQuery.Builder targetQueryBuilder = new BooleanQuery.Builder();
+            targetQueryBuilder.add(
+                new NeuralSparseTermQuery(FIELD_NAME, "hello", 1.f, vocabulary, termStateCache),
+                BooleanClause.Occur.SHOULD
+            );
+            targetQueryBuilder.add(
+                new NeuralSparseTermQuery(FIELD_NAME, "world", 2.f, vocabulary, termStateCache),
+                BooleanClause.Occur.SHOULD
+            );
+
+            BooleanQuery query = (BooleanQuery) sparseEncodingQueryBuilder.doToQuery(mockedQueryShardContext);
+            assertEquals(targetQueryBuilder.build(), query);
+            for (BooleanClause clause : query.clauses()) {
+                NeuralSparseTermQuery tokenQuery = (NeuralSparseTermQuery) clause.query();
+                assertSame(vocabulary, tokenQuery.getVocabulary());
+                assertSame(vocabulary.getToken(tokenQuery.getToken()).value(), tokenQuery.getToken());
+            }
+        } finally {
+            SparseTermStateCache.initialize(Settings.EMPTY);
+        }
+    }
+
     @SneakyThrows
     public void testDoToQuery_whenEmptyQueryToken_thenThrowException() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
@@ -5,7 +5,9 @@
 package org.opensearch.neuralsearch.query;
 
 import lombok.SneakyThrows;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -44,10 +46,49 @@ public class NeuralSparseQueryTwoPhaseInfoTests extends OpenSearchTestCase {
         assertEquals(original.getStatus(), copy.getStatus());
     }
 
+    @SneakyThrows
+    public void testStreams_whenSinglePass_thenWindowSizeIsCopied() {
+        NeuralSparseQueryTwoPhaseInfo original = new NeuralSparseQueryTwoPhaseInfo(
+            NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS,
+            0.4F,
+            PruneType.MAX_RATIO,
+            50
+        );
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        original.writeTo(streamOutput);
+
+        NeuralSparseQueryTwoPhaseInfo copy = new NeuralSparseQueryTwoPhaseInfo(streamOutput.bytes().streamInput());
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS, copy.getStatus());
+        assertEquals(50, copy.getWindowSize());
+    }
+
+    @SneakyThrows
+    public void testStreams_whenVersionBeforeSinglePass_thenWindowSizeIsNotWritten() {
+        NeuralSparseQueryTwoPhaseInfo original = new NeuralSparseQueryTwoPhaseInfo(
+            NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE,
+            0.4F,
+            PruneType.MAX_RATIO,
+            50
+        );
+
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+        streamOutput.setVersion(Version.V_3_1_0);
+        original.writeTo(streamOutput);
+
+        StreamInput streamInput = streamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_1_0);
+        NeuralSparseQueryTwoPhaseInfo copy = new NeuralSparseQueryTwoPhaseInfo(streamInput);
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE, copy.getStatus());
+        assertEquals(0, copy.getWindowSize());
+        assertEquals(0, streamInput.available());
+    }
+
     public void testTwoPhaseStatusFromInt() {
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.NOT_ENABLED, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(0));
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(1));
         assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_TWO, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(2));
+        assertEquals(NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.SINGLE_PASS, NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.fromInt(3));
     }
 
     public void testTwoPhaseStatusFromInt_invalidValue_thenFailed() {
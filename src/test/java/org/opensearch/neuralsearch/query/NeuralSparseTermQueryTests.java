@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class NeuralSparseTermQueryTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "sparse";
+    private static final float DELTA_FOR_SCORE_ASSERTION = 0.001f;
+    private static final Map<String, Float> QUERY_TOKENS = Map.of("a", 1.5f, "b", 0.5f, "missing", 3.0f);
+
+    @SneakyThrows
+    public void testSearch_whenTokenQueries_thenSameResultsAsFeatureFieldQueries() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs expected = searcher.search(createFeatureFieldQuery(), 10);
+
+            // first search caches term states, second search seeks by cached term states
+            for (int i = 0; i < 2; i++) {
+                TopDocs actual = searcher.search(createTokenQuery(vocabulary, cache), 10);
+                assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                for (int j = 0; j < expected.scoreDocs.length; j++) {
+                    assertEquals(expected.scoreDocs[j].doc, actual.scoreDocs[j].doc);
+                    assertEquals(expected.scoreDocs[j].score, actual.scoreDocs[j].score, DELTA_FOR_SCORE_ASSERTION);
+                }
+            }
+            // 3 tokens in 2 segments
+            assertEquals(6, cache.count());
+            assertEquals(4, searcher.count(createTokenQuery(vocabulary, cache)));
+        }
+    }
+
+    @SneakyThrows
+    public void testExplain_whenDocumentMatches_thenWeightAndFeatureValue() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            NeuralSparseTermQuery query = new NeuralSparseTermQuery(FIELD_NAME, "a", 1.5f, vocabulary, cache);
+
+            Explanation explanation = searcher.explain(query, 0);
+            assertTrue(explanation.isMatch());
+            assertEquals(3.0f, explanation.getValue().floatValue(), DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(2, explanation.getDetails().length);
+
+            assertFalse(searcher.explain(query, 1).isMatch());
+        }
+    }
+
+    public void testConstructor_whenSameToken_thenInternedTokenOfVocabulary() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        NeuralSparseTermQuery query = new NeuralSparseTermQuery(FIELD_NAME, new String("a"), 1.0f, vocabulary, cache);
+        NeuralSparseTermQuery sameTokenQuery = new NeuralSparseTermQuery(FIELD_NAME, new String("a"), 2.0f, vocabulary, cache);
+
+        assertSame(query.getToken(), sameTokenQuery.getToken());
+        assertEquals(query.getTokenId(), sameTokenQuery.getTokenId());
+    }
+
+    public void testConstructor_whenWeightNotInRangeOfFeatureField_thenFail() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+
+        for (float weight : new float[] { 0.0f, -1.0f, 64.5f }) {
+            expectThrows(IllegalArgumentException.class, () -> new NeuralSparseTermQuery(FIELD_NAME, "a", weight, vocabulary, cache));
+            // same weights are rejected by the query of FeatureField
+            expectThrows(IllegalArgumentException.class, () -> FeatureField.newLinearQuery(FIELD_NAME, "a", weight));
+        }
+        assertEquals(64.0f, new NeuralSparseTermQuery(FIELD_NAME, "a", 64.0f, vocabulary, cache).getWeight(), 0.0f);
+    }
+
+    public void testEqualsAndHashCode() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        NeuralSparseTermQuery query = new NeuralSparseTermQuery(FIELD_NAME, "a", 1.0f, vocabulary, cache);
+        NeuralSparseTermQuery sameQuery = new NeuralSparseTermQuery(FIELD_NAME, "a", 1.0f, vocabulary, cache);
+
+        assertEquals(query, sameQuery);
+        assertEquals(query.hashCode(), sameQuery.hashCode());
+        assertNotEquals(query, new NeuralSparseTermQuery(FIELD_NAME, "b", 1.0f, vocabulary, cache));
+        assertNotEquals(query, new NeuralSparseTermQuery(FIELD_NAME, "a", 2.0f, vocabulary, cache));
+        assertNotEquals(query, new NeuralSparseTermQuery("other", "a", 1.0f, vocabulary, cache));
+    }
+
+    private Query createFeatureFieldQuery() {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        QUERY_TOKENS.forEach(
+            (token, weight) -> builder.add(FeatureField.newLinearQuery(FIELD_NAME, token, weight), BooleanClause.Occur.SHOULD)
+        );
+        return builder.build();
+    }
+
+    private Query createTokenQuery(final SparseVocabulary vocabulary, final SparseTermStateCache cache) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        QUERY_TOKENS.forEach(
+            (token, weight) -> builder.add(
+                new NeuralSparseTermQuery(FIELD_NAME, token, weight, vocabulary, cache),
+                BooleanClause.Occur.SHOULD
+            )
+        );
+        return builder.build();
+    }
+
+    private Directory createIndex() throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            writer.addDocument(createDocument(Map.of("a", 2.0f, "b", 1.0f)));
+            writer.addDocument(createDocument(Map.of("b", 4.0f)));
+            writer.commit();
+            writer.addDocument(createDocument(Map.of("a", 0.5f)));
+            writer.addDocument(createDocument(Map.of("a", 1.0f, "b", 8.0f)));
+            writer.addDocument(createDocument(Map.of("c", 1.0f)));
+            writer.commit();
+        }
+        return directory;
+    }
+
+    private Document createDocument(final Map<String, Float> tokens) {
+        Document document = new Document();
+        tokens.forEach((token, weight) -> document.add(new FeatureField(FIELD_NAME, token, weight)));
+        return document;
+    }
+}
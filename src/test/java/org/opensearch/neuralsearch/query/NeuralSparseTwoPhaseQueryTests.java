@@ -0,0 +1,300 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryRescorer;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class NeuralSparseTwoPhaseQueryTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "sparse";
+    private static final float DELTA_FOR_SCORE_ASSERTION = 0.001f;
+
+    private static final Query PHASE_ONE_QUERY = new BooleanQuery.Builder().add(
+        FeatureField.newLinearQuery(FIELD_NAME, "a", 1.0f),
+        BooleanClause.Occur.SHOULD
+    ).build();
+
+    @SneakyThrows
+    public void testSearch_whenWindowCoversAllDocuments_thenScoresOfAllTokens() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3), 10);
+
+            assertEquals(3, topDocs.scoreDocs.length);
+            assertEquals(1, topDocs.scoreDocs[0].doc);
+            assertEquals(7.0f, topDocs.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(0, topDocs.scoreDocs[1].doc);
+            assertEquals(5.0f, topDocs.scoreDocs[1].score, DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(2, topDocs.scoreDocs[2].doc);
+            assertEquals(2.0f, topDocs.scoreDocs[2].score, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenWindowIsSmall_thenPhaseTwoTokensScoredOnlyForTopCandidates() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs topDocs = searcher.search(new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 1), 10);
+
+            // only the document with the top phase one score gets the score of phase two tokens, same as the rescore of window 1
+            assertEquals(3, topDocs.scoreDocs.length);
+            assertEquals(0, topDocs.scoreDocs[0].doc);
+            assertEquals(5.0f, topDocs.scoreDocs[0].score, DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(1, topDocs.scoreDocs[1].doc);
+            assertEquals(2.0f, topDocs.scoreDocs[1].score, DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(2, topDocs.scoreDocs[2].doc);
+            assertEquals(1.0f, topDocs.scoreDocs[2].score, DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenScoresNotNeeded_thenDocumentsOfPhaseOne() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3);
+
+            // document with only phase two tokens doesn't match
+            assertEquals(3, searcher.count(query));
+        }
+    }
+
+    @SneakyThrows
+    public void testScorer_whenMaxScore_thenIncludesLargestScoreOfPhaseTwoTokens() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            Query query = searcher.rewrite(new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3));
+            Weight weight = query.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
+            Scorer scorer = weight.scorer(reader.leaves().get(0));
+
+            assertTrue(scorer.getMaxScore(DocIdSetIterator.NO_MORE_DOCS) >= 3.0f + 9.0f);
+        }
+    }
+
+    @SneakyThrows
+    public void testExplain_whenDocumentMatches_thenSumOfPhases() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3);
+
+            Explanation explanation = searcher.explain(query, 1);
+            assertTrue(explanation.isMatch());
+            assertEquals(7.0f, explanation.getValue().floatValue(), DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(2, explanation.getDetails().length);
+
+            assertFalse(searcher.explain(query, 3).isMatch());
+        }
+    }
+
+    @SneakyThrows
+    public void testExplain_whenDocumentIsNotCandidate_thenPhaseOneScore() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 1);
+
+            // explanation has the same score as the search, document 1 is scored after document 0 took the window
+            Explanation candidateExplanation = searcher.explain(query, 0);
+            assertEquals(5.0f, candidateExplanation.getValue().floatValue(), DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(2, candidateExplanation.getDetails().length);
+            Explanation explanation = searcher.explain(query, 1);
+            assertTrue(explanation.isMatch());
+            assertEquals(2.0f, explanation.getValue().floatValue(), DELTA_FOR_SCORE_ASSERTION);
+            assertEquals(1, explanation.getDetails().length);
+        }
+    }
+
+    @SneakyThrows
+    public void testBulkScorer_whenPhaseOneHasBulkScorer_thenWrapsBulkScorerOfPhaseOne() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            Query query = searcher.rewrite(new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 1));
+            Weight weight = query.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
+
+            BulkScorer bulkScorer = weight.bulkScorer(reader.leaves().get(0));
+            assertTrue(bulkScorer instanceof NeuralSparseTwoPhaseQuery.NeuralSparseTwoPhaseBulkScorer);
+        }
+    }
+
+    /*
+    Shard window of 2 by phase one is documents 0 and 2, they get the same scores as with the rescore. Document 1 is in the
+    window of its own segment, so it's a candidate too, unlike with the rescore.
+     */
+    @SneakyThrows
+    public void testSearch_whenMultipleSegments_thenWindowOfShardScoredAsRescore() {
+        try (
+            Directory directory = createMultiSegmentIndex(
+                List.of(
+                    List.of(Map.of("a", 4.0f, "b", 1.0f), Map.of("a", 1.0f, "b", 2.0f)),
+                    List.of(Map.of("a", 3.0f, "b", 3.0f), Map.of("a", 0.5f, "b", 1.0f))
+                )
+            );
+            DirectoryReader reader = DirectoryReader.open(directory)
+        ) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            assertEquals(2, reader.leaves().size());
+            NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 2);
+            TopDocs rescored = rescore(searcher, PHASE_ONE_QUERY, Map.of("b", 1.0f), 2);
+            TopDocs topDocs = searcher.search(query, 2);
+
+            assertEquals(2, topDocs.scoreDocs.length);
+            for (int i = 0; i < rescored.scoreDocs.length; i++) {
+                assertEquals(rescored.scoreDocs[i].doc, topDocs.scoreDocs[i].doc);
+                assertEquals(rescored.scoreDocs[i].score, topDocs.scoreDocs[i].score, DELTA_FOR_SCORE_ASSERTION);
+            }
+            assertEquals(3.0f, getScores(searcher, query).get(1), DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenRandomMultiSegmentIndex_thenWindowOfShardScoredAsRescore() {
+        List<List<Map<String, Float>>> segments = new ArrayList<>();
+        int numOfSegments = randomIntBetween(2, 5);
+        for (int i = 0; i < numOfSegments; i++) {
+            List<Map<String, Float>> documents = new ArrayList<>();
+            int numOfDocuments = randomIntBetween(1, 20);
+            for (int j = 0; j < numOfDocuments; j++) {
+                Map<String, Float> tokens = new HashMap<>();
+                for (String token : List.of("a", "b", "c", "d")) {
+                    if (randomBoolean()) {
+                        tokens.put(token, randomFloatBetween(0.1f, 10.0f, true));
+                    }
+                }
+                documents.add(tokens);
+            }
+            segments.add(documents);
+        }
+        Query phaseOneQuery = new BooleanQuery.Builder().add(FeatureField.newLinearQuery(FIELD_NAME, "a", 1.0f), BooleanClause.Occur.SHOULD)
+            .add(FeatureField.newLinearQuery(FIELD_NAME, "b", 0.5f), BooleanClause.Occur.SHOULD)
+            .build();
+        Map<String, Float> phaseTwoTokens = Map.of("c", 1.0f, "d", 2.0f);
+        int windowSize = randomIntBetween(1, 10);
+
+        try (Directory directory = createMultiSegmentIndex(segments); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(phaseOneQuery, FIELD_NAME, phaseTwoTokens, windowSize);
+            TopDocs rescored = rescore(searcher, phaseOneQuery, phaseTwoTokens, windowSize);
+            Map<Integer, Float> scores = getScores(searcher, query);
+
+            // every document of the window of the shard is a candidate in its segment
+            for (ScoreDoc scoreDoc : rescored.scoreDocs) {
+                assertEquals(scoreDoc.score, scores.get(scoreDoc.doc), DELTA_FOR_SCORE_ASSERTION);
+            }
+            assertEquals(searcher.count(phaseOneQuery), scores.size());
+        }
+    }
+
+    @SneakyThrows
+    public void testRewrite_whenNoPhaseTwoTokensOrEmptyWindow_thenPhaseOneQuery() {
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+
+            assertEquals(PHASE_ONE_QUERY, new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of(), 3).rewrite(searcher));
+            assertEquals(
+                PHASE_ONE_QUERY,
+                new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 0).rewrite(searcher)
+            );
+        }
+    }
+
+    public void testEqualsAndHashCode() {
+        NeuralSparseTwoPhaseQuery query = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3);
+        NeuralSparseTwoPhaseQuery sameQuery = new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 3);
+
+        assertEquals(query, sameQuery);
+        assertEquals(query.hashCode(), sameQuery.hashCode());
+        assertNotEquals(query, new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 2.0f), 3));
+        assertNotEquals(query, new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), 5));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new NeuralSparseTwoPhaseQuery(PHASE_ONE_QUERY, FIELD_NAME, Map.of("b", 1.0f), -1)
+        );
+    }
+
+    /*
+    Documents in doc id order: phase one token "a" decreases, phase two token "b" is the largest in documents 1 and 3.
+    Document 3 has only the phase two token.
+     */
+    private Directory createIndex() throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            writer.addDocument(createDocument(Map.of("a", 3.0f, "b", 2.0f)));
+            writer.addDocument(createDocument(Map.of("a", 2.0f, "b", 5.0f)));
+            writer.addDocument(createDocument(Map.of("a", 1.0f, "b", 1.0f)));
+            writer.addDocument(createDocument(Map.of("b", 9.0f)));
+            writer.commit();
+        }
+        return directory;
+    }
+
+    /*
+    Rescore of the window of the phase one query by the query of phase two tokens, same as the rescore of two-phase search
+     */
+    private TopDocs rescore(
+        final IndexSearcher searcher,
+        final Query phaseOneQuery,
+        final Map<String, Float> phaseTwoTokens,
+        final int windowSize
+    ) throws Exception {
+        BooleanQuery.Builder phaseTwoQuery = new BooleanQuery.Builder();
+        phaseTwoTokens.forEach(
+            (token, weight) -> phaseTwoQuery.add(FeatureField.newLinearQuery(FIELD_NAME, token, weight), BooleanClause.Occur.SHOULD)
+        );
+        TopDocs window = searcher.search(phaseOneQuery, windowSize);
+        return QueryRescorer.rescore(searcher, window, phaseTwoQuery.build(), 1.0, windowSize);
+    }
+
+    private Map<Integer, Float> getScores(final IndexSearcher searcher, final Query query) throws Exception {
+        Map<Integer, Float> scores = new HashMap<>();
+        for (ScoreDoc scoreDoc : searcher.search(query, searcher.getIndexReader().maxDoc()).scoreDocs) {
+            scores.put(scoreDoc.doc, scoreDoc.score);
+        }
+        return scores;
+    }
+
+    private Directory createMultiSegmentIndex(final List<List<Map<String, Float>>> segments) throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (List<Map<String, Float>> documents : segments) {
+                for (Map<String, Float> tokens : documents) {
+                    writer.addDocument(createDocument(tokens));
+                }
+                writer.commit();
+            }
+        }
+        return directory;
+    }
+
+    private Document createDocument(final Map<String, Float> tokens) {
+        Document document = new Document();
+        tokens.forEach((token, weight) -> document.add(new FeatureField(FIELD_NAME, token, weight)));
+        return document;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class SparseTermStateCacheTests extends OpenSearchTestCase {
+    private static final String FIELD_NAME = "sparse";
+
+    public void testInitialize_whenSizeIsZero_thenCacheDisabled() {
+        try {
+            SparseTermStateCache.initialize(Settings.EMPTY);
+            assertNull(SparseTermStateCache.getInstance());
+
+            SparseTermStateCache.initialize(
+                Settings.builder().put(NeuralSearchSettings.NEURAL_SPARSE_TERM_STATE_CACHE_SIZE.getKey(), 100).build()
+            );
+            assertNotNull(SparseTermStateCache.getInstance());
+        } finally {
+            SparseTermStateCache.initialize(Settings.EMPTY);
+        }
+    }
+
+    public void testClose_whenCacheEnabled_thenCacheReleased() {
+        SparseTermStateCache.initialize(
+            Settings.builder().put(NeuralSearchSettings.NEURAL_SPARSE_TERM_STATE_CACHE_SIZE.getKey(), 100).build()
+        );
+
+        SparseTermStateCache.close();
+
+        assertNull(SparseTermStateCache.getInstance());
+    }
+
+    public void testGetVocabulary_whenSameKey_thenSameVocabulary() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        String key = "model_id:" + randomAlphaOfLength(10);
+
+        assertSame(cache.getVocabulary(key), cache.getVocabulary(key));
+        assertNotSame(cache.getVocabulary(key), cache.getVocabulary(key + "-other"));
+        expectThrows(NullPointerException.class, () -> cache.getVocabulary(null));
+    }
+
+    public void testGetVocabulary_whenTooManyVocabularies_thenLeastRecentlyUsedEvicted() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = cache.getVocabulary("model_id:first");
+
+        for (int i = 0; i < SparseTermStateCache.MAX_VOCABULARIES; i++) {
+            cache.getVocabulary("model_id:" + i);
+        }
+
+        assertNotSame(vocabulary, cache.getVocabulary("model_id:first"));
+    }
+
+    @SneakyThrows
+    public void testSeekExact_whenSegmentIsClosed_thenTermStatesOfSegmentEvicted() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        int idOfA = vocabulary.getToken("a").id();
+        int idOfMissing = vocabulary.getToken("missing").id();
+        try (Directory directory = createIndex()) {
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                LeafReaderContext context = reader.leaves().get(0);
+                assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, idOfA, new BytesRef("a"), getTermsEnum(context)));
+                assertFalse(
+                    cache.seekExact(context, FIELD_NAME, vocabulary, idOfMissing, new BytesRef("missing"), getTermsEnum(context))
+                );
+                assertEquals(2, cache.count());
+            }
+
+            assertEquals(0, cache.count());
+        }
+    }
+
+    @SneakyThrows
+    public void testSeekExact_whenTokenIsCached_thenSeekToCachedTermState() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        int tokenId = vocabulary.getToken("a").id();
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReaderContext context = reader.leaves().get(0);
+
+            assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, tokenId, new BytesRef("a"), getTermsEnum(context)));
+            assertEquals(1, cache.count());
+
+            // second seek takes the term state from the cache, postings are the same as after lookup in the terms dictionary
+            TermsEnum termsEnum = getTermsEnum(context);
+            assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, tokenId, new BytesRef("a"), termsEnum));
+            assertEquals(1, cache.count());
+            assertEquals(2, termsEnum.docFreq());
+            PostingsEnum postings = termsEnum.postings(null, PostingsEnum.FREQS);
+            assertEquals(0, postings.nextDoc());
+            assertEquals(2, postings.nextDoc());
+        }
+    }
+
+    @SneakyThrows
+    public void testSeekExact_whenTokenNotInSegment_thenAbsentTokenCached() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        int tokenId = vocabulary.getToken("missing").id();
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReaderContext context = reader.leaves().get(0);
+
+            assertFalse(cache.seekExact(context, FIELD_NAME, vocabulary, tokenId, new BytesRef("missing"), getTermsEnum(context)));
+            assertEquals(1, cache.count());
+            assertFalse(cache.seekExact(context, FIELD_NAME, vocabulary, tokenId, new BytesRef("missing"), getTermsEnum(context)));
+        }
+    }
+
+    @SneakyThrows
+    public void testSeekExact_whenTokenHasNoId_thenNotCached() {
+        SparseTermStateCache cache = new SparseTermStateCache(100);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReaderContext context = reader.leaves().get(0);
+
+            assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, -1, new BytesRef("b"), getTermsEnum(context)));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    @SneakyThrows
+    public void testSeekExact_whenCacheIsFull_thenLeastRecentlyUsedEvicted() {
+        SparseTermStateCache cache = new SparseTermStateCache(1);
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReaderContext context = reader.leaves().get(0);
+
+            int idOfA = vocabulary.getToken("a").id();
+            int idOfB = vocabulary.getToken("b").id();
+            assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, idOfA, new BytesRef("a"), getTermsEnum(context)));
+            assertTrue(cache.seekExact(context, FIELD_NAME, vocabulary, idOfB, new BytesRef("b"), getTermsEnum(context)));
+            assertEquals(1, cache.count());
+        }
+    }
+
+    private TermsEnum getTermsEnum(final LeafReaderContext context) throws Exception {
+        return Terms.getTerms(context.reader(), FIELD_NAME).iterator();
+    }
+
+    private Directory createIndex() throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            writer.addDocument(createDocument("a", "b"));
+            writer.addDocument(createDocument("b"));
+            writer.addDocument(createDocument("a"));
+            writer.commit();
+        }
+        return directory;
+    }
+
+    private Document createDocument(final String... tokens) {
+        Document document = new Document();
+        for (String token : tokens) {
+            document.add(new FeatureField(FIELD_NAME, token, 1.0f));
+        }
+        return document;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SparseVocabularyTests extends OpenSearchTestCase {
+
+    public void testGetToken_whenSameToken_thenSameInternedToken() {
+        SparseVocabulary vocabulary = new SparseVocabulary(SparseVocabulary.MAX_TOKENS);
+
+        SparseVocabulary.Token token = vocabulary.getToken(new String("hello"));
+        SparseVocabulary.Token sameToken = vocabulary.getToken(new String("hello"));
+        SparseVocabulary.Token otherToken = vocabulary.getToken("world");
+
+        assertSame(token, sameToken);
+        assertSame(token.value(), sameToken.value());
+        assertEquals("hello", token.value());
+        assertNotEquals(token.id(), otherToken.id());
+        assertEquals(2, vocabulary.size());
+    }
+
+    public void testGetToken_whenVocabularyIsFull_thenNewTokenHasNoId() {
+        SparseVocabulary vocabulary = new SparseVocabulary(2);
+        SparseVocabulary.Token token = vocabulary.getToken("a");
+        vocabulary.getToken("b");
+
+        assertNull(vocabulary.getToken("c"));
+        assertSame(token, vocabulary.getToken("a"));
+        assertEquals(2, vocabulary.size());
+    }
+}
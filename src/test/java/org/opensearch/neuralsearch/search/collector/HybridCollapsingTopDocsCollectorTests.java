@@ -12,7 +12,9 @@ import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
@@ -20,20 +22,30 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class HybridCollapsingTopDocsCollectorTests extends HybridCollectorTestCase {
 
@@ -227,6 +239,313 @@ public class HybridCollapsingTopDocsCollectorTests extends HybridCollectorTestCa
         directory.close();
     }
 
+    public void testKeywordCollapse_whenDocsOfGroupInMultipleSegments_thenCollectedIntoOneGroup() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+
+        // Add 3 segments of documents, every segment has documents of every group
+        for (int segment = 0; segment < 3; segment++) {
+            for (int i = 0; i < 100; i++) {
+                addKeywordDoc(writer, segment * 100 + i, "text" + i, 100 + i, "group" + (i % 10));
+            }
+            writer.commit();
+        }
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        assertEquals(3, reader.leaves().size());
+
+        Sort sort = new Sort(SortField.FIELD_SCORE);
+        KeywordFieldMapper.KeywordFieldType fieldType = new KeywordFieldMapper.KeywordFieldType(COLLAPSE_FIELD_NAME);
+
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createKeyword(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            sort,
+            TOP_N_GROUPS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            DOCS_PER_GROUP_PER_SUBQUERY
+        );
+
+        Weight weight = mock(Weight.class);
+        collector.setWeight(weight);
+
+        for (LeafReaderContext context : reader.leaves()) {
+            int[] docIds = IntStream.range(0, context.reader().maxDoc()).toArray();
+            List<Float> scores = Stream.generate(() -> random().nextFloat()).limit(docIds.length).collect(Collectors.toList());
+            HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(1);
+            LeafCollector leafCollector = collector.getLeafCollector(context);
+            leafCollector.setScorer(hybridScorer);
+            collectDocsAndScores(hybridScorer, scores, leafCollector, 0, docIds);
+        }
+
+        List<CollapseTopFieldDocs> topDocs = collector.topDocs();
+
+        assertEquals(1, topDocs.size());
+        CollapseTopFieldDocs collapseTopFieldDocs = topDocs.get(0);
+        assertEquals(300, collapseTopFieldDocs.totalHits.value());
+        assertEquals(TOP_N_GROUPS * TOP_N_GROUPS, collapseTopFieldDocs.scoreDocs.length);
+
+        // Every group collects its top documents from all segments
+        Map<String, Integer> numOfDocsPerGroup = new HashMap<>();
+        for (Object collapseValue : collapseTopFieldDocs.collapseValues) {
+            numOfDocsPerGroup.merge(((BytesRef) collapseValue).utf8ToString(), 1, Integer::sum);
+        }
+        assertEquals(TOP_N_GROUPS, numOfDocsPerGroup.size());
+        for (int numOfDocs : numOfDocsPerGroup.values()) {
+            assertEquals(TOP_N_GROUPS, numOfDocs);
+        }
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenBoundedMemory_thenSameTopGroupsAsWithAllGroups() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+
+        // Every document has its own group
+        for (int i = 0; i < 1000; i++) {
+            addNumericDoc(writer, i, "text" + i, 100 + i, i);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+        List<Float> scores = Stream.generate(() -> random().nextFloat()).limit(1000).collect(Collectors.toList());
+
+        List<CollapseTopFieldDocs> allGroupsTopDocs = collectNumeric(reader, fieldType, scores, false, newNoopCircuitBreaker());
+        List<CollapseTopFieldDocs> boundedTopDocs = collectNumeric(reader, fieldType, scores, true, newNoopCircuitBreaker());
+
+        assertEquals(1, boundedTopDocs.size());
+        CollapseTopFieldDocs expected = allGroupsTopDocs.get(0);
+        CollapseTopFieldDocs actual = boundedTopDocs.get(0);
+        assertEquals(1000, actual.totalHits.value());
+        assertEquals(TOP_N_GROUPS, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+            assertEquals(expected.collapseValues[i], actual.collapseValues[i]);
+        }
+        // groups with the lowest values of the sort field are on top
+        assertEquals(0L, actual.collapseValues[0]);
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenDocOfEvictedGroupCollected_thenGroupNotReturned() throws IOException {
+        Directory directory = newDirectory();
+        // documents are collected in the order they are added, in one segment
+        IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig());
+        // first document of every group, groups with lower collapse values are competitive while they are collected
+        for (int i = 0; i < 30; i++) {
+            addNumericDoc(writer, i, "text" + i, 1000 + i, i);
+        }
+        // second document of groups 5 to 29 is better than documents of all groups
+        for (int i = 5; i < 30; i++) {
+            addNumericDoc(writer, 25 + i, "text" + i, i - 100, i);
+        }
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+        List<Float> scores = Collections.nCopies(55, 0.5f);
+
+        List<CollapseTopFieldDocs> boundedTopDocs = collectNumeric(reader, fieldType, scores, true, newNoopCircuitBreaker());
+
+        CollapseTopFieldDocs actual = boundedTopDocs.get(0);
+        assertEquals(55, actual.totalHits.value());
+        // groups 5 to 24 are evicted before their second document is collected, returned groups have all their documents
+        Map<Long, Integer> numOfDocsPerGroup = new HashMap<>();
+        for (Object collapseValue : actual.collapseValues) {
+            numOfDocsPerGroup.merge((Long) collapseValue, 1, Integer::sum);
+        }
+        assertEquals(TOP_N_GROUPS, numOfDocsPerGroup.size());
+        for (Map.Entry<Long, Integer> entry : numOfDocsPerGroup.entrySet()) {
+            long collapseValue = entry.getKey();
+            assertFalse(collapseValue >= 5 && collapseValue < 25);
+            assertEquals(collapseValue < 5 ? 1 : 2, (int) entry.getValue());
+        }
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenSubQueryDoesNotMatch_thenQueueOfSubQueryNotCreated() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        for (int i = 0; i < 100; i++) {
+            addNumericDoc(writer, i, "text" + i, 100 + i, i % 10);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+
+        AtomicLong oneMatchingSubQueryBytes = new AtomicLong();
+        List<CollapseTopFieldDocs> topDocs = collectTwoSubQueries(reader, fieldType, false, oneMatchingSubQueryBytes);
+        AtomicLong twoMatchingSubQueriesBytes = new AtomicLong();
+        collectTwoSubQueries(reader, fieldType, true, twoMatchingSubQueriesBytes);
+
+        assertTrue(oneMatchingSubQueryBytes.get() < twoMatchingSubQueriesBytes.get());
+        assertEquals(2, topDocs.size());
+        assertEquals(100, topDocs.get(0).totalHits.value());
+        assertEquals(TOP_N_GROUPS * TOP_N_GROUPS, topDocs.get(0).scoreDocs.length);
+        assertEquals(0, topDocs.get(1).totalHits.value());
+        assertEquals(0, topDocs.get(1).scoreDocs.length);
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenCollectorClosed_thenMemoryReleasedInCircuitBreaker() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        for (int i = 0; i < 100; i++) {
+            addNumericDoc(writer, i, "text" + i, 100 + i, i % 10);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+
+        AtomicLong usedBytes = new AtomicLong();
+        CircuitBreaker circuitBreaker = newCountingCircuitBreaker(usedBytes);
+
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createNumeric(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            new Sort(new SortField(INT_FIELD_NAME, SortField.Type.INT)),
+            TOP_N_GROUPS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            DOCS_PER_GROUP_PER_SUBQUERY,
+            false,
+            circuitBreaker
+        );
+        collector.setWeight(mock(Weight.class));
+        HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(1);
+        LeafCollector leafCollector = collector.getLeafCollector(reader.leaves().getFirst());
+        leafCollector.setScorer(hybridScorer);
+        List<Float> scores = Stream.generate(() -> random().nextFloat()).limit(100).collect(Collectors.toList());
+        collectDocsAndScores(hybridScorer, scores, leafCollector, 0, IntStream.range(0, 100).toArray());
+
+        assertTrue(usedBytes.get() > 0);
+        collector.close();
+        assertEquals(0, usedBytes.get());
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenDefaultMode_thenQueuesSizedByDocsPerGroupPerSubQuery() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        // 10 groups are not enough to evict groups in bounded memory mode
+        for (int i = 0; i < 100; i++) {
+            addNumericDoc(writer, i, "text" + i, 100 + i, i % 10);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+        List<Float> scores = Stream.generate(() -> random().nextFloat()).limit(100).collect(Collectors.toList());
+
+        AtomicLong defaultModeBytes = new AtomicLong();
+        List<CollapseTopFieldDocs> defaultModeTopDocs = collectNumeric(
+            reader,
+            fieldType,
+            scores,
+            false,
+            newCountingCircuitBreaker(defaultModeBytes)
+        );
+        AtomicLong boundedModeBytes = new AtomicLong();
+        List<CollapseTopFieldDocs> boundedModeTopDocs = collectNumeric(
+            reader,
+            fieldType,
+            scores,
+            true,
+            newCountingCircuitBreaker(boundedModeBytes)
+        );
+
+        // queues of the default mode have DOCS_PER_GROUP_PER_SUBQUERY slots, queues of the bounded mode have TOP_N_GROUPS slots
+        assertTrue(defaultModeBytes.get() > boundedModeBytes.get());
+        // in both modes a group keeps TOP_N_GROUPS documents per subquery
+        CollapseTopFieldDocs expected = defaultModeTopDocs.get(0);
+        CollapseTopFieldDocs actual = boundedModeTopDocs.get(0);
+        assertEquals(TOP_N_GROUPS * TOP_N_GROUPS, expected.scoreDocs.length);
+        assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+            assertEquals(expected.collapseValues[i], actual.collapseValues[i]);
+        }
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void testNumericCollapse_whenCircuitBreakerTrips_thenFail() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig());
+        addNumericDoc(writer, 0, "text", 100, 1);
+        writer.commit();
+
+        DirectoryReader reader = DirectoryReader.open(writer);
+        NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
+            COLLAPSE_FIELD_NAME,
+            NumberFieldMapper.NumberType.LONG
+        );
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        when(circuitBreaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString())).thenThrow(
+            new CircuitBreakingException("request breaker tripped", CircuitBreaker.Durability.TRANSIENT)
+        );
+
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createNumeric(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            new Sort(new SortField(INT_FIELD_NAME, SortField.Type.INT)),
+            TOP_N_GROUPS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            DOCS_PER_GROUP_PER_SUBQUERY,
+            true,
+            circuitBreaker
+        );
+        collector.setWeight(mock(Weight.class));
+        HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(1);
+        LeafCollector leafCollector = collector.getLeafCollector(reader.leaves().getFirst());
+        leafCollector.setScorer(hybridScorer);
+        hybridScorer.getSubQueryScores()[0] = 0.5f;
+
+        expectThrows(CircuitBreakingException.class, () -> leafCollector.collect(0));
+
+        reader.close();
+        writer.close();
+        directory.close();
+    }
+
     public void testConstructor_whenZeroTopNGroups_thenFail() throws IOException {
         Sort sort = new Sort(new SortField(INT_FIELD_NAME, SortField.Type.INT));
         NumberFieldMapper.NumberFieldType fieldType = new NumberFieldMapper.NumberFieldType(
@@ -246,6 +565,75 @@ public class HybridCollapsingTopDocsCollectorTests extends HybridCollectorTestCa
         );
     }
 
+    private List<CollapseTopFieldDocs> collectNumeric(
+        DirectoryReader reader,
+        NumberFieldMapper.NumberFieldType fieldType,
+        List<Float> scores,
+        boolean boundedMemory,
+        CircuitBreaker circuitBreaker
+    ) throws IOException {
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createNumeric(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            new Sort(new SortField(INT_FIELD_NAME, SortField.Type.INT)),
+            TOP_N_GROUPS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            DOCS_PER_GROUP_PER_SUBQUERY,
+            boundedMemory,
+            circuitBreaker
+        );
+        collector.setWeight(mock(Weight.class));
+        HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(1);
+        LeafCollector leafCollector = collector.getLeafCollector(reader.leaves().getFirst());
+        leafCollector.setScorer(hybridScorer);
+        collectDocsAndScores(hybridScorer, scores, leafCollector, 0, IntStream.range(0, scores.size()).toArray());
+        return collector.topDocs();
+    }
+
+    private List<CollapseTopFieldDocs> collectTwoSubQueries(
+        DirectoryReader reader,
+        NumberFieldMapper.NumberFieldType fieldType,
+        boolean secondSubQueryMatches,
+        AtomicLong usedBytes
+    ) throws IOException {
+        HybridCollapsingTopDocsCollector<?> collector = HybridCollapsingTopDocsCollector.createNumeric(
+            COLLAPSE_FIELD_NAME,
+            fieldType,
+            new Sort(new SortField(INT_FIELD_NAME, SortField.Type.INT)),
+            TOP_N_GROUPS,
+            new HitsThresholdChecker(TOTAL_HITS_UP_TO),
+            DOCS_PER_GROUP_PER_SUBQUERY,
+            false,
+            newCountingCircuitBreaker(usedBytes)
+        );
+        collector.setWeight(mock(Weight.class));
+        HybridSubQueryScorer hybridScorer = new HybridSubQueryScorer(2);
+        LeafCollector leafCollector = collector.getLeafCollector(reader.leaves().getFirst());
+        leafCollector.setScorer(hybridScorer);
+        for (int doc = 0; doc < reader.maxDoc(); doc++) {
+            hybridScorer.getSubQueryScores()[0] = 0.5f;
+            hybridScorer.getSubQueryScores()[1] = secondSubQueryMatches ? 0.5f : 0.0f;
+            leafCollector.collect(doc);
+            hybridScorer.resetScores();
+        }
+        return collector.topDocs();
+    }
+
+    private CircuitBreaker newNoopCircuitBreaker() {
+        return new NoopCircuitBreaker(CircuitBreaker.REQUEST);
+    }
+
+    private CircuitBreaker newCountingCircuitBreaker(AtomicLong usedBytes) {
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        when(circuitBreaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString())).thenAnswer(
+            invocation -> (double) usedBytes.addAndGet(invocation.<Long>getArgument(0))
+        );
+        when(circuitBreaker.addWithoutBreaking(anyLong())).thenAnswer(
+            invocation -> usedBytes.addAndGet(invocation.<Long>getArgument(0))
+        );
+        return circuitBreaker;
+    }
+
     private void addNumericDoc(IndexWriter writer, int id, String textValue, int intValue, long collapseValue) throws IOException {
         Document doc = new Document();
         // ID field
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import java.io.IOException;
+import java.util.List;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+
+import static org.mockito.Mockito.mock;
+
+public class SimpleNumericFieldCollectorTests extends HybridCollectorTestCase {
+    private static final String LONG_FIELD_NAME = "longField";
+    private static final String DOUBLE_FIELD_NAME = "doubleField";
+    private static final int NUM_DOCS = 200;
+    private static final int NUM_HITS = 10;
+    private static final int NUM_SUB_QUERIES = 2;
+    private static final int TOTAL_HITS_UP_TO = 1000;
+
+    public void testIsSupported_whenSortByOneNumericField_thenSupported() {
+        assertTrue(SimpleNumericFieldCollector.isSupported(new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG)), NUM_HITS));
+        assertTrue(SimpleNumericFieldCollector.isSupported(new Sort(new SortField(DOUBLE_FIELD_NAME, SortField.Type.DOUBLE, true)), 1));
+
+        assertFalse(SimpleNumericFieldCollector.isSupported(new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG)), 0));
+        assertFalse(SimpleNumericFieldCollector.isSupported(new Sort(new SortField("_doc", SortField.Type.DOC)), NUM_HITS));
+        assertFalse(SimpleNumericFieldCollector.isSupported(new Sort(SortField.FIELD_SCORE), NUM_HITS));
+        assertFalse(
+            SimpleNumericFieldCollector.isSupported(
+                new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG), new SortField(DOUBLE_FIELD_NAME, SortField.Type.DOUBLE)),
+                NUM_HITS
+            )
+        );
+    }
+
+    @SneakyThrows
+    public void testTopDocs_whenSortByLongField_thenSameResultsAsGenericCollector() {
+        assertSameResultsAsGenericCollector(new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG)));
+        assertSameResultsAsGenericCollector(new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG, true)));
+    }
+
+    @SneakyThrows
+    public void testTopDocs_whenSortByDoubleFieldWithMissingValues_thenSameResultsAsGenericCollector() {
+        SortField sortField = new SortField(DOUBLE_FIELD_NAME, SortField.Type.DOUBLE, true);
+        sortField.setMissingValue(Double.POSITIVE_INFINITY);
+        assertSameResultsAsGenericCollector(new Sort(sortField));
+        assertSameResultsAsGenericCollector(new Sort(new SortField(DOUBLE_FIELD_NAME, SortField.Type.DOUBLE)));
+    }
+
+    @SneakyThrows
+    public void testTopDocs_whenIndexSortedBySortField_thenCollectionTerminatedSameAsGenericCollector() {
+        SortField sortField = new SortField(LONG_FIELD_NAME, SortField.Type.LONG);
+        SimpleNumericFieldCollector collector = assertSameResultsAsGenericCollector(
+            new Sort(sortField),
+            new Sort(sortField),
+            3 * NUM_HITS
+        );
+
+        // collection stops at the first non-competitive doc after the threshold is reached
+        assertTrue(collector.getTotalHits() < NUM_DOCS);
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, collector.getTotalHitsRelation());
+    }
+
+    @SneakyThrows
+    public void testTopDocs_whenIndexSortedByOtherField_thenAllDocsCollected() {
+        SortField sortField = new SortField(LONG_FIELD_NAME, SortField.Type.LONG, true);
+        SimpleNumericFieldCollector collector = assertSameResultsAsGenericCollector(
+            new Sort(sortField),
+            new Sort(new SortField(LONG_FIELD_NAME, SortField.Type.LONG)),
+            3 * NUM_HITS
+        );
+
+        assertEquals(NUM_DOCS, collector.getTotalHits());
+    }
+
+    private SimpleNumericFieldCollector assertSameResultsAsGenericCollector(Sort sort) throws IOException {
+        return assertSameResultsAsGenericCollector(sort, null, TOTAL_HITS_UP_TO);
+    }
+
+    private SimpleNumericFieldCollector assertSameResultsAsGenericCollector(Sort sort, Sort indexSort, int totalHitsUpTo)
+        throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig indexWriterConfig = newIndexWriterConfig();
+        if (indexSort != null) {
+            indexWriterConfig.setIndexSort(indexSort);
+        }
+        IndexWriter writer = new IndexWriter(directory, indexWriterConfig);
+        for (int i = 0; i < NUM_DOCS; i++) {
+            Document document = new Document();
+            // values repeat, so ties are ordered by doc id
+            document.add(new NumericDocValuesField(LONG_FIELD_NAME, random().nextInt(50) - 25));
+            if (i % 5 != 0) {
+                document.add(new DoubleDocValuesField(DOUBLE_FIELD_NAME, random().nextInt(50) / 4.0));
+            }
+            writer.addDocument(document);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+        DirectoryReader reader = DirectoryReader.open(writer);
+
+        float[][] scores = new float[NUM_DOCS][NUM_SUB_QUERIES];
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            for (int subQuery = 0; subQuery < NUM_SUB_QUERIES; subQuery++) {
+                // score 0.0 means that sub-query doesn't match the document
+                scores[doc][subQuery] = random().nextInt(4) == 0 ? 0.0f : random().nextFloat() + 0.01f;
+            }
+        }
+
+        SimpleFieldCollector genericCollector = new SimpleFieldCollector(NUM_HITS, new HitsThresholdChecker(totalHitsUpTo), sort);
+        List<TopFieldDocs> expected = collect(genericCollector, reader, scores);
+        SimpleNumericFieldCollector collector = new SimpleNumericFieldCollector(NUM_HITS, new HitsThresholdChecker(totalHitsUpTo), sort);
+        List<TopFieldDocs> actual = collect(collector, reader, scores);
+
+        assertEquals(genericCollector.getTotalHits(), collector.getTotalHits());
+
+        assertEquals(expected.size(), actual.size());
+        for (int subQuery = 0; subQuery < expected.size(); subQuery++) {
+            assertEquals(expected.get(subQuery).totalHits, actual.get(subQuery).totalHits);
+            assertEquals(expected.get(subQuery).scoreDocs.length, actual.get(subQuery).scoreDocs.length);
+            for (int i = 0; i < expected.get(subQuery).scoreDocs.length; i++) {
+                FieldDoc expectedDoc = (FieldDoc) expected.get(subQuery).scoreDocs[i];
+                FieldDoc actualDoc = (FieldDoc) actual.get(subQuery).scoreDocs[i];
+                assertEquals(expectedDoc.doc, actualDoc.doc);
+                assertEquals(expectedDoc.score, actualDoc.score, 0.0f);
+                assertArrayEquals(expectedDoc.fields, actualDoc.fields);
+            }
+        }
+
+        reader.close();
+        writer.close();
+        directory.close();
+        return collector;
+    }
+
+    private List<TopFieldDocs> collect(HybridSearchCollector collector, DirectoryReader reader, float[][] scores) throws IOException {
+        collector.setWeight(mock(Weight.class));
+        LeafReaderContext context = reader.leaves().getFirst();
+        LeafCollector leafCollector = collector.getLeafCollector(context);
+        HybridSubQueryScorer scorer = new HybridSubQueryScorer(NUM_SUB_QUERIES);
+        leafCollector.setScorer(scorer);
+        try {
+            for (int doc = 0; doc < scores.length; doc++) {
+                System.arraycopy(scores[doc], 0, scorer.getSubQueryScores(), 0, NUM_SUB_QUERIES);
+                leafCollector.collect(doc);
+                scorer.resetScores();
+            }
+        } catch (CollectionTerminatedException e) {
+            // the searcher moves on to the next segment
+        }
+        return (List<TopFieldDocs>) collector.topDocs();
+    }
+}
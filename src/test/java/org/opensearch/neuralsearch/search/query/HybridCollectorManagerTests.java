@@ -1144,7 +1144,46 @@ public class HybridCollectorManagerTests extends OpenSearchQueryTestCase {
     }
 
     @SneakyThrows
-    public void testScrollWithHybridQuery_thenFail() {
+    public void testScrollWithHybridQuery_whenPaginationDepthIsSet_thenSuccessful() {
+        SearchContext searchContext = mockScrollSearchContext(10);
+
+        CollectorManager hybridCollectorManager = HybridCollectorManager.createHybridCollectorManager(searchContext);
+
+        assertNotNull(hybridCollectorManager);
+        assertTrue(hybridCollectorManager instanceof HybridCollectorManager.HybridCollectorNonConcurrentManager);
+    }
+
+    @SneakyThrows
+    public void testScrollWithHybridQuery_whenPaginationDepthIsMissing_thenFail() {
+        SearchContext searchContext = mockScrollSearchContext(null);
+
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> HybridCollectorManager.createHybridCollectorManager(searchContext)
+        );
+        assertEquals(
+            String.format(Locale.ROOT, "pagination_depth param is required for scroll of hybrid query"),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    @SneakyThrows
+    public void testScrollWithHybridQuery_whenSortIsSet_thenFail() {
+        SearchContext searchContext = mockScrollSearchContext(10);
+        SortField sortField = new SortField("id", SortField.Type.DOC);
+        when(searchContext.sort()).thenReturn(new SortAndFormats(new Sort(sortField), new DocValueFormat[] { DocValueFormat.RAW }));
+
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> HybridCollectorManager.createHybridCollectorManager(searchContext)
+        );
+        assertEquals(
+            String.format(Locale.ROOT, "Sort, collapse and aggregations are not supported in scroll of hybrid query"),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    private SearchContext mockScrollSearchContext(final Integer paginationDepth) throws IOException {
         SearchContext searchContext = mock(SearchContext.class);
         ScrollContext scrollContext = new ScrollContext();
         when(searchContext.scrollContext()).thenReturn(scrollContext);
@@ -1152,7 +1191,7 @@ public class HybridCollectorManagerTests extends OpenSearchQueryTestCase {
         TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
         when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
         TermQueryBuilder termSubQuery = QueryBuilders.termQuery(TEXT_FIELD_NAME, QUERY1);
-        HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(10).build();
+        HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(paginationDepth).build();
 
         HybridQuery hybridQuery = new HybridQuery(List.of(termSubQuery.toQuery(mockQueryShardContext)), hybridQueryContext);
 
@@ -1160,19 +1199,12 @@ public class HybridCollectorManagerTests extends OpenSearchQueryTestCase {
         ContextIndexSearcher indexSearcher = mock(ContextIndexSearcher.class);
         when(indexSearcher.getIndexReader()).thenReturn(indexReader);
         when(searchContext.searcher()).thenReturn(indexSearcher);
+        when(searchContext.size()).thenReturn(5);
 
         Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> classCollectorManagerMap = new HashMap<>();
         when(searchContext.queryCollectorManagers()).thenReturn(classCollectorManagerMap);
         when(searchContext.shouldUseConcurrentSearch()).thenReturn(false);
-
-        IllegalArgumentException illegalArgumentException = assertThrows(
-            IllegalArgumentException.class,
-            () -> HybridCollectorManager.createHybridCollectorManager(searchContext)
-        );
-        assertEquals(
-            String.format(Locale.ROOT, "Scroll operation is not supported in hybrid query"),
-            illegalArgumentException.getMessage()
-        );
+        return searchContext;
     }
 
     @SneakyThrows
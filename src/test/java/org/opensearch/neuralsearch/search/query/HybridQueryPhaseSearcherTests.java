@@ -14,6 +14,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.mapper.SeqNoFieldMapper.PRIMARY_TERM_NAME;
 import static org.opensearch.index.remote.RemoteStoreEnums.PathType.HASHED_PREFIX;
@@ -51,6 +52,7 @@ import org.opensearch.common.UUIDs;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
@@ -69,10 +71,13 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationProcessor;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
 
 import com.carrotsearch.randomizedtesting.RandomizedTest;
 
@@ -417,6 +422,120 @@ public class HybridQueryPhaseSearcherTests extends OpenSearchQueryTestCase {
         releaseResources(directory, w, reader);
     }
 
+    @SneakyThrows
+    public void testQueryResult_whenNextPageOfPointInTime_thenQueryPhaseIsNotExecuted() {
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridPaginationCursorEnabled()).thenReturn(true);
+        HybridQueryResultsCache.initialize(Settings.EMPTY, settingsAccessor);
+        HybridQueryPhaseSearcher hybridQueryPhaseSearcher = new HybridQueryPhaseSearcher();
+        QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+        when(mockQueryShardContext.index()).thenReturn(dummyIndex);
+        MapperService mapperService = createMapperService();
+        TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) mapperService.fieldType(TEXT_FIELD_NAME);
+        when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+
+        Directory directory = newDirectory();
+        IndexWriter w = new IndexWriter(directory, newIndexWriterConfig());
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT1, ft));
+        w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT2, ft));
+        w.commit();
+
+        IndexReader reader = DirectoryReader.open(w);
+        SearchContext searchContext = mock(SearchContext.class);
+
+        ContextIndexSearcher contextIndexSearcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            true,
+            null,
+            searchContext
+        );
+
+        ShardId shardId = new ShardId(dummyIndex, 1);
+        SearchShardTarget shardTarget = new SearchShardTarget(
+            randomAlphaOfLength(10),
+            shardId,
+            randomAlphaOfLength(10),
+            OriginalIndices.NONE
+        );
+        when(searchContext.shardTarget()).thenReturn(shardTarget);
+        when(searchContext.searcher()).thenReturn(contextIndexSearcher);
+        when(searchContext.size()).thenReturn(1);
+        when(searchContext.numberOfShards()).thenReturn(1);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(new ShardId("test", "test", 0));
+        when(indexShard.getSearchOperationListener()).thenReturn(mock(SearchOperationListener.class));
+        when(searchContext.indexShard()).thenReturn(indexShard);
+        when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+        when(searchContext.mapperService()).thenReturn(mapperService);
+        // every page of the point in time is executed in the same reader context
+        ShardSearchRequest shardSearchRequest = mock(ShardSearchRequest.class);
+        when(shardSearchRequest.readerId()).thenReturn(new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong()));
+        when(shardSearchRequest.keepAlive()).thenReturn(TimeValue.timeValueMinutes(1));
+        when(searchContext.request()).thenReturn(shardSearchRequest);
+        IndexMetadata indexMetadata = getIndexMetadata();
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, Integer.toString(1)).build();
+        IndexSettings indexSettings = new IndexSettings(indexMetadata, settings);
+        when(mockQueryShardContext.getIndexSettings()).thenReturn(indexSettings);
+
+        HybridQueryBuilder queryBuilder = new HybridQueryBuilder();
+        queryBuilder.add(QueryBuilders.termQuery(TEXT_FIELD_NAME, QUERY_TEXT1));
+        queryBuilder.add(QueryBuilders.matchAllQuery());
+        queryBuilder.paginationDepth(10);
+        Query query = queryBuilder.toQuery(mockQueryShardContext);
+        when(searchContext.query()).thenReturn(query);
+
+        try {
+            // first page executes the query and caches its results
+            QuerySearchResult firstPageResult = new QuerySearchResult();
+            when(searchContext.queryResult()).thenReturn(firstPageResult);
+            Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> firstPageCollectorManagers = new HashMap<>();
+            firstPageCollectorManagers.put(
+                HybridCollectorManager.class,
+                HybridCollectorManager.createHybridCollectorManager(searchContext)
+            );
+            when(searchContext.queryCollectorManagers()).thenReturn(firstPageCollectorManagers);
+
+            hybridQueryPhaseSearcher.searchWith(searchContext, contextIndexSearcher, query, new LinkedList<>(), false, false);
+            hybridQueryPhaseSearcher.aggregationProcessor(searchContext).postProcess(searchContext);
+            assertEquals(1, HybridQueryResultsCache.getInstance().count());
+
+            // second page takes results from the cache, the searcher is not used by the query phase
+            QuerySearchResult secondPageResult = new QuerySearchResult();
+            when(searchContext.queryResult()).thenReturn(secondPageResult);
+            Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> secondPageCollectorManagers = new HashMap<>();
+            secondPageCollectorManagers.put(
+                HybridCollectorManager.class,
+                HybridCollectorManager.createHybridCollectorManager(searchContext)
+            );
+            when(searchContext.queryCollectorManagers()).thenReturn(secondPageCollectorManagers);
+            ContextIndexSearcher secondPageSearcher = mock(ContextIndexSearcher.class);
+
+            hybridQueryPhaseSearcher.searchWith(searchContext, secondPageSearcher, query, new LinkedList<>(), false, false);
+            hybridQueryPhaseSearcher.aggregationProcessor(searchContext).postProcess(searchContext);
+
+            verifyNoInteractions(secondPageSearcher);
+            assertFalse(secondPageCollectorManagers.get(HybridCollectorManager.class) instanceof HybridCollectorManager);
+            TopDocs firstPageTopDocs = firstPageResult.topDocs().topDocs;
+            TopDocs secondPageTopDocs = secondPageResult.topDocs().topDocs;
+            assertEquals(firstPageTopDocs.totalHits, secondPageTopDocs.totalHits);
+            assertEquals(firstPageTopDocs.scoreDocs.length, secondPageTopDocs.scoreDocs.length);
+            for (int i = 0; i < firstPageTopDocs.scoreDocs.length; i++) {
+                assertNotSame(firstPageTopDocs.scoreDocs[i], secondPageTopDocs.scoreDocs[i]);
+                assertEquals(firstPageTopDocs.scoreDocs[i].doc, secondPageTopDocs.scoreDocs[i].doc);
+                assertEquals(firstPageTopDocs.scoreDocs[i].score, secondPageTopDocs.scoreDocs[i].score, 0.0f);
+            }
+            assertEquals(1, HybridQueryResultsCache.getInstance().count());
+        } finally {
+            HybridQueryResultsCache.close();
+            releaseResources(directory, w, reader);
+        }
+    }
+
     @SneakyThrows
     public void testWrappedHybridQuery_whenHybridWrappedIntoBool_thenFail() {
         HybridQueryPhaseSearcher hybridQueryPhaseSearcher = new HybridQueryPhaseSearcher();
@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.neuralsearch.query.HybridQueryContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridQueryResultsCacheTests extends OpenSearchTestCase {
+
+    private static final ShardSearchContextId READER_ID = new ShardSearchContextId("session", 1L);
+
+    public void testKey_whenPagesOfPointInTime_thenSameKeyForEveryPage() {
+        HybridQueryResultsCache cache = createCache(new AtomicLong());
+
+        Optional<HybridQueryResultsCache.Key> firstPageKey = cache.getKey(createSearchContext(READER_ID, 10, new QuerySearchResult()));
+        Optional<HybridQueryResultsCache.Key> secondPageKey = cache.getKey(createSearchContext(READER_ID, 10, new QuerySearchResult()));
+
+        assertTrue(firstPageKey.isPresent());
+        assertEquals(firstPageKey, secondPageKey);
+        assertEquals(READER_ID, firstPageKey.get().getReaderId());
+        // pagination depth is not compared by hybrid query
+        assertNotEquals(firstPageKey, cache.getKey(createSearchContext(READER_ID, 20, new QuerySearchResult())));
+    }
+
+    public void testKey_whenResultsCantBeCached_thenNoKey() {
+        HybridQueryResultsCache cache = createCache(new AtomicLong());
+
+        assertTrue(cache.getKey(createSearchContext(null, 10, new QuerySearchResult())).isEmpty());
+        assertTrue(cache.getKey(createSearchContext(READER_ID, null, new QuerySearchResult())).isEmpty());
+        SearchContext searchContextWithSort = createSearchContext(READER_ID, 10, new QuerySearchResult());
+        when(searchContextWithSort.sort()).thenReturn(mock(SortAndFormats.class));
+        assertTrue(cache.getKey(searchContextWithSort).isEmpty());
+
+        AtomicBoolean isEnabled = new AtomicBoolean(false);
+        HybridQueryResultsCache disabledCache = new HybridQueryResultsCache(
+            isEnabled::get,
+            TimeValue.timeValueMinutes(1),
+            ByteSizeValue.parseBytesSizeValue("1mb", "test"),
+            System::nanoTime
+        );
+        assertTrue(disabledCache.getKey(createSearchContext(READER_ID, 10, new QuerySearchResult())).isEmpty());
+    }
+
+    public void testGet_whenResultsCached_thenNewScoreDocsOnEveryRead() {
+        HybridQueryResultsCache cache = createCache(new AtomicLong());
+        QuerySearchResult firstPageResult = createQuerySearchResult(0.9f, 0.5f, 0.3f);
+        SearchContext searchContext = createSearchContext(READER_ID, 10, firstPageResult);
+        HybridQueryResultsCache.Key key = cache.getKey(searchContext).get();
+
+        cache.put(key, searchContext);
+        assertEquals(1, cache.count());
+        // query result of a local shard is changed by the coordinator after the page
+        firstPageResult.topDocs().topDocs.scoreDocs[0].score = 0.1f;
+
+        Optional<TopDocsAndMaxScore> cachedTopDocs = cache.get(key);
+        assertTrue(cachedTopDocs.isPresent());
+        ScoreDoc[] scoreDocs = cachedTopDocs.get().topDocs.scoreDocs;
+        assertEquals(3, scoreDocs.length);
+        assertEquals(0.9f, scoreDocs[0].score, 0.0f);
+        assertEquals(0.5f, scoreDocs[1].score, 0.0f);
+        assertEquals(1, scoreDocs[1].doc);
+        assertEquals(3, cachedTopDocs.get().topDocs.totalHits.value());
+        assertNotSame(scoreDocs[0], cache.get(key).get().topDocs.scoreDocs[0]);
+    }
+
+    public void testGet_whenEntryExpired_thenNoResults() {
+        AtomicLong nanoTime = new AtomicLong();
+        HybridQueryResultsCache cache = createCache(nanoTime);
+        SearchContext searchContext = createSearchContext(READER_ID, 10, createQuerySearchResult(0.9f));
+        when(searchContext.request().keepAlive()).thenReturn(TimeValue.timeValueSeconds(1));
+        HybridQueryResultsCache.Key key = cache.getKey(searchContext).get();
+
+        cache.put(key, searchContext);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertTrue(cache.get(key).isEmpty());
+        assertEquals(0, cache.count());
+    }
+
+    public void testPut_whenSearchTimedOut_thenResultsAreNotCached() {
+        HybridQueryResultsCache cache = createCache(new AtomicLong());
+        QuerySearchResult querySearchResult = createQuerySearchResult(0.9f);
+        querySearchResult.searchTimedOut(true);
+        SearchContext searchContext = createSearchContext(READER_ID, 10, querySearchResult);
+
+        cache.put(cache.getKey(searchContext).get(), searchContext);
+
+        assertEquals(0, cache.count());
+    }
+
+    public void testInvalidate_whenReaderContextFreed_thenResultsOfReaderContextDropped() {
+        HybridQueryResultsCache cache = createCache(new AtomicLong());
+        ShardSearchContextId otherReaderId = new ShardSearchContextId("session", 2L);
+        SearchContext searchContext = createSearchContext(READER_ID, 10, createQuerySearchResult(0.9f));
+        SearchContext otherSearchContext = createSearchContext(otherReaderId, 10, createQuerySearchResult(0.7f));
+        cache.put(cache.getKey(searchContext).get(), searchContext);
+        cache.put(cache.getKey(otherSearchContext).get(), otherSearchContext);
+
+        cache.invalidate(READER_ID);
+
+        assertEquals(1, cache.count());
+        assertTrue(cache.get(cache.getKey(searchContext).get()).isEmpty());
+        assertTrue(cache.get(cache.getKey(otherSearchContext).get()).isPresent());
+    }
+
+    private HybridQueryResultsCache createCache(final AtomicLong nanoTime) {
+        return new HybridQueryResultsCache(
+            () -> true,
+            TimeValue.timeValueMinutes(1),
+            ByteSizeValue.parseBytesSizeValue("1mb", "test"),
+            nanoTime::get
+        );
+    }
+
+    private SearchContext createSearchContext(
+        final ShardSearchContextId readerId,
+        final Integer paginationDepth,
+        final QuerySearchResult querySearchResult
+    ) {
+        HybridQuery hybridQuery = new HybridQuery(
+            List.of(new TermQuery(new Term("field", "hello")), new MatchAllDocsQuery()),
+            HybridQueryContext.builder().paginationDepth(paginationDepth).build()
+        );
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.readerId()).thenReturn(readerId);
+        SearchContext searchContext = mock(SearchContext.class);
+        when(searchContext.request()).thenReturn(request);
+        when(searchContext.query()).thenReturn(hybridQuery);
+        when(searchContext.queryResult()).thenReturn(querySearchResult);
+        when(searchContext.trackTotalHitsUpTo()).thenReturn(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        return searchContext;
+    }
+
+    private QuerySearchResult createQuerySearchResult(final float... scores) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, scores[i], -1);
+        }
+        TopDocs topDocs = new TopDocs(new TotalHits(scores.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, scores[0]), null);
+        return querySearchResult;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.internal.ScrollContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridScrollResultsTests extends OpenSearchTestCase {
+
+    private static final ShardSearchContextId READER_ID = new ShardSearchContextId("session", 1L);
+    private static final int NUM_OF_DOCS = 4;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        HybridScrollResults.initialize(Settings.EMPTY);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        HybridScrollResults.close();
+        super.tearDown();
+    }
+
+    public void testFuse_whenFirstRound_thenFirstSliceOfFusedResults() {
+        SearchContext searchContext = createSearchContext(2);
+
+        HybridScrollResults.fuse(searchContext);
+
+        TopDocsAndMaxScore firstSlice = searchContext.queryResult().topDocs();
+        ScoreDoc[] scoreDocs = firstSlice.topDocs.scoreDocs;
+        assertEquals(2, scoreDocs.length);
+        // results of sub-queries are fused into one list of unique documents
+        assertEquals(NUM_OF_DOCS, firstSlice.topDocs.totalHits.value());
+        assertEquals(scoreDocs[0].score, firstSlice.maxScore, 0.0f);
+        assertTrue(scoreDocs[0].score >= scoreDocs[1].score);
+        assertEquals(1, HybridScrollResults.count());
+    }
+
+    public void testGetNextSlice_whenDocsOfSliceEmitted_thenSliceStartsAfterLastEmittedDoc() {
+        SearchContext searchContext = createSearchContext(2);
+        HybridScrollResults.fuse(searchContext);
+        List<ScoreDoc> ranking = new ArrayList<>(List.of(searchContext.queryResult().topDocs().topDocs.scoreDocs));
+
+        // the coordinator emitted both documents of the first slice
+        searchContext.scrollContext().lastEmittedDoc = ranking.get(1);
+        ScoreDoc[] secondSlice = HybridScrollResults.getNextSlice(searchContext).get().topDocs.scoreDocs;
+        assertEquals(2, secondSlice.length);
+        ranking.addAll(List.of(secondSlice));
+
+        // only the first document of the second slice is emitted
+        searchContext.scrollContext().lastEmittedDoc = secondSlice[0];
+        ScoreDoc[] thirdSlice = HybridScrollResults.getNextSlice(searchContext).get().topDocs.scoreDocs;
+        assertEquals(1, thirdSlice.length);
+        assertEquals(secondSlice[1].doc, thirdSlice[0].doc);
+
+        Set<Integer> docs = new HashSet<>();
+        for (int i = 0; i < ranking.size(); i++) {
+            assertTrue(docs.add(ranking.get(i).doc));
+            if (i > 0) {
+                assertTrue(ranking.get(i - 1).score >= ranking.get(i).score);
+            }
+        }
+        assertEquals(Set.of(0, 1, 2, 3), docs);
+    }
+
+    public void testGetNextSlice_whenNoDocOfSliceEmitted_thenSameSlice() {
+        SearchContext searchContext = createSearchContext(2);
+        HybridScrollResults.fuse(searchContext);
+        ScoreDoc[] firstSlice = searchContext.queryResult().topDocs().topDocs.scoreDocs;
+
+        ScoreDoc[] nextSlice = HybridScrollResults.getNextSlice(searchContext).get().topDocs.scoreDocs;
+
+        assertEquals(firstSlice.length, nextSlice.length);
+        for (int i = 0; i < firstSlice.length; i++) {
+            assertEquals(firstSlice[i].doc, nextSlice[i].doc);
+            assertEquals(firstSlice[i].score, nextSlice[i].score, 0.0f);
+        }
+    }
+
+    public void testFuse_whenRankingDropped_thenFusedAgainAndSliceStartsAfterLastEmittedDoc() {
+        SearchContext searchContext = createSearchContext(2);
+        HybridScrollResults.fuse(searchContext);
+        ScoreDoc[] firstSlice = searchContext.queryResult().topDocs().topDocs.scoreDocs;
+        searchContext.scrollContext().lastEmittedDoc = firstSlice[1];
+        ScoreDoc[] secondSlice = HybridScrollResults.getNextSlice(searchContext).get().topDocs.scoreDocs;
+
+        HybridScrollResults.invalidate(READER_ID);
+        assertEquals(0, HybridScrollResults.count());
+        Optional<TopDocsAndMaxScore> nextSlice = HybridScrollResults.getNextSlice(searchContext);
+        assertTrue(nextSlice.isEmpty());
+
+        // next round collects results of sub-queries again
+        QuerySearchResult querySearchResult = createQuerySearchResult();
+        when(searchContext.queryResult()).thenReturn(querySearchResult);
+        HybridScrollResults.fuse(searchContext);
+
+        ScoreDoc[] sliceOfNewRanking = querySearchResult.topDocs().topDocs.scoreDocs;
+        assertEquals(secondSlice.length, sliceOfNewRanking.length);
+        for (int i = 0; i < secondSlice.length; i++) {
+            assertEquals(secondSlice[i].doc, sliceOfNewRanking[i].doc);
+        }
+    }
+
+    private SearchContext createSearchContext(final int size) {
+        SearchContext searchContext = mock(SearchContext.class);
+        when(searchContext.id()).thenReturn(READER_ID);
+        when(searchContext.scrollContext()).thenReturn(new ScrollContext());
+        when(searchContext.size()).thenReturn(size);
+        QuerySearchResult querySearchResult = createQuerySearchResult();
+        when(searchContext.queryResult()).thenReturn(querySearchResult);
+        return searchContext;
+    }
+
+    /**
+     * Results of two sub-queries in the format of hybrid query, document 2 matches both sub-queries
+     */
+    private QuerySearchResult createQuerySearchResult() {
+        ScoreDoc[] scoreDocs = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(0),
+            createDelimiterElementForHybridSearchResults(0),
+            new ScoreDoc(0, 2.0f),
+            new ScoreDoc(1, 1.0f),
+            new ScoreDoc(2, 0.5f),
+            createDelimiterElementForHybridSearchResults(0),
+            new ScoreDoc(2, 0.9f),
+            new ScoreDoc(3, 0.3f),
+            createStartStopElementForHybridSearchResults(0) };
+        TopDocs topDocs = new TopDocs(new TotalHits(NUM_OF_DOCS, TotalHits.Relation.EQUAL_TO), scoreDocs);
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.setSearchShardTarget(new SearchShardTarget("node", new ShardId("index", "uuid", 0), null, OriginalIndices.NONE));
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, 2.0f), null);
+        return querySearchResult;
+    }
+}
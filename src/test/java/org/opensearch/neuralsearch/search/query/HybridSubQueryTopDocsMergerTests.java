@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.query;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryDelimiterElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryStartStopElement;
+
+public class HybridSubQueryTopDocsMergerTests extends OpenSearchQueryTestCase {
+
+    public void testMerge_whenMultipleCollectors_thenHitsOfEachSubQuerySortedByScore() {
+        List<List<TopDocs>> topDocsPerCollector = List.of(
+            List.of(topDocs(new ScoreDoc(1, 0.9f), new ScoreDoc(2, 0.3f)), topDocs(new ScoreDoc(3, 0.8f))),
+            List.of(topDocs(new ScoreDoc(10, 0.95f), new ScoreDoc(11, 0.5f), new ScoreDoc(12, 0.1f)), topDocs()),
+            List.of(topDocs(new ScoreDoc(20, 0.4f)), topDocs(new ScoreDoc(21, 0.85f), new ScoreDoc(22, 0.2f)))
+        );
+
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(3, 10).merge(topDocsPerCollector);
+
+        List<ScoreDoc[]> hitsPerSubQuery = getHitsPerSubQuery(mergedScoreDocs);
+        assertEquals(2, hitsPerSubQuery.size());
+        assertDocIds(new int[] { 10, 1, 11, 20, 2, 12 }, hitsPerSubQuery.get(0));
+        assertDocIds(new int[] { 21, 3, 22 }, hitsPerSubQuery.get(1));
+        // hits are taken from the collector results as they are
+        assertSame(topDocsPerCollector.get(1).get(0).scoreDocs[0], hitsPerSubQuery.get(0)[0]);
+        // special elements have doc id of the first hit
+        assertEquals(10, mergedScoreDocs[0].doc);
+        assertEquals(10, mergedScoreDocs[mergedScoreDocs.length - 1].doc);
+    }
+
+    public void testMerge_whenMoreHitsThanNumHits_thenHitsCapped() {
+        List<List<TopDocs>> topDocsPerCollector = List.of(
+            List.of(topDocs(new ScoreDoc(1, 0.9f), new ScoreDoc(2, 0.7f), new ScoreDoc(3, 0.5f))),
+            List.of(topDocs(new ScoreDoc(4, 0.8f), new ScoreDoc(5, 0.6f), new ScoreDoc(6, 0.4f)))
+        );
+
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(2, 4).merge(topDocsPerCollector);
+
+        List<ScoreDoc[]> hitsPerSubQuery = getHitsPerSubQuery(mergedScoreDocs);
+        assertEquals(1, hitsPerSubQuery.size());
+        assertDocIds(new int[] { 1, 4, 2, 5 }, hitsPerSubQuery.get(0));
+        assertEquals(7, mergedScoreDocs.length);
+    }
+
+    public void testMerge_whenEqualScores_thenOrderOfCollectorsKept() {
+        List<List<TopDocs>> topDocsPerCollector = List.of(
+            List.of(topDocs(new ScoreDoc(1, 0.5f))),
+            List.of(topDocs(new ScoreDoc(2, 0.5f))),
+            List.of(topDocs(new ScoreDoc(3, 0.5f)))
+        );
+
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(3, 10).merge(topDocsPerCollector);
+
+        assertDocIds(new int[] { 1, 2, 3 }, getHitsPerSubQuery(mergedScoreDocs).get(0));
+    }
+
+    public void testMerge_whenCollectorsWithoutResults_thenSkipped() {
+        List<List<TopDocs>> topDocsPerCollector = List.of(
+            List.of(),
+            List.of(topDocs(), topDocs(new ScoreDoc(7, 1.0f))),
+            List.of(topDocs(), topDocs())
+        );
+
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(3, 10).merge(topDocsPerCollector);
+
+        List<ScoreDoc[]> hitsPerSubQuery = getHitsPerSubQuery(mergedScoreDocs);
+        assertEquals(2, hitsPerSubQuery.size());
+        assertEquals(0, hitsPerSubQuery.get(0).length);
+        assertDocIds(new int[] { 7 }, hitsPerSubQuery.get(1));
+        assertEquals(7, mergedScoreDocs[0].doc);
+    }
+
+    public void testMerge_whenNoHits_thenEmptyResult() {
+        List<List<TopDocs>> topDocsPerCollector = List.of(List.of(topDocs(), topDocs()), List.of(topDocs(), topDocs()));
+
+        assertEquals(0, new HybridSubQueryTopDocsMerger(2, 10).merge(topDocsPerCollector).length);
+    }
+
+    public void testMerge_whenRandomInput_thenSameAsSortingAllHits() {
+        int numOfCollectors = randomIntBetween(2, 16);
+        int numHits = randomIntBetween(1, 50);
+        List<List<TopDocs>> topDocsPerCollector = new ArrayList<>();
+        List<ScoreDoc> allScoreDocs = new ArrayList<>();
+        int docId = 0;
+        for (int collectorIndex = 0; collectorIndex < numOfCollectors; collectorIndex++) {
+            int numOfDocs = randomIntBetween(0, numHits);
+            ScoreDoc[] scoreDocs = new ScoreDoc[numOfDocs];
+            for (int i = 0; i < numOfDocs; i++) {
+                // unique scores, this way expected order doesn't depend on tie breaking
+                scoreDocs[i] = new ScoreDoc(docId, docId + 1.0f);
+                docId++;
+            }
+            Arrays.sort(scoreDocs, Comparator.comparing((ScoreDoc scoreDoc) -> scoreDoc.score).reversed());
+            allScoreDocs.addAll(Arrays.asList(scoreDocs));
+            topDocsPerCollector.add(List.of(topDocs(scoreDocs)));
+        }
+        allScoreDocs.sort(Comparator.comparing((ScoreDoc scoreDoc) -> scoreDoc.score).reversed());
+
+        ScoreDoc[] mergedScoreDocs = new HybridSubQueryTopDocsMerger(numOfCollectors, numHits).merge(topDocsPerCollector);
+
+        if (allScoreDocs.isEmpty()) {
+            assertEquals(0, mergedScoreDocs.length);
+            return;
+        }
+        ScoreDoc[] subQueryScoreDocs = getHitsPerSubQuery(mergedScoreDocs).get(0);
+        assertEquals(Math.min(numHits, allScoreDocs.size()), subQueryScoreDocs.length);
+        for (int i = 0; i < subQueryScoreDocs.length; i++) {
+            assertEquals(allScoreDocs.get(i).doc, subQueryScoreDocs[i].doc);
+        }
+    }
+
+    private static TopDocs topDocs(ScoreDoc... scoreDocs) {
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    private static List<ScoreDoc[]> getHitsPerSubQuery(ScoreDoc[] mergedScoreDocs) {
+        assertTrue(isHybridQueryStartStopElement(mergedScoreDocs[0]));
+        assertTrue(isHybridQueryStartStopElement(mergedScoreDocs[mergedScoreDocs.length - 1]));
+        List<ScoreDoc[]> hitsPerSubQuery = new ArrayList<>();
+        int start = -1;
+        for (int i = 1; i < mergedScoreDocs.length; i++) {
+            if (isHybridQueryDelimiterElement(mergedScoreDocs[i]) || i == mergedScoreDocs.length - 1) {
+                if (start >= 0) {
+                    hitsPerSubQuery.add(Arrays.copyOfRange(mergedScoreDocs, start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return hitsPerSubQuery;
+    }
+
+    private static void assertDocIds(int[] expectedDocIds, ScoreDoc[] scoreDocs) {
+        assertEquals(expectedDocIds.length, scoreDocs.length);
+        for (int i = 0; i < expectedDocIds.length; i++) {
+            assertEquals(expectedDocIds[i], scoreDocs[i].doc);
+        }
+    }
+}
@@ -57,6 +57,51 @@ public class EventStatsManagerTests extends OpenSearchTestCase {
         assertEquals(originalValue, newValue);
     }
 
+    public void test_addValue() {
+        when(mockSettingsAccessor.isStatsEnabled()).thenReturn(true);
+
+        EventStat originalStat = STAT_NAME.getEventStat();
+        long originalValue = originalStat.getValue();
+
+        eventStatsManager.addValue(STAT_NAME, 25);
+
+        assertEquals(originalValue + 25, originalStat.getValue());
+    }
+
+    public void test_incrementWhenNotInitialized() {
+        EventStatsManager notInitializedManager = new EventStatsManager();
+
+        EventStat originalStat = STAT_NAME.getEventStat();
+        long originalValue = originalStat.getValue();
+
+        expectThrows(IllegalStateException.class, () -> notInitializedManager.inc(STAT_NAME));
+        expectThrows(IllegalStateException.class, () -> notInitializedManager.addValue(STAT_NAME, 10));
+
+        assertEquals(originalValue, originalStat.getValue());
+    }
+
+    public void test_registerGauge() {
+        EventStatName gaugeStatName = EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE;
+        EventStatsManager.registerGauge(gaugeStatName, () -> 7L);
+
+        Map<EventStatName, TimestampedEventStatSnapshot> result = eventStatsManager.getTimestampedEventStatSnapshots(
+            EnumSet.of(gaugeStatName)
+        );
+
+        assertEquals(7L, result.get(gaugeStatName).getValue().longValue());
+        expectThrows(IllegalArgumentException.class, () -> EventStatsManager.registerGauge(STAT_NAME, () -> 7L));
+    }
+
+    public void test_whenGaugeIncremented_thenFail() {
+        when(mockSettingsAccessor.isStatsEnabled()).thenReturn(true);
+        EventStatName gaugeStatName = EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE;
+        EventStatsManager.registerGauge(gaugeStatName, () -> 7L);
+
+        expectThrows(IllegalArgumentException.class, () -> eventStatsManager.inc(gaugeStatName));
+        expectThrows(IllegalArgumentException.class, () -> eventStatsManager.addValue(gaugeStatName, 1));
+        assertEquals(7L, gaugeStatName.getEventStat().getValue());
+    }
+
     public void test_getTimestampedEventStatSnapshots() {
         Map<EventStatName, TimestampedEventStatSnapshot> result = eventStatsManager.getTimestampedEventStatSnapshots(EnumSet.of(STAT_NAME));
 
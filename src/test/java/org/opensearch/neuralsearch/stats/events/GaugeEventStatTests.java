@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.stats.events;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GaugeEventStatTests extends OpenSearchTestCase {
+    private static final EventStatName STAT_NAME = EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE;
+
+    public void test_whenNoSupplier_thenZero() {
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+
+        assertEquals(0, stat.getValue());
+    }
+
+    public void test_whenSupplierRegistered_thenCurrentValue() {
+        GaugeEventStat stat = new GaugeEventStat(STAT_NAME);
+        AtomicLong queueSize = new AtomicLong(3);
+        stat.setValueSupplier(queueSize::get);
+
+        assertEquals(3, stat.getValue());
+        queueSize.set(5);
+        TimestampedEventStatSnapshot snapshot = stat.getStatSnapshot();
+        assertEquals(STAT_NAME, snapshot.getStatName());
+        assertEquals(5L, snapshot.getValue().longValue());
+        assertEquals(5L, snapshot.getTrailingIntervalValue());
+
+        // gauge follows its owner, reset doesn't change it
+        stat.reset();
+        assertEquals(5, stat.getValue());
+    }
+}
@@ -75,6 +75,22 @@ public class TimestampedEventStatSnapshotTests extends OpenSearchTestCase {
         assertEquals(5L, aggregatedSnapshot.getMinutesSinceLastEvent());
     }
 
+    public void test_aggregateEventStatSnapshots_whenGauge_thenMaxOfNodes() {
+        EventStatName gaugeStatName = EventStatName.HYBRID_QUERY_EXECUTOR_QUEUE_SIZE;
+        TimestampedEventStatSnapshot snapshot1 = new TimestampedEventStatSnapshot(gaugeStatName, 3L, 3L, 0L);
+        TimestampedEventStatSnapshot snapshot2 = new TimestampedEventStatSnapshot(gaugeStatName, 7L, 7L, 0L);
+        TimestampedEventStatSnapshot snapshot3 = new TimestampedEventStatSnapshot(gaugeStatName, 5L, 5L, 0L);
+
+        TimestampedEventStatSnapshot aggregatedSnapshot = TimestampedEventStatSnapshot.aggregateEventStatSnapshots(
+            Arrays.asList(snapshot1, snapshot2, snapshot3)
+        );
+
+        assertEquals(gaugeStatName, aggregatedSnapshot.getStatName());
+        assertEquals(7L, aggregatedSnapshot.getValue().longValue());
+        assertEquals(7L, aggregatedSnapshot.getTrailingIntervalValue());
+        assertEquals(0L, aggregatedSnapshot.getMinutesSinceLastEvent());
+    }
+
     public void test_aggregateEventStatSnapshotsReturnsNull() {
         assertNull(TimestampedEventStatSnapshot.aggregateEventStatSnapshots(Collections.emptyList()));
     }
@@ -43,6 +43,15 @@ public class TimestampedEventStatTests extends OpenSearchTestCase {
         assertEquals(2, stat.getValue());
     }
 
+    public void test_add() {
+        stat.add(40);
+        stat.increment();
+        assertEquals(41, stat.getValue());
+
+        currentTime += BUCKET_INTERVAL_MS;
+        assertEquals(41, stat.getTrailingIntervalValue());
+    }
+
     public void test_trailingIntervalSingleBucket() {
         // Add events in same bucket
         for (int i = 0; i < 5; i++) {